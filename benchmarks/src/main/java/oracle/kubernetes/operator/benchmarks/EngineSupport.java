@@ -0,0 +1,92 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.benchmarks;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import oracle.kubernetes.operator.work.Engine;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+
+/**
+ * Common support for the benchmarks of the fiber engine.
+ */
+class EngineSupport {
+  private static final long TIMEOUT_SECONDS = 30;
+
+  private EngineSupport() {
+  }
+
+  /**
+   * Creates an engine with the same executor configuration as the one used by the operator.
+   * @return a new engine
+   */
+  static Engine createEngine() {
+    return new Engine(Engine.wrappedExecutorService("benchmark", null));
+  }
+
+  /**
+   * Runs a fiber and waits for it to complete.
+   * @param engine the engine on which to run the fiber
+   * @param step the first step for the fiber
+   * @param packet the packet for the fiber
+   * @return the packet with which the fiber completed
+   * @throws InterruptedException if interrupted while waiting
+   * @throws ExecutionException if the fiber fails
+   * @throws TimeoutException if the fiber does not complete in a reasonable time
+   */
+  static Packet runFiber(Engine engine, Step step, Packet packet)
+        throws InterruptedException, ExecutionException, TimeoutException {
+    CompletableFuture<Packet> result = new CompletableFuture<>();
+    engine.createFiber().start(step, packet, new FutureCompletionCallback(result));
+    return result.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+  }
+
+  /**
+   * Creates a chain of steps which do nothing but invoke their successors.
+   * @param length the number of steps in the chain
+   * @return the first step of the chain
+   */
+  static Step createChain(int length) {
+    Step step = null;
+    for (int i = 0; i < length; i++) {
+      step = new PassThroughStep(step);
+    }
+    return step;
+  }
+
+  static class FutureCompletionCallback implements Fiber.CompletionCallback {
+    private final CompletableFuture<Packet> future;
+
+    FutureCompletionCallback(CompletableFuture<Packet> future) {
+      this.future = future;
+    }
+
+    @Override
+    public void onCompletion(Packet packet) {
+      future.complete(packet);
+    }
+
+    @Override
+    public void onThrowable(Packet packet, Throwable throwable) {
+      future.completeExceptionally(throwable);
+    }
+  }
+
+  static class PassThroughStep extends Step {
+    PassThroughStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doNext(packet);
+    }
+  }
+}
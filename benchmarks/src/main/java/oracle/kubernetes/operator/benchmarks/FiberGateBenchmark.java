@@ -0,0 +1,108 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import oracle.kubernetes.operator.work.Engine;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.FiberGate;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of starting fibers through a fiber gate when many threads do so concurrently, each for a
+ * randomly selected key, as happens when watch events arrive for many domains at once. Fibers are started both
+ * unconditionally, replacing any current fiber for the key, and conditionally, on the last fiber started for the key
+ * still being current, as the operator does when it rechecks a domain.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class FiberGateBenchmark {
+  @Param({"1", "10", "200"})
+  private int numKeys;
+
+  private Engine engine;
+  private FiberGate gate;
+  private String[] keys;
+  private final Map<String, Fiber> lastFibers = new ConcurrentHashMap<>();
+  private final Step step = EngineSupport.createChain(1);
+  private final Fiber.CompletionCallback callback = new Fiber.CompletionCallback() {
+    @Override
+    public void onCompletion(Packet packet) {
+    }
+
+    @Override
+    public void onThrowable(Packet packet, Throwable throwable) {
+    }
+  };
+
+  /**
+   * Creates the gate and the keys for which fibers will be started.
+   */
+  @Setup
+  public void setUp() {
+    engine = EngineSupport.createEngine();
+    gate = new FiberGate(engine);
+    keys = new String[numKeys];
+    for (int i = 0; i < numKeys; i++) {
+      keys[i] = "domain" + i;
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    engine.getExecutor().shutdownNow();
+  }
+
+  private String selectKey() {
+    return keys[ThreadLocalRandom.current().nextInt(numKeys)];
+  }
+
+  @Benchmark
+  public Fiber startFiber() {
+    return gate.startFiber(selectKey(), step, new Packet(), callback);
+  }
+
+  /**
+   * Starts a fiber only if the last fiber started for its key is still current. If that fiber has already completed,
+   * or another thread has replaced it, no fiber is started, and the next attempt for the key starts one only if the
+   * gate has no current fiber for it.
+   *
+   * @return the fiber started, or null
+   */
+  @Benchmark
+  public Fiber startFiberIfLastFiberMatches() {
+    String key = selectKey();
+    Fiber lastFiber = lastFibers.remove(key);
+    Fiber fiber = lastFiber != null
+          ? gate.startFiberIfLastFiberMatches(key, lastFiber, step, new Packet(), callback)
+          : gate.startFiberIfNoCurrentFiber(key, step, new Packet(), callback);
+    if (fiber != null) {
+      lastFibers.put(key, fiber);
+    }
+    return fiber;
+  }
+}
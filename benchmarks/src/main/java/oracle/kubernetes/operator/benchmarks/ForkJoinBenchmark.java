@@ -0,0 +1,78 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import oracle.kubernetes.operator.work.Engine;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time for a fiber to fork child fibers, each with its own copy of the packet, and resume once all
+ * have completed. This is the pattern used to process the servers of a domain in parallel.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ForkJoinBenchmark {
+  @Param({"10", "100", "1000"})
+  private int numChildren;
+
+  private Engine engine;
+  private Step forkStep;
+
+  @Setup
+  public void setUp() {
+    engine = EngineSupport.createEngine();
+    forkStep = new ForkStep(numChildren, EngineSupport.createChain(1));
+  }
+
+  @TearDown
+  public void tearDown() {
+    engine.getExecutor().shutdownNow();
+  }
+
+  @Benchmark
+  public Packet forkJoin() throws Exception {
+    return EngineSupport.runFiber(engine, forkStep, new Packet());
+  }
+
+  static class ForkStep extends Step {
+    private final int numChildren;
+    private final Step childStep = EngineSupport.createChain(3);
+
+    ForkStep(int numChildren, Step next) {
+      super(next);
+      this.numChildren = numChildren;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      Collection<StepAndPacket> startDetails = new ArrayList<>(numChildren);
+      for (int i = 0; i < numChildren; i++) {
+        startDetails.add(new StepAndPacket(childStep, packet.clone()));
+      }
+      return doForkJoin(getNext(), packet, startDetails);
+    }
+  }
+}
@@ -0,0 +1,93 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.benchmarks;
+
+import java.text.SimpleDateFormat;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.LogRecord;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import oracle.kubernetes.operator.logging.LoggingFormatter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of formatting a typical FINE-level log record as JSON. The legacy benchmark reproduces
+ * the formatting formerly done by the LoggingFormatter: the fields are collected into a map, which a new
+ * object mapper serializes, with the timestamp from a SimpleDateFormat. The streaming benchmark uses the
+ * LoggingFormatter, which writes the fields directly into a reused buffer. Run with -prof gc to compare
+ * allocation rates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LoggingFormatterBenchmark {
+  private static final String MESSAGE = "Pod {0} in namespace {1} has been updated, with \"status\" {2}";
+
+  private final LoggingFormatter formatter = new LoggingFormatter();
+  private final SimpleDateFormat dateFormat = new SimpleDateFormat("MM-dd-yyyy'T'HH:mm:ss.SSSZZ");
+  private LogRecord record;
+
+  /**
+   * Creates a log record like those logged by the operator at FINE level while rolling a domain's servers.
+   */
+  @Setup(Level.Invocation)
+  public void createRecord() {
+    record = new LogRecord(java.util.logging.Level.FINE, MESSAGE);
+    record.setParameters(new Object[] {"domain1-managed-server3", "weblogic-domain-ns", "Running\nReady"});
+    record.setSourceClassName("oracle.kubernetes.operator.helpers.PodHelper");
+    record.setSourceMethodName("updatePod");
+  }
+
+  /**
+   * The formatting done before the LoggingFormatter wrote JSON directly.
+   * @return the formatted record
+   * @throws Exception if the record cannot be serialized
+   */
+  @Benchmark
+  public String legacyFormatting() throws Exception {
+    Map<String, Object> map = new LinkedHashMap<>();
+    long rawTime = record.getMillis();
+    map.put("timestamp", dateFormat.format(new Date(rawTime)));
+    map.put("thread", Thread.currentThread().getId());
+    map.put("fiber", "");
+    map.put("namespace", "");
+    map.put("domainUID", "");
+    map.put("level", record.getLevel().getLocalizedName());
+    map.put("class", record.getSourceClassName());
+    map.put("method", record.getSourceMethodName());
+    map.put("timeInMillis", rawTime);
+    map.put("message", formatter.formatMessage(record).replaceAll("\n", "\\\n"));
+    map.put("exception", "".replaceAll("\n", "\\\n"));
+    map.put("code", "");
+    map.put("headers", Collections.emptyMap());
+    map.put("body", "".replaceAll("\n", "\\\n"));
+    return new ObjectMapper().writeValueAsString(map) + "\n";
+  }
+
+  /**
+   * The formatting done by the LoggingFormatter.
+   * @return the formatted record
+   */
+  @Benchmark
+  public String streamingFormatting() {
+    return formatter.format(record);
+  }
+}
@@ -0,0 +1,56 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import oracle.kubernetes.operator.work.Component;
+import oracle.kubernetes.operator.work.Packet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of cloning packets of various sizes, as is done for each child fiber of a fork.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PacketCloneBenchmark {
+  private static final int NUM_COMPONENTS = 3;
+
+  @Param({"5", "20", "50"})
+  private int numEntries;
+
+  private final Packet packet = new Packet();
+
+  /**
+   * Populates the packet with entries and components, as the domain processing steps would.
+   */
+  @Setup
+  public void setUp() {
+    for (int i = 0; i < numEntries; i++) {
+      packet.put("key" + i, "value" + i);
+    }
+    for (int i = 0; i < NUM_COMPONENTS; i++) {
+      packet.getComponents().put("component" + i, Component.createFor(new Object()));
+    }
+  }
+
+  @Benchmark
+  public Packet clonePacket() {
+    return packet.clone();
+  }
+}
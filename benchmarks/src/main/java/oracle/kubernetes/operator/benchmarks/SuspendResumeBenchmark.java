@@ -0,0 +1,84 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.benchmarks;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import oracle.kubernetes.operator.work.Engine;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the latency of a fiber suspending and being resumed, as happens around every asynchronous
+ * Kubernetes call. The fiber is resumed either on the thread which suspended it, or from another thread,
+ * as an HTTP client callback would do.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SuspendResumeBenchmark {
+  private Engine engine;
+  private ExecutorService callbackExecutor;
+
+  @Setup
+  public void setUp() {
+    engine = EngineSupport.createEngine();
+    callbackExecutor = Executors.newSingleThreadExecutor();
+  }
+
+  @TearDown
+  public void tearDown() {
+    callbackExecutor.shutdownNow();
+    engine.getExecutor().shutdownNow();
+  }
+
+  @Benchmark
+  public Packet resumeImmediately() throws Exception {
+    return EngineSupport.runFiber(engine, new ImmediateResumeStep(EngineSupport.createChain(1)), new Packet());
+  }
+
+  @Benchmark
+  public Packet resumeFromOtherThread() throws Exception {
+    return EngineSupport.runFiber(engine, new CallbackResumeStep(EngineSupport.createChain(1)), new Packet());
+  }
+
+  static class ImmediateResumeStep extends Step {
+    ImmediateResumeStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doSuspend(fiber -> fiber.resume(packet));
+    }
+  }
+
+  class CallbackResumeStep extends Step {
+    CallbackResumeStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doSuspend(fiber -> callbackExecutor.execute(() -> fiber.resume(packet)));
+    }
+  }
+}
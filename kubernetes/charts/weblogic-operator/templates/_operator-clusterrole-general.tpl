@@ -26,6 +26,14 @@ rules:
 - apiGroups: ["apiextensions.k8s.io"]
   resources: ["customresourcedefinitions"]
   verbs: ["get", "list", "watch", "create", "update", "patch"]
+{{- if .sharedWatches }}
+- apiGroups: [""]
+  resources: ["services", "configmaps", "pods", "events"]
+  verbs: ["list", "watch"]
+- apiGroups: ["batch"]
+  resources: ["jobs"]
+  verbs: ["list", "watch"]
+{{- end }}
 {{- end }}
 - apiGroups: ["weblogic.oracle"]
   resources: ["domains", "domains/status"]
@@ -46,6 +46,60 @@ data:
   {{- if .tokenReviewAuthentication }}
   tokenReviewAuthentication: {{ .tokenReviewAuthentication | quote }}
   {{- end }}
+  {{- if .sharedWatches }}
+  sharedWatches: {{ .sharedWatches | quote }}
+  {{- end }}
+  {{- if .asyncWatches }}
+  asyncWatches: {{ .asyncWatches | quote }}
+  {{- end }}
+  {{- if .virtualThreads }}
+  virtualThreads: {{ .virtualThreads | quote }}
+  {{- end }}
+  {{- if .serverStateProbePort }}
+  serverStateProbePort: {{ .serverStateProbePort | quote }}
+  {{- end }}
+  {{- if .eventDrivenStatusUpdates }}
+  eventDrivenStatusUpdates: {{ .eventDrivenStatusUpdates | quote }}
+  {{- end }}
+  {{- if .batchedHealthReads }}
+  batchedHealthReads: {{ .batchedHealthReads | quote }}
+  {{- end }}
+  {{- if .httpConnectTimeoutSeconds }}
+  httpConnectTimeoutSeconds: {{ .httpConnectTimeoutSeconds | quote }}
+  {{- end }}
+  {{- if .httpRequestTimeoutSeconds }}
+  httpRequestTimeoutSeconds: {{ .httpRequestTimeoutSeconds | quote }}
+  {{- end }}
+  {{- if .httpKeepAliveSeconds }}
+  httpKeepAliveSeconds: {{ .httpKeepAliveSeconds | quote }}
+  {{- end }}
+  {{- if .httpClientThreads }}
+  httpClientThreads: {{ .httpClientThreads | quote }}
+  {{- end }}
+  {{- if .introspectorJobConcurrencyLimit }}
+  introspectorJobConcurrencyLimit: {{ .introspectorJobConcurrencyLimit | quote }}
+  {{- end }}
+  {{- if .introspectorJobNodeConcurrencyLimit }}
+  introspectorJobNodeConcurrencyLimit: {{ .introspectorJobNodeConcurrencyLimit | quote }}
+  {{- end }}
+  {{- if .namespaceShardingEnabled }}
+  namespaceShardingEnabled: {{ .namespaceShardingEnabled | quote }}
+  {{- end }}
+  {{- if .namespaceShardLeaseDurationSeconds }}
+  namespaceShardLeaseDurationSeconds: {{ .namespaceShardLeaseDurationSeconds | quote }}
+  {{- end }}
+  {{- if .restAuthCacheSeconds }}
+  restAuthCacheSeconds: {{ .restAuthCacheSeconds | quote }}
+  {{- end }}
+  {{- if .restAuthCacheSize }}
+  restAuthCacheSize: {{ .restAuthCacheSize | quote }}
+  {{- end }}
+  {{- if .restRequestThreads }}
+  restRequestThreads: {{ .restRequestThreads | quote }}
+  {{- end }}
+  {{- if .restRequestQueueSize }}
+  restRequestQueueSize: {{ .restRequestQueueSize | quote }}
+  {{- end }}
 kind: "ConfigMap"
 metadata:
   labels:
@@ -14,7 +14,7 @@ spec:
   selector:
     matchLabels:
       weblogic.operatorName: {{ .Release.Namespace | quote }}
-  replicas: 1
+  replicas: {{ if .namespaceShardingEnabled }}{{ .operatorReplicas | default 2 }}{{ else }}1{{ end }}
   template:
     metadata:
      labels:
@@ -45,6 +45,12 @@ spec:
           value: "false"
         - name: "JAVA_LOGGING_LEVEL"
           value: {{ .javaLoggingLevel | quote }}
+        {{- if .asyncLogging }}
+        - name: "ASYNC_LOGGING"
+          value: "true"
+        - name: "ASYNC_LOGGING_OVERFLOW_POLICY"
+          value: {{ .asyncLoggingOverflowPolicy | default "Drop" | quote }}
+        {{- end }}
         - name: ISTIO_ENABLED
           value: {{ .istioEnabled | quote }}
         {{- if .remoteDebugNodePortEnabled }}
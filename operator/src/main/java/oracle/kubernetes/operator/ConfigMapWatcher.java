@@ -22,15 +22,21 @@ import oracle.kubernetes.operator.watcher.WatchListener;
  */
 public class ConfigMapWatcher extends Watcher<V1ConfigMap> {
   private final String ns;
+  private final String labelSelector;
+  private final boolean metadataOnly;
 
   private ConfigMapWatcher(
       String ns,
+      String labelSelector,
+      boolean metadataOnly,
       String initialResourceVersion,
       WatchTuning tuning,
       WatchListener<V1ConfigMap> listener,
       AtomicBoolean isStopping) {
     super(initialResourceVersion, tuning, isStopping, listener);
     this.ns = ns;
+    this.labelSelector = labelSelector;
+    this.metadataOnly = metadataOnly;
   }
 
   /**
@@ -50,17 +56,40 @@ public class ConfigMapWatcher extends Watcher<V1ConfigMap> {
       WatchTuning tuning,
       WatchListener<V1ConfigMap> listener,
       AtomicBoolean isStopping) {
+    ConfigMapWatcher watcher = new ConfigMapWatcher(
+        ns, LabelConstants.CREATEDBYOPERATOR_LABEL, false, initialResourceVersion, tuning, listener, isStopping);
+    watcher.start(factory);
+    return watcher;
+  }
+
+  /**
+   * Create a watcher for all config maps in the namespace, rather than only those created by the operator.
+   * Only the metadata of each config map is received, not its data.
+   * @param factory thread factory
+   * @param ns namespace
+   * @param initialResourceVersion initial resource version
+   * @param tuning tuning parameters
+   * @param listener listener
+   * @param isStopping stopping flag
+   * @return watcher
+   */
+  public static ConfigMapWatcher createForAllConfigMaps(
+      ThreadFactory factory,
+      String ns,
+      String initialResourceVersion,
+      WatchTuning tuning,
+      WatchListener<V1ConfigMap> listener,
+      AtomicBoolean isStopping) {
     ConfigMapWatcher watcher =
-        new ConfigMapWatcher(ns, initialResourceVersion, tuning, listener, isStopping);
+        new ConfigMapWatcher(ns, null, true, initialResourceVersion, tuning, listener, isStopping);
     watcher.start(factory);
     return watcher;
   }
 
   @Override
   public Watchable<V1ConfigMap> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
-    return watchBuilder
-        .withLabelSelector(LabelConstants.CREATEDBYOPERATOR_LABEL)
-        .createConfigMapWatch(ns);
+    watchBuilder.withLabelSelector(labelSelector);
+    return metadataOnly ? watchBuilder.createConfigMapMetadataWatch(ns) : watchBuilder.createConfigMapWatch(ns);
   }
 
   @Override
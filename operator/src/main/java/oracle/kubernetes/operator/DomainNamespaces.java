@@ -3,6 +3,7 @@
 
 package oracle.kubernetes.operator;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -14,6 +15,7 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import javax.annotation.Nonnull;
 
+import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.openapi.models.V1ConfigMap;
 import io.kubernetes.client.openapi.models.V1ConfigMapList;
 import io.kubernetes.client.openapi.models.V1Event;
@@ -22,16 +24,25 @@ import io.kubernetes.client.openapi.models.V1Job;
 import io.kubernetes.client.openapi.models.V1JobList;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.openapi.models.V1Secret;
+import io.kubernetes.client.openapi.models.V1SecretList;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServiceList;
 import oracle.kubernetes.operator.TuningParameters.WatchTuning;
 import oracle.kubernetes.operator.helpers.ConfigMapHelper;
+import oracle.kubernetes.operator.helpers.JobHelper;
+import oracle.kubernetes.operator.helpers.SecretHelper;
+import oracle.kubernetes.operator.rest.DomainLookup;
+import oracle.kubernetes.operator.watcher.ResourceIndex;
+import oracle.kubernetes.operator.watcher.ResourceNameIndex;
 import oracle.kubernetes.operator.watcher.WatchListener;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.operator.work.ThreadFactorySingleton;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.DomainList;
+import oracle.kubernetes.weblogic.domain.model.KubernetesResourceLookup;
 
+import static oracle.kubernetes.operator.helpers.KubernetesUtils.getContinueToken;
 import static oracle.kubernetes.operator.helpers.KubernetesUtils.getResourceVersion;
 
 /**
@@ -39,24 +50,35 @@ import static oracle.kubernetes.operator.helpers.KubernetesUtils.getResourceVers
  * one or more domains.
  */
 @SuppressWarnings("SameParameterValue")
-public class DomainNamespaces {
+public class DomainNamespaces implements DomainLookup {
+  static final String SHARED_WATCHES_PARAM = "sharedWatches";
   private static final WatchListener<V1Job> NULL_LISTENER = w -> { };
 
   private final Map<String, NamespaceStatus> namespaceStatuses = new ConcurrentHashMap<>();
   private final Map<String, AtomicBoolean> namespaceStoppingMap = new ConcurrentHashMap<>();
+  private final AtomicBoolean sharedWatchesStopping = new AtomicBoolean(false);
+  private final Set<String> indexedDomainNamespaces = ConcurrentHashMap.newKeySet();
+  private final ResourceNameIndex<V1ConfigMap> configMapNames = new ResourceNameIndex<>();
+  private final ResourceNameIndex<V1Secret> secretNames = new ResourceNameIndex<>();
 
   private final WatcherControl<V1ConfigMap, ConfigMapWatcher> configMapWatchers
-        = new WatcherControl<>(ConfigMapWatcher::create, d -> d::dispatchConfigMapWatch);
+        = new WatcherControl<>(ConfigMapWatcher::create, d -> d::dispatchConfigMapWatch, null);
+  private final WatcherControl<V1ConfigMap, ConfigMapWatcher> configMapNameWatchers
+        = new WatcherControl<>(ConfigMapWatcher::createForAllConfigMaps, d -> configMapNames, null);
   private final WatcherControl<Domain, DomainWatcher> domainWatchers
-        = new WatcherControl<>(DomainWatcher::create, d -> d::dispatchDomainWatch);
+        = new WatcherControl<>(DomainWatcher::create, d -> d::dispatchDomainWatch,
+                               new ResourceIndex<>(Domain::getDomainUid)).withIndexingPerNamespace();
   private final WatcherControl<V1Event, EventWatcher> eventWatchers
-        = new WatcherControl<>(EventWatcher::create, d -> d::dispatchEventWatch);
+        = new WatcherControl<>(EventWatcher::create, d -> d::dispatchEventWatch, null);
   private final WatcherControl<V1Job, JobWatcher> jobWatchers
-        = new WatcherControl<>(JobWatcher::create, d -> NULL_LISTENER);
+        = new WatcherControl<>(JobWatcher::create, d -> NULL_LISTENER, null);
   private final WatcherControl<V1Pod, PodWatcher> podWatchers
-        = new WatcherControl<>(PodWatcher::create, d -> d::dispatchPodWatch);
+        = new WatcherControl<>(PodWatcher::create, d -> d::dispatchPodWatch, null);
+  private final WatcherControl<V1Secret, SecretWatcher> secretWatchers
+        = new WatcherControl<>(SecretWatcher::create, d -> withSecretNames(d::dispatchSecretWatch), null)
+              .withoutSharing();
   private final WatcherControl<V1Service, ServiceWatcher> serviceWatchers
-        = new WatcherControl<>(ServiceWatcher::create, d -> d::dispatchServiceWatch);
+        = new WatcherControl<>(ServiceWatcher::create, d -> d::dispatchServiceWatch, null);
 
   AtomicBoolean isStopping(String ns) {
     return namespaceStoppingMap.computeIfAbsent(ns, (key) -> new AtomicBoolean(false));
@@ -90,6 +112,8 @@ public class DomainNamespaces {
    */
   void stopAllWatchers() {
     namespaceStoppingMap.forEach((key, value) -> value.set(true));
+    sharedWatchesStopping.set(true);
+    Watcher.shutDownAsyncWatches();
   }
 
   /**
@@ -101,17 +125,28 @@ public class DomainNamespaces {
     namespaceStatuses.remove(ns);
 
     domainWatchers.removeWatcher(ns);
+    indexedDomainNamespaces.remove(ns);
     eventWatchers.removeWatcher(ns);
     podWatchers.removeWatcher(ns);
     serviceWatchers.removeWatcher(ns);
     configMapWatchers.removeWatcher(ns);
+    configMapNameWatchers.removeWatcher(ns);
+    configMapNames.removeNamespace(ns);
     jobWatchers.removeWatcher(ns);
+    secretWatchers.removeWatcher(ns);
+    secretNames.removeNamespace(ns);
+    SecretHelper.clearCachedCredentials(ns);
+    JobHelper.removeIntrospectionRequests(ns);
   }
 
   ConfigMapWatcher getConfigMapWatcher(String namespace) {
     return configMapWatchers.getWatcher(namespace);
   }
 
+  ConfigMapWatcher getConfigMapNameWatcher(String namespace) {
+    return configMapNameWatchers.getWatcher(namespace);
+  }
+
   DomainWatcher getDomainWatcher(String namespace) {
     return domainWatchers.getWatcher(namespace);
   }
@@ -128,10 +163,78 @@ public class DomainNamespaces {
     return podWatchers.getWatcher(namespace);
   }
 
+  SecretWatcher getSecretWatcher(String namespace) {
+    return secretWatchers.getWatcher(namespace);
+  }
+
   ServiceWatcher getServiceWatcher(String namespace) {
     return serviceWatchers.getWatcher(namespace);
   }
 
+  /**
+   * Returns the index of domains maintained by the domain watches.
+   * @return the domain index
+   */
+  ResourceIndex<Domain> getDomainIndex() {
+    return domainWatchers.getIndex();
+  }
+
+  @Override
+  public List<Domain> getIndexedDomains(String ns) {
+    return indexedDomainNamespaces.contains(ns) ? getDomainIndex().getResources(ns) : null;
+  }
+
+  @Override
+  public void updateIndexedDomain(Domain domain) {
+    getDomainIndex().update(domain);
+  }
+
+  /**
+   * Returns an object which checks for secrets and config maps in the specified namespace using the names
+   * recorded from the namespace's watches, rather than by listing them.
+   * @param ns the name of a domain namespace
+   * @return the lookup, or null if the names of the namespace's secrets and config maps are not yet known
+   */
+  KubernetesResourceLookup getResourceLookup(String ns) {
+    if (!secretNames.isIndexed(ns) || !configMapNames.isIndexed(ns)) {
+      return null;
+    }
+
+    return new KubernetesResourceLookup() {
+      @Override
+      public boolean isSecretExists(String name, String namespace) {
+        return secretNames.contains(namespace, name);
+      }
+
+      @Override
+      public boolean isConfigMapExists(String name, String namespace) {
+        return configMapNames.contains(namespace, name);
+      }
+
+      @Override
+      public String getSecretResourceVersion(String name, String namespace) {
+        return secretNames.getResourceVersion(namespace, name);
+      }
+
+      @Override
+      public String getConfigMapResourceVersion(String name, String namespace) {
+        return configMapNames.getResourceVersion(namespace, name);
+      }
+    };
+  }
+
+  private WatchListener<V1Secret> withSecretNames(WatchListener<V1Secret> listener) {
+    return response -> {
+      secretNames.receivedResponse(response);
+      listener.receivedResponse(response);
+    };
+  }
+
+  private void indexDomains(String ns, DomainList domainList) {
+    domainList.getItems().forEach(this::updateIndexedDomain);
+    indexedDomainNamespaces.add(ns);
+  }
+
   /**
    * Returns the internal status object for the specified namespace.
    * @param ns the name of the namespace.
@@ -149,6 +252,15 @@ public class DomainNamespaces {
     return ThreadFactorySingleton.getInstance();
   }
 
+  // Returns true if each resource type should be watched once for all domain namespaces, rather than once per
+  // namespace. A dedicated operator has only a single namespace and lacks the cluster-level permissions needed.
+  private static boolean useSharedWatches() {
+    return !Main.isDedicated()
+        && "true".equalsIgnoreCase(Optional.ofNullable(TuningParameters.getInstance())
+                                            .map(t -> t.get(SHARED_WATCHES_PARAM))
+                                            .orElse("false"));
+  }
+
   /**
    * Returns a set up steps to update the specified namespace.
    * This will include adding any existing domains, pod, services,
@@ -163,7 +275,7 @@ public class DomainNamespaces {
     return Step.chain(ConfigMapHelper.createScriptConfigMapStep(ns), resources.createListSteps());
   }
 
-  interface WatcherFactory<T, W extends Watcher<T>> {
+  interface WatcherFactory<T extends KubernetesObject, W extends Watcher<T>> {
     W create(
           ThreadFactory threadFactory,
           String namespace,
@@ -175,14 +287,32 @@ public class DomainNamespaces {
 
   interface ListenerSelector<T> extends Function<DomainProcessor, WatchListener<T>> { }
 
-  class WatcherControl<T, W extends Watcher<T>> {
+  class WatcherControl<T extends KubernetesObject, W extends Watcher<T>> {
     private final Map<String, W> watchers = new ConcurrentHashMap<>();
     private final WatcherFactory<T,W> factory;
     private final ListenerSelector<T> selector;
+    private final SharedWatch<T> sharedWatch;
+    private boolean shareable = true;
+    private boolean indexedPerNamespace;
 
-    public WatcherControl(WatcherFactory<T, W> factory, ListenerSelector<T> selector) {
+    public WatcherControl(WatcherFactory<T, W> factory, ListenerSelector<T> selector, ResourceIndex<T> index) {
       this.factory = factory;
       this.selector = selector;
+      this.sharedWatch = new SharedWatch<>(this::createClusterWatcher, index);
+    }
+
+    // Specifies that the resources are always watched per namespace, even when shared watches are enabled,
+    // so that the operator needs no permission to watch them in namespaces which it does not manage.
+    WatcherControl<T, W> withoutSharing() {
+      shareable = false;
+      return this;
+    }
+
+    // Specifies that the index is maintained from the events of per-namespace watchers, as well as
+    // from those of the shared watch.
+    WatcherControl<T, W> withIndexingPerNamespace() {
+      indexedPerNamespace = true;
+      return this;
     }
 
     void startWatcher(String namespace, String resourceVersion, DomainProcessor domainProcessor) {
@@ -190,15 +320,44 @@ public class DomainNamespaces {
     }
 
     W createWatcher(String ns, String resourceVersion, WatchListener<T> listener) {
-      return factory.create(getThreadFactory(), ns, resourceVersion, getWatchTuning(), listener, isStopping(ns));
+      if (!shareable || !useSharedWatches()) {
+        return factory.create(getThreadFactory(), ns, resourceVersion, getWatchTuning(),
+              withIndexing(listener), isStopping(ns));
+      }
+
+      W watcher = factory.create(null, ns, resourceVersion, getWatchTuning(), listener, isStopping(ns));
+      sharedWatch.addNamespaceWatcher(watcher);
+      return watcher;
+    }
+
+    private WatchListener<T> withIndexing(WatchListener<T> listener) {
+      if (!indexedPerNamespace) {
+        return listener;
+      }
+
+      return response -> {
+        sharedWatch.getIndex().receivedResponse(response);
+        listener.receivedResponse(response);
+      };
+    }
+
+    // Creates the single watcher for all namespaces; an empty initial resource version causes it
+    // to begin with synthetic "ADDED" events for all existing resources.
+    private Watcher<T> createClusterWatcher(WatchListener<T> listener) {
+      return factory.create(getThreadFactory(), null, "", getWatchTuning(), listener, sharedWatchesStopping);
     }
 
     W getWatcher(String ns) {
       return watchers.get(ns);
     }
 
+    ResourceIndex<T> getIndex() {
+      return Optional.ofNullable(sharedWatch.getIndex()).orElse(new ResourceIndex<>());
+    }
+
     void removeWatcher(String ns) {
       watchers.remove(ns);
+      sharedWatch.removeNamespaceWatcher(ns);
     }
   }
 
@@ -217,7 +376,11 @@ public class DomainNamespaces {
 
     @Override
     Consumer<V1ConfigMapList> getConfigMapListProcessing() {
-      return l -> configMapWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      return l -> {
+        configMapNames.recordList(ns, l.getItems(), getContinueToken(l), getResourceVersion(l));
+        configMapWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+        configMapNameWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      };
     }
 
     @Override
@@ -235,6 +398,14 @@ public class DomainNamespaces {
       return l -> podWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
     }
 
+    @Override
+    Consumer<V1SecretList> getSecretListProcessing() {
+      return l -> {
+        secretNames.recordList(ns, l.getItems(), getContinueToken(l), getResourceVersion(l));
+        secretWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      };
+    }
+
     @Override
     Consumer<V1ServiceList> getServiceListProcessing() {
       return l -> serviceWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
@@ -242,7 +413,10 @@ public class DomainNamespaces {
 
     @Override
     Consumer<DomainList> getDomainListProcessing() {
-      return l -> domainWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      return l -> {
+        indexDomains(ns, l);
+        domainWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      };
     }
   }
 }
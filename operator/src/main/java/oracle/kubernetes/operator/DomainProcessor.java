@@ -6,6 +6,7 @@ package oracle.kubernetes.operator;
 import io.kubernetes.client.openapi.models.V1ConfigMap;
 import io.kubernetes.client.openapi.models.V1Event;
 import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1Secret;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
@@ -54,8 +55,22 @@ public interface DomainProcessor {
    */
   void dispatchEventWatch(Watch.Response<V1Event> item);
 
+  /**
+   * Handles a watch event for secrets in the managed namespaces.
+   * @param item a Kubernetes watch even
+   */
+  void dispatchSecretWatch(Watch.Response<V1Secret> item);
+
   /**
    * If the logging level is high enough, reports on any fibers which may currently be suspended.
    */
   void reportSuspendedFibers();
+
+  /**
+   * Stops processing the domains in a namespace which is no longer managed by this operator, or which is now
+   * managed by another replica: cancels their status updates and in-flight fibers, and discards their
+   * domain presence information.
+   * @param ns the name of the namespace
+   */
+  void stopNamespace(String ns);
 }
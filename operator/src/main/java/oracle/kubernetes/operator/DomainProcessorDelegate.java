@@ -9,6 +9,7 @@ import java.util.concurrent.TimeUnit;
 import oracle.kubernetes.operator.helpers.KubernetesVersion;
 import oracle.kubernetes.operator.work.FiberGate;
 import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.weblogic.domain.model.KubernetesResourceLookup;
 
 /** A set of underlying services required during domain processing. */
 public interface DomainProcessorDelegate {
@@ -29,6 +30,17 @@ public interface DomainProcessorDelegate {
    */
   JobAwaiterStepFactory getJobAwaiterStepFactory(String namespace);
 
+  /**
+   * Returns an object which checks for the secrets and config maps in the specified namespace without
+   * listing them.
+   *
+   * @param namespace the namespace containing the resources
+   * @return the lookup, or null if the resources must be listed
+   */
+  default KubernetesResourceLookup getKubernetesResourceLookup(String namespace) {
+    return null;
+  }
+
   /**
    * Returns true if the namespace is running.
    *
@@ -69,4 +81,14 @@ public interface DomainProcessorDelegate {
    */
   ScheduledFuture<?> scheduleWithFixedDelay(
       Runnable command, long initialDelay, long delay, TimeUnit unit);
+
+  /**
+   * Schedules the specified command to run once, after a delay.
+   *
+   * @param command the command to run
+   * @param delay the number of time units to wait before running the command
+   * @param unit the time unit for the above delay
+   * @return a future which indicates completion of the command
+   */
+  ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit);
 }
@@ -26,6 +26,7 @@ import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodCondition;
 import io.kubernetes.client.openapi.models.V1PodList;
 import io.kubernetes.client.openapi.models.V1PodStatus;
+import io.kubernetes.client.openapi.models.V1Secret;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServiceList;
 import io.kubernetes.client.util.Watch;
@@ -37,6 +38,7 @@ import oracle.kubernetes.operator.helpers.DomainValidationSteps;
 import oracle.kubernetes.operator.helpers.JobHelper;
 import oracle.kubernetes.operator.helpers.KubernetesUtils;
 import oracle.kubernetes.operator.helpers.PodHelper;
+import oracle.kubernetes.operator.helpers.SecretHelper;
 import oracle.kubernetes.operator.helpers.ServiceHelper;
 import oracle.kubernetes.operator.logging.LoggingContext;
 import oracle.kubernetes.operator.logging.LoggingFacade;
@@ -57,9 +59,11 @@ import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.operator.work.Step.StepAndPacket;
+import oracle.kubernetes.utils.SystemClock;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.DomainSpec;
 import oracle.kubernetes.weblogic.domain.model.DomainStatus;
+import oracle.kubernetes.weblogic.domain.model.KubernetesResourceLookup;
 import oracle.kubernetes.weblogic.domain.model.ServerHealth;
 import oracle.kubernetes.weblogic.domain.model.ServerStatus;
 
@@ -79,7 +83,8 @@ public class DomainProcessorImpl implements DomainProcessor {
 
   @SuppressWarnings("FieldMayBeFinal") // Map namespace to map of domainUID to Domain; tests may replace this value.
   private static Map<String, Map<String, DomainPresenceInfo>> DOMAINS = new ConcurrentHashMap<>();
-  private static final Map<String, Map<String, ScheduledFuture<?>>> statusUpdaters = new ConcurrentHashMap<>();
+  private static final Map<String, Map<String, StatusUpdater>> statusUpdaters = new ConcurrentHashMap<>();
+  static final String EVENT_DRIVEN_STATUS_UPDATES_PARAM = "eventDrivenStatusUpdates";
   private final DomainProcessorDelegate delegate;
 
   public DomainProcessorImpl(DomainProcessorDelegate delegate) {
@@ -103,25 +108,30 @@ public class DomainProcessorImpl implements DomainProcessor {
     }
   }
 
-  private static void registerStatusUpdater(
-        String ns, String domainUid, ScheduledFuture<?> future) {
-    ScheduledFuture<?> existing =
-          statusUpdaters.computeIfAbsent(ns, k -> new ConcurrentHashMap<>()).put(domainUid, future);
+  private static void registerStatusUpdater(String ns, String domainUid, StatusUpdater updater) {
+    StatusUpdater existing =
+          statusUpdaters.computeIfAbsent(ns, k -> new ConcurrentHashMap<>()).put(domainUid, updater);
     if (existing != null) {
       existing.cancel(false);
     }
   }
 
   private static void unregisterStatusUpdater(String ns, String domainUid) {
-    Map<String, ScheduledFuture<?>> map = statusUpdaters.get(ns);
+    Map<String, StatusUpdater> map = statusUpdaters.get(ns);
     if (map != null) {
-      ScheduledFuture<?> existing = map.remove(domainUid);
+      StatusUpdater existing = map.remove(domainUid);
       if (existing != null) {
         existing.cancel(true);
       }
     }
   }
 
+  private static void requestStatusUpdate(String ns, String domainUid) {
+    Optional.ofNullable(statusUpdaters.get(ns))
+          .map(m -> m.get(domainUid))
+          .ifPresent(StatusUpdater::requestUpdate);
+  }
+
   private static void onEvent(V1Event event) {
     V1ObjectReference ref = event.getInvolvedObject();
     if (ref == null || ref.getName() == null) {
@@ -139,6 +149,7 @@ public class DomainProcessorImpl implements DomainProcessor {
     Optional.ofNullable(DOMAINS.get(event.getMetadata().getNamespace()))
           .map(m -> m.get(domainUid))
           .ifPresent(info -> info.updateLastKnownServerStatus(serverName, status));
+    requestStatusUpdate(event.getMetadata().getNamespace(), domainUid);
   }
 
   private static String getReadinessStatus(V1Event event) {
@@ -206,6 +217,14 @@ public class DomainProcessorImpl implements DomainProcessor {
     return statusFiberGates.computeIfAbsent(ns, k -> delegate.createFiberGate());
   }
 
+  @Override
+  public void stopNamespace(String ns) {
+    Optional.ofNullable(statusUpdaters.remove(ns)).ifPresent(m -> m.values().forEach(u -> u.cancel(true)));
+    Optional.ofNullable(makeRightFiberGates.remove(ns)).ifPresent(FiberGate::cancelAll);
+    Optional.ofNullable(statusFiberGates.remove(ns)).ifPresent(FiberGate::cancelAll);
+    DOMAINS.remove(ns);
+  }
+
   /**
    * Report on currently suspended fibers. This is the first step toward diagnosing if we need special handling
    * to kill or kick these fibers.
@@ -266,6 +285,7 @@ public class DomainProcessorImpl implements DomainProcessor {
         // fall through
       case "MODIFIED":
         info.setServerPodFromEvent(serverName, pod);
+        requestStatusUpdate(info.getNamespace(), domainUid);
         break;
       case "DELETED":
         boolean removed = info.deleteServerPodFromEvent(serverName, pod);
@@ -273,6 +293,7 @@ public class DomainProcessorImpl implements DomainProcessor {
           LOGGER.info(MessageKeys.POD_DELETED, domainUid, getNamespace(pod), serverName);
           createMakeRightOperation(info).interrupt().withExplicitRecheck().execute();
         }
+        requestStatusUpdate(info.getNamespace(), domainUid);
         break;
 
       case "ERROR":
@@ -390,6 +411,25 @@ public class DomainProcessorImpl implements DomainProcessor {
     }
   }
 
+  /**
+   * Dispatch secret watch event.
+   * @param item watch event
+   */
+  public void dispatchSecretWatch(Watch.Response<V1Secret> item) {
+    V1Secret s = item.object;
+    if (s != null && s.getMetadata() != null) {
+      switch (item.type) {
+        case "MODIFIED":
+        case "DELETED":
+          SecretHelper.removeCachedCredentials(s.getMetadata().getNamespace(), s.getMetadata().getName());
+          break;
+        case "ADDED":
+        case "ERROR":
+        default:
+      }
+    }
+  }
+
   /**
    * Dispatch the Domain event to the appropriate handler.
    *
@@ -428,62 +468,154 @@ public class DomainProcessorImpl implements DomainProcessor {
   }
 
   private void scheduleDomainStatusUpdating(DomainPresenceInfo info) {
-    final OncePerMessageLoggingFilter loggingFilter = new OncePerMessageLoggingFilter();
-
-    MainTuning main = TuningParameters.getInstance().getMainTuning();
-    registerStatusUpdater(
-        info.getNamespace(),
-        info.getDomainUid(),
-        delegate.scheduleWithFixedDelay(
-            () -> {
-              try {
-                Packet packet = new Packet();
-                packet
-                    .getComponents()
-                    .put(
-                        ProcessingConstants.DOMAIN_COMPONENT_NAME,
-                        Component.createFor(
-                            info, delegate.getKubernetesVersion()));
-                packet.put(LoggingFilter.LOGGING_FILTER_PACKET_KEY, loggingFilter);
-                Step strategy =
-                    ServerStatusReader.createStatusStep(main.statusUpdateTimeoutSeconds, null);
-                FiberGate gate = getStatusFiberGate(info.getNamespace());
-
-                Fiber f =
-                    gate.startFiberIfNoCurrentFiber(
-                        info.getDomainUid(),
-                        strategy,
-                        packet,
-                        new CompletionCallback() {
-                          @Override
-                          public void onCompletion(Packet packet) {
-                            AtomicInteger serverHealthRead =
-                                packet.getValue(
-                                    ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ);
-                            if (serverHealthRead == null || serverHealthRead.get() == 0) {
-                              loggingFilter.setFiltering(false).resetLogHistory();
-                            } else {
-                              loggingFilter.setFiltering(true);
-                            }
-                          }
+    StatusUpdater updater = new StatusUpdater(info, isEventDrivenStatusUpdating());
+    registerStatusUpdater(info.getNamespace(), info.getDomainUid(), updater);
+    updater.start();
+  }
 
-                          @Override
-                          public void onThrowable(Packet packet, Throwable throwable) {
-                            logThrowable(throwable);
-                            loggingFilter.setFiltering(true);
-                          }
-                        });
-              } catch (Throwable t) {
-                try (LoggingContext ignored
-                         = LoggingContext.setThreadContext()
-                    .namespace(info.getNamespace()).domainUid(info.getDomainUid())) {
-                  LOGGER.severe(MessageKeys.EXCEPTION, t);
+  private static boolean isEventDrivenStatusUpdating() {
+    return "true".equalsIgnoreCase(TuningParameters.getInstance().get(EVENT_DRIVEN_STATUS_UPDATES_PARAM));
+  }
+
+  /**
+   * Keeps the status of a domain up to date. By default, the status is recomputed at a short fixed interval.
+   * If status updates are event-driven, it is recomputed only when requested, after a changed server pod
+   * or a reported change of server state; requests which arrive before the update runs are coalesced into it.
+   * While any server pod is not yet ready, requested updates repeat at the short interval, since server
+   * states then change without pod events. A sweep at the much longer backstop interval catches any change
+   * which was missed, such as that of the health of a running server.
+   */
+  private class StatusUpdater {
+    private final DomainPresenceInfo info;
+    private final boolean eventDriven;
+    private final OncePerMessageLoggingFilter loggingFilter = new OncePerMessageLoggingFilter();
+    private volatile ScheduledFuture<?> sweep;
+    private volatile boolean cancelled;
+    // the generation of the latest update scheduled, and the time at which it is due, or Long.MAX_VALUE if none
+    private long scheduledGeneration;
+    private long scheduledDueMillis = Long.MAX_VALUE;
+    private long repeatDelaySeconds;
+
+    StatusUpdater(DomainPresenceInfo info, boolean eventDriven) {
+      this.info = info;
+      this.eventDriven = eventDriven;
+    }
+
+    void start() {
+      MainTuning main = TuningParameters.getInstance().getMainTuning();
+      long sweepInterval = eventDriven ? main.statusUpdateBackstopSeconds : main.initialShortDelay;
+      sweep = delegate.scheduleWithFixedDelay(this::updateStatus, sweepInterval, sweepInterval, TimeUnit.SECONDS);
+      requestUpdate();
+    }
+
+    void cancel(boolean mayInterruptIfRunning) {
+      cancelled = true;
+      sweep.cancel(mayInterruptIfRunning);
+    }
+
+    /**
+     * Requests an update after the short status delay, in response to an event. Requests are folded into any
+     * update already due by then, and the back-off of repeated updates starts again.
+     */
+    synchronized void requestUpdate() {
+      repeatDelaySeconds = 0;
+      scheduleUpdate(TuningParameters.getInstance().getMainTuning().initialShortDelay);
+    }
+
+    /**
+     * Repeats the update while server pods are not ready, doubling the delay each time, starting from the short
+     * status delay. Once the delay would reach the backstop interval, the backstop sweep alone covers the domain.
+     */
+    private synchronized void repeatUpdate() {
+      MainTuning main = TuningParameters.getInstance().getMainTuning();
+      repeatDelaySeconds = Math.max(2 * repeatDelaySeconds, main.initialShortDelay);
+      if (repeatDelaySeconds < main.statusUpdateBackstopSeconds) {
+        scheduleUpdate(repeatDelaySeconds);
+      }
+    }
+
+    private void scheduleUpdate(long delaySeconds) {
+      long dueMillis = SystemClock.now().getMillis() + TimeUnit.SECONDS.toMillis(delaySeconds);
+      if (eventDriven && !cancelled && dueMillis < scheduledDueMillis) {
+        long generation = ++scheduledGeneration;
+        scheduledDueMillis = dueMillis;
+        delegate.schedule(() -> runScheduledUpdate(generation), delaySeconds, TimeUnit.SECONDS);
+      }
+    }
+
+    private void runScheduledUpdate(long generation) {
+      synchronized (this) {
+        if (generation != scheduledGeneration) {
+          return; // superseded by an update scheduled to run sooner
+        }
+        scheduledDueMillis = Long.MAX_VALUE;
+      }
+
+      if (!cancelled) {
+        updateStatus();
+        if (!allServerPodsReady()) {
+          repeatUpdate();
+        }
+      }
+    }
+
+    private boolean allServerPodsReady() {
+      return info.getServerPods().allMatch(PodHelper::getReadyStatus);
+    }
+
+    private void updateStatus() {
+      if (cancelled) {
+        return;
+      }
+
+      try {
+        Packet packet = new Packet();
+        packet
+            .getComponents()
+            .put(
+                ProcessingConstants.DOMAIN_COMPONENT_NAME,
+                Component.createFor(
+                    info, delegate.getKubernetesVersion()));
+        packet.put(LoggingFilter.LOGGING_FILTER_PACKET_KEY, loggingFilter);
+        MainTuning main = TuningParameters.getInstance().getMainTuning();
+        Step strategy =
+            ServerStatusReader.createStatusStep(main.statusUpdateTimeoutSeconds, null);
+        FiberGate gate = getStatusFiberGate(info.getNamespace());
+
+        Fiber fiber = gate.startFiberIfNoCurrentFiber(
+            info.getDomainUid(),
+            strategy,
+            packet,
+            new CompletionCallback() {
+              @Override
+              public void onCompletion(Packet packet) {
+                AtomicInteger serverHealthRead =
+                    packet.getValue(
+                        ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ);
+                if (serverHealthRead == null || serverHealthRead.get() == 0) {
+                  loggingFilter.setFiltering(false).resetLogHistory();
+                } else {
+                  loggingFilter.setFiltering(true);
                 }
               }
-            },
-            main.initialShortDelay,
-            main.initialShortDelay,
-            TimeUnit.SECONDS));
+
+              @Override
+              public void onThrowable(Packet packet, Throwable throwable) {
+                logThrowable(throwable);
+                loggingFilter.setFiltering(true);
+              }
+            });
+        if (fiber == null) {
+          requestUpdate();
+        }
+      } catch (Throwable t) {
+        try (LoggingContext ignored
+                 = LoggingContext.setThreadContext()
+            .namespace(info.getNamespace()).domainUid(info.getDomainUid())) {
+          LOGGER.severe(MessageKeys.EXCEPTION, t);
+        }
+      }
+    }
   }
 
   private void logThrowable(Throwable throwable) {
@@ -695,7 +827,8 @@ public class DomainProcessorImpl implements DomainProcessor {
               ProcessingConstants.DOMAIN_COMPONENT_NAME,
               Component.createFor(liveInfo, delegate.getKubernetesVersion(),
                   PodAwaiterStepFactory.class, delegate.getPodAwaiterStepFactory(getNamespace()),
-                  JobAwaiterStepFactory.class, delegate.getJobAwaiterStepFactory(getNamespace())));
+                  JobAwaiterStepFactory.class, delegate.getJobAwaiterStepFactory(getNamespace()),
+                  KubernetesResourceLookup.class, delegate.getKubernetesResourceLookup(getNamespace())));
       runDomainPlan(
             getDomain(),
             getDomainUid(),
@@ -730,7 +863,8 @@ public class DomainProcessorImpl implements DomainProcessor {
       if (deleting || getDomain() == null) {
         return strategy;
       } else {
-        return DomainValidationSteps.createDomainValidationSteps(getNamespace(), strategy);
+        return DomainValidationSteps.createDomainValidationSteps(
+              getNamespace(), delegate.getKubernetesResourceLookup(getNamespace()), strategy);
       }
     }
   }
@@ -1043,6 +1177,7 @@ public class DomainProcessorImpl implements DomainProcessor {
     public NextAction apply(Packet packet) {
       info.setDeleting(true);
       unregisterStatusUpdater(ns, info.getDomainUid());
+      JobHelper.removeIntrospectionRequests(ns, info.getDomainUid());
       return doNext(packet);
     }
   }
@@ -134,7 +134,7 @@ class DomainRecheck {
   private class NamespaceListResponseStep extends DefaultResponseStep<V1NamespaceList> {
 
     private NamespaceListResponseStep() {
-      super(new Namespaces.NamespaceListAfterStep(domainNamespaces));
+      super(new Namespaces.NamespaceListAfterStep(domainNamespaces, domainProcessor));
     }
 
     // If unable to list the namespaces, we may still be able to start them if we are using
@@ -156,10 +156,10 @@ class DomainRecheck {
       final Set<String> domainNamespaces = getNamespacesToStart(getNames(callResponse.getResult()));
       Namespaces.getFoundDomainNamespaces(packet).addAll(domainNamespaces);
 
-      return doContinueListOrNext(callResponse, packet, createNextSteps(domainNamespaces));
+      return doContinueListOrNext(callResponse, packet, createNextSteps(NamespaceShards.getOwned(domainNamespaces)));
     }
 
-    private Step createNextSteps(Set<String> namespacesToStartNow) {
+    private Step createNextSteps(Collection<String> namespacesToStartNow) {
       List<Step> nextSteps = new ArrayList<>();
       if (!namespacesToStartNow.isEmpty()) {
         nextSteps.add(createStartNamespacesStep(namespacesToStartNow));
@@ -186,7 +186,7 @@ class DomainRecheck {
   }
 
   Step createStartNamespacesStep(Collection<String> domainNamespaces) {
-    return RunInParallel.perNamespace(domainNamespaces, this::startNamespaceSteps);
+    return RunInParallel.perNamespace(NamespaceShards.getOwned(domainNamespaces), this::startNamespaceSteps);
   }
 
   Step startNamespaceSteps(String ns) {
@@ -18,6 +18,7 @@ import javax.annotation.Nonnull;
 import javax.json.Json;
 import javax.json.JsonPatchBuilder;
 
+import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
@@ -49,6 +50,7 @@ import oracle.kubernetes.weblogic.domain.model.DomainStatus;
 import oracle.kubernetes.weblogic.domain.model.ServerHealth;
 import oracle.kubernetes.weblogic.domain.model.ServerStatus;
 
+import static java.net.HttpURLConnection.HTTP_CONFLICT;
 import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_HEALTH_MAP;
@@ -222,14 +224,26 @@ public class DomainStatusUpdater {
 
       return context.isStatusUnchanged(newStatus)
             ? doNext(packet)
-            : doNext(createDomainStatusReplaceStep(context, newStatus), packet);
+            : doNext(createDomainStatusPatchStep(context, newStatus), packet);
     }
 
-    private Step createDomainStatusReplaceStep(DomainStatusUpdaterContext context, DomainStatus newStatus) {
+    private Step createDomainStatusPatchStep(DomainStatusUpdaterContext context, DomainStatus newStatus) {
       LOGGER.fine(MessageKeys.DOMAIN_STATUS, context.getDomainUid(), newStatus);
-      if (LOGGER.isFinerEnabled()) {
-        LOGGER.finer("status change: " + createPatchString(context, newStatus));
-      }
+      JsonPatchBuilder builder = Json.createPatchBuilder();
+      Optional.ofNullable(context.getMetadata().getResourceVersion())
+            .ifPresent(version -> builder.test("/metadata/resourceVersion", version));
+      newStatus.createPatchFrom(builder, context.getStatus());
+      String patch = builder.build().toString();
+      LOGGER.finer("status change: " + patch);
+
+      return new CallBuilder().patchDomainStatusAsync(
+            context.getDomainName(),
+            context.getNamespace(),
+            new V1Patch(patch),
+            new StatusPatchResponseStep(this, context, getNext()));
+    }
+
+    private Step createDomainStatusReplaceStep(DomainStatusUpdaterContext context, DomainStatus newStatus) {
       Domain oldDomain = context.getDomain();
       Domain newDomain = new Domain()
           .withKind(KubernetesConstants.DOMAIN)
@@ -242,17 +256,7 @@ public class DomainStatusUpdater {
             context.getDomainName(),
             context.getNamespace(),
             newDomain,
-            createResponseStep(context, getNext()));
-    }
-
-    private String createPatchString(DomainStatusUpdaterContext context, DomainStatus newStatus) {
-      JsonPatchBuilder builder = Json.createPatchBuilder();
-      newStatus.createPatchFrom(builder, context.getStatus());
-      return builder.build().toString();
-    }
-
-    private ResponseStep<Domain> createResponseStep(DomainStatusUpdaterContext context, Step next) {
-      return new StatusReplaceResponseStep(this, context, next);
+            new StatusReplaceResponseStep(this, context, getNext()));
     }
   }
 
@@ -288,11 +292,69 @@ public class DomainStatusUpdater {
       return Step.chain(createDomainRefreshStep(context), updaterStep);
     }
 
-    private Step createDomainRefreshStep(DomainStatusUpdaterContext context) {
+    Step createDomainRefreshStep(DomainStatusUpdaterContext context) {
       return new CallBuilder().readDomainAsync(context.getDomainName(), context.getNamespace(), new DomainUpdateStep());
     }
   }
 
+  /**
+   * Handles the response to a status patch. The patch is computed from the status last read, and first tests that
+   * the domain still has the resource version which was read, so that it fails as unprocessable if the domain has
+   * changed since, rather than, for example, appending a list item which another update has already added.
+   * In that case, or on a conflict, the domain is read again, and a status computed from the current one replaces it.
+   */
+  static class StatusPatchResponseStep extends StatusReplaceResponseStep {
+    private final DomainStatusUpdaterStep updaterStep;
+    private final DomainStatusUpdaterContext context;
+
+    StatusPatchResponseStep(DomainStatusUpdaterStep updaterStep, DomainStatusUpdaterContext context, Step nextStep) {
+      super(updaterStep, context, nextStep);
+      this.updaterStep = updaterStep;
+      this.context = context;
+    }
+
+    @Override
+    public NextAction onFailure(Packet packet, CallResponse<Domain> callResponse) {
+      if (isStaleStatus(callResponse)) {
+        return doNext(createRefreshAndReplace(), packet);
+      } else {
+        return super.onFailure(packet, callResponse);
+      }
+    }
+
+    private Step createRefreshAndReplace() {
+      return Step.chain(createDomainRefreshStep(context), new StatusReplaceStep(updaterStep, getNext()));
+    }
+
+    private boolean isStaleStatus(CallResponse<Domain> callResponse) {
+      return callResponse.getStatusCode() == CallBuilder.UNPROCESSABLE_ENTITY
+            || callResponse.getStatusCode() == HTTP_CONFLICT;
+    }
+  }
+
+  /**
+   * Replaces the domain status with one computed from the status last read. Used once a status patch has failed
+   * and the domain has been read again.
+   */
+  static class StatusReplaceStep extends Step {
+    private final DomainStatusUpdaterStep updaterStep;
+
+    StatusReplaceStep(DomainStatusUpdaterStep updaterStep, Step next) {
+      super(next);
+      this.updaterStep = updaterStep;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      DomainStatusUpdaterContext context = updaterStep.createContext(packet);
+      DomainStatus newStatus = context.getNewStatus();
+
+      return context.isStatusUnchanged(newStatus)
+            ? doNext(packet)
+            : doNext(updaterStep.createDomainStatusReplaceStep(context, newStatus), packet);
+    }
+  }
+
   static class DomainUpdateStep extends ResponseStep<Domain> {
     @Override
     public NextAction onSuccess(Packet packet, CallResponse<Domain> callResponse) {
@@ -353,7 +415,7 @@ public class DomainStatusUpdater {
       return getMetadata().getNamespace();
     }
 
-    private V1ObjectMeta getMetadata() {
+    V1ObjectMeta getMetadata() {
       return getDomain().getMetadata();
     }
 
@@ -23,9 +23,15 @@ public interface IntrospectorConfigMapKeys {
   /** A hash of the Model-in-Image inputs. */
   String DOMAIN_INPUTS_HASH = "weblogic.domainInputsHash";
 
+  /** A hash of the inputs from which the introspection results were produced. */
+  String INTROSPECTION_FINGERPRINT = "weblogic.introspectionFingerprint";
+
   /**
    * The prefix for a number of keys which may appear in the introspector config map.
    * They are not preserved from one update to another.
    */
   String SIT_CONFIG_FILE_PREFIX = "Sit-Cfg";
+
+  /** A list of the results stored compressed and in parts, and of the config maps holding those parts. */
+  String CHUNK_MANIFEST = "chunks.manifest";
 }
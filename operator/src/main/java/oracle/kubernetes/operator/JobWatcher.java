@@ -38,6 +38,7 @@ public class JobWatcher extends Watcher<V1Job> implements WatchListener<V1Job>,
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
   private final String namespace;
+  private final WatchListener<V1Job> listener;
 
   // Map of Job name to Runnable
   private final Map<String,Consumer<V1Job>> completeCallbackRegistrations = new ConcurrentHashMap<>();
@@ -46,10 +47,12 @@ public class JobWatcher extends Watcher<V1Job> implements WatchListener<V1Job>,
       String namespace,
       String initialResourceVersion,
       WatchTuning tuning,
+      WatchListener<V1Job> listener,
       AtomicBoolean isStopping) {
     super(initialResourceVersion, tuning, isStopping);
     setListener(this);
     this.namespace = namespace;
+    this.listener = listener;
   }
 
   private void addOnModifiedCallback(String jobName, Consumer<V1Job> callback) {
@@ -86,7 +89,7 @@ public class JobWatcher extends Watcher<V1Job> implements WatchListener<V1Job>,
    * @param ns Namespace
    * @param initialResourceVersion Initial resource version or empty string
    * @param tuning Tuning parameters for the watch, for example watch lifetime
-   * @param listener a null listener to keep the same signature as other watcher create methods
+   * @param listener a listener to which to dispatch watch events, in addition to the job watcher's own handling
    * @param isStopping Stop signal
    * @return Job watcher for the namespace
    */
@@ -95,9 +98,9 @@ public class JobWatcher extends Watcher<V1Job> implements WatchListener<V1Job>,
         String ns,
         String initialResourceVersion,
         WatchTuning tuning,
-        @SuppressWarnings("unused") WatchListener<V1Job> listener,
+        WatchListener<V1Job> listener,
         AtomicBoolean isStopping) {
-    JobWatcher watcher = new JobWatcher(ns, initialResourceVersion, tuning, isStopping);
+    JobWatcher watcher = new JobWatcher(ns, initialResourceVersion, tuning, listener, isStopping);
     watcher.start(factory);
     return watcher;
   }
@@ -174,6 +177,7 @@ public class JobWatcher extends Watcher<V1Job> implements WatchListener<V1Job>,
     LOGGER.entering();
 
     LOGGER.fine("JobWatcher.receivedResponse response item: " + item);
+    listener.receivedResponse(item);
     switch (item.type) {
       case "ADDED":
       case "MODIFIED":
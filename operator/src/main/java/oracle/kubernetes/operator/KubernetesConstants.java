@@ -20,6 +20,7 @@ public interface KubernetesConstants {
 
   String API_VERSION_WEBLOGIC_ORACLE = DOMAIN_GROUP + "/" + DOMAIN_VERSION;
 
+  String ALL_DOMAINS_PATH = "/apis/" + DOMAIN_GROUP + "/" + DOMAIN_VERSION + "/" + DOMAIN_PLURAL;
   String DOMAIN_PATH = "/apis/" + DOMAIN_GROUP + "/" + DOMAIN_VERSION + "/namespaces/{namespace}/" + DOMAIN_PLURAL;
   String DOMAIN_SPECIFIC_PATH = DOMAIN_PATH + "/{name}";
   String DOMAIN_SCALE_PATH = DOMAIN_SPECIFIC_PATH + "/scale";
@@ -21,6 +21,8 @@ public interface LabelConstants {
   String MODEL_IN_IMAGE_MODEL_SECRETS_HASH = "weblogic.modelInImageModelSecretsHash";
   String MODEL_IN_IMAGE_DOMAINZIP_HASH = "weblogic.modelInImageDomainZipHash";
   String INTROSPECTION_STATE_LABEL = "weblogic.introspectVersion";
+  String INTROSPECTOR_CHUNK_HASH_LABEL = "weblogic.introspectorChunkHash";
+  String NAMESPACE_SHARD_LEASE_LABEL = "weblogic.namespaceShardLease";
 
   static String forDomainUidSelector(String uid) {
     return String.format("%s=%s", DOMAINUID_LABEL, uid);
@@ -53,6 +53,7 @@ import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.operator.work.ThreadFactorySingleton;
 import oracle.kubernetes.weblogic.domain.model.DomainList;
+import oracle.kubernetes.weblogic.domain.model.KubernetesResourceLookup;
 import org.apache.commons.lang.StringUtils;
 import org.joda.time.DateTime;
 
@@ -229,6 +230,11 @@ public class Main {
       return domainNamespaces.getJobWatcher(namespace);
     }
 
+    @Override
+    public KubernetesResourceLookup getKubernetesResourceLookup(String namespace) {
+      return domainNamespaces.getResourceLookup(namespace);
+    }
+
     @Override
     public boolean isNamespaceRunning(String namespace) {
       return !domainNamespaces.isStopping(namespace).get();
@@ -243,6 +249,11 @@ public class Main {
     public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
       return engine.getExecutor().scheduleWithFixedDelay(command, initialDelay, delay, unit);
     }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+      return engine.getExecutor().schedule(command, delay, unit);
+    }
   }
 
   /**
@@ -281,12 +292,34 @@ public class Main {
   }
 
   static @Nonnull Main createMain(Properties buildProps) {
-    final MainDelegateImpl delegate = new MainDelegateImpl(buildProps, wrappedExecutorService);
+    final MainDelegateImpl delegate = new MainDelegateImpl(buildProps, getEngineExecutorService());
 
     delegate.logStartup(LOGGER);
     return new Main(delegate);
   }
 
+  /**
+   * Returns the executor on which the operator's fibers are to run. Unless virtual threads are selected and
+   * supported, this is the same pool used for the operator's own periodic tasks.
+   */
+  private static ScheduledExecutorService getEngineExecutorService() {
+    if (!useVirtualThreads()) {
+      return wrappedExecutorService;
+    } else if (!Engine.isVirtualThreadSupported()) {
+      LOGGER.warning(MessageKeys.VIRTUAL_THREADS_UNSUPPORTED, System.getProperty("java.version"));
+      return wrappedExecutorService;
+    } else {
+      return Engine.virtualThreadExecutorService("operator", container);
+    }
+  }
+
+  static boolean useVirtualThreads() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getMainTuning)
+          .map(t -> t.virtualThreadsEnabled)
+          .orElse(false);
+  }
+
   DomainNamespaces getDomainNamespaces() {
     return delegate.getDomainNamespaces();
   }
@@ -338,7 +371,7 @@ public class Main {
       startRestServer(delegate.getPrincipal());
 
       // start periodic retry and recheck
-      int recheckInterval = TuningParameters.getInstance().getMainTuning().domainNamespaceRecheckIntervalSeconds;
+      int recheckInterval = getDomainNamespaceRecheckInterval();
       int stuckPodInterval = getStuckPodInterval();
       delegate.scheduleWithFixedDelay(recheckDomains(), recheckInterval, recheckInterval, TimeUnit.SECONDS);
       delegate.scheduleWithFixedDelay(checkStuckPods(), stuckPodInterval, stuckPodInterval, TimeUnit.SECONDS);
@@ -350,6 +383,19 @@ public class Main {
     }
   }
 
+  // The namespace shard lease is renewed, and namespaces are started and stopped as the shards change,
+  // during the namespace recheck, which must therefore run at least as often as the lease is to be renewed.
+  static int getDomainNamespaceRecheckInterval() {
+    int recheckInterval = TuningParameters.getInstance().getMainTuning().domainNamespaceRecheckIntervalSeconds;
+    int maximumInterval = NamespaceShards.getMaximumRecheckIntervalSeconds();
+    if (!NamespaceShards.isEnabled() || recheckInterval <= maximumInterval) {
+      return recheckInterval;
+    }
+
+    LOGGER.warning(MessageKeys.NAMESPACE_RECHECK_INTERVAL_TOO_LONG, recheckInterval, maximumInterval);
+    return maximumInterval;
+  }
+
   private int getStuckPodInterval() {
     return Optional.ofNullable(TuningParameters.getInstance())
           .map(TuningParameters::getMainTuning)
@@ -392,6 +438,7 @@ public class Main {
         domainRecheck.createOperatorNamespaceReview(),
         CrdHelper.createDomainCrdStep(delegate.getKubernetesVersion(), delegate.getProductVersion()),
         createCRDPresenceCheck(),
+        NamespaceShards.createRenewStep(),
         domainRecheck.createReadNamespacesStep());
   }
 
@@ -432,7 +479,8 @@ public class Main {
 
   private void startRestServer(String principal)
       throws Exception {
-    RestServer.create(new RestConfigImpl(principal, delegate.getDomainNamespaces()::getNamespaces));
+    DomainNamespaces domainNamespaces = delegate.getDomainNamespaces();
+    RestServer.create(new RestConfigImpl(principal, domainNamespaces::getNamespaces, domainNamespaces));
     RestServer.getInstance().start(container);
   }
 
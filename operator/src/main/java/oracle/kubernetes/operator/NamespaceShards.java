@@ -0,0 +1,398 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import io.kubernetes.client.openapi.models.V1Lease;
+import io.kubernetes.client.openapi.models.V1LeaseList;
+import io.kubernetes.client.openapi.models.V1LeaseSpec;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Status;
+import oracle.kubernetes.operator.calls.CallResponse;
+import oracle.kubernetes.operator.helpers.CallBuilder;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.steps.DefaultResponseStep;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.SystemClock;
+import org.joda.time.DateTime;
+
+import static oracle.kubernetes.operator.LabelConstants.NAMESPACE_SHARD_LEASE_LABEL;
+import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorNamespace;
+
+/**
+ * Divides the domain namespaces among the replicas of the operator, when namespace sharding is enabled.
+ * Each replica holds a Lease in the operator namespace, which it renews during its periodic namespace recheck;
+ * the recheck interval is shortened, if need be, to a third of the lease duration.
+ * The replicas whose leases have not expired are placed on a consistent-hash ring, and each namespace is
+ * managed by the replica which follows it on the ring. When a replica is lost, its lease expires and the
+ * others take over its namespaces; only the namespaces of the lost replica move.
+ *
+ * <p>A replica which has not renewed its own lease within the lease duration manages no namespaces, as the
+ * others may already have taken them over. A namespace which a replica gains while another may still be
+ * managing it, because the ring has changed, is started only after a handover delay of two renewal intervals,
+ * by which time the previous owner has seen the change and stopped it.
+ */
+class NamespaceShards {
+  static final int DEFAULT_LEASE_DURATION_SECONDS = 30;
+  static final int VIRTUAL_NODES_PER_REPLICA = 64;
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  private static NamespaceShards instance = new NamespaceShards(getReplicaName());
+
+  private final String replicaName;
+  private volatile Membership membership = Membership.NONE;
+
+  NamespaceShards(String replicaName) {
+    this.replicaName = replicaName;
+  }
+
+  static NamespaceShards getInstance() {
+    return instance;
+  }
+
+  // In a deployment, the host name of the operator container is the name of its pod.
+  private static String getReplicaName() {
+    return Optional.ofNullable(System.getenv("HOSTNAME")).orElse("weblogic-operator");
+  }
+
+  /**
+   * Returns true if the operator divides its domain namespaces among its replicas. Sharding does not apply
+   * to the dedicated namespace strategy, under which the operator manages only its own namespace.
+   */
+  static boolean isEnabled() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(parameters -> parameters.getMainTuning().namespaceShardingEnabled)
+          .orElse(false)
+          && !Namespaces.SelectionStrategy.Dedicated.equals(Namespaces.getSelectionStrategy());
+  }
+
+  /**
+   * Returns true if this replica of the operator is to manage the specified domain namespace.
+   * @param namespace a namespace name
+   */
+  static boolean isOwned(String namespace) {
+    return !isEnabled() || getInstance().owns(namespace);
+  }
+
+  /**
+   * Returns those of the specified domain namespaces which this replica of the operator is to manage.
+   * @param namespaces a collection of namespace names
+   */
+  static Collection<String> getOwned(Collection<String> namespaces) {
+    if (namespaces == null || !isEnabled()) {
+      return namespaces;
+    }
+    return namespaces.stream().filter(getInstance()::owns).collect(Collectors.toCollection(TreeSet::new));
+  }
+
+  /**
+   * Creates a step which renews the lease of this replica, if it is due, and updates the replicas among which
+   * the domain namespaces are divided. Does nothing unless sharding is enabled.
+   */
+  static Step createRenewStep() {
+    return getInstance().createRenewLeaseStep();
+  }
+
+  Step createRenewLeaseStep() {
+    return new RenewLeaseStep();
+  }
+
+  boolean owns(String namespace) {
+    long now = SystemClock.now().getMillis();
+    Membership current = membership;
+    if (now >= current.renewedAtMillis + getLeaseDurationMillis()) {
+      return false;
+    } else if (!replicaName.equals(current.ring.getOwner(namespace))) {
+      return false;
+    } else {
+      return now >= current.changedAtMillis + getHandoverMillis() || isUnchangedOwner(current, namespace);
+    }
+  }
+
+  // Returns true if no other replica was managing the namespace before the last change to the ring.
+  private boolean isUnchangedOwner(Membership current, String namespace) {
+    String previousOwner = current.previousRing.getOwner(namespace);
+    return previousOwner == null || replicaName.equals(previousOwner);
+  }
+
+  /**
+   * Returns the names of the replicas among which the domain namespaces are currently divided.
+   */
+  Set<String> getReplicas() {
+    return membership.ring.getReplicas();
+  }
+
+  private boolean isRenewalDue(long now) {
+    return now >= membership.renewedAtMillis + getRenewalIntervalMillis();
+  }
+
+  // Records a successful renewal, made at the specified time, with the specified live replicas. If the lease
+  // had expired before it was renewed, the other replicas may have taken over all of this replica's namespaces,
+  // so it rejoins as if it were new.
+  private synchronized void renewed(long renewedAtMillis, Set<String> liveReplicas) {
+    Membership previous = membership;
+    boolean rejoining = renewedAtMillis >= previous.renewedAtMillis + getLeaseDurationMillis();
+    if (!rejoining && previous.ring.getReplicas().equals(liveReplicas)) {
+      membership = previous.renewedAt(renewedAtMillis);
+    } else {
+      membership = previous.changedTo(new Ring(liveReplicas), replicaName, rejoining, renewedAtMillis);
+      LOGGER.info(MessageKeys.NAMESPACE_SHARDS_CHANGED, replicaName, String.join(",", liveReplicas));
+    }
+  }
+
+  private V1Lease createLease(DateTime now) {
+    return new V1Lease()
+          .metadata(new V1ObjectMeta()
+                .name(replicaName)
+                .namespace(getOperatorNamespace())
+                .putLabelsItem(NAMESPACE_SHARD_LEASE_LABEL, "true"))
+          .spec(new V1LeaseSpec().acquireTime(now));
+  }
+
+  private V1Lease withRenewal(V1Lease lease, DateTime now) {
+    V1LeaseSpec spec = Optional.ofNullable(lease.getSpec()).orElse(new V1LeaseSpec().acquireTime(now));
+    lease.setSpec(spec.holderIdentity(replicaName).renewTime(now).leaseDurationSeconds(getLeaseDurationSeconds()));
+    return lease;
+  }
+
+  private static String getHolder(V1Lease lease) {
+    return Optional.ofNullable(lease.getSpec()).map(V1LeaseSpec::getHolderIdentity).orElse(null);
+  }
+
+  // Returns the time at which the lease expires, or 0 if it has never been renewed.
+  private static long getExpiryMillis(V1Lease lease) {
+    return Optional.ofNullable(lease.getSpec())
+          .filter(spec -> spec.getRenewTime() != null && spec.getLeaseDurationSeconds() != null)
+          .map(spec -> spec.getRenewTime().getMillis() + spec.getLeaseDurationSeconds() * 1000L)
+          .orElse(0L);
+  }
+
+  private static int getLeaseDurationSeconds() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(parameters -> parameters.getMainTuning().namespaceShardLeaseDurationSeconds)
+          .orElse(DEFAULT_LEASE_DURATION_SECONDS);
+  }
+
+  private static long getLeaseDurationMillis() {
+    return getLeaseDurationSeconds() * 1000L;
+  }
+
+  /**
+   * Returns the longest interval between namespace rechecks with which this replica renews its lease on time.
+   */
+  static int getMaximumRecheckIntervalSeconds() {
+    return Math.max(1, getLeaseDurationSeconds() / 3);
+  }
+
+  private static long getRenewalIntervalMillis() {
+    return getLeaseDurationMillis() / 3;
+  }
+
+  private static long getHandoverMillis() {
+    return 2 * getRenewalIntervalMillis();
+  }
+
+  private class RenewLeaseStep extends Step {
+
+    @Override
+    public NextAction apply(Packet packet) {
+      long now = SystemClock.now().getMillis();
+      if (!isEnabled() || !isRenewalDue(now)) {
+        return doNext(packet);
+      }
+
+      return doNext(
+            new CallBuilder()
+                  .withLabelSelectors(NAMESPACE_SHARD_LEASE_LABEL + "=true")
+                  .listLeaseAsync(getOperatorNamespace(), new LeaseListResponseStep(getNext())),
+            packet);
+    }
+  }
+
+  private class LeaseListResponseStep extends DefaultResponseStep<V1LeaseList> {
+
+    LeaseListResponseStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<V1LeaseList> callResponse) {
+      DateTime now = SystemClock.now();
+      List<V1Lease> leases = Optional.ofNullable(callResponse.getResult())
+            .map(V1LeaseList::getItems)
+            .orElse(Collections.emptyList());
+
+      Set<String> liveReplicas = new TreeSet<>();
+      List<Step> steps = new ArrayList<>();
+      V1Lease ownLease = null;
+      for (V1Lease lease : leases) {
+        long expiry = getExpiryMillis(lease);
+        if (replicaName.equals(lease.getMetadata().getName())) {
+          ownLease = lease;
+        } else if (expiry > now.getMillis()) {
+          Optional.ofNullable(getHolder(lease)).ifPresent(liveReplicas::add);
+        } else if (expiry + getLeaseDurationMillis() < now.getMillis()) {
+          steps.add(createDeleteStep(lease));
+        }
+      }
+      liveReplicas.add(replicaName);
+
+      steps.add(ownLease == null
+            ? new CallBuilder().createLeaseAsync(
+                  getOperatorNamespace(), withRenewal(createLease(now), now),
+                  new LeaseRenewedResponseStep(now, liveReplicas))
+            : new CallBuilder().replaceLeaseAsync(
+                  replicaName, getOperatorNamespace(), withRenewal(ownLease, now),
+                  new LeaseRenewedResponseStep(now, liveReplicas)));
+      steps.add(getNext());
+      return doNext(Step.chain(steps.toArray(new Step[0])), packet);
+    }
+
+    // A replica which has been gone for a full lease duration beyond the expiry of its lease will not return
+    // under the same name, so its lease may be removed. Any replica may do so; losing the race is harmless.
+    private Step createDeleteStep(V1Lease lease) {
+      return new CallBuilder().deleteLeaseAsync(
+            lease.getMetadata().getName(), getOperatorNamespace(), null, new DefaultResponseStep<V1Status>() {
+              @Override
+              protected NextAction onFailureNoRetry(Packet packet, CallResponse<V1Status> callResponse) {
+                return doNext(packet);
+              }
+            });
+    }
+
+    @Override
+    protected NextAction onFailureNoRetry(Packet packet, CallResponse<V1LeaseList> callResponse) {
+      LOGGER.warning(MessageKeys.NAMESPACE_SHARD_RENEWAL_FAILED, replicaName, callResponse.getExceptionString());
+      return doNext(packet);
+    }
+  }
+
+  private class LeaseRenewedResponseStep extends DefaultResponseStep<V1Lease> {
+    private final DateTime renewTime;
+    private final Set<String> liveReplicas;
+
+    LeaseRenewedResponseStep(DateTime renewTime, Set<String> liveReplicas) {
+      this.renewTime = renewTime;
+      this.liveReplicas = liveReplicas;
+    }
+
+    // A null result means that the lease was removed by another replica; it will be created at the next recheck.
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<V1Lease> callResponse) {
+      if (callResponse.getResult() != null) {
+        renewed(renewTime.getMillis(), liveReplicas);
+      }
+      return doNext(packet);
+    }
+
+    @Override
+    protected NextAction onFailureNoRetry(Packet packet, CallResponse<V1Lease> callResponse) {
+      LOGGER.warning(MessageKeys.NAMESPACE_SHARD_RENEWAL_FAILED, replicaName, callResponse.getExceptionString());
+      return doNext(packet);
+    }
+  }
+
+  /** The replicas among which the namespaces are divided, as seen at the last renewal of this replica's lease. */
+  private static class Membership {
+    static final Membership NONE = new Membership(Ring.EMPTY, Ring.EMPTY, Long.MIN_VALUE, Long.MIN_VALUE);
+
+    private final Ring ring;
+    private final Ring previousRing;
+    private final long changedAtMillis;
+    private final long renewedAtMillis;
+
+    private Membership(Ring ring, Ring previousRing, long changedAtMillis, long renewedAtMillis) {
+      this.ring = ring;
+      this.previousRing = previousRing;
+      this.changedAtMillis = changedAtMillis;
+      this.renewedAtMillis = renewedAtMillis;
+    }
+
+    Membership renewedAt(long renewedAtMillis) {
+      return new Membership(ring, previousRing, changedAtMillis, renewedAtMillis);
+    }
+
+    // When a replica joins, the namespaces it gains are those of the other live replicas.
+    Membership changedTo(Ring newRing, String replicaName, boolean joining, long renewedAtMillis) {
+      Ring previous = joining ? newRing.without(replicaName) : ring;
+      return new Membership(newRing, previous, renewedAtMillis, renewedAtMillis);
+    }
+  }
+
+  /**
+   * A consistent-hash ring of replicas. Each replica is placed at several points, so that the namespaces
+   * of a lost replica are spread among all of the others.
+   */
+  static class Ring {
+    static final Ring EMPTY = new Ring(Collections.emptySet());
+
+    private final Set<String> replicas;
+    private final SortedMap<Long, String> points = new TreeMap<>();
+
+    Ring(Collection<String> replicas) {
+      this.replicas = Collections.unmodifiableSet(new TreeSet<>(replicas));
+      for (String replica : this.replicas) {
+        for (int i = 0; i < VIRTUAL_NODES_PER_REPLICA; i++) {
+          points.put(hash(replica + "#" + i), replica);
+        }
+      }
+    }
+
+    Set<String> getReplicas() {
+      return replicas;
+    }
+
+    Ring without(String replica) {
+      return new Ring(replicas.stream().filter(r -> !Objects.equals(r, replica)).collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns the replica which manages the specified namespace, or null if the ring is empty.
+     * @param namespace a namespace name
+     */
+    String getOwner(String namespace) {
+      if (points.isEmpty()) {
+        return null;
+      }
+      SortedMap<Long, String> tail = points.tailMap(hash(namespace));
+      return tail.isEmpty() ? points.get(points.firstKey()) : tail.get(tail.firstKey());
+    }
+
+    private static long hash(String value) {
+      byte[] digest = getDigest().digest(value.getBytes(StandardCharsets.UTF_8));
+      long result = 0;
+      for (int i = 0; i < Long.BYTES; i++) {
+        result = (result << 8) | (digest[i] & 0xff);
+      }
+      return result;
+    }
+
+    private static MessageDigest getDigest() {
+      try {
+        return MessageDigest.getInstance("SHA-256");
+      } catch (NoSuchAlgorithmException e) {
+        throw new IllegalStateException(e);   // every JVM supports SHA-256
+      }
+    }
+  }
+}
@@ -17,6 +17,7 @@ import io.kubernetes.client.openapi.models.V1ConfigMapList;
 import io.kubernetes.client.openapi.models.V1EventList;
 import io.kubernetes.client.openapi.models.V1JobList;
 import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.openapi.models.V1SecretList;
 import io.kubernetes.client.openapi.models.V1ServiceList;
 import oracle.kubernetes.operator.calls.CallResponse;
 import oracle.kubernetes.operator.helpers.CallBuilder;
@@ -50,6 +51,7 @@ class NamespacedResources {
           getEventListSteps(),
           getJobListSteps(),
           getPodListSteps(),
+          getSecretListSteps(),
           getServiceListSteps(),
           getDomainListSteps(),
           new CompletionStep()
@@ -89,6 +91,13 @@ class NamespacedResources {
       return null;
     }
 
+    /**
+     * Return the processing to be performed on a list of secrets found in Kubernetes. May be null.
+     */
+    Consumer<V1SecretList> getSecretListProcessing() {
+      return null;
+    }
+
     /**
      * Return the processing to be performed on a list of services found in Kubernetes. May be null.
      */
@@ -117,7 +126,7 @@ class NamespacedResources {
 
   private Step createConfigMapListStep(List<Consumer<V1ConfigMapList>> processing) {
     return new CallBuilder()
-             .listConfigMapsAsync(namespace, new ListResponseStep<>(processing));
+             .listConfigMapMetadataAsync(namespace, new ListResponseStep<>(processing));
   }
 
   private Step getEventListSteps() {
@@ -154,6 +163,14 @@ class NamespacedResources {
     return domainUid == null ? LabelConstants.DOMAINUID_LABEL : LabelConstants.forDomainUidSelector(domainUid);
   }
 
+  private Step getSecretListSteps() {
+    return getListProcessing(Processors::getSecretListProcessing).map(this::createSecretListStep).orElse(null);
+  }
+
+  private Step createSecretListStep(List<Consumer<V1SecretList>> processing) {
+    return new CallBuilder().listSecretMetadataAsync(namespace, new ListResponseStep<>(processing));
+  }
+
   private Step getServiceListSteps() {
     return getListProcessing(Processors::getServiceListProcessing).map(this::createServiceListStep).orElse(null);
   }
@@ -222,9 +222,11 @@ public class Namespaces {
   static class NamespaceListAfterStep extends Step {
 
     private final DomainNamespaces domainNamespaces;
+    private final DomainProcessor domainProcessor;
 
-    public NamespaceListAfterStep(DomainNamespaces domainNamespaces) {
+    public NamespaceListAfterStep(DomainNamespaces domainNamespaces, DomainProcessor domainProcessor) {
       this.domainNamespaces = domainNamespaces;
+      this.domainProcessor = domainProcessor;
     }
 
     @Override
@@ -241,11 +243,17 @@ public class Namespaces {
     }
 
     // Halts processing of any managed namespaces that are no longer to be managed, either because
-    // they have been deleted from the Kubernetes cluster or because the operator is no longer configured for them.
+    // they have been deleted from the Kubernetes cluster, because the operator is no longer configured for them,
+    // or because they are now managed by another replica of the operator.
     private void stopRemovedNamespaces(NamespaceValidationContext validationContext) {
       domainNamespaces.getNamespaces().stream()
-            .filter(validationContext::isNoLongerActiveDomainNamespace)
-            .forEach(domainNamespaces::stopNamespace);
+            .filter(ns -> validationContext.isNoLongerActiveDomainNamespace(ns) || !NamespaceShards.isOwned(ns))
+            .forEach(this::stopNamespace);
+    }
+
+    private void stopNamespace(String ns) {
+      domainNamespaces.stopNamespace(ns);
+      domainProcessor.stopNamespace(ns);
     }
   }
 
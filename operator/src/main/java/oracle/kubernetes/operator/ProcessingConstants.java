@@ -24,12 +24,14 @@ public interface ProcessingConstants {
   String SCRIPT_CONFIG_MAP = "scriptConfigMap";
   String SERVER_STATE_MAP = "serverStateMap";
   String SERVER_HEALTH_MAP = "serverHealthMap";
+  String SERVER_HEALTH_BATCH = "serverHealthBatch";
 
   String DOMAIN_TOPOLOGY = "domainTopology";
   String JOB_POD_NAME = "jobPodName";
   String DOMAIN_INTROSPECTOR_JOB = "domainIntrospectorJob";
-  String DOMAIN_INTROSPECTOR_LOG_RESULT = "domainIntrospectorLogResult";
+  String DOMAIN_INTROSPECTOR_DATA = "domainIntrospectorData";
   String DOMAIN_INTROSPECT_REQUESTED = "domainIntrospectRequested";
+  String PENDING_INTROSPECTION_FINGERPRINT = "pendingIntrospectionFingerprint";
   String REMAINING_SERVERS_HEALTH_TO_READ = "serverHealthRead";
 
   String ENCODED_CREDENTIALS = "encodedCredentials";
@@ -0,0 +1,74 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1Secret;
+import io.kubernetes.client.util.Watch.Response;
+import io.kubernetes.client.util.Watchable;
+import oracle.kubernetes.operator.TuningParameters.WatchTuning;
+import oracle.kubernetes.operator.builders.WatchBuilder;
+import oracle.kubernetes.operator.watcher.WatchListener;
+
+/**
+ * This class handles Secret watching. It receives secret change events and sends them into
+ * the operator for processing. Secrets are not created by the operator, so all of those in the namespace
+ * are watched, but only their metadata is received; the operator reads the data of a secret only when
+ * it needs it.
+ */
+public class SecretWatcher extends Watcher<V1Secret> {
+  private final String ns;
+
+  private SecretWatcher(
+      String ns,
+      String initialResourceVersion,
+      WatchTuning tuning,
+      WatchListener<V1Secret> listener,
+      AtomicBoolean isStopping) {
+    super(initialResourceVersion, tuning, isStopping, listener);
+    this.ns = ns;
+  }
+
+  /**
+   * Create watcher.
+   * @param factory thread factory
+   * @param ns namespace
+   * @param initialResourceVersion initial resource version
+   * @param tuning tuning parameters
+   * @param listener listener
+   * @param isStopping stopping flag
+   * @return watcher
+   */
+  public static SecretWatcher create(
+      ThreadFactory factory,
+      String ns,
+      String initialResourceVersion,
+      WatchTuning tuning,
+      WatchListener<V1Secret> listener,
+      AtomicBoolean isStopping) {
+    SecretWatcher watcher =
+        new SecretWatcher(ns, initialResourceVersion, tuning, listener, isStopping);
+    watcher.start(factory);
+    return watcher;
+  }
+
+  @Override
+  public Watchable<V1Secret> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
+    return watchBuilder.createSecretWatch(ns);
+  }
+
+  @Override
+  public String getNamespace() {
+    return ns;
+  }
+
+  @Override
+  public String getDomainUid(Response<V1Secret> item) {
+    return null;
+  }
+
+}
@@ -6,6 +6,7 @@ package oracle.kubernetes.operator;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.net.http.HttpResponse;
 import java.util.Collection;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -21,11 +22,14 @@ import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodStatus;
 import oracle.kubernetes.operator.helpers.ClientPool;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesUtils;
 import oracle.kubernetes.operator.helpers.LastKnownStatus;
 import oracle.kubernetes.operator.helpers.PodHelper;
+import oracle.kubernetes.operator.http.HttpAsyncRequestStep;
+import oracle.kubernetes.operator.http.HttpResponseStep;
 import oracle.kubernetes.operator.logging.LoggingContext;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
@@ -40,7 +44,10 @@ import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.weblogic.domain.model.ServerHealth;
 import org.joda.time.DateTime;
 
+import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
+import static java.net.HttpURLConnection.HTTP_UNAVAILABLE;
 import static oracle.kubernetes.operator.KubernetesConstants.CONTAINER_NAME;
+import static oracle.kubernetes.operator.ProcessingConstants.SERVER_HEALTH_BATCH;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_HEALTH_MAP;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
 
@@ -49,10 +56,31 @@ public class ServerStatusReader {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   private static final KubernetesExecFactory EXEC_FACTORY = new KubernetesExecFactoryImpl();
   private static final Function<Step, Step> STEP_FACTORY = ReadHealthStep::createReadHealthStep;
+  private static final Function<Step, Step> DOMAIN_STEP_FACTORY = ReadHealthStep::createReadDomainHealthStep;
+
+  static final String STATE_PROBE_PORT_PARAM = "serverStateProbePort";
+  private static final String STATE_PATH = "/state";
 
   private ServerStatusReader() {
   }
 
+  /**
+   * Returns the port on which server pods are to report their state over HTTP, or zero if the operator
+   * is to read the state by running readState.sh in each pod.
+   * @return the configured state probe port, or zero
+   */
+  public static int getStateProbePort() {
+    String port = TuningParameters.getInstance().get(STATE_PROBE_PORT_PARAM);
+    if (port != null) {
+      try {
+        return Integer.parseInt(port.trim());
+      } catch (NumberFormatException e) {
+        LOGGER.warning(MessageKeys.EXCEPTION, e);
+      }
+    }
+    return 0;
+  }
+
   static Step createDomainStatusReaderStep(
       DomainPresenceInfo info, long timeoutSeconds, Step next) {
     return new DomainStatusReaderStep(info, timeoutSeconds, next);
@@ -99,7 +127,29 @@ public class ServerStatusReader {
     public NextAction apply(Packet packet) {
       packet.put(SERVER_STATE_MAP, new ConcurrentHashMap<String, String>());
       packet.put(SERVER_HEALTH_MAP, new ConcurrentHashMap<String, ServerHealth>());
+      packet.remove(SERVER_HEALTH_BATCH);
+
+      Step readServerStatuses = new ServerStatusReadersStep(info, timeoutSeconds, getNext());
+      if (ReadHealthStep.isBatchedHealthReadEnabled()) {
+        return doNext(DOMAIN_STEP_FACTORY.apply(readServerStatuses), packet);
+      } else {
+        return doNext(readServerStatuses, packet);
+      }
+    }
+  }
+
+  private static class ServerStatusReadersStep extends Step {
+    private final DomainPresenceInfo info;
+    private final long timeoutSeconds;
 
+    ServerStatusReadersStep(DomainPresenceInfo info, long timeoutSeconds, Step next) {
+      super(next);
+      this.info = info;
+      this.timeoutSeconds = timeoutSeconds;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
       AtomicInteger remainingServerHealthToRead = new AtomicInteger();
       packet.put(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ, remainingServerHealthToRead);
 
@@ -163,6 +213,26 @@ public class ServerStatusReader {
         return doNext(packet);
       }
 
+      String stateUrl = getStateUrl();
+      if (stateUrl != null) {
+        return doNext(createStateProbeStep(stateUrl, lastKnownStatus), packet);
+      }
+
+      return readStateByExec(packet, lastKnownStatus);
+    }
+
+    private String getStateUrl() {
+      int port = getStateProbePort();
+      String podIp = Optional.ofNullable(pod.getStatus()).map(V1PodStatus::getPodIP).orElse(null);
+      return port > 0 && podIp != null ? "http://" + podIp + ":" + port + STATE_PATH : null;
+    }
+
+    private Step createStateProbeStep(String stateUrl, LastKnownStatus lastKnownStatus) {
+      return HttpAsyncRequestStep.createGetRequest(stateUrl, new StateResponseStep(lastKnownStatus))
+            .withTimeoutSeconds(timeoutSeconds);
+    }
+
+    private NextAction readStateByExec(Packet packet, LastKnownStatus lastKnownStatus) {
       final boolean stdin = false;
       final boolean tty = false;
 
@@ -190,10 +260,7 @@ public class ServerStatusReader {
                   int exitValue = proc.exitValue();
                   LOGGER.fine("readState exit: " + exitValue + ", readState for " + pod.getMetadata().getName());
                   if (exitValue == 1 || exitValue == 2) {
-                    state =
-                        PodHelper.isDeleting(pod)
-                            ? WebLogicConstants.SHUTDOWN_STATE
-                            : WebLogicConstants.STARTING_STATE;
+                    state = getStateWithoutServerProcess();
                   } else if (exitValue != 0) {
                     state = WebLogicConstants.UNKNOWN_STATE;
                   }
@@ -213,16 +280,27 @@ public class ServerStatusReader {
               }
             }
 
-            try (LoggingContext stack =
-                      LoggingContext.setThreadContext().namespace(getNamespace(pod)).domainUid(getDomainUid(pod))) {
-              LOGGER.fine("readState: " + state + " for " + pod.getMetadata().getName());
-              state = chooseStateOrLastKnownServerStatus(lastKnownStatus, state);
-              serverStateMap.put(serverName, state);
-            }
+            recordState(packet, lastKnownStatus, state);
             fiber.resume(packet);
           });
     }
 
+    private String getStateWithoutServerProcess() {
+      return PodHelper.isDeleting(pod) ? WebLogicConstants.SHUTDOWN_STATE : WebLogicConstants.STARTING_STATE;
+    }
+
+    private void recordState(Packet packet, LastKnownStatus lastKnownStatus, String state) {
+      @SuppressWarnings("unchecked")
+      ConcurrentMap<String, String> serverStateMap =
+          (ConcurrentMap<String, String>) packet.get(SERVER_STATE_MAP);
+
+      try (LoggingContext stack =
+                LoggingContext.setThreadContext().namespace(getNamespace(pod)).domainUid(getDomainUid(pod))) {
+        LOGGER.fine("readState: " + state + " for " + pod.getMetadata().getName());
+        serverStateMap.put(serverName, chooseStateOrLastKnownServerStatus(lastKnownStatus, state));
+      }
+    }
+
     private String getNamespace(@Nonnull V1Pod pod) {
       return Optional.ofNullable(pod.getMetadata()).map(V1ObjectMeta::getNamespace).orElse(null);
     }
@@ -252,6 +330,49 @@ public class ServerStatusReader {
       info.updateLastKnownServerStatus(serverName, state);
       return state;
     }
+
+    /**
+     * Records the state reported by the pod's state responder. The responder mirrors the exit codes of
+     * readState.sh: service unavailable if the server process is not found, and not found if the node manager
+     * has not yet recorded a state. If the responder could not be reached, for example because the pod was
+     * created before the responder was configured, the state is read by running readState.sh instead.
+     */
+    private class StateResponseStep extends HttpResponseStep {
+      private final LastKnownStatus lastKnownStatus;
+
+      StateResponseStep(LastKnownStatus lastKnownStatus) {
+        super(ServerStatusReaderStep.this.getNext());
+        this.lastKnownStatus = lastKnownStatus;
+      }
+
+      @Override
+      public NextAction apply(Packet packet) {
+        if (packet.getSpi(HttpResponse.class) == null) {
+          return readStateByExec(packet, lastKnownStatus);
+        }
+        return super.apply(packet);
+      }
+
+      @Override
+      public NextAction onSuccess(Packet packet, HttpResponse<String> response) {
+        recordState(packet, lastKnownStatus, response.body());
+        return doNext(packet);
+      }
+
+      @Override
+      public NextAction onFailure(Packet packet, HttpResponse<String> response) {
+        recordState(packet, lastKnownStatus, getStateForFailure(response.statusCode()));
+        return doNext(packet);
+      }
+
+      private String getStateForFailure(int statusCode) {
+        if (statusCode == HTTP_UNAVAILABLE || statusCode == HTTP_NOT_FOUND) {
+          return getStateWithoutServerProcess();
+        } else {
+          return WebLogicConstants.UNKNOWN_STATE;
+        }
+      }
+    }
   }
 
   private static class ServerHealthStep extends Step {
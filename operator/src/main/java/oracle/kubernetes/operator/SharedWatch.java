@@ -0,0 +1,86 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.watcher.ResourceIndex;
+import oracle.kubernetes.operator.watcher.WatchListener;
+
+/**
+ * A single watch of one resource type across all namespaces. Each event for a namespace in which a watcher is
+ * registered is recorded in an optional {@link ResourceIndex} and then delivered to that watcher; events for
+ * other namespaces are ignored, so that the index holds only the resources of managed namespaces. This
+ * allows the operator to use one watch connection and one thread per resource type, regardless of the number
+ * of domain namespaces it manages.
+ *
+ * @param <T> the type of resource watched
+ */
+class SharedWatch<T extends KubernetesObject> implements WatchListener<T> {
+  private final Map<String, Watcher<T>> namespaceWatchers = new ConcurrentHashMap<>();
+  private final Function<WatchListener<T>, Watcher<T>> watcherFactory;
+  private final ResourceIndex<T> index;
+  private Watcher<T> clusterWatcher;
+
+  /**
+   * Creates a shared watch.
+   * @param watcherFactory a function which creates and starts a watcher for all namespaces,
+   *                       dispatching its events to the specified listener
+   * @param index an index to maintain from the watch events, or null if none is wanted
+   */
+  SharedWatch(Function<WatchListener<T>, Watcher<T>> watcherFactory, ResourceIndex<T> index) {
+    this.watcherFactory = watcherFactory;
+    this.index = index;
+  }
+
+  /**
+   * Registers a watcher to receive the events for its namespace, starting the cluster-wide watch if needed.
+   * @param watcher a watcher which will not run a watch of its own
+   */
+  synchronized void addNamespaceWatcher(Watcher<T> watcher) {
+    namespaceWatchers.put(watcher.getNamespace(), watcher);
+    if (clusterWatcher == null) {
+      clusterWatcher = watcherFactory.apply(this);
+    }
+  }
+
+  synchronized void removeNamespaceWatcher(String namespace) {
+    namespaceWatchers.remove(namespace);
+    Optional.ofNullable(index).ifPresent(i -> i.removeNamespace(namespace));
+  }
+
+  ResourceIndex<T> getIndex() {
+    return index;
+  }
+
+  // for test
+  Watcher<T> getClusterWatcher() {
+    return clusterWatcher;
+  }
+
+  @Override
+  public synchronized void receivedResponse(Watch.Response<T> response) {
+    Optional.ofNullable(getNamespace(response))
+          .map(namespaceWatchers::get)
+          .ifPresent(w -> dispatch(w, response));
+  }
+
+  private void dispatch(Watcher<T> watcher, Watch.Response<T> response) {
+    Optional.ofNullable(index).ifPresent(i -> i.receivedResponse(response));
+    watcher.receiveSharedEvent(response);
+  }
+
+  private String getNamespace(Watch.Response<T> response) {
+    return Optional.ofNullable(response.object)
+          .map(KubernetesObject::getMetadata)
+          .map(V1ObjectMeta::getNamespace)
+          .orElse(null);
+  }
+}
@@ -30,6 +30,10 @@ public interface TuningParameters extends Map<String, String> {
 
   public PodTuning getPodTuning();
 
+  public HttpTuning getHttpTuning();
+
+  public RestTuning getRestTuning();
+
   public static class MainTuning {
     public final int domainPresenceFailureRetrySeconds;
     public final int domainPresenceFailureRetryMaxCount;
@@ -40,6 +44,10 @@ public interface TuningParameters extends Map<String, String> {
     public final int stuckPodRecheckSeconds;
     public final long initialShortDelay;
     public final long eventualLongDelay;
+    public final long statusUpdateBackstopSeconds;
+    public final boolean namespaceShardingEnabled;
+    public final int namespaceShardLeaseDurationSeconds;
+    public final boolean virtualThreadsEnabled;
 
     /**
      * create main tuning.
@@ -52,6 +60,10 @@ public interface TuningParameters extends Map<String, String> {
      * @param stuckPodRecheckSeconds time between checks for stuck pods
      * @param initialShortDelay initial short delay
      * @param eventualLongDelay eventual long delay
+     * @param statusUpdateBackstopSeconds time between status updates of a domain when they are event-driven
+     * @param namespaceShardingEnabled true if replicas of the operator divide the domain namespaces among them
+     * @param namespaceShardLeaseDurationSeconds time after which the lease of an unresponsive replica expires
+     * @param virtualThreadsEnabled true if each fiber should run on a virtual thread of its own
      */
     public MainTuning(
           int domainPresenceFailureRetrySeconds,
@@ -62,7 +74,11 @@ public interface TuningParameters extends Map<String, String> {
           int unchangedCountToDelayStatusRecheck,
           int stuckPodRecheckSeconds,
           long initialShortDelay,
-          long eventualLongDelay) {
+          long eventualLongDelay,
+          long statusUpdateBackstopSeconds,
+          boolean namespaceShardingEnabled,
+          int namespaceShardLeaseDurationSeconds,
+          boolean virtualThreadsEnabled) {
       this.domainPresenceFailureRetrySeconds = domainPresenceFailureRetrySeconds;
       this.domainPresenceFailureRetryMaxCount = domainPresenceFailureRetryMaxCount;
       this.domainPresenceRecheckIntervalSeconds = domainPresenceRecheckIntervalSeconds;
@@ -72,6 +88,10 @@ public interface TuningParameters extends Map<String, String> {
       this.stuckPodRecheckSeconds = stuckPodRecheckSeconds;
       this.initialShortDelay = initialShortDelay;
       this.eventualLongDelay = eventualLongDelay;
+      this.statusUpdateBackstopSeconds = statusUpdateBackstopSeconds;
+      this.namespaceShardingEnabled = namespaceShardingEnabled;
+      this.namespaceShardLeaseDurationSeconds = namespaceShardLeaseDurationSeconds;
+      this.virtualThreadsEnabled = virtualThreadsEnabled;
     }
 
     @Override
@@ -85,6 +105,10 @@ public interface TuningParameters extends Map<String, String> {
           .append("unchangedCountToDelayStatusRecheck", unchangedCountToDelayStatusRecheck)
           .append("initialShortDelay", initialShortDelay)
           .append("eventualLongDelay", eventualLongDelay)
+          .append("statusUpdateBackstopSeconds", statusUpdateBackstopSeconds)
+          .append("namespaceShardingEnabled", namespaceShardingEnabled)
+          .append("namespaceShardLeaseDurationSeconds", namespaceShardLeaseDurationSeconds)
+          .append("virtualThreadsEnabled", virtualThreadsEnabled)
           .toString();
     }
 
@@ -99,6 +123,10 @@ public interface TuningParameters extends Map<String, String> {
           .append(unchangedCountToDelayStatusRecheck)
           .append(initialShortDelay)
           .append(eventualLongDelay)
+          .append(statusUpdateBackstopSeconds)
+          .append(namespaceShardingEnabled)
+          .append(namespaceShardLeaseDurationSeconds)
+          .append(virtualThreadsEnabled)
           .toHashCode();
     }
 
@@ -120,6 +148,10 @@ public interface TuningParameters extends Map<String, String> {
           .append(unchangedCountToDelayStatusRecheck, mt.unchangedCountToDelayStatusRecheck)
           .append(initialShortDelay, mt.initialShortDelay)
           .append(eventualLongDelay, mt.eventualLongDelay)
+          .append(statusUpdateBackstopSeconds, mt.statusUpdateBackstopSeconds)
+          .append(namespaceShardingEnabled, mt.namespaceShardingEnabled)
+          .append(namespaceShardLeaseDurationSeconds, mt.namespaceShardLeaseDurationSeconds)
+          .append(virtualThreadsEnabled, mt.virtualThreadsEnabled)
           .isEquals();
     }
   }
@@ -233,6 +265,8 @@ public interface TuningParameters extends Map<String, String> {
     public final int livenessProbeTimeoutSeconds;
     public final int livenessProbePeriodSeconds;
     public final long introspectorJobActiveDeadlineSeconds;
+    public final int introspectorJobConcurrencyLimit;
+    public final int introspectorJobNodeConcurrencyLimit;
 
     /**
      * create pod tuning.
@@ -243,6 +277,9 @@ public interface TuningParameters extends Map<String, String> {
      * @param livenessProbeTimeoutSeconds liveness probe timeout
      * @param livenessProbePeriodSeconds liveness probe period
      * @param introspectorJobActiveDeadlineSeconds introspector job active deadline
+     * @param introspectorJobConcurrencyLimit maximum number of concurrent introspector jobs, or 0 for no limit
+     * @param introspectorJobNodeConcurrencyLimit maximum number of concurrent introspector jobs per node,
+     *                                            or 0 for no limit
      */
     public PodTuning(
         int readinessProbeInitialDelaySeconds,
@@ -251,7 +288,9 @@ public interface TuningParameters extends Map<String, String> {
         int livenessProbeInitialDelaySeconds,
         int livenessProbeTimeoutSeconds,
         int livenessProbePeriodSeconds,
-        long introspectorJobActiveDeadlineSeconds) {
+        long introspectorJobActiveDeadlineSeconds,
+        int introspectorJobConcurrencyLimit,
+        int introspectorJobNodeConcurrencyLimit) {
       this.readinessProbeInitialDelaySeconds = readinessProbeInitialDelaySeconds;
       this.readinessProbeTimeoutSeconds = readinessProbeTimeoutSeconds;
       this.readinessProbePeriodSeconds = readinessProbePeriodSeconds;
@@ -259,6 +298,8 @@ public interface TuningParameters extends Map<String, String> {
       this.livenessProbeTimeoutSeconds = livenessProbeTimeoutSeconds;
       this.livenessProbePeriodSeconds = livenessProbePeriodSeconds;
       this.introspectorJobActiveDeadlineSeconds = introspectorJobActiveDeadlineSeconds;
+      this.introspectorJobConcurrencyLimit = introspectorJobConcurrencyLimit;
+      this.introspectorJobNodeConcurrencyLimit = introspectorJobNodeConcurrencyLimit;
     }
 
     @Override
@@ -270,6 +311,8 @@ public interface TuningParameters extends Map<String, String> {
           .append("livenessProbeInitialDelaySeconds", livenessProbeInitialDelaySeconds)
           .append("livenessProbeTimeoutSeconds", livenessProbeTimeoutSeconds)
           .append("livenessProbePeriodSeconds", livenessProbePeriodSeconds)
+          .append("introspectorJobConcurrencyLimit", introspectorJobConcurrencyLimit)
+          .append("introspectorJobNodeConcurrencyLimit", introspectorJobNodeConcurrencyLimit)
           .toString();
     }
 
@@ -282,6 +325,8 @@ public interface TuningParameters extends Map<String, String> {
           .append(livenessProbeInitialDelaySeconds)
           .append(livenessProbeTimeoutSeconds)
           .append(livenessProbePeriodSeconds)
+          .append(introspectorJobConcurrencyLimit)
+          .append(introspectorJobNodeConcurrencyLimit)
           .toHashCode();
     }
 
@@ -301,6 +346,126 @@ public interface TuningParameters extends Map<String, String> {
           .append(livenessProbeInitialDelaySeconds, pt.livenessProbeInitialDelaySeconds)
           .append(livenessProbeTimeoutSeconds, pt.livenessProbeTimeoutSeconds)
           .append(livenessProbePeriodSeconds, pt.livenessProbePeriodSeconds)
+          .append(introspectorJobConcurrencyLimit, pt.introspectorJobConcurrencyLimit)
+          .append(introspectorJobNodeConcurrencyLimit, pt.introspectorJobNodeConcurrencyLimit)
+          .isEquals();
+    }
+  }
+
+  public static class HttpTuning {
+    public final int httpClientThreads;
+    public final int httpConnectTimeoutSeconds;
+    public final int httpKeepAliveSeconds;
+    public final int httpRequestTimeoutSeconds;
+
+    /**
+     * Create HTTP client tuning.
+     * @param httpClientThreads number of threads shared by the HTTP clients
+     * @param httpConnectTimeoutSeconds connect timeout
+     * @param httpKeepAliveSeconds time an idle pooled connection is kept open
+     * @param httpRequestTimeoutSeconds request timeout
+     */
+    public HttpTuning(
+        int httpClientThreads, int httpConnectTimeoutSeconds, int httpKeepAliveSeconds, int httpRequestTimeoutSeconds) {
+      this.httpClientThreads = httpClientThreads;
+      this.httpConnectTimeoutSeconds = httpConnectTimeoutSeconds;
+      this.httpKeepAliveSeconds = httpKeepAliveSeconds;
+      this.httpRequestTimeoutSeconds = httpRequestTimeoutSeconds;
+    }
+
+    @Override
+    public String toString() {
+      return new ToStringBuilder(this)
+          .append("httpClientThreads", httpClientThreads)
+          .append("httpConnectTimeoutSeconds", httpConnectTimeoutSeconds)
+          .append("httpKeepAliveSeconds", httpKeepAliveSeconds)
+          .append("httpRequestTimeoutSeconds", httpRequestTimeoutSeconds)
+          .toString();
+    }
+
+    @Override
+    public int hashCode() {
+      return new HashCodeBuilder()
+          .append(httpClientThreads)
+          .append(httpConnectTimeoutSeconds)
+          .append(httpKeepAliveSeconds)
+          .append(httpRequestTimeoutSeconds)
+          .toHashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (o == null) {
+        return false;
+      }
+      if (!(o instanceof HttpTuning)) {
+        return false;
+      }
+      HttpTuning ht = (HttpTuning) o;
+      return new EqualsBuilder()
+          .append(httpClientThreads, ht.httpClientThreads)
+          .append(httpConnectTimeoutSeconds, ht.httpConnectTimeoutSeconds)
+          .append(httpKeepAliveSeconds, ht.httpKeepAliveSeconds)
+          .append(httpRequestTimeoutSeconds, ht.httpRequestTimeoutSeconds)
+          .isEquals();
+    }
+  }
+
+  public static class RestTuning {
+    public final int restAuthCacheSeconds;
+    public final int restAuthCacheSize;
+    public final int restRequestThreads;
+    public final int restRequestQueueSize;
+
+    /**
+     * Create REST server tuning.
+     * @param restAuthCacheSeconds time an authentication or authorization decision is cached, or 0 to disable
+     * @param restAuthCacheSize maximum number of cached decisions
+     * @param restRequestThreads number of threads handling REST requests
+     * @param restRequestQueueSize number of REST requests which may wait for a thread
+     */
+    public RestTuning(
+        int restAuthCacheSeconds, int restAuthCacheSize, int restRequestThreads, int restRequestQueueSize) {
+      this.restAuthCacheSeconds = restAuthCacheSeconds;
+      this.restAuthCacheSize = restAuthCacheSize;
+      this.restRequestThreads = restRequestThreads;
+      this.restRequestQueueSize = restRequestQueueSize;
+    }
+
+    @Override
+    public String toString() {
+      return new ToStringBuilder(this)
+          .append("restAuthCacheSeconds", restAuthCacheSeconds)
+          .append("restAuthCacheSize", restAuthCacheSize)
+          .append("restRequestThreads", restRequestThreads)
+          .append("restRequestQueueSize", restRequestQueueSize)
+          .toString();
+    }
+
+    @Override
+    public int hashCode() {
+      return new HashCodeBuilder()
+          .append(restAuthCacheSeconds)
+          .append(restAuthCacheSize)
+          .append(restRequestThreads)
+          .append(restRequestQueueSize)
+          .toHashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (o == null) {
+        return false;
+      }
+      if (!(o instanceof RestTuning)) {
+        return false;
+      }
+      RestTuning rt = (RestTuning) o;
+      return new EqualsBuilder()
+          .append(restAuthCacheSeconds, rt.restAuthCacheSeconds)
+          .append(restAuthCacheSize, rt.restAuthCacheSize)
+          .append(restRequestThreads, rt.restRequestThreads)
+          .append(restRequestQueueSize, rt.restRequestQueueSize)
           .isEquals();
     }
   }
@@ -23,6 +23,8 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
   private CallBuilderTuning callBuilder = null;
   private WatchTuning watch = null;
   private PodTuning pod = null;
+  private HttpTuning http = null;
+  private RestTuning rest = null;
 
   private TuningParametersImpl(ScheduledExecutorService executorService) {
     super(executorService);
@@ -56,7 +58,11 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
             (int) readTuningParameter("statusUpdateUnchangedCountToDelayStatusRecheck", 10),
             (int) readTuningParameter("stuckPodRecheckSeconds", 30),
             readTuningParameter("statusUpdateInitialShortDelay", 5),
-            readTuningParameter("statusUpdateEventualLongDelay", 30));
+            readTuningParameter("statusUpdateEventualLongDelay", 30),
+            readTuningParameter("statusUpdateBackstopSeconds", 300),
+            "true".equalsIgnoreCase(get("namespaceShardingEnabled")),
+            (int) readTuningParameter("namespaceShardLeaseDurationSeconds", 30),
+            "true".equalsIgnoreCase(get("virtualThreads")));
 
     CallBuilderTuning callBuilder =
         new CallBuilderTuning(
@@ -78,20 +84,40 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
             (int) readTuningParameter("livenessProbeInitialDelaySeconds", 30),
             (int) readTuningParameter("livenessProbeTimeoutSeconds", 5),
             (int) readTuningParameter("livenessProbePeriodSeconds", 45),
-            readTuningParameter("introspectorJobActiveDeadlineSeconds", 120));
+            readTuningParameter("introspectorJobActiveDeadlineSeconds", 120),
+            (int) readTuningParameter("introspectorJobConcurrencyLimit", 10),
+            (int) readTuningParameter("introspectorJobNodeConcurrencyLimit", 0));
+
+    HttpTuning http =
+        new HttpTuning(
+            (int) readTuningParameter("httpClientThreads", 4),
+            (int) readTuningParameter("httpConnectTimeoutSeconds", 5),
+            (int) readTuningParameter("httpKeepAliveSeconds", 25),
+            (int) readTuningParameter("httpRequestTimeoutSeconds", 5));
+
+    RestTuning rest =
+        new RestTuning(
+            (int) readTuningParameter("restAuthCacheSeconds", 0),
+            (int) readTuningParameter("restAuthCacheSize", 1000),
+            (int) readTuningParameter("restRequestThreads", 4),
+            (int) readTuningParameter("restRequestQueueSize", 100));
 
     lock.writeLock().lock();
     try {
       if (!main.equals(this.main)
           || !callBuilder.equals(this.callBuilder)
           || !watch.equals(this.watch)
-          || !pod.equals(this.pod)) {
+          || !pod.equals(this.pod)
+          || !http.equals(this.http)
+          || !rest.equals(this.rest)) {
         LOGGER.info(MessageKeys.TUNING_PARAMETERS);
       }
       this.main = main;
       this.callBuilder = callBuilder;
       this.watch = watch;
       this.pod = pod;
+      this.http = http;
+      this.rest = rest;
     } finally {
       lock.writeLock().unlock();
     }
@@ -136,4 +162,24 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
       lock.readLock().unlock();
     }
   }
+
+  @Override
+  public HttpTuning getHttpTuning() {
+    lock.readLock().lock();
+    try {
+      return http;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public RestTuning getRestTuning() {
+    lock.readLock().lock();
+    try {
+      return rest;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
 }
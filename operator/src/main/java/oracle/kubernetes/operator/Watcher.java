@@ -3,20 +3,25 @@
 
 package oracle.kubernetes.operator;
 
-import java.lang.reflect.Method;
 import java.math.BigInteger;
 import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Status;
 import io.kubernetes.client.util.Watch;
 import io.kubernetes.client.util.Watchable;
 import oracle.kubernetes.operator.TuningParameters.WatchTuning;
+import oracle.kubernetes.operator.builders.AsyncWatch;
 import oracle.kubernetes.operator.builders.WatchBuilder;
 import oracle.kubernetes.operator.helpers.KubernetesUtils;
 import oracle.kubernetes.operator.logging.LoggingContext;
@@ -30,25 +35,33 @@ import static java.net.HttpURLConnection.HTTP_GONE;
 
 /**
  * This class handles the Watching interface and drives the watch support for a specific type of
- * object. It runs in a separate thread to drive watching asynchronously to the main thread.
+ * object. By default, it runs in a separate thread to drive watching asynchronously to the main thread.
+ * If the "asyncWatches" tuning parameter is true, it instead streams events with an {@link AsyncWatch},
+ * and uses a scheduler shared by all watchers to honor the minimum delay between watch requests,
+ * so that no thread is held by the watcher between watch requests.
  *
  * @param <T> The type of the object to be watched.
  */
-abstract class Watcher<T> {
+abstract class Watcher<T extends KubernetesObject> {
   @SuppressWarnings("FieldMayBeFinal") // not final so unit tests can set it
   private static WatcherStarter STARTER = Watcher::startAsynchronousWatch;
 
+  static final String ASYNC_WATCHES_PARAM = "asyncWatches";
   static final String HAS_NEXT_EXCEPTION_MESSAGE = "IO Exception during hasNext method.";
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   private static final String IGNORED = "0";
   private static final Pattern RESOURCE_VERSION_PATTERN = Pattern.compile("\\((\\d+)\\)");
+  private static final int ASYNC_SCHEDULER_THREADS = 2;
+  private static ScheduledExecutorService asyncScheduler;
 
   private final AtomicBoolean isDraining = new AtomicBoolean(false);
   private final WatchTuning tuning;
   private String resourceVersion;
+  private long resourceVersionValue;
   private final AtomicBoolean stopping;
   private WatchListener<T> listener;
   private Thread thread = null;
+  private ThreadFactory threadFactory;
   private long lastInitialize = 0;
 
   /**
@@ -60,7 +73,7 @@ abstract class Watcher<T> {
    * @param stopping an atomic boolean to watch to determine when to stop the watcher
    */
   Watcher(String resourceVersion, WatchTuning tuning, AtomicBoolean stopping) {
-    this.resourceVersion = resourceVersion;
+    setResourceVersion(resourceVersion);
     this.tuning = tuning;
     this.stopping = stopping;
   }
@@ -107,9 +120,48 @@ abstract class Watcher<T> {
     this.listener = listener;
   }
 
-  /** Kick off the watcher processing that runs in a separate thread. */
+  /**
+   * Kick off the watcher processing that runs in a separate thread.
+   *
+   * @param factory the factory for the watcher thread, or null if events for this watcher will be delivered
+   *                by a {@link SharedWatch} rather than by a watch of its own
+   */
   void start(ThreadFactory factory) {
-    thread = STARTER.startWatcher(factory, this::doWatch);
+    if (factory == null) {
+      return;
+    }
+
+    if (useAsyncWatches()) {
+      threadFactory = factory;
+      scheduleAsyncWatch(getAsyncScheduler(factory));
+    } else {
+      thread = STARTER.startWatcher(factory, this::doWatch);
+    }
+  }
+
+  private static boolean useAsyncWatches() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(t -> t.get(ASYNC_WATCHES_PARAM))
+          .map("true"::equalsIgnoreCase)
+          .orElse(false);
+  }
+
+  private static synchronized ScheduledExecutorService getAsyncScheduler(ThreadFactory factory) {
+    if (asyncScheduler == null) {
+      asyncScheduler = Executors.newScheduledThreadPool(ASYNC_SCHEDULER_THREADS, factory);
+    }
+    return asyncScheduler;
+  }
+
+  /**
+   * Shuts down the scheduler used to start asynchronous watches. Watches already streaming will end at their next
+   * event, as their watchers should already have been told to stop.
+   */
+  static synchronized void shutDownAsyncWatches() {
+    if (asyncScheduler != null) {
+      asyncScheduler.shutdownNow();
+      asyncScheduler = null;
+    }
   }
 
   public static Thread startAsynchronousWatch(ThreadFactory factory, Runnable doWatch) {
@@ -144,6 +196,68 @@ abstract class Watcher<T> {
     return stopping.get();
   }
 
+  private void scheduleAsyncWatch(ScheduledExecutorService scheduler) {
+    if (isStopping() || scheduler.isShutdown()) {
+      return;
+    }
+
+    long delay = Math.max(0, (getWatchMinimumDelay() * 1000) - (System.currentTimeMillis() - lastInitialize));
+    try {
+      scheduler.schedule(() -> runAsyncWatch(scheduler), lastInitialize == 0 ? 0 : delay, TimeUnit.MILLISECONDS);
+    } catch (RejectedExecutionException e) {
+      // the operator is shutting down
+    }
+  }
+
+  private void runAsyncWatch(ScheduledExecutorService scheduler) {
+    if (isStopping()) {
+      return;
+    }
+
+    lastInitialize = System.currentTimeMillis();
+    try {
+      WatchBuilder watchBuilder = createWatchBuilder().withAsyncStreaming(true);
+      Watchable<T> watch = initiateWatch(watchBuilder);
+      AsyncWatch<T> asyncWatch = watchBuilder.getAsyncWatch();
+      if (asyncWatch != null) {
+        asyncWatch.start(item -> processAsyncResponse(asyncWatch, item), () -> scheduleAsyncWatch(scheduler));
+      } else {
+        thread = STARTER.startWatcher(threadFactory, () -> continueSynchronously(watch));
+      }
+      return;
+    } catch (Throwable ex) {
+      LOGGER.warning(MessageKeys.EXCEPTION, ex);
+    }
+    scheduleAsyncWatch(scheduler);
+  }
+
+  // The watch factory could not create an asynchronous watch, so this watcher falls back to a thread of its own,
+  // rather than holding one of the scheduler threads for as long as its watch is streaming.
+  private void continueSynchronously(Watchable<T> watch) {
+    try (Watchable<T> syncWatch = watch) {
+      while (hasNext(syncWatch) && !isStopping()) {
+        processResponse(syncWatch.next());
+      }
+    } catch (Throwable ex) {
+      LOGGER.warning(MessageKeys.EXCEPTION, ex);
+    }
+    doWatch();
+  }
+
+  private void processAsyncResponse(AsyncWatch<T> watch, Watch.Response<T> item) {
+    if (isStopping()) {
+      watch.close();
+    } else {
+      processResponse(item);
+    }
+  }
+
+  private WatchBuilder createWatchBuilder() {
+    return new WatchBuilder()
+          .withResourceVersion(resourceVersion)
+          .withTimeoutSeconds(getWatchLifetime());
+  }
+
   private void watchForEvents() {
     long now = System.currentTimeMillis();
     long delay = (getWatchMinimumDelay() * 1000) - (now - lastInitialize);
@@ -158,11 +272,7 @@ abstract class Watcher<T> {
     } else {
       lastInitialize = now;
     }
-    try (Watchable<T> watch =
-        initiateWatch(
-            new WatchBuilder()
-                .withResourceVersion(resourceVersion)
-                .withTimeoutSeconds(getWatchLifetime()))) {
+    try (Watchable<T> watch = initiateWatch(createWatchBuilder())) {
       while (hasNext(watch)) {
         Watch.Response<T> item = watch.next();
 
@@ -173,20 +283,40 @@ abstract class Watcher<T> {
           continue;
         }
 
-        try (LoggingContext ignored =
-                 LoggingContext.setThreadContext().namespace(getNamespace()).domainUid(getDomainUid(item))) {
-          if (isError(item)) {
-            handleErrorResponse(item);
-          } else {
-            handleRegularUpdate(item);
-          }
-        }
+        processResponse(item);
       }
     } catch (Throwable ex) {
       LOGGER.warning(MessageKeys.EXCEPTION, ex);
     }
   }
 
+  private void processResponse(Watch.Response<T> item) {
+    try (LoggingContext ignored =
+             LoggingContext.setThreadContext().namespace(getNamespace()).domainUid(getDomainUid(item))) {
+      if (isError(item)) {
+        handleErrorResponse(item);
+      } else {
+        handleRegularUpdate(item);
+      }
+    }
+  }
+
+  /**
+   * Processes an event received by a shared watch on behalf of this watcher's namespace.
+   *
+   * @param item the event to process
+   */
+  void receiveSharedEvent(Watch.Response<T> item) {
+    if (isStopping()) {
+      return;
+    }
+
+    try (LoggingContext ignored =
+             LoggingContext.setThreadContext().namespace(getNamespace()).domainUid(getDomainUid(item))) {
+      handleRegularUpdate(item);
+    }
+  }
+
   private int getWatchLifetime() {
     return Optional.ofNullable(tuning).map(t -> t.watchLifetime).orElse(5);
   }
@@ -242,9 +372,10 @@ abstract class Watcher<T> {
 
   private void handleErrorResponse(Watch.Response<T> item) {
     if (Optional.ofNullable(item.status).map(V1Status::getCode).orElse(0) != HTTP_GONE) {
-      resourceVersion = IGNORED;
+      setResourceVersion(IGNORED);
     } else {
-      resourceVersion = Optional.of(item.status).map(V1Status::getMessage).map(this::resourceVersion).orElse(IGNORED);
+      setResourceVersion(
+            Optional.of(item.status).map(V1Status::getMessage).map(this::resourceVersion).orElse(IGNORED));
     }
   }
 
@@ -253,20 +384,33 @@ abstract class Watcher<T> {
     return matcher.find() ? matcher.group(1) : null;
   }
 
+  private void setResourceVersion(String resourceVersion) {
+    this.resourceVersion = resourceVersion;
+    this.resourceVersionValue = KubernetesUtils.parseResourceVersion(resourceVersion);
+  }
+
   /**
    * Track resourceVersion and keep highest one for next watch iteration. The resourceVersion is
-   * extracted from the metadata in the class by a getter written to return that information. If the
-   * getter is not defined then the user will get all watches repeatedly.
+   * read from the object's metadata; numeric versions are compared as primitive longs, so that
+   * tracking does not allocate for the typical event.
    *
    * @param type the type of operation
    * @param object the object that is returned
    */
-  private void trackResourceVersion(String type, Object object) {
-    updateResourceVersion(getNewResourceVersion(type, object));
+  private void trackResourceVersion(String type, T object) {
+    String newResourceVersion = getResourceVersionFromMetadata(object);
+    long newValue = KubernetesUtils.parseResourceVersion(newResourceVersion);
+    if (newValue == KubernetesUtils.UNPARSABLE_RESOURCE_VERSION) {
+      updateResourceVersion(getNewResourceVersion(type, newResourceVersion));
+    } else if (type.equalsIgnoreCase("DELETED") && newValue > 0 && newValue < Long.MAX_VALUE) {
+      updateResourceVersion(newValue + 1, null);
+    } else {
+      updateResourceVersion(newValue, newResourceVersion);
+    }
   }
 
-  private String getNewResourceVersion(String type, Object object) {
-    String newResourceVersion = getResourceVersionFromMetadata(object);
+  // Handles versions which are not representable as a long
+  private String getNewResourceVersion(String type, String newResourceVersion) {
     if (type.equalsIgnoreCase("DELETED")) {
       BigInteger biResourceVersion = KubernetesUtils.getResourceVersion(newResourceVersion);
       if (biResourceVersion.compareTo(BigInteger.ZERO) > 0) {
@@ -276,26 +420,29 @@ abstract class Watcher<T> {
     return newResourceVersion;
   }
 
-  private String getResourceVersionFromMetadata(Object object) {
-    try {
-      Method getMetadata = object.getClass().getDeclaredMethod("getMetadata");
-      return Optional.ofNullable((V1ObjectMeta) getMetadata.invoke(object))
-              .map(V1ObjectMeta::getResourceVersion).orElse(IGNORED);
-    } catch (Exception e) {
-      LOGGER.warning(MessageKeys.EXCEPTION, e);
-      return IGNORED;
+  private String getResourceVersionFromMetadata(T object) {
+    return Optional.ofNullable(object)
+          .map(KubernetesObject::getMetadata)
+          .map(V1ObjectMeta::getResourceVersion)
+          .orElse(IGNORED);
+  }
+
+  // Updates from a parsed numeric version; the string form is only created if the version is to be recorded
+  private void updateResourceVersion(long newValue, String newResourceVersion) {
+    if (isNullOrEmpty(resourceVersion) || resourceVersion.equals(IGNORED)
+          || resourceVersionValue == KubernetesUtils.UNPARSABLE_RESOURCE_VERSION) {
+      updateResourceVersion(Optional.ofNullable(newResourceVersion).orElse(Long.toString(newValue)));
+    } else if (newValue > resourceVersionValue) {
+      resourceVersion = Optional.ofNullable(newResourceVersion).orElse(Long.toString(newValue));
+      resourceVersionValue = newValue;
     }
   }
 
   private void updateResourceVersion(String newResourceVersion) {
     if (isNullOrEmpty(resourceVersion) || resourceVersion.equals(IGNORED)) {
-      resourceVersion = newResourceVersion;
-    } else {
-      BigInteger biNewResourceVersion = KubernetesUtils.getResourceVersion(newResourceVersion);
-      BigInteger biResourceVersion = KubernetesUtils.getResourceVersion(resourceVersion);
-      if (biNewResourceVersion.compareTo(biResourceVersion) > 0) {
-        resourceVersion = newResourceVersion;
-      }
+      setResourceVersion(newResourceVersion);
+    } else if (KubernetesUtils.compareResourceVersions(newResourceVersion, resourceVersion) > 0) {
+      setResourceVersion(newResourceVersion);
     }
   }
 }
@@ -0,0 +1,293 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.builders;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.net.Socket;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodySubscribers;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.TrustManagerFactory;
+import javax.net.ssl.X509ExtendedTrustManager;
+
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.util.Watch;
+import okhttp3.Call;
+import okhttp3.Request;
+import oracle.kubernetes.operator.helpers.ClientPool;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+
+/**
+ * A watch which sends its request asynchronously and delivers each event to a handler as it is parsed from the
+ * chunked response. The request is built by the Kubernetes client, so that it carries the same URL and credentials
+ * as a synchronous watch, but is sent by a JDK HTTP client, which reads responses with non-blocking I/O: a single
+ * selector thread reads from all watch connections, and parsed lines are handed to a small, fixed pool of threads.
+ * No thread is held by a watch while it waits for events, so the number of threads does not grow with the number
+ * of watches.
+ *
+ * @param <T> the Kubernetes type to watch
+ */
+public class AsyncWatch<T> implements Closeable {
+  static final String THREAD_NAME_PREFIX = "async-watch-";
+  private static final int IO_THREADS = 2;
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  // headers which the JDK client sets itself, and will not accept from a request
+  private static final Set<String> RESTRICTED_HEADERS
+        = Set.of("connection", "content-length", "date", "expect", "from", "host", "upgrade", "via", "warning");
+  private static HttpClient streamingClient;
+
+  private final HttpClient httpClient;
+  private final HttpRequest request;
+  private final ResponseParser<T> parser;
+  private final AtomicBoolean closed = new AtomicBoolean(false);
+  private final AtomicBoolean finished = new AtomicBoolean(false);
+  private volatile Flow.Subscription subscription;
+  private volatile CompletableFuture<?> response;
+  private Runnable closeHandler;
+
+  AsyncWatch(CallParams callParams, Class<?> responseBodyType, BiFunction<ApiClient, CallParams, Call> function) {
+    ApiClient client = ClientPool.getInstance().take();
+    try {
+      httpClient = getStreamingClient(client);
+      request = toHttpRequest(function.apply(client, callParams).request());
+      parser = new ResponseParser<>(client.getJSON(), WatchImpl.getType(responseBodyType));
+    } finally {
+      ClientPool.getInstance().recycle(client);
+    }
+  }
+
+  private static synchronized HttpClient getStreamingClient(ApiClient apiClient) {
+    if (streamingClient == null) {
+      streamingClient = HttpClient.newBuilder()
+            .executor(Executors.newFixedThreadPool(IO_THREADS, new AsyncWatchThreadFactory()))
+            .version(HttpClient.Version.HTTP_1_1)
+            .sslContext(createSslContext(apiClient))
+            .build();
+    }
+    return streamingClient;
+  }
+
+  private static SSLContext createSslContext(ApiClient apiClient) {
+    try {
+      SSLContext sslContext = SSLContext.getInstance("TLS");
+      sslContext.init(apiClient.getKeyManagers(), getTrustManagers(apiClient), null);
+      return sslContext;
+    } catch (GeneralSecurityException | IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  // Trusts the same certificate authority as the Kubernetes client, if it has one, or else the platform's defaults.
+  private static TrustManager[] getTrustManagers(ApiClient apiClient) throws GeneralSecurityException, IOException {
+    if (!apiClient.isVerifyingSsl()) {
+      return new TrustManager[] {new TrustAllManager()};
+    }
+
+    InputStream caCert = apiClient.getSslCaCert();
+    if (caCert == null || !caCert.markSupported()) {
+      return null;
+    }
+
+    KeyStore trustStore = KeyStore.getInstance(KeyStore.getDefaultType());
+    trustStore.load(null, null);
+    caCert.reset();
+    int index = 0;
+    for (Certificate certificate : CertificateFactory.getInstance("X.509").generateCertificates(caCert)) {
+      trustStore.setCertificateEntry("ca" + index++, certificate);
+    }
+    caCert.reset();
+
+    TrustManagerFactory factory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+    factory.init(trustStore);
+    return factory.getTrustManagers();
+  }
+
+  private static HttpRequest toHttpRequest(Request template) {
+    HttpRequest.Builder builder = HttpRequest.newBuilder(template.url().uri()).GET();
+    for (Map.Entry<String, List<String>> header : template.headers().toMultimap().entrySet()) {
+      if (!RESTRICTED_HEADERS.contains(header.getKey().toLowerCase())) {
+        header.getValue().forEach(value -> builder.header(header.getKey(), value));
+      }
+    }
+    return builder.build();
+  }
+
+  /**
+   * Sends the watch request. Each event received will be passed to the event handler, in order, on a
+   * thread of the watch pool; once the response ends, fails, or the watch is closed, the close handler will be run.
+   *
+   * @param eventHandler a consumer for watch events
+   * @param closeHandler a callback to run once no more events will be delivered
+   */
+  public void start(Consumer<Watch.Response<T>> eventHandler, Runnable closeHandler) {
+    this.closeHandler = closeHandler;
+    response = httpClient.sendAsync(request, responseInfo -> createBodySubscriber(responseInfo, eventHandler))
+          .whenComplete((r, t) -> onResponseComplete(t));
+  }
+
+  private HttpResponse.BodySubscriber<Void> createBodySubscriber(HttpResponse.ResponseInfo responseInfo,
+                                                                 Consumer<Watch.Response<T>> eventHandler) {
+    if (responseInfo.statusCode() != 200) {
+      LOGGER.warning(MessageKeys.EXCEPTION, new IOException("Watch request failed: " + responseInfo.statusCode()));
+      return BodySubscribers.discarding();
+    }
+    return BodySubscribers.fromLineSubscriber(new EventSubscriber(eventHandler));
+  }
+
+  private void onResponseComplete(Throwable throwable) {
+    if (throwable != null && !closed.get()) {
+      LOGGER.fine(MessageKeys.EXCEPTION, throwable);
+    }
+    finish();
+  }
+
+  private void finish() {
+    if (finished.compareAndSet(false, true)) {
+      closeHandler.run();
+    }
+  }
+
+  /**
+   * Cancels the watch request. No further events will be delivered, although one already being processed
+   * will complete.
+   */
+  @Override
+  public void close() {
+    if (closed.compareAndSet(false, true)) {
+      if (subscription != null) {
+        subscription.cancel();
+      }
+      if (response != null) {
+        response.cancel(true);
+        finish();
+      }
+    }
+  }
+
+  private class EventSubscriber implements Flow.Subscriber<String> {
+    private final Consumer<Watch.Response<T>> eventHandler;
+
+    EventSubscriber(Consumer<Watch.Response<T>> eventHandler) {
+      this.eventHandler = eventHandler;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+      AsyncWatch.this.subscription = subscription;
+      if (closed.get()) {
+        subscription.cancel();
+      } else {
+        subscription.request(1);
+      }
+    }
+
+    @Override
+    public void onNext(String line) {
+      if (closed.get()) {
+        return;
+      }
+
+      try {
+        eventHandler.accept(parser.parse(line));
+        subscription.request(1);
+      } catch (Throwable t) {
+        LOGGER.fine(MessageKeys.EXCEPTION, t);
+        close();
+      }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      // reported when the response completes
+    }
+
+    @Override
+    public void onComplete() {
+      // reported when the response completes
+    }
+  }
+
+  private static class AsyncWatchThreadFactory implements ThreadFactory {
+    private final AtomicInteger threadCount = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+
+  // Matches the Kubernetes client's behavior when it is configured not to verify the API server's certificate.
+  private static class TrustAllManager extends X509ExtendedTrustManager {
+    @Override
+    public void checkClientTrusted(X509Certificate[] chain, String authType, Socket socket) {
+    }
+
+    @Override
+    public void checkServerTrusted(X509Certificate[] chain, String authType, Socket socket) {
+    }
+
+    @Override
+    public void checkClientTrusted(X509Certificate[] chain, String authType, SSLEngine engine) {
+    }
+
+    @Override
+    public void checkServerTrusted(X509Certificate[] chain, String authType, SSLEngine engine) {
+    }
+
+    @Override
+    public void checkClientTrusted(X509Certificate[] chain, String authType) {
+    }
+
+    @Override
+    public void checkServerTrusted(X509Certificate[] chain, String authType) {
+    }
+
+    @Override
+    public X509Certificate[] getAcceptedIssuers() {
+      return new X509Certificate[0];
+    }
+  }
+
+  /**
+   * Gives access to the line parsing of the Kubernetes Watch, so that events are interpreted exactly
+   * as they would be by a synchronous watch.
+   */
+  private static class ResponseParser<T> extends Watch<T> {
+    ResponseParser(JSON json, Type watchType) {
+      super(json, null, watchType, null);
+    }
+
+    Watch.Response<T> parse(String line) throws IOException {
+      return parseLine(line);
+    }
+  }
+}
@@ -15,9 +15,11 @@ import io.kubernetes.client.openapi.models.V1Event;
 import io.kubernetes.client.openapi.models.V1Job;
 import io.kubernetes.client.openapi.models.V1Namespace;
 import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1Secret;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.util.Watchable;
 import okhttp3.Call;
+import oracle.kubernetes.operator.helpers.KubernetesUtils;
 import oracle.kubernetes.weblogic.domain.api.WeblogicApi;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 import org.apache.commons.lang.ArrayUtils;
@@ -35,6 +37,8 @@ public class WatchBuilder {
   private static WatchFactory FACTORY = new WatchFactoryImpl();
 
   private final CallParamsImpl callParams = new CallParamsImpl();
+  private boolean asyncStreaming;
+  private AsyncWatch<?> asyncWatch;
 
   public WatchBuilder() {
   }
@@ -42,74 +46,101 @@ public class WatchBuilder {
   /**
    * Creates a web hook object to track service calls.
    *
-   * @param namespace the namespace
+   * @param namespace the namespace, or null to watch all namespaces
    * @return the active web hook
    * @throws ApiException if there is an error on the call that sets up the web hook.
    */
   public Watchable<V1Service> createServiceWatch(String namespace) throws ApiException {
-    return FACTORY.createWatch(callParams, V1Service.class, new ListNamespacedServiceCall(namespace));
+    return createWatch(V1Service.class, new ListNamespacedServiceCall(namespace));
   }
 
   /**
    * Creates a web hook object to track pods.
    *
-   * @param namespace the namespace
+   * @param namespace the namespace, or null to watch all namespaces
    * @return the active web hook
    * @throws ApiException if there is an error on the call that sets up the web hook.
    */
   public Watchable<V1Pod> createPodWatch(String namespace) throws ApiException {
-    return FACTORY.createWatch(
-          callParams, V1Pod.class, new ListPodCall(namespace));
+    return createWatch(
+          V1Pod.class, new ListPodCall(namespace));
   }
 
   /**
    * Creates a web hook object to track jobs.
    *
-   * @param namespace the namespace
+   * @param namespace the namespace, or null to watch all namespaces
    * @return the active web hook
    * @throws ApiException if there is an error on the call that sets up the web hook.
    */
   public Watchable<V1Job> createJobWatch(String namespace) throws ApiException {
-    return FACTORY.createWatch(
-          callParams, V1Job.class, new ListJobCall(namespace));
+    return createWatch(
+          V1Job.class, new ListJobCall(namespace));
   }
 
   /**
    * Creates a web hook object to track events.
    *
-   * @param namespace the namespace
+   * @param namespace the namespace, or null to watch all namespaces
    * @return the active web hook
    * @throws ApiException if there is an error on the call that sets up the web hook.
    */
   public Watchable<V1Event> createEventWatch(String namespace) throws ApiException {
-    return FACTORY.createWatch(
-          callParams, V1Event.class, new ListEventCall(namespace));
+    return createWatch(
+          V1Event.class, new ListEventCall(namespace));
   }
 
   /**
    * Creates a web hook object to track changes to weblogic domains in one namespaces.
    *
-   * @param namespace the namespace in which to track domains
+   * @param namespace the namespace in which to track domains, or null to track domains in all namespaces
    * @return the active web hook
    * @throws ApiException if there is an error on the call that sets up the web hook.
    */
   public Watchable<Domain> createDomainWatch(String namespace) throws ApiException {
-    return FACTORY.createWatch(
-          callParams, Domain.class, new ListDomainsCall(namespace));
+    return createWatch(
+          Domain.class, new ListDomainsCall(namespace));
   }
 
   /**
    * Creates a web hook object to track config map calls.
    *
-   * @param namespace the namespace
+   * @param namespace the namespace, or null to watch all namespaces
    * @return the active web hook
    * @throws ApiException if there is an error on the call that sets up the web hook.
    */
   public Watchable<V1ConfigMap> createConfigMapWatch(String namespace) throws ApiException {
-    return FACTORY.createWatch(
-          callParams,
+    return createWatch(
+        V1ConfigMap.class,
+          new ListNamespacedConfigMapCall(namespace, false));
+  }
+
+  /**
+   * Creates a web hook object to track changes to config maps in a namespace. Only the metadata of each
+   * config map is returned, not its data.
+   *
+   * @param namespace the namespace
+   * @return the active web hook
+   * @throws ApiException if there is an error on the call that sets up the web hook.
+   */
+  public Watchable<V1ConfigMap> createConfigMapMetadataWatch(String namespace) throws ApiException {
+    return createWatch(
         V1ConfigMap.class,
-          new ListNamespacedConfigMapCall(namespace));
+          new ListNamespacedConfigMapCall(namespace, true));
+  }
+
+  /**
+   * Creates a web hook object to track changes to secrets in a namespace. Only the metadata of each secret
+   * is returned, not its data.
+   *
+   * @param namespace the namespace
+   * @return the active web hook
+   * @throws ApiException if there is an error on the call that sets up the web hook.
+   */
+  public Watchable<V1Secret> createSecretWatch(String namespace) throws ApiException {
+    return createWatch(
+        V1Secret.class,
+          new ListNamespacedSecretCall(namespace));
   }
 
   /**
@@ -119,8 +150,7 @@ public class WatchBuilder {
    * @throws ApiException if there is an error on the call that sets up the web hook.
    */
   public Watchable<V1Namespace> createNamespacesWatch() throws ApiException {
-    return FACTORY.createWatch(
-          callParams,
+    return createWatch(
         V1Namespace.class,
           new ListNamespaceCall());
   }
@@ -163,12 +193,67 @@ public class WatchBuilder {
     return this;
   }
 
+  /**
+   * Specifies whether the watch should stream its events asynchronously. If so, and the watch factory supports it,
+   * the create methods will return null, and the watch created will instead be available from
+   * {@link #getAsyncWatch()}; it must be started to receive events.
+   *
+   * @param asyncStreaming true if an asynchronous watch is wanted
+   * @return the updated builder
+   */
+  public WatchBuilder withAsyncStreaming(boolean asyncStreaming) {
+    this.asyncStreaming = asyncStreaming;
+    return this;
+  }
+
+  /**
+   * Returns the asynchronous watch created by this builder, if any.
+   *
+   * @param <T> the type of object watched
+   * @return the watch created in place of a synchronous one, or null
+   */
+  @SuppressWarnings("unchecked")
+  public <T> AsyncWatch<T> getAsyncWatch() {
+    return (AsyncWatch<T>) asyncWatch;
+  }
+
+  private <T> Watchable<T> createWatch(Class<?> responseBodyType, BiFunction<ApiClient, CallParams, Call> function)
+        throws ApiException {
+    if (asyncStreaming) {
+      asyncWatch = FACTORY.createAsyncWatch(callParams, responseBodyType, function);
+    }
+    if (asyncWatch != null) {
+      return null;
+    } else {
+      return FACTORY.createWatch(callParams, responseBodyType, function);
+    }
+  }
+
   public interface WatchFactory {
     <T> Watchable<T> createWatch(
           CallParams callParams,
           Class<?> responseBodyType,
           BiFunction<ApiClient, CallParams, Call> function)
         throws ApiException;
+
+    /**
+     * Creates a watch which streams its events asynchronously. Implementations which do not support that
+     * may return null, in which case a synchronous watch will be created instead.
+     *
+     * @param callParams the parameters for the watch request
+     * @param responseBodyType the type of object to watch
+     * @param function a function to create the watch request
+     * @param <T> the type of object to watch
+     * @return an asynchronous watch, or null
+     * @throws ApiException if there is an error on the call that sets up the watch
+     */
+    default <T> AsyncWatch<T> createAsyncWatch(
+          CallParams callParams,
+          Class<?> responseBodyType,
+          BiFunction<ApiClient, CallParams, Call> function)
+        throws ApiException {
+      return null;
+    }
   }
 
   static class WatchFactoryImpl implements WatchFactory {
@@ -184,6 +269,19 @@ public class WatchBuilder {
         throw e.getCause();
       }
     }
+
+    @Override
+    public <T> AsyncWatch<T> createAsyncWatch(
+          CallParams callParams,
+          Class<?> responseBodyType,
+          BiFunction<ApiClient, CallParams, Call> function)
+        throws ApiException {
+      try {
+        return new AsyncWatch<>(callParams, responseBodyType, function);
+      } catch (UncheckedApiException e) {
+        throw e.getCause();
+      }
+    }
   }
 
   private static class ListNamespacedServiceCall implements BiFunction<ApiClient, CallParams, Call> {
@@ -198,6 +296,20 @@ public class WatchBuilder {
       configureClient(client);
 
       try {
+        if (namespace == null) {
+          return new CoreV1Api(client)
+              .listServiceForAllNamespacesCall(
+                  ALLOW_BOOKMARKS,
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getPretty(),
+                  callParams.getResourceVersion(),
+                  callParams.getTimeoutSeconds(),
+                  WATCH,
+                  null);
+        }
         return new CoreV1Api(client)
             .listNamespacedServiceCall(
                 namespace,
@@ -234,6 +346,20 @@ public class WatchBuilder {
       configureClient(client);
 
       try {
+        if (namespace == null) {
+          return new CoreV1Api(client)
+              .listPodForAllNamespacesCall(
+                  ALLOW_BOOKMARKS,
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getPretty(),
+                  callParams.getResourceVersion(),
+                  callParams.getTimeoutSeconds(),
+                  WATCH,
+                  null);
+        }
         return new CoreV1Api(client)
             .listNamespacedPodCall(
                 namespace,
@@ -265,6 +391,20 @@ public class WatchBuilder {
       configureClient(client);
 
       try {
+        if (namespace == null) {
+          return new BatchV1Api(client)
+              .listJobForAllNamespacesCall(
+                  ALLOW_BOOKMARKS,
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getPretty(),
+                  callParams.getResourceVersion(),
+                  callParams.getTimeoutSeconds(),
+                  WATCH,
+                  null);
+        }
         return new BatchV1Api(client)
             .listNamespacedJobCall(
                 namespace,
@@ -296,6 +436,20 @@ public class WatchBuilder {
       configureClient(client);
 
       try {
+        if (namespace == null) {
+          return new CoreV1Api(client)
+              .listEventForAllNamespacesCall(
+                  ALLOW_BOOKMARKS,
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getPretty(),
+                  callParams.getResourceVersion(),
+                  callParams.getTimeoutSeconds(),
+                  WATCH,
+                  null);
+        }
         return new CoreV1Api(client)
             .listNamespacedEventCall(
                 namespace,
@@ -327,6 +481,19 @@ public class WatchBuilder {
       configureClient(client);
 
       try {
+        if (namespace == null) {
+          return new WeblogicApi(client)
+              .listDomainForAllNamespacesCall(
+                  callParams.getPretty(),
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getResourceVersion(),
+                  callParams.getTimeoutSeconds(),
+                  WATCH,
+                  null);
+        }
         return new WeblogicApi(client)
             .listNamespacedDomainCall(
                 namespace,
@@ -347,9 +514,11 @@ public class WatchBuilder {
 
   private static class ListNamespacedConfigMapCall implements BiFunction<ApiClient, CallParams, Call> {
     private final String namespace;
+    private final boolean metadataOnly;
 
-    ListNamespacedConfigMapCall(String namespace) {
+    ListNamespacedConfigMapCall(String namespace, boolean metadataOnly) {
       this.namespace = namespace;
+      this.metadataOnly = metadataOnly;
     }
 
     @Override
@@ -357,19 +526,71 @@ public class WatchBuilder {
       configureClient(client);
 
       try {
+        Call call = createCall(client, callParams);
+        return metadataOnly ? KubernetesUtils.withMetadataOnly(client, call, true) : call;
+      } catch (ApiException e) {
+        throw new UncheckedApiException(e);
+      }
+    }
+
+    private Call createCall(ApiClient client, CallParams callParams) throws ApiException {
+      if (namespace == null) {
         return new CoreV1Api(client)
-            .listNamespacedConfigMapCall(
-                namespace,
-                callParams.getPretty(),
+            .listConfigMapForAllNamespacesCall(
                 ALLOW_BOOKMARKS,
                 START_LIST,
                 callParams.getFieldSelector(),
                 callParams.getLabelSelector(),
                 callParams.getLimit(),
+                callParams.getPretty(),
                 callParams.getResourceVersion(),
                 callParams.getTimeoutSeconds(),
                 WATCH,
                 null);
+      }
+      return new CoreV1Api(client)
+          .listNamespacedConfigMapCall(
+              namespace,
+              callParams.getPretty(),
+              ALLOW_BOOKMARKS,
+              START_LIST,
+              callParams.getFieldSelector(),
+              callParams.getLabelSelector(),
+              callParams.getLimit(),
+              callParams.getResourceVersion(),
+              callParams.getTimeoutSeconds(),
+              WATCH,
+              null);
+    }
+  }
+
+  private static class ListNamespacedSecretCall implements BiFunction<ApiClient, CallParams, Call> {
+    private final String namespace;
+
+    ListNamespacedSecretCall(String namespace) {
+      this.namespace = namespace;
+    }
+
+    @Override
+    public Call apply(ApiClient client, CallParams callParams) {
+      configureClient(client);
+
+      try {
+        return KubernetesUtils.withMetadataOnly(client,
+            new CoreV1Api(client)
+                .listNamespacedSecretCall(
+                    namespace,
+                    callParams.getPretty(),
+                    ALLOW_BOOKMARKS,
+                    START_LIST,
+                    callParams.getFieldSelector(),
+                    callParams.getLabelSelector(),
+                    callParams.getLimit(),
+                    callParams.getResourceVersion(),
+                    callParams.getTimeoutSeconds(),
+                    WATCH,
+                    null),
+            true);
       } catch (ApiException e) {
         throw new UncheckedApiException(e);
       }
@@ -6,6 +6,8 @@ package oracle.kubernetes.operator.helpers;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
 
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
@@ -18,7 +20,10 @@ public class AnnotationHelper {
   static final String SHA256_ANNOTATION = "weblogic.sha256";
   private static final boolean DEBUG = false;
   private static final String HASHED_STRING = "hashedString";
-  private static Function<Object, String> HASH_FUNCTION = o -> DigestUtils.sha256Hex(Yaml.dump(o));
+  private static final String HASH_VERSION_PREFIX = "v2:";
+  private static final Pattern LEGACY_HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+  private static Function<Object, String> HASH_FUNCTION = o -> HASH_VERSION_PREFIX + CanonicalHash.sha256Hex(o);
+  private static Function<Object, String> LEGACY_HASH_FUNCTION = o -> DigestUtils.sha256Hex(Yaml.dump(o));
 
   /**
    * Marks metadata with annotations that let Prometheus know how to retrieve metrics from the
@@ -68,6 +73,29 @@ public class AnnotationHelper {
     return getAnnotation(service.getMetadata(), AnnotationHelper::getSha256Annotation);
   }
 
+  /**
+   * Returns true if the hash recorded on an existing resource matches that of the specified model.
+   * Resources created by earlier versions of the operator carry a hash of their serialized YAML; for those,
+   * the legacy hash of a newly created recipe is compared instead, so that an upgrade alone does not
+   * cause every pod and service to be replaced.
+   *
+   * @param modelHash the hash recorded on the desired resource by withSha256Hash
+   * @param currentHash the hash recorded on the existing resource
+   * @param recipeSupplier a supplier of the unannotated recipe from which the model was created
+   * @return true if the existing resource matches the model
+   */
+  static boolean hasMatchingHash(String modelHash, String currentHash, Supplier<Object> recipeSupplier) {
+    if (isLegacyHash(currentHash)) {
+      return LEGACY_HASH_FUNCTION.apply(recipeSupplier.get()).equals(currentHash);
+    } else {
+      return modelHash.equals(currentHash);
+    }
+  }
+
+  private static boolean isLegacyHash(String hash) {
+    return hash != null && LEGACY_HASH_PATTERN.matcher(hash).matches();
+  }
+
   static String getDebugString(V1Pod pod) {
     return getAnnotation(pod.getMetadata(), AnnotationHelper::getDebugHashAnnotation);
   }
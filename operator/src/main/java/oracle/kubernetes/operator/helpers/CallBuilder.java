@@ -4,6 +4,7 @@
 package oracle.kubernetes.operator.helpers;
 
 import java.io.IOException;
+import java.io.Reader;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -25,6 +26,7 @@ import io.kubernetes.client.openapi.apis.ApiextensionsV1beta1Api;
 import io.kubernetes.client.openapi.apis.AuthenticationV1Api;
 import io.kubernetes.client.openapi.apis.AuthorizationV1Api;
 import io.kubernetes.client.openapi.apis.BatchV1Api;
+import io.kubernetes.client.openapi.apis.CoordinationV1Api;
 import io.kubernetes.client.openapi.apis.CoreV1Api;
 import io.kubernetes.client.openapi.apis.VersionApi;
 import io.kubernetes.client.openapi.models.V1ConfigMap;
@@ -34,6 +36,8 @@ import io.kubernetes.client.openapi.models.V1DeleteOptions;
 import io.kubernetes.client.openapi.models.V1EventList;
 import io.kubernetes.client.openapi.models.V1Job;
 import io.kubernetes.client.openapi.models.V1JobList;
+import io.kubernetes.client.openapi.models.V1Lease;
+import io.kubernetes.client.openapi.models.V1LeaseList;
 import io.kubernetes.client.openapi.models.V1Namespace;
 import io.kubernetes.client.openapi.models.V1NamespaceList;
 import io.kubernetes.client.openapi.models.V1PersistentVolume;
@@ -54,6 +58,8 @@ import io.kubernetes.client.openapi.models.VersionInfo;
 import io.kubernetes.client.util.ClientBuilder;
 import io.kubernetes.client.util.credentials.AccessTokenAuthentication;
 import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Response;
 import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.TuningParameters.CallBuilderTuning;
 import oracle.kubernetes.operator.builders.CallParamsImpl;
@@ -78,6 +84,7 @@ import static oracle.kubernetes.operator.helpers.KubernetesUtils.getDomainUidLab
 public class CallBuilder {
   /** HTTP status code for "Not Found". */
   public static final int NOT_FOUND = 404;
+  public static final int UNPROCESSABLE_ENTITY = 422;
 
   private static final SynchronousCallDispatcher DEFAULT_DISPATCHER =
       new SynchronousCallDispatcher() {
@@ -128,6 +135,15 @@ public class CallBuilder {
                   requestParams.namespace,
                   (Domain) requestParams.body,
                   callback));
+  private final CallFactory<Domain> patchDomainStatus =
+      (requestParams, usage, cont, callback) ->
+          wrap(
+              patchDomainStatusAsync(
+                  usage,
+                  requestParams.name,
+                  requestParams.namespace,
+                  (V1Patch) requestParams.body,
+                  callback));
   private final CallFactory<V1CustomResourceDefinition> createCrd =
       (requestParams, usage, cont, callback) ->
           wrap(
@@ -199,6 +215,15 @@ public class CallBuilder {
           wrap(
               createServiceAsync(
                   usage, requestParams.namespace, (V1Service) requestParams.body, callback));
+  private final CallFactory<V1Service> patchService =
+      (requestParams, usage, cont, callback) ->
+          wrap(
+              patchServiceAsync(
+                  usage,
+                  requestParams.name,
+                  requestParams.namespace,
+                  (V1Patch) requestParams.body,
+                  callback));
   private final CallFactory<V1PersistentVolume> createPersistentvolume =
       ((requestParams, client, cont, callback) ->
           wrap(
@@ -243,6 +268,33 @@ public class CallBuilder {
                   null,
                   null,
                   callback));
+  private final CallFactory<Reader> readPodLogStream =
+      (requestParams, usage, cont, callback) ->
+          wrap(readPodLogStreamAsync(usage, requestParams.name, requestParams.namespace, callback));
+  private final CallFactory<V1LeaseList> listLease =
+      (requestParams, usage, cont, callback) ->
+          wrap(listLeaseAsync(usage, requestParams.namespace, cont, callback));
+  private final CallFactory<V1Lease> createLease =
+      (requestParams, usage, cont, callback) ->
+          wrap(createLeaseAsync(usage, requestParams.namespace, (V1Lease) requestParams.body, callback));
+  private final CallFactory<V1Lease> replaceLease =
+      (requestParams, usage, cont, callback) ->
+          wrap(
+              replaceLeaseAsync(
+                  usage,
+                  requestParams.name,
+                  requestParams.namespace,
+                  (V1Lease) requestParams.body,
+                  callback));
+  private final CallFactory<V1Status> deleteLease =
+      (requestParams, usage, cont, callback) ->
+          wrap(
+              deleteLeaseAsync(
+                  usage,
+                  requestParams.name,
+                  requestParams.namespace,
+                  (V1DeleteOptions) requestParams.body,
+                  callback));
 
   private RetryStrategy retryStrategy;
 
@@ -271,6 +323,9 @@ public class CallBuilder {
   private final CallFactory<V1SecretList> listSecrets =
       (requestParams, usage, cont, callback) ->
           wrap(listSecretsAsync(usage, requestParams.namespace, cont, callback));
+  private final CallFactory<V1SecretList> listSecretMetadata =
+      (requestParams, usage, cont, callback) ->
+          wrap(listSecretMetadataAsync(usage, requestParams.namespace, cont, callback));
   private final CallFactory<V1ServiceList> listService =
       (requestParams, usage, cont, callback) ->
           wrap(listServiceAsync(usage, requestParams.namespace, cont, callback));
@@ -283,6 +338,9 @@ public class CallBuilder {
   private final CallFactory<V1ConfigMapList> listConfigMaps =
       (requestParams, usage, cont, callback) ->
           wrap(listConfigMapsAsync(usage, requestParams.namespace, cont, callback));
+  private final CallFactory<V1ConfigMapList> listConfigMapMetadata =
+      (requestParams, usage, cont, callback) ->
+          wrap(listConfigMapMetadataAsync(usage, requestParams.namespace, cont, callback));
   private final Boolean exact = Boolean.FALSE;
   private final Boolean export = Boolean.FALSE;
   private final CallFactory<Domain> readDomain =
@@ -794,6 +852,30 @@ public class CallBuilder {
         replaceDomainStatus);
   }
 
+  private Call patchDomainStatusAsync(
+      ApiClient client, String name, String namespace, V1Patch patch, ApiCallback<Domain> callback)
+      throws ApiException {
+    return new WeblogicApi(client)
+        .patchNamespacedDomainStatusAsync(name, namespace, patch, callback);
+  }
+
+  /**
+   * Asynchronous step for patching domain status.
+   *
+   * @param name Name
+   * @param namespace Namespace
+   * @param patchBody instructions on what to patch
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step patchDomainStatusAsync(
+      String name, String namespace, V1Patch patchBody, ResponseStep<Domain> responseStep) {
+    return createRequestAsync(
+        responseStep,
+        new RequestParams("patchDomainStatus", namespace, name, patchBody, name),
+        patchDomainStatus);
+  }
+
   /* CRD's */
 
   private Call readCustomResourceDefinitionAsync(
@@ -952,6 +1034,28 @@ public class CallBuilder {
             callback);
   }
 
+  private Call listConfigMapMetadataAsync(
+      ApiClient client, String namespace, String cont, ApiCallback<V1ConfigMapList> callback)
+      throws ApiException {
+    Call call = KubernetesUtils.withMetadataOnly(client,
+          new CoreV1Api(client)
+              .listNamespacedConfigMapCall(
+                  namespace,
+                  pretty,
+                  allowWatchBookmarks,
+                  cont,
+                  fieldSelector,
+                  labelSelector,
+                  limit,
+                  resourceVersion,
+                  timeoutSeconds,
+                  watch,
+                  null),
+          false);
+    client.executeAsync(call, V1ConfigMapList.class, callback);
+    return call;
+  }
+
   /**
    * Asynchronous step for listing configmaps in a namespace.
    *
@@ -966,6 +1070,21 @@ public class CallBuilder {
           listConfigMaps);
   }
 
+  /**
+   * Asynchronous step for listing the configmaps in a namespace, without their data. Each configmap returned
+   * has only its metadata.
+   *
+   * @param namespace the namespace from which to list configmaps
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step listConfigMapMetadataAsync(String namespace, ResponseStep<V1ConfigMapList> responseStep) {
+    return createRequestAsync(
+        responseStep,
+        new RequestParams("listConfigMap", namespace, null, null, callParams),
+          listConfigMapMetadata);
+  }
+
   private Call readConfigMapAsync(
       ApiClient client, String name, String namespace, ApiCallback<V1ConfigMap> callback)
       throws ApiException {
@@ -1598,6 +1717,31 @@ public class CallBuilder {
         createService);
   }
 
+  private Call patchServiceAsync(
+      ApiClient client, String name, String namespace, V1Patch patch, ApiCallback<V1Service> callback)
+      throws ApiException {
+    return new CoreV1Api(client)
+        .patchNamespacedServiceAsync(name, namespace, patch, pretty, null, null, null, callback);
+  }
+
+  /**
+   * Asynchronous step for patching a service.
+   *
+   * @param name Name
+   * @param namespace Namespace
+   * @param domainUid Identifier of the domain that the service is associated with
+   * @param patchBody instructions on what to patch
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step patchServiceAsync(
+      String name, String namespace, String domainUid, V1Patch patchBody, ResponseStep<V1Service> responseStep) {
+    return createRequestAsync(
+        responseStep,
+        new RequestParams("patchService", namespace, name, patchBody, domainUid),
+        patchService);
+  }
+
   /**
    * Delete service.
    *
@@ -1729,6 +1873,115 @@ public class CallBuilder {
         listNamespace);
   }
 
+  /* Leases */
+
+  private Call listLeaseAsync(
+      ApiClient client, String namespace, String cont, ApiCallback<V1LeaseList> callback)
+      throws ApiException {
+    return new CoordinationV1Api(client)
+        .listNamespacedLeaseAsync(
+            namespace,
+            pretty,
+            allowWatchBookmarks,
+            cont,
+            fieldSelector,
+            labelSelector,
+            limit,
+            resourceVersion,
+            timeoutSeconds,
+            watch,
+            callback);
+  }
+
+  /**
+   * Asynchronous step for listing leases.
+   *
+   * @param namespace Namespace
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step listLeaseAsync(String namespace, ResponseStep<V1LeaseList> responseStep) {
+    return createRequestAsync(
+        responseStep, new RequestParams("listLease", namespace, null, null, callParams), listLease);
+  }
+
+  private Call createLeaseAsync(
+      ApiClient client, String namespace, V1Lease body, ApiCallback<V1Lease> callback)
+      throws ApiException {
+    return new CoordinationV1Api(client)
+        .createNamespacedLeaseAsync(namespace, body, pretty, null, null, callback);
+  }
+
+  /**
+   * Asynchronous step for creating lease.
+   *
+   * @param namespace Namespace
+   * @param body Body
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step createLeaseAsync(String namespace, V1Lease body, ResponseStep<V1Lease> responseStep) {
+    return createRequestAsync(
+        responseStep, new RequestParams("createLease", namespace, null, body, callParams), createLease);
+  }
+
+  private Call replaceLeaseAsync(
+      ApiClient client, String name, String namespace, V1Lease body, ApiCallback<V1Lease> callback)
+      throws ApiException {
+    return new CoordinationV1Api(client)
+        .replaceNamespacedLeaseAsync(name, namespace, body, pretty, dryRun, null, callback);
+  }
+
+  /**
+   * Asynchronous step for replacing lease.
+   *
+   * @param name Name
+   * @param namespace Namespace
+   * @param body Body
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step replaceLeaseAsync(
+      String name, String namespace, V1Lease body, ResponseStep<V1Lease> responseStep) {
+    return createRequestAsync(
+        responseStep, new RequestParams("replaceLease", namespace, name, body, callParams), replaceLease);
+  }
+
+  private Call deleteLeaseAsync(
+      ApiClient client,
+      String name,
+      String namespace,
+      V1DeleteOptions body,
+      ApiCallback<V1Status> callback)
+      throws ApiException {
+    return new CoordinationV1Api(client)
+        .deleteNamespacedLeaseAsync(
+            name,
+            namespace,
+            pretty,
+            dryRun,
+            gracePeriodSeconds,
+            orphanDependents,
+            propagationPolicy,
+            body,
+            callback);
+  }
+
+  /**
+   * Asynchronous step for deleting lease.
+   *
+   * @param name Name
+   * @param namespace Namespace
+   * @param deleteOptions Delete options
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step deleteLeaseAsync(
+      String name, String namespace, V1DeleteOptions deleteOptions, ResponseStep<V1Status> responseStep) {
+    return createRequestAsync(
+        responseStep, new RequestParams("deleteLease", namespace, name, deleteOptions, callParams), deleteLease);
+  }
+
   /**
    * Read secret.
    *
@@ -1831,6 +2084,28 @@ public class CallBuilder {
             callback);
   }
 
+  private Call listSecretMetadataAsync(
+      ApiClient client, String namespace, String cont, ApiCallback<V1SecretList> callback)
+      throws ApiException {
+    Call call = KubernetesUtils.withMetadataOnly(client,
+          new CoreV1Api(client)
+              .listNamespacedSecretCall(
+                  namespace,
+                  pretty,
+                  allowWatchBookmarks,
+                  cont,
+                  fieldSelector,
+                  labelSelector,
+                  limit,
+                  resourceVersion,
+                  timeoutSeconds,
+                  watch,
+                  null),
+          false);
+    client.executeAsync(call, V1SecretList.class, callback);
+    return call;
+  }
+
   /**
    * Asynchronous step for listing secrets in a namespace.
    *
@@ -1845,6 +2120,21 @@ public class CallBuilder {
           listSecrets);
   }
 
+  /**
+   * Asynchronous step for listing the secrets in a namespace, without their data. Each secret returned has only
+   * its metadata.
+   *
+   * @param namespace the namespace from which to list secrets
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step listSecretMetadataAsync(String namespace, ResponseStep<V1SecretList> responseStep) {
+    return createRequestAsync(
+        responseStep,
+        new RequestParams("listSecret", namespace, null, null, callParams),
+          listSecretMetadata);
+  }
+
   /**
    * Create subject access review.
    *
@@ -1984,6 +2274,49 @@ public class CallBuilder {
             callback);
   }
 
+  /**
+   * Asynchronous step for reading a pod log as a stream. Unlike {@link #readPodLogAsync}, the log is not
+   * read into memory: the response step receives a reader over the body of the response, which it must close.
+   *
+   * @param name Name of the pod
+   * @param namespace Namespace
+   * @param domainUid Identifier of the domain
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step readPodLogStreamAsync(
+      String name, String namespace, String domainUid, ResponseStep<Reader> responseStep) {
+    return createRequestAsync(
+        responseStep, new RequestParams("readPodLogStream", namespace, name, null, domainUid), readPodLogStream);
+  }
+
+  private Call readPodLogStreamAsync(ApiClient client, String name, String namespace, ApiCallback<Reader> callback)
+      throws ApiException {
+    Call call = new CoreV1Api(client)
+        .readNamespacedPodLogCall(name, namespace, null, null, null, null, pretty, null, null, null, null, null);
+    call.enqueue(new Callback() {
+      @Override
+      public void onFailure(@Nonnull Call call, @Nonnull IOException e) {
+        callback.onFailure(new ApiException(e), 0, null);
+      }
+
+      @Override
+      public void onResponse(@Nonnull Call call, @Nonnull Response response) throws IOException {
+        if (response.isSuccessful()) {
+          callback.onSuccess(response.body().charStream(), response.code(), response.headers().toMultimap());
+        } else {
+          try (Response failed = response) {
+            callback.onFailure(
+                new ApiException(failed.message(), failed.code(), failed.headers().toMultimap(),
+                    failed.body() == null ? null : failed.body().string()),
+                failed.code(), failed.headers().toMultimap());
+          }
+        }
+      }
+    });
+    return call;
+  }
+
   private <T> Step createRequestAsync(
       ResponseStep<T> next, RequestParams requestParams, CallFactory<T> factory) {
     return STEP_FACTORY.createRequestAsync(
@@ -0,0 +1,222 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.google.gson.annotations.SerializedName;
+import io.kubernetes.client.custom.IntOrString;
+import io.kubernetes.client.custom.Quantity;
+import org.apache.commons.codec.binary.Hex;
+
+/**
+ * Computes a SHA-256 hash of a Kubernetes model object by walking it and feeding its values directly to
+ * the digest, rather than first serializing it. The result depends only on the serialized names and
+ * values of the fields which are set, so it is independent of field declaration order, map iteration
+ * order, and the addition of new optional fields to the model classes.
+ *
+ * <p>Each value is written with a one-byte type tag. Strings are written as their length followed by
+ * their UTF-16 characters; maps are written with their keys sorted; model objects are written as their
+ * non-null fields, sorted by serialized name. Null fields are omitted, as they are when a model is
+ * serialized; null map values and list elements are written as a null tag. These rules are part of the
+ * hash format: changing them changes every hash, and so would cause every pod to be replaced.
+ */
+final class CanonicalHash {
+
+  private static final byte NULL = 'z';
+  private static final byte STRING = 's';
+  private static final byte NUMBER = 'n';
+  private static final byte TRUE = 't';
+  private static final byte FALSE = 'f';
+  private static final byte LIST = 'l';
+  private static final byte MAP = 'm';
+  private static final byte OBJECT = 'o';
+  private static final byte END = 'e';
+
+  private static final int BUFFER_SIZE = 4096;
+  private static final String[] MODEL_PACKAGES = {"io.kubernetes.client.", "oracle.kubernetes."};
+
+  private static final ClassValue<List<Field>> HASHED_FIELDS = new ClassValue<>() {
+    @Override
+    protected List<Field> computeValue(Class<?> type) {
+      return getHashedFields(type);
+    }
+  };
+
+  private final MessageDigest digest;
+  private final byte[] buffer = new byte[BUFFER_SIZE];
+  private int count;
+
+  private CanonicalHash() {
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);   // every JVM supports SHA-256
+    }
+  }
+
+  /**
+   * Returns the hash of the specified object.
+   * @param object a Kubernetes model object, or any value which may appear in one
+   * @return a string of 64 hexadecimal digits
+   */
+  static String sha256Hex(Object object) {
+    CanonicalHash hash = new CanonicalHash();
+    hash.putValue(object);
+    return hash.finish();
+  }
+
+  private String finish() {
+    flush();
+    return Hex.encodeHexString(digest.digest());
+  }
+
+  private void putValue(Object value) {
+    if (value == null) {
+      putByte(NULL);
+    } else if (value instanceof String) {
+      putString((String) value);
+    } else if (value instanceof Boolean) {
+      putByte((Boolean) value ? TRUE : FALSE);
+    } else if (value instanceof Number) {
+      putByte(NUMBER);
+      putChars(value.toString());
+    } else if (value instanceof Enum) {
+      putString(value.toString());
+    } else if (value instanceof IntOrString) {
+      putIntOrString((IntOrString) value);
+    } else if (value instanceof Quantity) {
+      putString(((Quantity) value).toSuffixedString());
+    } else if (value instanceof Map) {
+      putMap((Map<?, ?>) value);
+    } else if (value instanceof Collection) {
+      putCollection((Collection<?>) value);
+    } else if (isModelClass(value.getClass())) {
+      putObject(value);
+    } else {
+      putString(value.toString());
+    }
+  }
+
+  private void putIntOrString(IntOrString value) {
+    if (value.isInteger()) {
+      putValue(value.getIntValue());
+    } else {
+      putString(value.getStrValue());
+    }
+  }
+
+  private void putMap(Map<?, ?> map) {
+    putByte(MAP);
+    putInt(map.size());
+    Map<String, Object> sorted = new TreeMap<>();
+    map.forEach((key, value) -> sorted.put(String.valueOf(key), value));
+    sorted.forEach((key, value) -> {
+      putString(key);
+      putValue(value);
+    });
+  }
+
+  private void putCollection(Collection<?> collection) {
+    putByte(LIST);
+    putInt(collection.size());
+    collection.forEach(this::putValue);
+  }
+
+  private void putObject(Object object) {
+    putByte(OBJECT);
+    for (Field field : HASHED_FIELDS.get(object.getClass())) {
+      Object value = getFieldValue(field, object);
+      if (value != null) {
+        putString(getSerializedName(field));
+        putValue(value);
+      }
+    }
+    putByte(END);
+  }
+
+  private void putString(String value) {
+    putByte(STRING);
+    putInt(value.length());
+    putChars(value);
+  }
+
+  private void putChars(String value) {
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      putByte((byte) (c >> 8));
+      putByte((byte) c);
+    }
+  }
+
+  private void putInt(int value) {
+    putByte((byte) (value >> 24));
+    putByte((byte) (value >> 16));
+    putByte((byte) (value >> 8));
+    putByte((byte) value);
+  }
+
+  private void putByte(byte value) {
+    if (count == buffer.length) {
+      flush();
+    }
+    buffer[count++] = value;
+  }
+
+  private void flush() {
+    digest.update(buffer, 0, count);
+    count = 0;
+  }
+
+  private static boolean isModelClass(Class<?> type) {
+    String name = type.getName();
+    for (String prefix : MODEL_PACKAGES) {
+      if (name.startsWith(prefix)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static List<Field> getHashedFields(Class<?> type) {
+    List<Field> fields = new ArrayList<>();
+    for (Class<?> c = type; c != null && isModelClass(c); c = c.getSuperclass()) {
+      for (Field field : c.getDeclaredFields()) {
+        if (isHashedField(field)) {
+          field.setAccessible(true);
+          fields.add(field);
+        }
+      }
+    }
+    fields.sort(Comparator.comparing(CanonicalHash::getSerializedName));
+    return fields;
+  }
+
+  private static boolean isHashedField(Field field) {
+    int modifiers = field.getModifiers();
+    return !Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) && !field.isSynthetic();
+  }
+
+  private static String getSerializedName(Field field) {
+    SerializedName annotation = field.getAnnotation(SerializedName.class);
+    return annotation != null ? annotation.value() : field.getName();
+  }
+
+  private static Object getFieldValue(Field field, Object object) {
+    try {
+      return field.get(object);
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException(e);   // the field was made accessible when first found
+    }
+  }
+}
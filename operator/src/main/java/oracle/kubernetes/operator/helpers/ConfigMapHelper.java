@@ -3,15 +3,13 @@
 
 package oracle.kubernetes.operator.helpers;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.StringReader;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import javax.json.Json;
 import javax.json.JsonPatchBuilder;
 import javax.json.JsonValue;
@@ -19,6 +17,7 @@ import javax.validation.constraints.NotNull;
 
 import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ConfigMapList;
 import io.kubernetes.client.openapi.models.V1DeleteOptions;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import oracle.kubernetes.operator.DomainStatusUpdater;
@@ -42,14 +41,17 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.joda.time.DateTime;
 
 import static java.lang.System.lineSeparator;
+import static oracle.kubernetes.operator.IntrospectorConfigMapKeys.CHUNK_MANIFEST;
 import static oracle.kubernetes.operator.IntrospectorConfigMapKeys.DOMAINZIP_HASH;
 import static oracle.kubernetes.operator.IntrospectorConfigMapKeys.DOMAIN_INPUTS_HASH;
 import static oracle.kubernetes.operator.IntrospectorConfigMapKeys.DOMAIN_RESTART_VERSION;
+import static oracle.kubernetes.operator.IntrospectorConfigMapKeys.INTROSPECTION_FINGERPRINT;
 import static oracle.kubernetes.operator.IntrospectorConfigMapKeys.SECRETS_MD_5;
 import static oracle.kubernetes.operator.IntrospectorConfigMapKeys.SIT_CONFIG_FILE_PREFIX;
 import static oracle.kubernetes.operator.KubernetesConstants.SCRIPT_CONFIG_MAP_NAME;
 import static oracle.kubernetes.operator.LabelConstants.INTROSPECTION_STATE_LABEL;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_VALIDATION_ERRORS;
+import static oracle.kubernetes.operator.ProcessingConstants.PENDING_INTROSPECTION_FINGERPRINT;
 import static oracle.kubernetes.operator.helpers.KubernetesUtils.getDomainUidLabel;
 import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorNamespace;
 
@@ -62,9 +64,25 @@ public class ConfigMapHelper {
 
   private static final FileGroupReader scriptReader = new FileGroupReader(SCRIPT_LOCATION);
 
+  // A hash of the scripts shipped with this operator, computed when first needed.
+  private static String scriptsHash;
+
   private ConfigMapHelper() {
   }
 
+  /**
+   * Returns a hash of the scripts which this operator places in the script config map of each domain namespace.
+   * The hash changes whenever an operator upgrade changes the introspector scripts.
+   *
+   * @return the hash of the scripts
+   */
+  static synchronized String getScriptsHash() {
+    if (scriptsHash == null) {
+      scriptsHash = CanonicalHash.sha256Hex(scriptReader.loadFilesFromClasspath());
+    }
+    return scriptsHash;
+  }
+
   /**
    * Factory for {@link Step} that creates config map containing scripts.
    *
@@ -79,57 +97,6 @@ public class ConfigMapHelper {
     return scriptReader;
   }
 
-  static Map<String, String> parseIntrospectorResult(String text, String domainUid) {
-    Map<String, String> map = new HashMap<>();
-    String token = ">>>  updatedomainResult=";
-
-    try (BufferedReader reader = new BufferedReader(new StringReader(text))) {
-      String line = reader.readLine();
-      while (line != null) {
-        if (line.contains(token)) {
-          int index = line.indexOf(token);
-          int beg = index + 1 + token.length();
-          map.put("UPDATEDOMAINRESULT", line.substring(beg - 1));
-        }
-        if (line.startsWith(">>>") && !line.endsWith("EOF")) {
-          String filename = extractFilename(line);
-          readFile(reader, filename, map, domainUid);
-        }
-        line = reader.readLine();
-      }
-    } catch (IOException exc) {
-      LOGGER.warning(MessageKeys.CANNOT_PARSE_INTROSPECTOR_RESULT, domainUid, exc);
-    }
-
-    return map;
-  }
-
-  static void readFile(
-      BufferedReader reader, String fileName, Map<String, String> map, String domainUid) {
-    StringBuilder stringBuilder = new StringBuilder();
-    try {
-      String line = reader.readLine();
-      while (line != null) {
-        if (line.startsWith(">>>") && line.endsWith("EOF")) {
-          map.put(fileName, stringBuilder.toString().trim());
-          return;
-        } else {
-          // add line to StringBuilder
-          stringBuilder.append(line);
-          stringBuilder.append(System.getProperty("line.separator"));
-        }
-        line = reader.readLine();
-      }
-    } catch (IOException ioe) {
-      LOGGER.warning(MessageKeys.CANNOT_PARSE_INTROSPECTOR_FILE, fileName, domainUid, ioe);
-    }
-  }
-
-  static String extractFilename(String line) {
-    int lastSlash = line.lastIndexOf('/');
-    return line.substring(lastSlash + 1);
-  }
-
   /**
    * getModelInImageSpecHash returns the hash for the fields that should be compared for changes.
    *
@@ -360,7 +327,7 @@ public class ConfigMapHelper {
       }
     }
 
-    private Map<String, String> getCombinedData(V1ConfigMap existingConfigMap) {
+    Map<String, String> getCombinedData(V1ConfigMap existingConfigMap) {
       Map<String, String> updated = Objects.requireNonNull(existingConfigMap.getData());
       updated.putAll(contents);
       return updated;
@@ -442,7 +409,7 @@ public class ConfigMapHelper {
   /**
    * Factory for a step that creates or updates the generated domain config map from introspection results.
    * Reads the following packet fields:
-   *   DOMAIN_INTROSPECTOR_LOG_RESULT     the introspection result
+   *   DOMAIN_INTROSPECTOR_DATA           the files parsed from the introspector log
    * and updates:
    *   DOMAIN_TOPOLOGY                    the parsed topology
    *   DOMAIN_HASH                        a hash of the topology
@@ -497,16 +464,19 @@ public class ConfigMapHelper {
       this.packet = packet;
       this.info = packet.getSpi(DomainPresenceInfo.class);
       this.conflictStep = conflictStep;
-      parseIntrospectorResult();
+      loadIntrospectorData();
     }
 
-    private void parseIntrospectorResult() {
-      String result = (String) packet.remove(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT);
-      data = ConfigMapHelper.parseIntrospectorResult(result, info.getDomainUid());
-
-      LOGGER.fine("================");
-      LOGGER.fine(data.toString());
-      LOGGER.fine("================");
+    @SuppressWarnings("unchecked")
+    private void loadIntrospectorData() {
+      data = Optional.ofNullable((Map<String, String>) packet.remove(ProcessingConstants.DOMAIN_INTROSPECTOR_DATA))
+            .orElseGet(HashMap::new);
+
+      if (LOGGER.isFineEnabled()) {
+        LOGGER.fine("================");
+        LOGGER.fine(data.toString());
+        LOGGER.fine("================");
+      }
 
       wlsDomainConfig = Optional.ofNullable(data.get(IntrospectorConfigMapKeys.TOPOLOGY_YAML))
             .map(this::getDomainTopology)
@@ -527,6 +497,12 @@ public class ConfigMapHelper {
       copyFileToPacketIfPresent(SECRETS_MD_5, SECRETS_MD_5);
       copyToPacketAndFileIfPresent(DOMAIN_RESTART_VERSION, info.getDomain().getRestartVersion());
       copyToPacketAndFileIfPresent(DOMAIN_INPUTS_HASH, getModelInImageSpecHash());
+      packet.remove(INTROSPECTION_FINGERPRINT);
+      copyToPacketAndFileIfPresent(INTROSPECTION_FINGERPRINT, getPendingIntrospectionFingerprint());
+    }
+
+    private String getPendingIntrospectionFingerprint() {
+      return (String) packet.remove(PENDING_INTROSPECTION_FINGERPRINT);
     }
 
     private Step createIntrospectionVersionUpdateStep() {
@@ -535,14 +511,61 @@ public class ConfigMapHelper {
     }
 
     private Step createValidationStep() {
-      return DomainValidationSteps.createValidateDomainTopologyStep(
-            createIntrospectorConfigMapContext(conflictStep).verifyConfigMap(conflictStep.getNext()));
+      IntrospectorConfigMapStorage storage = createStorage();
+      if (storage.isTooLarge()) {
+        return reportResultTooLarge(storage);
+      }
+
+      List<String> obsoleteChunkMapNames = getObsoleteChunkMapNames(storage);
+      recordChunkManifest(storage);
+
+      Step next = createIntrospectorConfigMapContext(conflictStep, storage)
+            .verifyConfigMap(deleteChunkMaps(obsoleteChunkMapNames, conflictStep.getNext()));
+      List<IntrospectorConfigMapStorage.ChunkMap> chunkMaps = storage.getChunkMaps();
+      for (int i = chunkMaps.size() - 1; i >= 0; i--) {
+        next = new ChunkConfigMapContext(conflictStep, info.getDomain(), chunkMaps.get(i), info).verifyConfigMap(next);
+      }
+      return DomainValidationSteps.createValidateDomainTopologyStep(next);
+    }
+
+    private Step reportResultTooLarge(IntrospectorConfigMapStorage storage) {
+      Object[] params
+            = {info.getDomainUid(), storage.getChunkMaps().size(), IntrospectorConfigMapStorage.MAX_CHUNK_MAPS};
+      LOGGER.severe(MessageKeys.INTROSPECTOR_RESULT_TOO_LARGE, params);
+      return DomainStatusUpdater.createFailedStep(DomainStatusUpdater.ERR_INTROSPECTOR,
+            LOGGER.formatMessage(MessageKeys.INTROSPECTOR_RESULT_TOO_LARGE, params), null);
+    }
+
+    private IntrospectorConfigMapStorage createStorage() {
+      return new IntrospectorConfigMapStorage(getIntrospectorConfigMapName(info.getDomainUid()), data);
+    }
+
+    // Chunk maps listed by the map being replaced, but not by the new one, are deleted once the new one is written.
+    private List<String> getObsoleteChunkMapNames(IntrospectorConfigMapStorage storage) {
+      List<String> names = IntrospectorConfigMapStorage.getChunkMapNames((String) packet.get(CHUNK_MANIFEST));
+      storage.getChunkMaps().stream().map(IntrospectorConfigMapStorage.ChunkMap::getName).forEach(names::remove);
+      return names;
+    }
+
+    private void recordChunkManifest(IntrospectorConfigMapStorage storage) {
+      Optional.ofNullable(storage.getMainData().get(CHUNK_MANIFEST))
+            .ifPresentOrElse(manifest -> packet.put(CHUNK_MANIFEST, manifest), () -> packet.remove(CHUNK_MANIFEST));
+    }
+
+    private Step deleteChunkMaps(List<String> names, Step next) {
+      return names.isEmpty()
+            ? next : new DeleteChunkConfigMapsStep(info.getNamespace(), info.getDomainUid(), names, next);
     }
 
     private IntrospectorConfigMapContext createIntrospectorConfigMapContext(Step conflictStep) {
       return new IntrospectorConfigMapContext(conflictStep, info.getDomain(), data, info);
     }
 
+    private IntrospectorConfigMapContext createIntrospectorConfigMapContext(
+          Step conflictStep, IntrospectorConfigMapStorage storage) {
+      return new IntrospectorConfigMapContext(conflictStep, info.getDomain(), storage, info);
+    }
+
     private String getModelInImageSpecHash() {
       return String.valueOf(ConfigMapHelper.getModelInImageSpecHash(info.getDomain().getSpec().getImage()));
     }
@@ -605,6 +628,7 @@ public class ConfigMapHelper {
 
   public static class IntrospectorConfigMapContext extends ConfigMapContext {
     final String domainUid;
+    private final IntrospectorConfigMapStorage storage;
     private boolean patchOnly;
 
     IntrospectorConfigMapContext(
@@ -612,9 +636,27 @@ public class ConfigMapHelper {
           Domain domain,
           Map<String, String> data,
           DomainPresenceInfo info) {
+      this(conflictStep, domain, data, null, info);
+    }
+
+    IntrospectorConfigMapContext(
+          Step conflictStep,
+          Domain domain,
+          IntrospectorConfigMapStorage storage,
+          DomainPresenceInfo info) {
+      this(conflictStep, domain, storage.getMainData(), storage, info);
+    }
+
+    private IntrospectorConfigMapContext(
+          Step conflictStep,
+          Domain domain,
+          Map<String, String> data,
+          IntrospectorConfigMapStorage storage,
+          DomainPresenceInfo info) {
       super(conflictStep, getIntrospectorConfigMapName(domain.getDomainUid()), domain.getNamespace(), data, info);
 
       this.domainUid = domain.getDomainUid();
+      this.storage = storage;
       addLabel(LabelConstants.DOMAINUID_LABEL, domainUid);
     }
 
@@ -639,11 +681,70 @@ public class ConfigMapHelper {
     }
 
     private boolean isRemovableKey(String key) {
-      return key.startsWith(SIT_CONFIG_FILE_PREFIX);
+      return key.startsWith(SIT_CONFIG_FILE_PREFIX)
+            || key.equals(INTROSPECTION_FINGERPRINT)
+            || (storage != null && storage.isObsoleteKey(key));
     }
 
   }
 
+  /**
+   * A config map which holds parts of packed introspector results which do not fit in the domain config map.
+   * Its contents are identified by a hash label, and are replaced as a whole when that changes.
+   */
+  static class ChunkConfigMapContext extends ConfigMapContext {
+    private final String hash;
+
+    ChunkConfigMapContext(
+          Step conflictStep, Domain domain, IntrospectorConfigMapStorage.ChunkMap chunkMap, DomainPresenceInfo info) {
+      super(conflictStep, chunkMap.getName(), domain.getNamespace(), chunkMap.getData(), info);
+
+      this.hash = chunkMap.getHash();
+      addLabel(LabelConstants.DOMAINUID_LABEL, domain.getDomainUid());
+      addLabel(LabelConstants.INTROSPECTOR_CHUNK_HASH_LABEL, hash);
+    }
+
+    @Override
+    boolean isIncompatibleMap(V1ConfigMap existingMap) {
+      return !hash.equals(getHashLabel(existingMap));
+    }
+
+    private String getHashLabel(V1ConfigMap map) {
+      return Optional.ofNullable(map.getMetadata())
+            .map(V1ObjectMeta::getLabels)
+            .map(labels -> labels.get(LabelConstants.INTROSPECTOR_CHUNK_HASH_LABEL))
+            .orElse(null);
+    }
+
+    @Override
+    Map<String, String> getCombinedData(V1ConfigMap existingConfigMap) {
+      return getModel().getData();
+    }
+  }
+
+  private static class DeleteChunkConfigMapsStep extends Step {
+    private final String namespace;
+    private final String domainUid;
+    private final List<String> names;
+
+    DeleteChunkConfigMapsStep(String namespace, String domainUid, List<String> names, Step next) {
+      super(next);
+      this.namespace = namespace;
+      this.domainUid = domainUid;
+      this.names = names;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      Step next = getNext();
+      for (String name : names) {
+        next = new CallBuilder()
+              .deleteConfigMapAsync(name, namespace, domainUid, new V1DeleteOptions(), new DefaultResponseStep<>(next));
+      }
+      return doNext(next, packet);
+    }
+  }
+
   /**
    * Factory for a step that deletes the generated introspector config map.
    *
@@ -684,7 +785,35 @@ public class ConfigMapHelper {
       String configMapName = getIntrospectorConfigMapName(this.domainUid);
       return new CallBuilder()
           .deleteConfigMapAsync(configMapName, namespace, this.domainUid,
-              new V1DeleteOptions(), new DefaultResponseStep<>(next));
+              new V1DeleteOptions(), new DefaultResponseStep<>(listChunkConfigMaps(next)));
+    }
+
+    private Step listChunkConfigMaps(Step next) {
+      return new CallBuilder()
+          .withLabelSelectors(
+              LabelConstants.forDomainUidSelector(domainUid), LabelConstants.INTROSPECTOR_CHUNK_HASH_LABEL)
+          .listConfigMapsAsync(namespace, new ListChunkConfigMapsResponseStep(next));
+    }
+
+    private class ListChunkConfigMapsResponseStep extends DefaultResponseStep<V1ConfigMapList> {
+      ListChunkConfigMapsResponseStep(Step next) {
+        super(next);
+      }
+
+      @Override
+      public NextAction onSuccess(Packet packet, CallResponse<V1ConfigMapList> callResponse) {
+        List<String> names = Optional.ofNullable(callResponse.getResult())
+              .map(V1ConfigMapList::getItems)
+              .orElse(Collections.emptyList())
+              .stream()
+              .map(V1ConfigMap::getMetadata)
+              .filter(Objects::nonNull)
+              .map(V1ObjectMeta::getName)
+              .collect(Collectors.toList());
+        return doNext(
+              names.isEmpty() ? getNext() : new DeleteChunkConfigMapsStep(namespace, domainUid, names, getNext()),
+              packet);
+      }
     }
   }
 
@@ -695,6 +824,7 @@ public class ConfigMapHelper {
    *   SECRETS_HASH                       a hash of the override secrets
    *   DOMAIN_RESTART_VERSION             a field from the domain to force rolling when changed
    *   DOMAIN_INPUTS_HASH                 a hash of the image used in the domain.
+   *   INTROSPECTION_FINGERPRINT          a hash of the inputs from which the introspection results were produced
    *
    * @param ns the namespace of the domain
    * @param domainUid the unique domain ID
@@ -717,6 +847,8 @@ public class ConfigMapHelper {
       copyMapEntryToPacket(result, packet, DOMAINZIP_HASH);
       copyMapEntryToPacket(result, packet, DOMAIN_RESTART_VERSION);
       copyMapEntryToPacket(result, packet, DOMAIN_INPUTS_HASH);
+      copyMapEntryToPacket(result, packet, CHUNK_MANIFEST);
+      copyMapEntryToPacket(result, packet, INTROSPECTION_FINGERPRINT);
 
       DomainTopology domainTopology =
             Optional.ofNullable(result)
@@ -734,7 +866,7 @@ public class ConfigMapHelper {
     }
 
     private String getTopologyYaml(Map<String, String> data) {
-      return data.get(IntrospectorConfigMapKeys.TOPOLOGY_YAML);
+      return IntrospectorConfigMapStorage.readFile(data, IntrospectorConfigMapKeys.TOPOLOGY_YAML);
     }
 
     private void recordTopology(Packet packet, DomainPresenceInfo info, DomainTopology domainTopology) {
@@ -15,6 +15,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -51,6 +52,7 @@ public class DomainPresenceInfo {
 
   private final ConcurrentMap<String, ServerKubernetesObjects> servers = new ConcurrentHashMap<>();
   private final ConcurrentMap<String, V1Service> clusters = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, PodModel> podModels = new ConcurrentHashMap<>();
 
   private final List<String> validationWarnings = Collections.synchronizedList(new ArrayList<>());
 
@@ -176,6 +178,24 @@ public class DomainPresenceInfo {
     return getPod(getSko(serverName));
   }
 
+  /**
+   * Returns the desired pod for an operator-managed server, reusing the one last built for that server
+   * if it was built from the same inputs.
+   *
+   * @param serverName the name of the server
+   * @param inputs the values from which the pod is built; these must implement equals
+   * @param podModelFactory a function which builds the pod
+   * @return the desired pod
+   */
+  public V1Pod getPodModel(String serverName, Object inputs, Supplier<V1Pod> podModelFactory) {
+    PodModel podModel = podModels.get(serverName);
+    if (podModel == null || !podModel.inputs.equals(inputs)) {
+      podModel = new PodModel(inputs, podModelFactory.get());
+      podModels.put(serverName, podModel);
+    }
+    return podModel.pod;
+  }
+
   /**
    * Returns a stream of all server pods present.
    *
@@ -755,4 +775,14 @@ public class DomainPresenceInfo {
               .toHashCode();
     }
   }
-}
\ No newline at end of file
+
+  private static class PodModel {
+    private final Object inputs;
+    private final V1Pod pod;
+
+    PodModel(Object inputs, V1Pod pod) {
+      this.inputs = inputs;
+      this.pod = pod;
+    }
+  }
+}
@@ -6,6 +6,7 @@ package oracle.kubernetes.operator.helpers;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import io.kubernetes.client.openapi.models.V1ConfigMap;
 import io.kubernetes.client.openapi.models.V1ConfigMapList;
@@ -40,8 +41,24 @@ public class DomainValidationSteps {
   private static final String CONFIGMAPS = "configmaps";
 
   public static Step createDomainValidationSteps(String namespace, Step next) {
+    return createDomainValidationSteps(namespace, null, next);
+  }
+
+  /**
+   * Creates steps to validate the domain. If a lookup of the namespace's secrets and config maps is supplied,
+   * it is used to check for the resources referenced by the domain; otherwise, they are listed.
+   * @param namespace the domain namespace
+   * @param resourceLookup an object which checks for secrets and config maps in the namespace, or null
+   * @param next the step to run if the domain is valid
+   * @return the validation steps
+   */
+  public static Step createDomainValidationSteps(
+        String namespace, KubernetesResourceLookup resourceLookup, Step next) {
+    if (resourceLookup != null) {
+      return new DomainValidationStep(resourceLookup, next);
+    }
     return Step.chain(createListSecretsStep(namespace), createListConfigMapsStep(namespace),
-              new DomainValidationStep(next));
+              new DomainValidationStep(null, next));
   }
 
   public static Step createAdditionalDomainValidationSteps(V1PodSpec podSpec) {
@@ -85,16 +102,18 @@ public class DomainValidationSteps {
   }
 
   static class DomainValidationStep extends Step {
+    private final KubernetesResourceLookup resourceLookup;
 
-    DomainValidationStep(Step next) {
+    DomainValidationStep(KubernetesResourceLookup resourceLookup, Step next) {
       super(next);
+      this.resourceLookup = resourceLookup;
     }
 
     @Override
     public NextAction apply(Packet packet) {
       DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
       Domain domain = info.getDomain();
-      List<String> validationFailures = domain.getValidationFailures(new KubernetesResourceLookupImpl(packet));
+      List<String> validationFailures = domain.getValidationFailures(getResourceLookup(packet));
 
       if (validationFailures.isEmpty()) {
         return doNext(packet);
@@ -105,6 +124,10 @@ public class DomainValidationSteps {
       return doNext(step, packet);
     }
 
+    private KubernetesResourceLookup getResourceLookup(Packet packet) {
+      return Optional.ofNullable(resourceLookup).orElseGet(() -> new KubernetesResourceLookupImpl(packet));
+    }
+
     private String perLine(List<String> validationFailures) {
       return String.join(lineSeparator(), validationFailures);
     }
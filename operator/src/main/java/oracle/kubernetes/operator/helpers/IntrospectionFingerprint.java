@@ -0,0 +1,103 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.DomainSpec;
+import oracle.kubernetes.weblogic.domain.model.KubernetesResourceLookup;
+
+/**
+ * A hash of the inputs to domain introspection: the domain resource fields from which the introspector job
+ * is built, the resource versions of the secrets and config maps it reads, and the introspector scripts
+ * shipped with the operator, so that an operator upgrade which changes them forces a new introspection.
+ * Kubernetes changes the resource version of a secret or config map whenever its contents change, so the
+ * versions stand in for the contents, which the operator does not retain. Two introspections with the same
+ * fingerprint are expected to produce the same results.
+ */
+class IntrospectionFingerprint {
+
+  private IntrospectionFingerprint() {
+  }
+
+  /**
+   * Computes the fingerprint of the current introspection inputs for a domain.
+   * @param domain the domain resource
+   * @param resourceLookup the lookup of secret and config map versions in the domain namespace; may be null
+   * @return the fingerprint, or null if the version of any referenced resource is not known
+   */
+  static String compute(Domain domain, KubernetesResourceLookup resourceLookup) {
+    if (resourceLookup == null) {
+      return null;
+    }
+
+    Map<String, String> resourceVersions = getResourceVersions(domain, resourceLookup);
+    if (resourceVersions.containsValue(null)) {
+      return null;
+    }
+
+    Map<String, Object> inputs = getDomainInputs(domain);
+    inputs.put("resourceVersions", resourceVersions);
+    inputs.put("scripts", ConfigMapHelper.getScriptsHash());
+    return CanonicalHash.sha256Hex(inputs);
+  }
+
+  private static Map<String, Object> getDomainInputs(Domain domain) {
+    DomainSpec spec = domain.getSpec();
+    Map<String, Object> inputs = new LinkedHashMap<>();
+    inputs.put("uid", domain.getMetadata().getUid());
+    inputs.put("image", spec.getImage());
+    inputs.put("imagePullPolicy", spec.getImagePullPolicy());
+    inputs.put("domainHome", domain.getDomainHome());
+    inputs.put("domainHomeSourceType", domain.getDomainHomeSourceType());
+    inputs.put("logHome", domain.getEffectiveLogHome());
+    inputs.put("dataHome", domain.getDataHome());
+    inputs.put("includeServerOutInPodLog", domain.isIncludeServerOutInPodLog());
+    inputs.put("configuration", spec.getConfiguration());
+    inputs.put("configOverrides", domain.getConfigOverrides());
+    inputs.put("configOverrideSecrets", domain.getConfigOverrideSecrets());
+    inputs.put("webLogicCredentialsSecret", domain.getWebLogicCredentialsSecretName());
+    inputs.put("env", domain.getAdminServerSpec().getEnvironmentVariables());
+    inputs.put("volumes", spec.getAdditionalVolumes());
+    inputs.put("volumeMounts", spec.getAdditionalVolumeMounts());
+    inputs.put("introspectVersion", domain.getIntrospectVersion());
+    inputs.put("restartVersion", domain.getRestartVersion());
+    return inputs;
+  }
+
+  private static Map<String, String> getResourceVersions(Domain domain, KubernetesResourceLookup resourceLookup) {
+    String namespace = domain.getNamespace();
+    Map<String, String> versions = new LinkedHashMap<>();
+    for (String name : getSecretNames(domain)) {
+      versions.put("secret/" + name, resourceLookup.getSecretResourceVersion(name, namespace));
+    }
+    for (String name : getConfigMapNames(domain)) {
+      versions.put("configmap/" + name, resourceLookup.getConfigMapResourceVersion(name, namespace));
+    }
+    return versions;
+  }
+
+  private static List<String> getSecretNames(Domain domain) {
+    List<String> names = new ArrayList<>();
+    names.add(domain.getWebLogicCredentialsSecretName());
+    Optional.ofNullable(domain.getConfigOverrideSecrets()).ifPresent(names::addAll);
+    names.add(domain.getOpssWalletPasswordSecret());
+    names.add(domain.getOpssWalletFileSecret());
+    names.add(domain.getRuntimeEncryptionSecret());
+    names.removeIf(name -> name == null);
+    return names;
+  }
+
+  private static List<String> getConfigMapNames(Domain domain) {
+    List<String> names = new ArrayList<>();
+    Optional.ofNullable(domain.getConfigOverrides()).ifPresent(names::add);
+    Optional.ofNullable(domain.getWdtConfigMap()).filter(name -> !name.isEmpty()).ifPresent(names::add);
+    return names;
+  }
+}
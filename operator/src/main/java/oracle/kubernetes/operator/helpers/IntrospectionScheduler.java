@@ -0,0 +1,396 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.metrics.LatencyHistogram;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
+import oracle.kubernetes.operator.work.AsyncFiber;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.SystemClock;
+
+/**
+ * Limits the number of introspector jobs which run at once across all domains, and on any one node.
+ * A make-right flow which needs to run the introspector acquires a permit before creating its job, waiting
+ * if none is available, and releases it once the job has finished. Waiting flows are served in priority
+ * order: domains being brought up before updates to running domains. Within a priority, namespaces are
+ * served in turn, so that a namespace with many domains cannot delay the domains of the others.
+ *
+ * <p>A job's node is only known in advance when the domain pins its pods with a node name or node selector,
+ * so the per-node limit applies only to jobs with the same pinning. A permit which is not released, because
+ * its flow failed or was replaced, is reclaimed once the job's active deadline has passed; a later flow
+ * for the same domain takes over its permit at once. The requests and permits of a deleted domain, or of a
+ * namespace which is no longer managed, are discarded at once.
+ */
+class IntrospectionScheduler {
+  static final String METRICS_NAME = "introspectionScheduler";
+
+  static final int DEFAULT_CONCURRENCY_LIMIT = 10;
+  static final int DEFAULT_NODE_CONCURRENCY_LIMIT = 0;
+  // time allowed beyond a job's active deadline for its flow to read the job log and release its permit
+  static final long LEASE_GRACE_SECONDS = 60;
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  private static IntrospectionScheduler instance = new IntrospectionScheduler();
+
+  static {
+    OperatorMetrics.register(METRICS_NAME, () -> getInstance().toMap());
+  }
+
+  /** The order in which waiting requests are served. */
+  enum Priority {
+    NEW_DOMAIN, UPDATE
+  }
+
+  // priority -> namespace -> waiting requests in order of arrival; namespaces are kept in the order to be served
+  private final Map<Priority, Map<String, Deque<Request>>> queues = new EnumMap<>(Priority.class);
+  private final Map<String, Lease> leases = new HashMap<>();
+  private final LatencyHistogram waitTime = new LatencyHistogram();
+  private final LongAdder reclaimed = new LongAdder();
+  private long recheckAtMillis;
+
+  IntrospectionScheduler() {
+    for (Priority priority : Priority.values()) {
+      queues.put(priority, new LinkedHashMap<>());
+    }
+  }
+
+  static IntrospectionScheduler getInstance() {
+    return instance;
+  }
+
+  /**
+   * Creates a step which waits for a permit to run the introspector job for the domain in the packet.
+   * @param priority the priority of the request
+   * @param nodeKey the node name or selector to which the job's pod is pinned, or null if it is not pinned
+   * @param activeDeadlineSeconds the active deadline of the job
+   * @param next the step to run once the permit is granted
+   * @return a new step
+   */
+  static Step createAcquireStep(Priority priority, String nodeKey, long activeDeadlineSeconds, Step next) {
+    return new AcquireStep(priority, nodeKey, activeDeadlineSeconds, next);
+  }
+
+  /**
+   * Creates a step which releases the permit held for the domain in the packet, if any.
+   * @param next the step to run next
+   * @return a new step
+   */
+  static Step createReleaseStep(Step next) {
+    return new ReleaseStep(next);
+  }
+
+  /**
+   * Discards any waiting request and any permit held for the specified domain, which is being deleted.
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   */
+  static void removeDomain(String namespace, String domainUid) {
+    IntrospectionScheduler scheduler = getInstance();
+    scheduler.remove(namespace + "/" + domainUid);
+    scheduler.dispatch();
+  }
+
+  /**
+   * Discards all waiting requests and permits held for domains in the specified namespace, which is no longer
+   * managed by this operator.
+   * @param namespace the namespace
+   */
+  static void removeNamespace(String namespace) {
+    IntrospectionScheduler scheduler = getInstance();
+    scheduler.removeAllIn(namespace);
+    scheduler.dispatch();
+  }
+
+  /**
+   * Returns the key identifying the nodes to which a pod is pinned.
+   * @param nodeName the node name of the pod spec, or null
+   * @param nodeSelector the node selector of the pod spec, or null
+   * @return the node name if set; otherwise the sorted node selector, if any; otherwise null
+   */
+  static String getNodeKey(String nodeName, Map<String, String> nodeSelector) {
+    if (nodeName != null) {
+      return nodeName;
+    } else if (nodeSelector == null || nodeSelector.isEmpty()) {
+      return null;
+    } else {
+      return new TreeMap<>(nodeSelector).toString();
+    }
+  }
+
+  private static String getDomainKey(DomainPresenceInfo info) {
+    return info.getNamespace() + "/" + info.getDomainUid();
+  }
+
+  // Grants the request at once if it holds no place behind others, or if its domain already holds a permit.
+  private synchronized boolean tryGrant(Request request) {
+    long now = SystemClock.now().getMillis();
+    removeWaiting(request.domainKey);
+    reclaimExpiredLeases(now);
+    if (leases.containsKey(request.domainKey) || (!hasWaiting() && hasCapacity(request.nodeKey))) {
+      grant(request, now);
+      return true;
+    }
+    return false;
+  }
+
+  private void enqueue(Request request, AsyncFiber fiber, Packet packet) {
+    synchronized (this) {
+      request.fiber = fiber;
+      request.packet = packet;
+      queues.get(request.priority).computeIfAbsent(request.namespace, n -> new ArrayDeque<>()).add(request);
+      LOGGER.fine("Introspection of " + request.domainKey + " is waiting for a permit");
+    }
+    dispatch();
+  }
+
+  private synchronized void release(String domainKey) {
+    if (leases.remove(domainKey) != null) {
+      LOGGER.fine("Released introspection permit for " + domainKey);
+    }
+  }
+
+  private synchronized void remove(String domainKey) {
+    removeWaiting(domainKey);
+    release(domainKey);
+  }
+
+  private synchronized void removeAllIn(String namespace) {
+    for (Map<String, Deque<Request>> namespaceQueues : queues.values()) {
+      namespaceQueues.remove(namespace);
+    }
+    leases.keySet().removeIf(domainKey -> domainKey.startsWith(namespace + "/"));
+  }
+
+  // Grants permits to waiting requests while capacity allows, and resumes their flows.
+  private void dispatch() {
+    List<Request> granted = new ArrayList<>();
+    synchronized (this) {
+      long now = SystemClock.now().getMillis();
+      reclaimExpiredLeases(now);
+      for (Priority priority : Priority.values()) {
+        grantInTurn(queues.get(priority), now, granted);
+      }
+      scheduleRecheckIfNeeded(now);
+    }
+    granted.forEach(request -> request.fiber.resume(request.packet));
+  }
+
+  // Serves each namespace in turn, granting its first request which has capacity;
+  // a namespace which is served moves to the end of the order.
+  private void grantInTurn(Map<String, Deque<Request>> namespaceQueues, long now, List<Request> granted) {
+    boolean progress = true;
+    while (progress && hasGlobalCapacity()) {
+      progress = false;
+      for (String namespace : new ArrayList<>(namespaceQueues.keySet())) {
+        if (!hasGlobalCapacity()) {
+          break;
+        }
+        Deque<Request> queue = namespaceQueues.get(namespace);
+        Request request = removeFirstWithCapacity(queue);
+        if (request != null) {
+          grant(request, now);
+          granted.add(request);
+          progress = true;
+          namespaceQueues.remove(namespace);
+          if (!queue.isEmpty()) {
+            namespaceQueues.put(namespace, queue);
+          }
+        }
+      }
+    }
+  }
+
+  private Request removeFirstWithCapacity(Deque<Request> queue) {
+    for (Iterator<Request> it = queue.iterator(); it.hasNext(); ) {
+      Request request = it.next();
+      if (hasNodeCapacity(request.nodeKey)) {
+        it.remove();
+        return request;
+      }
+    }
+    return null;
+  }
+
+  private void grant(Request request, long now) {
+    leases.put(request.domainKey,
+          new Lease(request.nodeKey, now + TimeUnit.SECONDS.toMillis(request.leaseSeconds)));
+    waitTime.record(TimeUnit.MILLISECONDS.toNanos(now - request.createdMillis));
+    LOGGER.fine("Granted introspection permit for " + request.domainKey);
+  }
+
+  private void removeWaiting(String domainKey) {
+    for (Map<String, Deque<Request>> namespaceQueues : queues.values()) {
+      namespaceQueues.values().forEach(queue -> queue.removeIf(r -> r.domainKey.equals(domainKey)));
+      namespaceQueues.values().removeIf(Deque::isEmpty);
+    }
+  }
+
+  private void reclaimExpiredLeases(long now) {
+    leases.entrySet().removeIf(entry -> isExpired(entry, now));
+  }
+
+  private boolean isExpired(Map.Entry<String, Lease> entry, long now) {
+    if (entry.getValue().expiresAtMillis > now) {
+      return false;
+    }
+    LOGGER.fine("Reclaimed expired introspection permit for " + entry.getKey());
+    reclaimed.increment();
+    return true;
+  }
+
+  // Permits held by flows which never release them expire without any other event; if requests are waiting
+  // for such permits, one of their fibers is used to schedule a check for when the earliest one expires.
+  private void scheduleRecheckIfNeeded(long now) {
+    Request waiting = getFirstWaiting();
+    long expiresAtMillis = leases.values().stream().mapToLong(l -> l.expiresAtMillis).min().orElse(0);
+    if (waiting == null || expiresAtMillis == 0 || (recheckAtMillis > now && recheckAtMillis <= expiresAtMillis)) {
+      return;
+    }
+
+    recheckAtMillis = expiresAtMillis;
+    waiting.fiber.scheduleOnce(expiresAtMillis - now + 1, TimeUnit.MILLISECONDS, this::dispatch);
+  }
+
+  private Request getFirstWaiting() {
+    return queues.values().stream()
+          .flatMap(namespaceQueues -> namespaceQueues.values().stream())
+          .filter(queue -> !queue.isEmpty())
+          .map(Deque::peekFirst)
+          .findFirst()
+          .orElse(null);
+  }
+
+  private boolean hasWaiting() {
+    return getFirstWaiting() != null;
+  }
+
+  private boolean hasCapacity(String nodeKey) {
+    return hasGlobalCapacity() && hasNodeCapacity(nodeKey);
+  }
+
+  private boolean hasGlobalCapacity() {
+    int limit = Optional.ofNullable(TuningParameters.getInstance())
+          .map(parameters -> parameters.getPodTuning().introspectorJobConcurrencyLimit)
+          .orElse(DEFAULT_CONCURRENCY_LIMIT);
+    return limit <= 0 || leases.size() < limit;
+  }
+
+  private boolean hasNodeCapacity(String nodeKey) {
+    int limit = Optional.ofNullable(TuningParameters.getInstance())
+          .map(parameters -> parameters.getPodTuning().introspectorJobNodeConcurrencyLimit)
+          .orElse(DEFAULT_NODE_CONCURRENCY_LIMIT);
+    return nodeKey == null || limit <= 0
+          || leases.values().stream().filter(l -> nodeKey.equals(l.nodeKey)).count() < limit;
+  }
+
+  synchronized int getRunningCount() {
+    return leases.size();
+  }
+
+  synchronized int getWaitingCount() {
+    return queues.values().stream()
+          .flatMap(namespaceQueues -> namespaceQueues.values().stream())
+          .mapToInt(Deque::size)
+          .sum();
+  }
+
+  synchronized Map<String, Object> toMap() {
+    Map<String, Object> result = new LinkedHashMap<>();
+    result.put("running", leases.size());
+    result.put("waiting", getWaitingCount());
+    for (Priority priority : Priority.values()) {
+      result.put("waiting." + priority, queues.get(priority).values().stream().mapToInt(Deque::size).sum());
+    }
+    result.put("reclaimedPermits", reclaimed.sum());
+    result.put("waitTime", waitTime.toMap());
+    return result;
+  }
+
+  private static class Request {
+    private final Priority priority;
+    private final String namespace;
+    private final String domainKey;
+    private final String nodeKey;
+    private final long leaseSeconds;
+    private final long createdMillis = SystemClock.now().getMillis();
+    private AsyncFiber fiber;
+    private Packet packet;
+
+    Request(Priority priority, DomainPresenceInfo info, String nodeKey, long activeDeadlineSeconds) {
+      this.priority = priority;
+      this.namespace = info.getNamespace();
+      this.domainKey = getDomainKey(info);
+      this.nodeKey = nodeKey;
+      this.leaseSeconds = activeDeadlineSeconds + LEASE_GRACE_SECONDS;
+    }
+  }
+
+  private static class Lease {
+    private final String nodeKey;
+    private final long expiresAtMillis;
+
+    Lease(String nodeKey, long expiresAtMillis) {
+      this.nodeKey = nodeKey;
+      this.expiresAtMillis = expiresAtMillis;
+    }
+  }
+
+  private static class AcquireStep extends Step {
+    private final Priority priority;
+    private final String nodeKey;
+    private final long activeDeadlineSeconds;
+
+    AcquireStep(Priority priority, String nodeKey, long activeDeadlineSeconds, Step next) {
+      super(next);
+      this.priority = priority;
+      this.nodeKey = nodeKey;
+      this.activeDeadlineSeconds = activeDeadlineSeconds;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+      Request request = new Request(priority, info, nodeKey, activeDeadlineSeconds);
+      if (getInstance().tryGrant(request)) {
+        return doNext(packet);
+      }
+      return doSuspend(fiber -> getInstance().enqueue(request, fiber, packet));
+    }
+  }
+
+  private static class ReleaseStep extends Step {
+
+    ReleaseStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      IntrospectionScheduler scheduler = getInstance();
+      scheduler.release(getDomainKey(packet.getSpi(DomainPresenceInfo.class)));
+      scheduler.dispatch();
+      return doNext(packet);
+    }
+  }
+}
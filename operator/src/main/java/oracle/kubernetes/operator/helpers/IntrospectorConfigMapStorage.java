@@ -0,0 +1,324 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static oracle.kubernetes.operator.IntrospectorConfigMapKeys.CHUNK_MANIFEST;
+import static oracle.kubernetes.operator.IntrospectorConfigMapKeys.TOPOLOGY_YAML;
+
+/**
+ * The layout of the introspector results in the generated domain config map, and in any chunk config maps
+ * which hold the parts of it that do not fit. Most results are stored unchanged. A large result which is
+ * known to be read through {@link #readFile(Map, String)} or the getIntrospectorFile shell function is
+ * compressed with gzip, base64 encoded, and split into parts named '[file].gz.NNN'. Parts are added to the
+ * domain config map while it has room, and then to chunk config maps named '[domain config map]-N'.
+ *
+ * <p>When any result is packed, the domain config map holds a manifest, which lists each packed file with
+ * its number of parts, and each chunk config map with a hash of its contents. The hash is also recorded as
+ * a label of the chunk map, so that a chunk map whose contents have not changed need not be rewritten.
+ *
+ * <p>Pods mount the domain config map together with every possible chunk map name, up to
+ * {@link #MAX_CHUNK_MAPS}, each marked optional, so that their volumes do not depend on the number of
+ * chunk maps actually written. Results which need more chunk maps than that cannot be stored.
+ */
+class IntrospectorConfigMapStorage {
+
+  static final String PART_INFIX = ".gz.";
+  static final int COMPRESSION_THRESHOLD = 64 * 1024;
+  static final int PART_SIZE = 256 * 1024;
+  static final int MAP_CAPACITY = 768 * 1024;
+  static final int MAX_CHUNK_MAPS = 8;
+
+  /** The results which may be packed, in the order in which their parts are placed. */
+  static final List<String> PACKABLE_FILES = Arrays.asList(
+        TOPOLOGY_YAML, "domainzip.secure", "primordial_domainzip.secure", "merged_model.json");
+
+  private static final String FILE_ENTRY = "file";
+  private static final String MAP_ENTRY = "map";
+  private static final int HASH_LENGTH = 32;
+
+  private final String mapName;
+  private final Map<String, String> mainData = new HashMap<>();
+  private final Map<String, Integer> packedFiles = new LinkedHashMap<>();
+  private final List<ChunkMap> chunkMaps = new ArrayList<>();
+  private int mainSize;
+
+  /**
+   * Lays out the specified introspector results.
+   * @param mapName the name of the domain config map
+   * @param data the introspector results, by file name
+   */
+  IntrospectorConfigMapStorage(String mapName, Map<String, String> data) {
+    this.mapName = mapName;
+
+    Map<String, String> toPack = new LinkedHashMap<>();
+    for (String fileName : PACKABLE_FILES) {
+      Optional.ofNullable(data.get(fileName))
+            .filter(value -> value.length() >= COMPRESSION_THRESHOLD)
+            .ifPresent(value -> toPack.put(fileName, value));
+    }
+
+    data.forEach((key, value) -> {
+      if (!toPack.containsKey(key)) {
+        addToMainMap(key, value);
+      }
+    });
+    toPack.forEach(this::pack);
+
+    if (!packedFiles.isEmpty()) {
+      mainData.put(CHUNK_MANIFEST, createManifest());
+    }
+  }
+
+  private void addToMainMap(String key, String value) {
+    mainData.put(key, value);
+    mainSize += key.length() + value.length();
+  }
+
+  private void pack(String fileName, String value) {
+    String encoded = compress(value);
+    int numParts = 0;
+    for (int start = 0; start < encoded.length(); start += PART_SIZE) {
+      String part = encoded.substring(start, Math.min(encoded.length(), start + PART_SIZE));
+      addPart(fileName, getPartKey(fileName, numParts++), part);
+    }
+    packedFiles.put(fileName, numParts);
+  }
+
+  private static String getPartKey(String fileName, int index) {
+    return String.format("%s%s%03d", fileName, PART_INFIX, index);
+  }
+
+  // The topology is read by the operator from the domain config map alone, so it is never moved to a chunk map.
+  private void addPart(String fileName, String key, String part) {
+    if (chunkMaps.isEmpty() && (fileName.equals(TOPOLOGY_YAML) || fits(mainSize, key, part))) {
+      addToMainMap(key, part);
+    } else {
+      getChunkMapWithRoom(key, part).add(key, part);
+    }
+  }
+
+  private boolean fits(int size, String key, String part) {
+    return size + key.length() + part.length() <= MAP_CAPACITY;
+  }
+
+  private ChunkMap getChunkMapWithRoom(String key, String part) {
+    if (chunkMaps.isEmpty() || !fits(getLastChunkMap().size, key, part)) {
+      chunkMaps.add(new ChunkMap(getChunkMapName(mapName, chunkMaps.size() + 1)));
+    }
+    return getLastChunkMap();
+  }
+
+  private ChunkMap getLastChunkMap() {
+    return chunkMaps.get(chunkMaps.size() - 1);
+  }
+
+  static String getChunkMapName(String mapName, int index) {
+    return mapName + "-" + index;
+  }
+
+  /**
+   * Returns the names of all the chunk config maps which may be used with the specified domain config map.
+   * @param mapName the name of the domain config map
+   * @return a list of {@link #MAX_CHUNK_MAPS} config map names
+   */
+  static List<String> getPossibleChunkMapNames(String mapName) {
+    List<String> names = new ArrayList<>();
+    for (int i = 1; i <= MAX_CHUNK_MAPS; i++) {
+      names.add(getChunkMapName(mapName, i));
+    }
+    return names;
+  }
+
+  private String createManifest() {
+    StringBuilder sb = new StringBuilder();
+    packedFiles.forEach((fileName, numParts) ->
+          sb.append(FILE_ENTRY).append(' ').append(fileName).append(' ').append(numParts).append('\n'));
+    chunkMaps.forEach(chunkMap ->
+          sb.append(MAP_ENTRY).append(' ').append(chunkMap.getName()).append(' ').append(chunkMap.getHash())
+                .append('\n'));
+    return sb.toString();
+  }
+
+  /**
+   * Returns the entries for the domain config map.
+   * @return a map of keys to values
+   */
+  Map<String, String> getMainData() {
+    return mainData;
+  }
+
+  /**
+   * Returns the chunk config maps needed to hold the parts which did not fit in the domain config map.
+   * @return a possibly empty list of chunk maps
+   */
+  List<ChunkMap> getChunkMaps() {
+    return Collections.unmodifiableList(chunkMaps);
+  }
+
+  /**
+   * Returns true if the results need more chunk maps than pods can mount.
+   * @return true if the results cannot be stored
+   */
+  boolean isTooLarge() {
+    return chunkMaps.size() > MAX_CHUNK_MAPS;
+  }
+
+  /**
+   * Returns true if the specified domain config map key is not used by this layout, but might have been
+   * used by a different one, and so should not be preserved from an earlier version of the map.
+   * @param key a key in the domain config map
+   * @return true if the key should be removed from the existing map
+   */
+  boolean isObsoleteKey(String key) {
+    return !mainData.containsKey(key) && (isPackingKey(key) || packedFiles.containsKey(key));
+  }
+
+  private static boolean isPackingKey(String key) {
+    return key.equals(CHUNK_MANIFEST) || PACKABLE_FILES.stream().anyMatch(f -> key.startsWith(f + PART_INFIX));
+  }
+
+  /**
+   * Returns the names of the chunk config maps listed in a manifest.
+   * @param manifest the value of the manifest entry of a domain config map; may be null
+   * @return a possibly empty list of config map names
+   */
+  static List<String> getChunkMapNames(String manifest) {
+    return new ArrayList<>(getManifestEntries(manifest, MAP_ENTRY).keySet());
+  }
+
+  private static Map<String, String> getManifestEntries(String manifest, String type) {
+    Map<String, String> entries = new LinkedHashMap<>();
+    if (manifest != null) {
+      for (String line : manifest.split("\n")) {
+        String[] fields = line.trim().split(" ");
+        if (fields.length == 3 && fields[0].equals(type)) {
+          entries.put(fields[1], fields[2]);
+        }
+      }
+    }
+    return entries;
+  }
+
+  /**
+   * Returns the contents of a file from the entries of a domain config map, reassembling it if it was packed.
+   * @param data the entries of the domain config map
+   * @param fileName the name of the file to read
+   * @return the contents of the file, or null if the file, or any of its parts, is not present
+   */
+  static String readFile(Map<String, String> data, String fileName) {
+    if (data.containsKey(fileName)) {
+      return data.get(fileName);
+    }
+
+    int numParts = Optional.ofNullable(getManifestEntries(data.get(CHUNK_MANIFEST), FILE_ENTRY).get(fileName))
+          .map(Integer::parseInt)
+          .orElse(0);
+    StringBuilder encoded = new StringBuilder();
+    for (int i = 0; i < numParts; i++) {
+      String part = data.get(getPartKey(fileName, i));
+      if (part == null) {
+        return null;
+      }
+      encoded.append(part);
+    }
+    return numParts == 0 ? null : decompress(encoded.toString());
+  }
+
+  private static String compress(String value) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(value.length() / 4);
+    try (OutputStream out = new GZIPOutputStream(bytes)) {
+      out.write(value.getBytes(StandardCharsets.UTF_8));
+    } catch (IOException e) {
+      throw new IllegalStateException(e);   // not thrown by in-memory streams
+    }
+    return Base64.getEncoder().encodeToString(bytes.toByteArray());
+  }
+
+  private static String decompress(String encoded) {
+    try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(encoded)))) {
+      return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    } catch (IOException | IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  private static String hash(Map<String, String> data) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      new TreeMap<>(data).forEach((key, value) -> {
+        digest.update(key.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+      });
+      StringBuilder sb = new StringBuilder();
+      for (byte b : digest.digest()) {
+        sb.append(String.format("%02x", b));
+      }
+      return sb.substring(0, HASH_LENGTH);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);   // every JVM supports SHA-256
+    }
+  }
+
+  /**
+   * A config map which holds parts of packed files which did not fit in the domain config map.
+   */
+  static class ChunkMap {
+    private final String name;
+    private final Map<String, String> data = new HashMap<>();
+    private int size;
+    private String hash;
+
+    ChunkMap(String name) {
+      this.name = name;
+    }
+
+    private void add(String key, String part) {
+      data.put(key, part);
+      size += key.length() + part.length();
+      hash = null;
+    }
+
+    String getName() {
+      return name;
+    }
+
+    Map<String, String> getData() {
+      return data;
+    }
+
+    /**
+     * Returns a hash of the contents of this map, short enough to be used as a label value.
+     * @return a string of hexadecimal digits
+     */
+    String getHash() {
+      if (hash == null) {
+        hash = IntrospectorConfigMapStorage.hash(data);
+      }
+      return hash;
+    }
+  }
+}
@@ -0,0 +1,148 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * An incremental parser for the log of the domain introspector job. The log is read in fixed-size chunks,
+ * and each file which the introspector printed between a '>>> /path/name' line and a '>>> EOF' line is
+ * stored in the data map under its simple name. Only the file currently being read is held by the parser,
+ * in a single reused buffer, so that a large log is never copied line by line. A caller which also needs the
+ * individual lines of the log may supply a listener, so that the log need be read only once.
+ */
+class IntrospectorResultParser {
+  private static final String UPDATE_DOMAIN_RESULT = "UPDATEDOMAINRESULT";
+
+  private static final String UPDATE_DOMAIN_RESULT_TOKEN = ">>>  updatedomainResult=";
+  private static final String MARKER_PREFIX = ">>>";
+  private static final String END_OF_FILE = "EOF";
+  private static final String LINE_SEPARATOR = System.lineSeparator();
+  private static final int CHUNK_SIZE = 8192;
+
+  private final Map<String, String> data;
+  private final Consumer<String> lineListener;
+  private final StringBuilder buffer = new StringBuilder();
+  private int lineStart;
+  private String fileName;
+  private boolean afterCarriageReturn;
+
+  /**
+   * Creates a parser.
+   * @param data the map to which the files found in the log are added
+   */
+  IntrospectorResultParser(Map<String, String> data) {
+    this(data, null);
+  }
+
+  /**
+   * Creates a parser which also passes each line of the log, without its line ending, to a listener.
+   * @param data the map to which the files found in the log are added
+   * @param lineListener a consumer for the lines of the log, or null
+   */
+  IntrospectorResultParser(Map<String, String> data, Consumer<String> lineListener) {
+    this.data = data;
+    this.lineListener = lineListener;
+  }
+
+  /**
+   * Reads the introspector log to its end, adding each complete file to the data map.
+   * A file whose end marker is missing is ignored.
+   * @param reader a source of the log
+   * @throws IOException if the log cannot be read
+   */
+  void parse(Reader reader) throws IOException {
+    char[] chunk = new char[CHUNK_SIZE];
+    int count;
+    while ((count = reader.read(chunk)) != -1) {
+      accept(chunk, count);
+    }
+    if (buffer.length() > lineStart) {
+      endLine();
+    }
+  }
+
+  // Lines may end with '\n', '\r' or "\r\n", as recognized by BufferedReader.readLine()
+  private void accept(char[] chunk, int count) {
+    int start = 0;
+    for (int i = 0; i < count; i++) {
+      char c = chunk[i];
+      if (c == '\n' && afterCarriageReturn) {
+        start = i + 1;
+      } else if (c == '\n' || c == '\r') {
+        buffer.append(chunk, start, i - start);
+        endLine();
+        start = i + 1;
+      }
+      afterCarriageReturn = c == '\r';
+    }
+    buffer.append(chunk, start, count - start);
+  }
+
+  private void endLine() {
+    if (lineListener != null) {
+      lineListener.accept(buffer.substring(lineStart));
+    }
+    if (fileName == null) {
+      processLogLine();
+      buffer.setLength(0);
+    } else if (isEndOfFileLine()) {
+      buffer.setLength(lineStart);
+      data.put(fileName, getTrimmedContents());
+      fileName = null;
+      buffer.setLength(0);
+    } else {
+      buffer.append(LINE_SEPARATOR);
+    }
+    lineStart = buffer.length();
+  }
+
+  private void processLogLine() {
+    int index = buffer.indexOf(UPDATE_DOMAIN_RESULT_TOKEN);
+    if (index >= 0) {
+      data.put(UPDATE_DOMAIN_RESULT, buffer.substring(index + UPDATE_DOMAIN_RESULT_TOKEN.length()));
+    }
+    if (isMarkerLine() && !endsWith(END_OF_FILE)) {
+      fileName = buffer.substring(buffer.lastIndexOf("/") + 1);
+    }
+  }
+
+  private boolean isEndOfFileLine() {
+    return isMarkerLine() && endsWith(END_OF_FILE);
+  }
+
+  private boolean isMarkerLine() {
+    return buffer.length() - lineStart >= MARKER_PREFIX.length() && matchesAt(lineStart, MARKER_PREFIX);
+  }
+
+  private boolean endsWith(String text) {
+    int start = buffer.length() - text.length();
+    return start >= lineStart && matchesAt(start, text);
+  }
+
+  private boolean matchesAt(int position, String text) {
+    for (int i = 0; i < text.length(); i++) {
+      if (buffer.charAt(position + i) != text.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // Equivalent to buffer.toString().trim(), without the intermediate copy
+  private String getTrimmedContents() {
+    int start = 0;
+    int end = buffer.length();
+    while (start < end && buffer.charAt(start) <= ' ') {
+      start++;
+    }
+    while (end > start && buffer.charAt(end - 1) <= ' ') {
+      end--;
+    }
+    return buffer.substring(start, end);
+  }
+}
@@ -3,9 +3,13 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import io.kubernetes.client.openapi.models.V1DeleteOptions;
@@ -16,6 +20,7 @@ import io.kubernetes.client.openapi.models.V1JobStatus;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.openapi.models.V1PodSpec;
 import io.kubernetes.client.openapi.models.V1Volume;
 import io.kubernetes.client.openapi.models.V1VolumeMount;
 import oracle.kubernetes.operator.DomainStatusUpdater;
@@ -26,6 +31,7 @@ import oracle.kubernetes.operator.MakeRightDomainOperation;
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.calls.CallResponse;
+import oracle.kubernetes.operator.helpers.IntrospectionScheduler.Priority;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
@@ -42,12 +48,14 @@ import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.DomainSpec;
 import oracle.kubernetes.weblogic.domain.model.DomainStatus;
 import oracle.kubernetes.weblogic.domain.model.IntrospectorJobEnvVars;
+import oracle.kubernetes.weblogic.domain.model.KubernetesResourceLookup;
 import oracle.kubernetes.weblogic.domain.model.ManagedServer;
 import oracle.kubernetes.weblogic.domain.model.ServerEnvVars;
 
 import static oracle.kubernetes.operator.DomainSourceType.FromModel;
 import static oracle.kubernetes.operator.DomainStatusUpdater.INSPECTING_DOMAIN_PROGRESS_REASON;
 import static oracle.kubernetes.operator.DomainStatusUpdater.createProgressingStep;
+import static oracle.kubernetes.operator.ProcessingConstants.PENDING_INTROSPECTION_FINGERPRINT;
 import static oracle.kubernetes.operator.logging.MessageKeys.INTROSPECTOR_JOB_FAILED;
 import static oracle.kubernetes.operator.logging.MessageKeys.INTROSPECTOR_JOB_FAILED_DETAIL;
 
@@ -72,6 +80,11 @@ public class JobHelper {
    *  ProcessingConstants.DOMAIN_RESTART_VERSION - the restart version from the domain
    *  ProcessingConstants.DOMAIN_INPUTS_HASH
    *  ProcessingConstants.DOMAIN_INTROSPECT_VERSION - the introspect version from the old domain spec
+   *  IntrospectorConfigMapKeys.INTROSPECTION_FINGERPRINT - the fingerprint of the last introspection's inputs
+   *
+   * <p>When a domain is being brought up with no servers running, the introspector job is skipped if the
+   * fingerprint of the current introspection inputs matches that of the results already in the introspector
+   * config map.
    *
    * @param next Next processing step
    * @return Step for creating job
@@ -81,17 +94,49 @@ public class JobHelper {
     return new DomainIntrospectorJobStep(next);
   }
 
-  private static boolean runIntrospector(Packet packet, DomainPresenceInfo info) {
+  /**
+   * Discards any waiting request for an introspection permit, and any permit held, for the specified domain.
+   *
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of a domain which is being deleted
+   */
+  public static void removeIntrospectionRequests(String namespace, String domainUid) {
+    IntrospectionScheduler.removeDomain(namespace, domainUid);
+  }
+
+  /**
+   * Discards all waiting requests for introspection permits, and all permits held, for domains in the
+   * specified namespace.
+   *
+   * @param namespace a namespace which is no longer managed
+   */
+  public static void removeIntrospectionRequests(String namespace) {
+    IntrospectionScheduler.removeNamespace(namespace);
+  }
+
+  private static boolean runIntrospector(Packet packet, DomainPresenceInfo info, String fingerprint) {
     WlsDomainConfig topology = (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
     LOGGER.fine("runIntrospector topology: " + topology);
     LOGGER.fine("runningServersCount: " + runningServersCount(info));
     LOGGER.fine("creatingServers: " + creatingServers(info));
     return topology == null
-          || isBringingUpNewDomain(info)
+          || (isBringingUpNewDomain(info) && !isIntrospectionCurrent(packet, fingerprint))
           || introspectionRequested(packet)
           || isModelInImageUpdate(packet, info);
   }
 
+  private static String getIntrospectionFingerprint(Packet packet, DomainPresenceInfo info) {
+    return IntrospectionFingerprint.compute(info.getDomain(), packet.getSpi(KubernetesResourceLookup.class));
+  }
+
+  // The results in the introspector config map are current if they were produced from the same inputs.
+  private static boolean isIntrospectionCurrent(Packet packet, String fingerprint) {
+    boolean current = fingerprint != null
+          && fingerprint.equals(packet.get(IntrospectorConfigMapKeys.INTROSPECTION_FINGERPRINT));
+    LOGGER.fine("introspectionCurrent: " + current);
+    return current;
+  }
+
   private static boolean isBringingUpNewDomain(DomainPresenceInfo info) {
     return runningServersCount(info) == 0 && creatingServers(info);
   }
@@ -195,7 +240,8 @@ public class JobHelper {
    */
   private static Step readDomainIntrospectorPodLogStep(Step next) {
     return createWatchDomainIntrospectorJobReadyStep(
-          readDomainIntrospectorPodStep(readDomainIntrospectorPodLog(next)));
+          IntrospectionScheduler.createReleaseStep(
+                readDomainIntrospectorPodStep(readDomainIntrospectorPodLog(next))));
   }
 
   /**
@@ -330,6 +376,20 @@ public class JobHelper {
     }
   }
 
+  // Domains which are being brought up are introspected before changes to running domains.
+  private static Step createAcquireIntrospectionPermitStep(Packet packet, DomainPresenceInfo info, V1Job jobModel) {
+    V1PodSpec podSpec = jobModel.getSpec().getTemplate().getSpec();
+    return IntrospectionScheduler.createAcquireStep(
+          isNewDomain(packet, info) ? Priority.NEW_DOMAIN : Priority.UPDATE,
+          IntrospectionScheduler.getNodeKey(podSpec.getNodeName(), podSpec.getNodeSelector()),
+          Optional.ofNullable(jobModel.getSpec().getActiveDeadlineSeconds()).orElse(0L),
+          null);
+  }
+
+  private static boolean isNewDomain(Packet packet, DomainPresenceInfo info) {
+    return packet.get(ProcessingConstants.DOMAIN_TOPOLOGY) == null || isBringingUpNewDomain(info);
+  }
+
   static class DomainIntrospectorJobStep extends Step {
 
     DomainIntrospectorJobStep(Step next) {
@@ -339,16 +399,23 @@ public class JobHelper {
     @Override
     public NextAction apply(Packet packet) {
       DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
-      if (runIntrospector(packet, info)) {
+      String fingerprint = getIntrospectionFingerprint(packet, info);
+      if (runIntrospector(packet, info, fingerprint)) {
         JobStepContext context = new DomainIntrospectorJobStepContext(packet);
+        V1Job jobModel = context.getJobModel();
+
+        Optional.ofNullable(fingerprint)
+              .ifPresentOrElse(f -> packet.put(PENDING_INTROSPECTION_FINGERPRINT, f),
+                  () -> packet.remove(PENDING_INTROSPECTION_FINGERPRINT));
 
         packet.putIfAbsent(START_TIME, System.currentTimeMillis());
 
         return doNext(
             Step.chain(
                 DomainValidationSteps.createAdditionalDomainValidationSteps(
-                    context.getJobModel().getSpec().getTemplate().getSpec()),
+                    jobModel.getSpec().getTemplate().getSpec()),
                 createProgressingStep(info, INSPECTING_DOMAIN_PROGRESS_REASON, true, null),
+                createAcquireIntrospectionPermitStep(packet, info, jobModel),
                 context.createNewJob(null),
                 readDomainIntrospectorPodLogStep(null),
                 deleteDomainIntrospectorJobStep(null),
@@ -429,30 +496,30 @@ public class JobHelper {
 
     private Step readDomainIntrospectorPodLog(String jobPodName, String namespace, String domainUid, Step next) {
       return new CallBuilder()
-            .readPodLogAsync(
+            .readPodLogStreamAsync(
                   jobPodName, namespace, domainUid, new ReadDomainIntrospectorPodLogResponseStep(next));
     }
   }
 
-  private static class ReadDomainIntrospectorPodLogResponseStep extends ResponseStep<String> {
+  private static class ReadDomainIntrospectorPodLogResponseStep extends ResponseStep<Reader> {
     private StringBuilder logMessage = new StringBuilder();
     private final List<String> severeStatuses = new ArrayList<>();
+    private int numPendingEmptyLines;
+    private StringBuilder fineLog;
 
     ReadDomainIntrospectorPodLogResponseStep(Step nextStep) {
       super(nextStep);
     }
 
     @Override
-    public NextAction onSuccess(Packet packet, CallResponse<String> callResponse) {
-      String result = callResponse.getResult();
-      LOGGER.fine("+++++ ReadDomainIntrospectorPodLogResponseStep: \n" + result);
+    public NextAction onSuccess(Packet packet, CallResponse<Reader> callResponse) {
+      Reader result = callResponse.getResult();
 
       if (result != null) {
-        convertJobLogsToOperatorLogs(result);
+        packet.put(ProcessingConstants.DOMAIN_INTROSPECTOR_DATA, readJobLog(packet, result));
         if (!severeStatuses.isEmpty()) {
           updateStatus(packet.getSpi(DomainPresenceInfo.class));
         }
-        packet.put(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT, result);
         MakeRightDomainOperation.recordInspection(packet);
       }
 
@@ -489,21 +556,57 @@ public class JobHelper {
       return !JobWatcher.isComplete(domainIntrospectorJob);
     }
 
+    // Reads the job log once, as it streams from the pod, both parsing out the introspection results
+    // and converting its log messages to operator log messages. The log is never held in memory as a whole.
+    private Map<String, String> readJobLog(Packet packet, Reader jobLog) {
+      Map<String, String> data = new HashMap<>();
+      fineLog = LOGGER.isFineEnabled() ? new StringBuilder() : null;
+
+      try (Reader reader = jobLog) {
+        new IntrospectorResultParser(data, this::acceptJobLogLine).parse(reader);
+      } catch (IOException exc) {
+        LOGGER.warning(MessageKeys.CANNOT_PARSE_INTROSPECTOR_RESULT, getDomainUid(packet), exc);
+      }
+      logToOperator();
+
+      if (fineLog != null) {
+        LOGGER.fine("+++++ ReadDomainIntrospectorPodLogResponseStep: \n" + fineLog);
+      }
+      return data;
+    }
+
+    private String getDomainUid(Packet packet) {
+      return packet.getSpi(DomainPresenceInfo.class).getDomainUid();
+    }
+
+    // trailing empty lines are ignored, so an empty line is only converted once a later line is seen
+    private void acceptJobLogLine(String line) {
+      if (fineLog != null) {
+        fineLog.append(line).append('\n');
+      }
+
+      if (line.isEmpty()) {
+        numPendingEmptyLines++;
+      } else {
+        for (; numPendingEmptyLines > 0; numPendingEmptyLines--) {
+          convertJobLogLine("");
+        }
+        convertJobLogLine(line);
+      }
+    }
+
     // Parse log messages out of a Job Log
     //  - assumes each job log message starts with '@['
     //  - assumes any lines that don't start with '@[' are part
     //    of the previous log message
     //  - ignores all lines in the log up to the first line that starts with '@['
-    private void convertJobLogsToOperatorLogs(String jobLogs) {
-      for (String line : jobLogs.split(EOL_PATTERN)) {
-        if (line.startsWith("@[")) {
-          logToOperator();
-          logMessage = new StringBuilder(INTROSPECTOR_LOG_PREFIX).append(line.trim());
-        } else if (logMessage.length() > 0) {
-          logMessage.append(System.lineSeparator()).append(line.trim());
-        }
+    private void convertJobLogLine(String line) {
+      if (line.startsWith("@[")) {
+        logToOperator();
+        logMessage = new StringBuilder(INTROSPECTOR_LOG_PREFIX).append(line.trim());
+      } else if (logMessage.length() > 0) {
+        logMessage.append(System.lineSeparator()).append(line.trim());
       }
-      logToOperator();
     }
 
     private void logToOperator() {
@@ -275,10 +275,7 @@ public abstract class JobStepContext extends BasePodStepContext {
             .addVolumesItem(new V1Volume().name(SECRETS_VOLUME).secret(getSecretsVolume()))
             .addVolumesItem(
                 new V1Volume().name(SCRIPTS_VOLUME).configMap(getConfigMapVolumeSource()))
-            .addVolumesItem(
-                new V1Volume()
-                    .name("mii" + KubernetesConstants.INTROSPECTOR_CONFIG_MAP_NAME_SUFFIX)
-                    .configMap(getIntrospectMD5VolumeSource()));
+            .addVolumesItem(createIntrospectMD5Volume());
     if (getOpssWalletPasswordSecretVolume() != null) {
       podSpec.addVolumesItem(new V1Volume().name(OPSS_KEYPASSPHRASE_VOLUME).secret(
           getOpssWalletPasswordSecretVolume()));
@@ -443,13 +440,11 @@ public abstract class JobStepContext extends BasePodStepContext {
           .defaultMode(ALL_READ_AND_EXECUTE);
   }
 
-  protected V1ConfigMapVolumeSource getIntrospectMD5VolumeSource() {
-    V1ConfigMapVolumeSource result =
-        new V1ConfigMapVolumeSource()
-            .name(getDomainUid() + KubernetesConstants.INTROSPECTOR_CONFIG_MAP_NAME_SUFFIX)
-            .defaultMode(ALL_READ_AND_EXECUTE);
-    result.setOptional(true);
-    return result;
+  // The results of the previous introspection, including any chunk maps holding the parts which did not fit
+  private V1Volume createIntrospectMD5Volume() {
+    return new V1Volume()
+          .name("mii" + KubernetesConstants.INTROSPECTOR_CONFIG_MAP_NAME_SUFFIX)
+          .projected(PodDefaults.createIntrospectorVolumeSource(getDomainUid(), true));
   }
 
   private V1SecretVolumeSource getOverrideSecretVolumeSource(String name) {
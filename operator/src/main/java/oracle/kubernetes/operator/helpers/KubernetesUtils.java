@@ -12,8 +12,10 @@ import javax.json.JsonPatchBuilder;
 
 import io.kubernetes.client.common.KubernetesListObject;
 import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.models.V1ListMeta;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import okhttp3.Call;
 import oracle.kubernetes.operator.LabelConstants;
 import org.apache.commons.collections.MapUtils;
 import org.joda.time.DateTime;
@@ -24,6 +26,32 @@ import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
 
 public class KubernetesUtils {
 
+  /**
+   * The value returned by {@link #parseResourceVersion(String)} for a version which is not a decimal long.
+   */
+  public static final long UNPARSABLE_RESOURCE_VERSION = -1;
+
+  private static final String METADATA_ONLY_LIST_ACCEPT
+        = "application/json;as=PartialObjectMetadataList;g=meta.k8s.io;v=v1,application/json";
+  private static final String METADATA_ONLY_WATCH_ACCEPT
+        = "application/json;as=PartialObjectMetadata;g=meta.k8s.io;v=v1,application/json";
+
+  /**
+   * Returns a copy of the specified list or watch call which asks the API server to return only the metadata of
+   * each object. The objects are then parsed with no contents other than their metadata. An API server which
+   * cannot return metadata alone returns the full objects instead.
+   *
+   * @param client the client which created the call
+   * @param call a call to list or watch objects
+   * @param isWatch true if the call is a watch
+   * @return the new call
+   */
+  public static Call withMetadataOnly(ApiClient client, Call call, boolean isWatch) {
+    return client.getHttpClient().newCall(call.request().newBuilder()
+          .header("Accept", isWatch ? METADATA_ONLY_WATCH_ACCEPT : METADATA_ONLY_LIST_ACCEPT)
+          .build());
+  }
+
   /**
    * Returns true if the two maps of values match. A null map is considered to match an empty map.
    *
@@ -134,7 +162,7 @@ public class KubernetesUtils {
     DateTime time2 = second.getCreationTimestamp();
 
     if (time1.equals(time2)) {
-      return getResourceVersion(first).compareTo(getResourceVersion(second)) > 0;
+      return compareResourceVersions(first, second) > 0;
     } else {
       return time1.isAfter(time2);
     }
@@ -189,6 +217,18 @@ public class KubernetesUtils {
           .orElse("");
   }
 
+  /**
+   * Returns the continue token associated with the specified list, if it is one page of a longer list.
+   * @param list the result of a Kubernetes list operation.
+   * @return the continue token, or null if this is the last page of the list
+   */
+  public static String getContinueToken(KubernetesListObject list) {
+    return Optional.ofNullable(list)
+          .map(KubernetesListObject::getMetadata)
+          .map(V1ListMeta::getContinue)
+          .orElse(null);
+  }
+
   /**
    * Returns the resource version associated with the specified resource.
    * @param resource a Kubernetes resource
@@ -201,6 +241,63 @@ public class KubernetesUtils {
           .orElse("");
   }
 
+  /**
+   * Parses a resource version into a primitive long, without allocating. Resource versions are parsed as
+   * described for {@link #getResourceVersion(String)}; this method is intended for frequent comparisons,
+   * such as those made for every watch event.
+   * @param resVersion resource version
+   * @return the value of the resource version, 0 if it is null or empty, or {@link #UNPARSABLE_RESOURCE_VERSION}
+   *     if it is not a decimal integer that fits in a long
+   */
+  public static long parseResourceVersion(String resVersion) {
+    if (isNullOrEmpty(resVersion)) {
+      return 0;
+    }
+
+    long result = 0;
+    for (int i = 0; i < resVersion.length(); i++) {
+      int digit = resVersion.charAt(i) - '0';
+      if (digit < 0 || digit > 9 || result > (Long.MAX_VALUE - digit) / 10) {
+        return UNPARSABLE_RESOURCE_VERSION;
+      }
+      result = result * 10 + digit;
+    }
+    return result;
+  }
+
+  /**
+   * Compares two resource versions numerically, as described for {@link #getResourceVersion(String)}.
+   * Versions which fit in a long are compared without allocation; others fall back to big integer comparison.
+   * @param first the first resource version
+   * @param second the second resource version
+   * @return a negative number, zero, or a positive number as the first version is less than, equal to,
+   *     or greater than the second
+   */
+  public static int compareResourceVersions(String first, String second) {
+    long firstValue = parseResourceVersion(first);
+    long secondValue = parseResourceVersion(second);
+    if (firstValue != UNPARSABLE_RESOURCE_VERSION && secondValue != UNPARSABLE_RESOURCE_VERSION) {
+      return Long.compare(firstValue, secondValue);
+    }
+    return getResourceVersion(first).compareTo(getResourceVersion(second));
+  }
+
+  /**
+   * Compares the resource versions of two metadata objects, as described for
+   * {@link #compareResourceVersions(String, String)}.
+   * @param first the first metadata
+   * @param second the second metadata
+   * @return a negative number, zero, or a positive number as the first version is less than, equal to,
+   *     or greater than the second
+   */
+  public static int compareResourceVersions(V1ObjectMeta first, V1ObjectMeta second) {
+    return compareResourceVersions(getResourceVersionString(first), getResourceVersionString(second));
+  }
+
+  private static String getResourceVersionString(V1ObjectMeta metadata) {
+    return metadata == null ? null : metadata.getResourceVersion();
+  }
+
   public static V1ObjectMeta withOperatorLabels(String uid, V1ObjectMeta meta) {
     return meta.putLabelsItem(LabelConstants.DOMAINUID_LABEL, uid)
           .putLabelsItem(CREATEDBYOPERATOR_LABEL, "true");
@@ -6,9 +6,12 @@ package oracle.kubernetes.operator.helpers;
 import java.util.ArrayList;
 import java.util.List;
 
+import io.kubernetes.client.openapi.models.V1ConfigMapProjection;
 import io.kubernetes.client.openapi.models.V1ConfigMapVolumeSource;
+import io.kubernetes.client.openapi.models.V1ProjectedVolumeSource;
 import io.kubernetes.client.openapi.models.V1Volume;
 import io.kubernetes.client.openapi.models.V1VolumeMount;
+import io.kubernetes.client.openapi.models.V1VolumeProjection;
 
 import static oracle.kubernetes.operator.KubernetesConstants.DOMAIN_DEBUG_CONFIG_MAP_SUFFIX;
 import static oracle.kubernetes.operator.KubernetesConstants.SCRIPT_CONFIG_MAP_NAME;
@@ -50,9 +53,46 @@ class PodDefaults {
   }
 
   private static V1Volume createSitConfigVolume(String domainUid) {
+    return new V1Volume()
+        .name(getSitConfigMapVolumeName(domainUid))
+        .projected(createIntrospectorVolumeSource(domainUid, false));
+  }
+
+  /**
+   * Creates the introspector volume as it was before the introspector results could be split across
+   * chunk config maps, so that pods created by earlier versions of the operator can be recognized.
+   * @param domainUid the unique ID of the domain
+   * @return the volume
+   */
+  static V1Volume createLegacySitConfigVolume(String domainUid) {
     return createVolume(getSitConfigMapVolumeName(domainUid), ConfigMapHelper.getIntrospectorConfigMapName(domainUid));
   }
 
+  /**
+   * Creates a volume source which presents the generated domain config map and the chunk maps holding
+   * the parts of its contents which did not fit, as a single directory. Every possible chunk map is listed,
+   * and marked optional, so that the volume is the same however many chunk maps the domain uses.
+   * @param domainUid the unique ID of the domain
+   * @param optional true if the pod may start without the domain config map
+   * @return the volume source
+   */
+  static V1ProjectedVolumeSource createIntrospectorVolumeSource(String domainUid, boolean optional) {
+    String mapName = ConfigMapHelper.getIntrospectorConfigMapName(domainUid);
+    V1ProjectedVolumeSource source = new V1ProjectedVolumeSource().defaultMode(ALL_READ_AND_EXECUTE);
+    source.addSourcesItem(createConfigMapProjection(mapName, optional));
+    IntrospectorConfigMapStorage.getPossibleChunkMapNames(mapName)
+          .forEach(name -> source.addSourcesItem(createConfigMapProjection(name, true)));
+    return source;
+  }
+
+  private static V1VolumeProjection createConfigMapProjection(String configMapName, boolean optional) {
+    V1ConfigMapProjection projection = new V1ConfigMapProjection().name(configMapName);
+    if (optional) {
+      projection.setOptional(true);
+    }
+    return new V1VolumeProjection().configMap(projection);
+  }
+
   private static String getSitConfigMapVolumeName(String domainUid) {
     return SIT_CONFIG_MAP_VOLUME;
   }
@@ -334,6 +334,13 @@ public class PodHelper {
       return vars;
     }
 
+    @Override
+    List<Object> getPodModelInputs() {
+      List<Object> inputs = super.getPodModelInputs();
+      Optional.ofNullable(inputs).ifPresent(i -> i.add(getInternalOperatorCertFile()));
+      return inputs;
+    }
+
     @Override
     protected Map<String, String> getPodLabels() {
       return getServerSpec().getPodLabels();
@@ -479,6 +486,13 @@ public class PodHelper {
       return new ArrayList<>(super.getContainerCommand());
     }
 
+    @Override
+    List<Object> getPodModelInputs() {
+      List<Object> inputs = super.getPodModelInputs();
+      Optional.ofNullable(inputs).ifPresent(i -> i.add(packet.get(ProcessingConstants.ENVVARS)));
+      return inputs;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     List<V1EnvVar> getConfiguredEnvVars(TuningParameters tuningParameters) {
@@ -40,6 +40,7 @@ import oracle.kubernetes.operator.KubernetesConstants;
 import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.PodAwaiterStepFactory;
 import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.ServerStatusReader;
 import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.WebLogicConstants;
 import oracle.kubernetes.operator.calls.CallResponse;
@@ -98,7 +99,38 @@ public abstract class PodStepContext extends BasePodStepContext {
   }
 
   void init() {
-    podModel = createPodModel();
+    podModel = Optional.ofNullable(getPodModelInputs())
+          .map(inputs -> info.getPodModel(getServerName(), inputs, this::createPodModel))
+          .orElseGet(this::createPodModel);
+  }
+
+  /**
+   * Returns the values from which the pod model is built, so that a model built from equal values may be
+   * reused. The domain spec is represented by its generation, which Kubernetes increments whenever the spec
+   * changes; if the domain has no generation, returns null, and the model is always rebuilt.
+   *
+   * @return a list of values, or null
+   */
+  List<Object> getPodModelInputs() {
+    V1ObjectMeta domainMetadata = getDomain().getMetadata();
+    if (domainMetadata == null || domainMetadata.getGeneration() == null) {
+      return null;
+    }
+
+    return new ArrayList<>(Arrays.asList(
+          domainMetadata.getUid(),
+          domainMetadata.getGeneration(),
+          getServerName(),
+          getClusterName(),
+          getDomainName(),
+          domainTopology.getServerConfig(getAsName()),
+          scan,
+          miiModelSecretsHash,
+          miiDomainZipHash,
+          domainRestartVersion,
+          TuningParameters.getInstance().getPodTuning(),
+          ServerStatusReader.getStateProbePort(),
+          mockWls()));
   }
 
   V1Pod getPodModel() {
@@ -366,7 +398,7 @@ public abstract class PodStepContext extends BasePodStepContext {
     KubernetesUtils.addPatches(
         patchBuilder, "/metadata/labels/", getLabels(currentPod), getNonHashedPodLabels());
     KubernetesUtils.addPatches(
-        patchBuilder, "/metadata/annotations/", getAnnotations(currentPod), getPodAnnotations());
+        patchBuilder, "/metadata/annotations/", getAnnotations(currentPod), getPatchedPodAnnotations());
 
     return new CallBuilder()
             .patchPodAsync(getPodName(), getNamespace(), getDomainUid(),
@@ -382,6 +414,13 @@ public abstract class PodStepContext extends BasePodStepContext {
     return result;
   }
 
+  // A pod whose hash matched in the legacy format is patched with the current hash
+  private Map<String, String> getPatchedPodAnnotations() {
+    Map<String,String> result = new HashMap<>(getPodAnnotations());
+    result.put(AnnotationHelper.SHA256_ANNOTATION, AnnotationHelper.getHash(getPodModel()));
+    return result;
+  }
+
   private Map<String, String> getLabels(V1Pod pod) {
     return Optional.ofNullable(pod.getMetadata()).map(V1ObjectMeta::getLabels).orElseGet(Collections::emptyMap);
   }
@@ -420,12 +459,12 @@ public abstract class PodStepContext extends BasePodStepContext {
 
   private boolean mustPatchPod(V1Pod currentPod) {
     return KubernetesUtils.isMissingValues(getLabels(currentPod), getNonHashedPodLabels())
-        || KubernetesUtils.isMissingValues(getAnnotations(currentPod), getPodAnnotations());
+        || KubernetesUtils.isMissingValues(getAnnotations(currentPod), getPatchedPodAnnotations());
   }
 
   private boolean canUseCurrentPod(V1Pod currentPod) {
-    boolean useCurrent =
-        AnnotationHelper.getHash(getPodModel()).equals(AnnotationHelper.getHash(currentPod));
+    boolean useCurrent = AnnotationHelper.hasMatchingHash(
+          AnnotationHelper.getHash(getPodModel()), AnnotationHelper.getHash(currentPod), this::createLegacyPodRecipe);
     if (!useCurrent && AnnotationHelper.getDebugString(currentPod).length() > 0) {
       LOGGER.fine(
           MessageKeys.POD_DUMP,
@@ -540,6 +579,19 @@ public abstract class PodStepContext extends BasePodStepContext {
     return new V1Pod().metadata(createMetadata()).spec(createSpec(TuningParameters.getInstance()));
   }
 
+  // Creates the recipe as earlier versions of the operator did, which mounted the introspector results
+  // from the domain config map alone.
+  private V1Pod createLegacyPodRecipe() {
+    V1Pod recipe = createPodRecipe();
+    Optional.ofNullable(recipe.getSpec()).map(V1PodSpec::getVolumes).ifPresent(this::useLegacySitConfigVolume);
+    return recipe;
+  }
+
+  private void useLegacySitConfigVolume(List<V1Volume> volumes) {
+    volumes.replaceAll(v -> SIT_CONFIG_MAP_VOLUME.equals(v.getName())
+          ? PodDefaults.createLegacySitConfigVolume(getDomainUid()) : v);
+  }
+
   protected V1ObjectMeta createMetadata() {
     final V1ObjectMeta metadata = new V1ObjectMeta().name(getPodName()).namespace(getNamespace());
 
@@ -683,6 +735,9 @@ public abstract class PodStepContext extends BasePodStepContext {
     addEnvVar(vars, ServerEnvVars.AS_SERVICE_NAME, LegalNames.toServerServiceName(getDomainUid(), getAsName()));
     Optional.ofNullable(getDataHome()).ifPresent(v -> addEnvVar(vars, ServerEnvVars.DATA_HOME, v));
     addEnvVarIfTrue(mockWls(), vars, "MOCK_WLS");
+    Optional.of(ServerStatusReader.getStateProbePort())
+          .filter(port -> port > 0)
+          .ifPresent(port -> addEnvVar(vars, ServerEnvVars.STATE_PROBE_PORT, port.toString()));
   }
 
   private String getDomainHome() {
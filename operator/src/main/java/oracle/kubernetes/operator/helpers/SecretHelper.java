@@ -3,8 +3,11 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import io.kubernetes.client.openapi.models.V1Secret;
 import oracle.kubernetes.operator.calls.CallResponse;
@@ -25,6 +28,10 @@ public class SecretHelper {
   public static final String ADMIN_SERVER_CREDENTIALS_PASSWORD = "password";
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
+  // The admin credentials read from each namespace, by secret name. The secret watcher for the namespace
+  // removes the entry for a secret which changes, so that the credentials are read again only after a change.
+  private static final Map<String, Map<String, Map<String, byte[]>>> cachedCredentials = new ConcurrentHashMap<>();
+
   /**
    * Constructor.
    *
@@ -47,6 +54,39 @@ public class SecretHelper {
     return new SecretDataStep(secretType, secretName, namespace, next);
   }
 
+  /**
+   * Removes any cached credentials for the specified secret, so that they will be read again when next needed.
+   * @param namespace the namespace containing the secret
+   * @param name the name of the secret
+   */
+  public static void removeCachedCredentials(String namespace, String name) {
+    Optional.ofNullable(cachedCredentials.get(namespace)).ifPresent(m -> m.remove(name));
+  }
+
+  /**
+   * Removes all cached credentials for the specified namespace.
+   * @param namespace a namespace which is no longer managed
+   */
+  public static void clearCachedCredentials(String namespace) {
+    cachedCredentials.remove(namespace);
+  }
+
+  private static Map<String, byte[]> getCachedCredentials(String namespace, String name) {
+    return Optional.ofNullable(cachedCredentials.get(namespace)).map(m -> m.get(name)).map(SecretHelper::copy)
+          .orElse(null);
+  }
+
+  private static void cacheCredentials(String namespace, String name, Map<String, byte[]> secretData) {
+    cachedCredentials.computeIfAbsent(namespace, n -> new ConcurrentHashMap<>()).put(name, copy(secretData));
+  }
+
+  // Returns a copy of the secret data, since its consumers erase the credentials after use.
+  private static Map<String, byte[]> copy(Map<String, byte[]> secretData) {
+    Map<String, byte[]> copy = new HashMap<>();
+    secretData.forEach((k, v) -> copy.put(k, Arrays.copyOf(v, v.length)));
+    return copy;
+  }
+
   private static Map<String, byte[]> harvestAdminSecretData(
       V1Secret secret, LoggingFilter loggingFilter) {
     Map<String, byte[]> secretData = new HashMap<>();
@@ -89,6 +129,12 @@ public class SecretHelper {
         throw new IllegalArgumentException("Invalid secret name");
       }
 
+      Map<String, byte[]> secretData = getCachedCredentials(namespace, secretName);
+      if (secretData != null) {
+        packet.put(SECRET_DATA_KEY, secretData);
+        return doNext(packet);
+      }
+
       LOGGER.fine(MessageKeys.RETRIEVING_SECRET, secretName);
       Step read =
           new CallBuilder()
@@ -116,8 +162,9 @@ public class SecretHelper {
 
       @Override
       public NextAction onSuccess(Packet packet, CallResponse<V1Secret> callResponse) {
-        packet.put(
-            SECRET_DATA_KEY, harvestAdminSecretData(callResponse.getResult(), loggingFilter));
+        Map<String, byte[]> secretData = harvestAdminSecretData(callResponse.getResult(), loggingFilter);
+        cacheCredentials(namespace, secretName, secretData);
+        packet.put(SECRET_DATA_KEY, secretData);
         return doNext(packet);
       }
     }
@@ -9,8 +9,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 import javax.annotation.Nonnull;
+import javax.json.Json;
+import javax.json.JsonPatchBuilder;
 
+import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.models.V1DeleteOptions;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Service;
@@ -161,8 +165,9 @@ public class ServiceHelper {
     return new ClusterStepContext(null, packet).createModel();
   }
 
-  private static boolean canUseCurrentService(V1Service model, V1Service current) {
-    return AnnotationHelper.getHash(model).equals(AnnotationHelper.getHash(current));
+  private static boolean canUseCurrentService(V1Service model, V1Service current, Supplier<Object> recipeSupplier) {
+    return AnnotationHelper.hasMatchingHash(
+          AnnotationHelper.getHash(model), AnnotationHelper.getHash(current), recipeSupplier);
   }
 
   /**
@@ -507,11 +512,12 @@ public class ServiceHelper {
 
     Step verifyService(Step next) {
       V1Service service = getServiceFromRecord();
+      V1Service model = createModel();
       if (service == null) {
         return createNewService(next);
-      } else if (canUseCurrentService(createModel(), service)) {
+      } else if (canUseCurrentService(model, service, this::createRecipe)) {
         logServiceExists();
-        return next;
+        return hasCurrentHash(model, service) ? next : patchHash(model, service, next);
       } else {
         removeServiceFromRecord();
         return deleteAndReplaceService(next);
@@ -520,6 +526,28 @@ public class ServiceHelper {
 
     protected abstract void logServiceExists();
 
+    private boolean hasCurrentHash(V1Service model, V1Service service) {
+      return AnnotationHelper.getHash(model).equals(AnnotationHelper.getHash(service));
+    }
+
+    // A service whose hash matched in the legacy format is patched with the current hash
+    private Step patchHash(V1Service model, V1Service service, Step next) {
+      JsonPatchBuilder patchBuilder = Json.createPatchBuilder();
+      KubernetesUtils.addPatches(
+          patchBuilder, "/metadata/annotations/", getAnnotations(service),
+          Collections.singletonMap(AnnotationHelper.SHA256_ANNOTATION, AnnotationHelper.getHash(model)));
+
+      return new CallBuilder()
+          .patchServiceAsync(createServiceName(), getNamespace(), getDomainUid(),
+              new V1Patch(patchBuilder.build().toString()), new PatchServiceResponse(next));
+    }
+
+    private Map<String, String> getAnnotations(V1Service service) {
+      return Optional.ofNullable(service.getMetadata())
+          .map(V1ObjectMeta::getAnnotations)
+          .orElseGet(Collections::emptyMap);
+    }
+
     private Step createNewService(Step next) {
       return createService(getServiceCreatedMessageKey(), next);
     }
@@ -613,6 +641,23 @@ public class ServiceHelper {
       }
     }
 
+    private class PatchServiceResponse extends ResponseStep<V1Service> {
+      PatchServiceResponse(Step next) {
+        super(next);
+      }
+
+      @Override
+      public NextAction onFailure(Packet packet, CallResponse<V1Service> callResponse) {
+        return onFailure(getConflictStep(), packet, callResponse);
+      }
+
+      @Override
+      public NextAction onSuccess(Packet packet, CallResponse<V1Service> callResponse) {
+        Optional.ofNullable(callResponse.getResult()).ifPresent(ServiceStepContext.this::addServiceToRecord);
+        return doNext(packet);
+      }
+    }
+
     private class CreateResponse extends ResponseStep<V1Service> {
       private final String messageKey;
 
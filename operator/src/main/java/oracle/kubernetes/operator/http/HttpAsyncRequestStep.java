@@ -5,7 +5,6 @@ package oracle.kubernetes.operator.http;
 
 import java.net.HttpURLConnection;
 import java.net.URI;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.util.Optional;
@@ -32,12 +31,9 @@ public class HttpAsyncRequestStep extends Step {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   private static FutureFactory DEFAULT_FACTORY = HttpAsyncRequestStep::createFuture;
 
-  private static final long DEFAULT_TIMEOUT_SECONDS = 5;
-
   private static FutureFactory factory = DEFAULT_FACTORY;
   private final HttpRequest request;
-  private long timeoutSeconds = DEFAULT_TIMEOUT_SECONDS;
-  private static final HttpClient httpClient = HttpClient.newBuilder().build();
+  private long timeoutSeconds = HttpClientManager.getRequestTimeoutSeconds();
 
   private HttpAsyncRequestStep(HttpRequest request, HttpResponseStep responseStep) {
     super(responseStep);
@@ -77,6 +73,10 @@ public class HttpAsyncRequestStep extends Step {
     return this;
   }
 
+  long getTimeoutSeconds() {
+    return timeoutSeconds;
+  }
+
   @Override
   public NextAction apply(Packet packet) {
     AsyncProcessing processing = new AsyncProcessing(packet);
@@ -86,6 +86,7 @@ public class HttpAsyncRequestStep extends Step {
   class AsyncProcessing {
     private Packet packet;
     private CompletableFuture<HttpResponse<String>> future;
+    private long startNanos;
 
     AsyncProcessing(Packet packet) {
       this.packet = packet;
@@ -93,6 +94,8 @@ public class HttpAsyncRequestStep extends Step {
 
     void process(AsyncFiber fiber) {
       HttpResponseStep.removeResponse(packet);
+      HttpRequestMetrics.getInstance().recordRequest();
+      startNanos = System.nanoTime();
       future = factory.createFuture(request);
       future.whenComplete((response, throwable) -> resume(fiber, response, throwable));
       fiber.scheduleOnce(timeoutSeconds, TimeUnit.SECONDS, () -> checkTimeout(fiber));
@@ -100,12 +103,14 @@ public class HttpAsyncRequestStep extends Step {
 
     private void checkTimeout(AsyncFiber fiber) {
       if (!future.isDone()) {
+        HttpRequestMetrics.getInstance().recordTimeout();
         resume(fiber, null, new HttpTimeoutException(request.method(), request.uri()));
       }
     }
 
     private void resume(AsyncFiber fiber, HttpResponse<String> response, Throwable throwable) {
       if (throwable != null) {
+        recordError(throwable);
         LOGGER.fine(MessageKeys.HTTP_REQUEST_TIMED_OUT, request.method(), request.uri(), throwable);
       }
       
@@ -113,7 +118,14 @@ public class HttpAsyncRequestStep extends Step {
       fiber.resume(packet);
     }
 
+    private void recordError(Throwable throwable) {
+      if (!(throwable instanceof HttpTimeoutException)) {
+        HttpRequestMetrics.getInstance().recordError();
+      }
+    }
+
     private void recordResponse(HttpResponse<String> response) {
+      HttpRequestMetrics.getInstance().recordResponse(response.statusCode(), System.nanoTime() - startNanos);
       if (response.statusCode() != HttpURLConnection.HTTP_OK) {
         LOGGER.fine(MessageKeys.HTTP_METHOD_FAILED, request.method(), request.uri(), response.statusCode());
       }
@@ -123,7 +135,7 @@ public class HttpAsyncRequestStep extends Step {
 
 
   private static CompletableFuture<HttpResponse<String>> createFuture(HttpRequest request) {
-    return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+    return HttpClientManager.getClient(request.uri()).sendAsync(request, HttpResponse.BodyHandlers.ofString());
   }
 
   static class HttpTimeoutException extends RuntimeException {
@@ -0,0 +1,112 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.TuningParameters.HttpTuning;
+
+/**
+ * Supplies the HTTP clients used to send REST requests to WebLogic Server instances. Each client keeps a pool of
+ * open connections to every server it has contacted, so that successive status reads reuse a connection,
+ * rather than repeating the TCP and TLS handshakes. Requests over TLS negotiate HTTP/2 where the server's listener
+ * supports it, and otherwise use HTTP/1.1; plain HTTP requests always use HTTP/1.1, so that no new connection
+ * begins with an attempt to upgrade it.
+ *
+ * <p>The clients share a fixed pool of daemon threads on which responses are processed. The clients are created
+ * when first needed, from the tuning parameters in effect at that time.
+ */
+public class HttpClientManager {
+  static final String KEEP_ALIVE_PROPERTY = "jdk.httpclient.keepalive.timeout";
+  private static final String SECURE_SCHEME = "https";
+
+  private static final int DEFAULT_CONNECT_TIMEOUT_SECONDS = 5;
+  private static final int DEFAULT_CLIENT_THREADS = 4;
+  private static final int DEFAULT_REQUEST_TIMEOUT_SECONDS = 5;
+  // less than the default 30 second keep-alive duration of a WebLogic Server listener, so that the operator,
+  // rather than the server, closes idle connections
+  private static final int DEFAULT_KEEP_ALIVE_SECONDS = 25;
+
+  private static HttpClientManager instance;
+
+  private final HttpClient secureClient;
+  private final HttpClient plainClient;
+
+  private HttpClientManager() {
+    setKeepAliveTimeout();
+    ExecutorService executor = Executors.newFixedThreadPool(
+          getHttpTuning().map(t -> t.httpClientThreads).orElse(DEFAULT_CLIENT_THREADS), new HttpClientThreadFactory());
+    Duration connectTimeout = Duration.ofSeconds(
+          getHttpTuning().map(t -> t.httpConnectTimeoutSeconds).orElse(DEFAULT_CONNECT_TIMEOUT_SECONDS));
+
+    secureClient = createClient(executor, connectTimeout, HttpClient.Version.HTTP_2);
+    plainClient = createClient(executor, connectTimeout, HttpClient.Version.HTTP_1_1);
+  }
+
+  private static HttpClient createClient(ExecutorService executor, Duration connectTimeout,
+                                         HttpClient.Version version) {
+    return HttpClient.newBuilder()
+          .executor(executor)
+          .connectTimeout(connectTimeout)
+          .version(version)
+          .build();
+  }
+
+  // The JDK reads this property when it creates its first client, so it must be set before then.
+  // An explicit setting on the command line takes precedence.
+  private static void setKeepAliveTimeout() {
+    if (System.getProperty(KEEP_ALIVE_PROPERTY) == null) {
+      System.setProperty(KEEP_ALIVE_PROPERTY,
+            Integer.toString(getHttpTuning().map(t -> t.httpKeepAliveSeconds).orElse(DEFAULT_KEEP_ALIVE_SECONDS)));
+    }
+  }
+
+  private static Optional<HttpTuning> getHttpTuning() {
+    return Optional.ofNullable(TuningParameters.getInstance()).map(TuningParameters::getHttpTuning);
+  }
+
+  /**
+   * Returns the client to use for requests to the specified URI.
+   * @param uri the target of a request
+   * @return a shared HTTP client
+   */
+  public static HttpClient getClient(URI uri) {
+    HttpClientManager manager = getInstance();
+    return SECURE_SCHEME.equalsIgnoreCase(uri.getScheme()) ? manager.secureClient : manager.plainClient;
+  }
+
+  /**
+   * Returns the time to wait for a response to a request, unless the request specifies its own timeout.
+   * @return the timeout, in seconds
+   */
+  static long getRequestTimeoutSeconds() {
+    return getHttpTuning().map(t -> t.httpRequestTimeoutSeconds).orElse(DEFAULT_REQUEST_TIMEOUT_SECONDS);
+  }
+
+  private static synchronized HttpClientManager getInstance() {
+    if (instance == null) {
+      instance = new HttpClientManager();
+    }
+    return instance;
+  }
+
+  private static class HttpClientThreadFactory implements ThreadFactory {
+    private final AtomicInteger threadCount = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, "http-client-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
@@ -0,0 +1,65 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http;
+
+import java.net.HttpURLConnection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import oracle.kubernetes.operator.metrics.LatencyHistogram;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
+
+/**
+ * Counts the REST requests sent by the operator to WebLogic Server instances, and records the time taken
+ * to receive their responses.
+ */
+class HttpRequestMetrics {
+  static final String METRICS_NAME = "httpRequests";
+
+  private static HttpRequestMetrics instance = new HttpRequestMetrics();
+
+  static {
+    OperatorMetrics.register(METRICS_NAME, () -> getInstance().toMap());
+  }
+
+  private final LongAdder requests = new LongAdder();
+  private final LongAdder failures = new LongAdder();
+  private final LongAdder errors = new LongAdder();
+  private final LongAdder timeouts = new LongAdder();
+  private final LatencyHistogram latency = new LatencyHistogram();
+
+  static HttpRequestMetrics getInstance() {
+    return instance;
+  }
+
+  void recordRequest() {
+    requests.increment();
+  }
+
+  void recordResponse(int statusCode, long elapsedNanos) {
+    if (statusCode != HttpURLConnection.HTTP_OK) {
+      failures.increment();
+    }
+    latency.record(elapsedNanos);
+  }
+
+  void recordError() {
+    errors.increment();
+  }
+
+  void recordTimeout() {
+    timeouts.increment();
+  }
+
+  Map<String, Object> toMap() {
+    Map<String, Object> result = new LinkedHashMap<>();
+    result.put("requests", requests.sum());
+    result.put("failureResponses", failures.sum());
+    result.put("errors", errors.sum());
+    result.put("timeouts", timeouts.sum());
+    result.put("latency", latency.toMap());
+    return result;
+  }
+}
@@ -0,0 +1,281 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.logging;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Formatter;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.LogRecord;
+
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
+
+/**
+ * A log handler which does not write on the thread which logs a record. Each record is formatted on the
+ * logging thread, since the formatter reads the state of that thread, and placed in a bounded ring buffer.
+ * A single daemon thread writes the buffered records to the output in batches, flushing once per batch.
+ * When the buffer is full, a record is either dropped and counted, or the logging thread waits for room,
+ * depending on the overflow policy.
+ *
+ * <p>When created by the log manager, the handler reads the following properties, each prefixed with
+ * the name of this class:
+ * <ul>
+ *   <li>level - the minimum level of records to write (default INFO)</li>
+ *   <li>formatter - the name of the formatter class (default {@link LoggingFormatter})</li>
+ *   <li>pattern - the name of the file to which records are appended (default standard error, as for
+ *   the console handler)</li>
+ *   <li>capacity - the number of records which may be buffered (default 8192)</li>
+ *   <li>overflowPolicy - DROP or BLOCK (default DROP)</li>
+ * </ul>
+ */
+public class AsyncLoggingHandler extends Handler {
+
+  public enum OverflowPolicy {
+    /** Discard the record being logged, so that the logging thread never waits. */
+    DROP,
+    /** Wait until there is room in the buffer, so that no record is lost. */
+    BLOCK
+  }
+
+  static final int DEFAULT_CAPACITY = 8192;
+  private static final int MAX_BATCH_SIZE = 256;
+  private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+  private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+  private static final long FLUSH_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(5);
+  private static final String CLASS = AsyncLoggingHandler.class.getName();
+
+  private final RingBuffer<String> buffer;
+  private final OverflowPolicy overflowPolicy;
+  private final Writer writer;
+  private final boolean closeOutput;
+  private final Thread writerThread;
+  private final LongAdder published = new LongAdder();
+  private final LongAdder dropped = new LongAdder();
+  private final LongAdder batches = new LongAdder();
+  private volatile long numWritten;   // updated only by the writer thread
+  private volatile boolean closed;
+  private volatile boolean writerIdle;
+
+  /**
+   * Creates a handler configured from the properties of the log manager.
+   */
+  public AsyncLoggingHandler() {
+    this(getProperty("pattern") != null ? "file" : "console", openConfiguredOutput(),
+          getIntProperty("capacity", DEFAULT_CAPACITY), getOverflowPolicyProperty(), getProperty("pattern") != null);
+    setLevel(Level.parse(Optional.ofNullable(getProperty("level")).orElse(Level.INFO.getName())));
+    setFormatter(createConfiguredFormatter());
+  }
+
+  /**
+   * Creates a handler which writes to the specified stream.
+   * @param name the name under which the handler's metrics are reported
+   * @param output the stream to which formatted records are written
+   * @param capacity the number of records which may be buffered
+   * @param overflowPolicy what to do with a record when the buffer is full
+   * @param closeOutput true if the stream should be closed when the handler is closed
+   */
+  public AsyncLoggingHandler(
+        String name, OutputStream output, int capacity, OverflowPolicy overflowPolicy, boolean closeOutput) {
+    this.buffer = new RingBuffer<>(capacity);
+    this.overflowPolicy = overflowPolicy;
+    this.writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+    this.closeOutput = closeOutput;
+    setFormatter(new LoggingFormatter());
+
+    writerThread = new Thread(this::writeRecords, "operator-log-writer-" + name);
+    writerThread.setDaemon(true);
+    writerThread.start();
+
+    OperatorMetrics.register("asyncLogging-" + name, this::getMetrics);
+  }
+
+  private static String getProperty(String name) {
+    return LogManager.getLogManager().getProperty(CLASS + "." + name);
+  }
+
+  private static int getIntProperty(String name, int defaultValue) {
+    try {
+      return Optional.ofNullable(getProperty(name)).map(String::trim).map(Integer::parseInt).orElse(defaultValue);
+    } catch (NumberFormatException e) {
+      return defaultValue;
+    }
+  }
+
+  private static OverflowPolicy getOverflowPolicyProperty() {
+    try {
+      return Optional.ofNullable(getProperty("overflowPolicy"))
+            .map(String::trim)
+            .map(String::toUpperCase)
+            .map(OverflowPolicy::valueOf)
+            .orElse(OverflowPolicy.DROP);
+    } catch (IllegalArgumentException e) {
+      return OverflowPolicy.DROP;
+    }
+  }
+
+  private static OutputStream openConfiguredOutput() {
+    String pattern = getProperty("pattern");
+    if (pattern == null) {
+      return System.err;
+    }
+
+    try {
+      return new FileOutputStream(pattern, true);
+    } catch (IOException e) {
+      new ErrorManager().error("Unable to open log file " + pattern, e, ErrorManager.OPEN_FAILURE);
+      return System.err;
+    }
+  }
+
+  private static Formatter createConfiguredFormatter() {
+    String className = getProperty("formatter");
+    if (className != null) {
+      try {
+        return (Formatter) ClassLoader.getSystemClassLoader().loadClass(className).getDeclaredConstructor()
+              .newInstance();
+      } catch (ReflectiveOperationException | ClassCastException e) {
+        new ErrorManager().error("Unable to create formatter " + className, e, ErrorManager.GENERIC_FAILURE);
+      }
+    }
+    return new LoggingFormatter();
+  }
+
+  @Override
+  public void publish(LogRecord record) {
+    if (closed || !isLoggable(record)) {
+      return;
+    }
+
+    String text;
+    try {
+      text = getFormatter().format(record);
+    } catch (Exception e) {
+      reportError(null, e, ErrorManager.FORMAT_FAILURE);
+      return;
+    }
+
+    if (enqueue(text)) {
+      published.increment();
+    } else {
+      dropped.increment();
+    }
+  }
+
+  private boolean enqueue(String text) {
+    while (!buffer.offer(text)) {
+      if (overflowPolicy == OverflowPolicy.DROP || closed) {
+        return false;
+      }
+      wakeWriter();
+      LockSupport.parkNanos(FULL_PARK_NANOS);
+    }
+    wakeWriter();
+    return true;
+  }
+
+  private void wakeWriter() {
+    if (writerIdle) {
+      LockSupport.unpark(writerThread);
+    }
+  }
+
+  private void writeRecords() {
+    while (!closed) {
+      if (writeBatch() == 0) {
+        writerIdle = true;
+        if (buffer.isEmpty() && !closed) {
+          LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+        }
+        writerIdle = false;
+      }
+    }
+    while (writeBatch() > 0) {
+      // write whatever remained buffered when the handler was closed
+    }
+  }
+
+  private int writeBatch() {
+    int count = buffer.drain(this::write, MAX_BATCH_SIZE);
+    if (count > 0) {
+      batches.increment();
+      try {
+        writer.flush();
+      } catch (IOException e) {
+        reportError(null, e, ErrorManager.FLUSH_FAILURE);
+      }
+      numWritten += count;
+    }
+    return count;
+  }
+
+  private void write(String text) {
+    try {
+      writer.write(text);
+    } catch (IOException e) {
+      reportError(null, e, ErrorManager.WRITE_FAILURE);
+    }
+  }
+
+  /**
+   * Waits, for a limited time, until the records published so far have been written.
+   */
+  @Override
+  public void flush() {
+    long target = published.sum();
+    long deadline = System.nanoTime() + FLUSH_TIMEOUT_NANOS;
+    while (numWritten < target && writerThread.isAlive() && System.nanoTime() < deadline) {
+      LockSupport.unpark(writerThread);
+      LockSupport.parkNanos(FULL_PARK_NANOS);
+    }
+  }
+
+  @Override
+  public void close() {
+    flush();
+    closed = true;
+    LockSupport.unpark(writerThread);
+    try {
+      writerThread.join(TimeUnit.NANOSECONDS.toMillis(FLUSH_TIMEOUT_NANOS));
+      if (closeOutput) {
+        writer.close();
+      } else {
+        writer.flush();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (IOException e) {
+      reportError(null, e, ErrorManager.CLOSE_FAILURE);
+    }
+  }
+
+  long getNumPublished() {
+    return published.sum();
+  }
+
+  long getNumDropped() {
+    return dropped.sum();
+  }
+
+  private Map<String, Object> getMetrics() {
+    Map<String, Object> result = new LinkedHashMap<>();
+    result.put("published", published.sum());
+    result.put("dropped", dropped.sum());
+    result.put("batches", batches.sum());
+    result.put("capacity", buffer.capacity());
+    return result;
+  }
+}
@@ -5,10 +5,12 @@ package oracle.kubernetes.operator.logging;
 
 import java.text.MessageFormat;
 import java.util.Arrays;
+import java.util.Optional;
 import java.util.ResourceBundle;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.Handler;
 import java.util.logging.Level;
+import java.util.logging.LogManager;
 import java.util.logging.Logger;
 
 /** Centralized logging for the operator. */
@@ -16,6 +18,12 @@ public class LoggingFacade {
 
   public static final String TRACE = "OWLS-KO-TRACE: ";
   protected static final String CLASS = LoggingFacade.class.getName();
+  static final String CONSOLE_LEVEL_PROPERTY = ConsoleHandler.class.getName() + ".level";
+  static final String ASYNC_CONSOLE_PROPERTY = AsyncLoggingHandler.class.getName() + ".console";
+  static final String ASYNC_CAPACITY_PROPERTY = AsyncLoggingHandler.class.getName() + ".capacity";
+  static final String ASYNC_OVERFLOW_POLICY_PROPERTY = AsyncLoggingHandler.class.getName() + ".overflowPolicy";
+
+  private static Handler asyncConsoleHandler;
   private final Logger logger;
 
   /**
@@ -33,9 +41,57 @@ public class LoggingFacade {
       }
     }
 
-    ConsoleHandler handler = new ConsoleHandler();
-    handler.setFormatter(new LoggingFormatter());
-    logger.addHandler(handler);
+    logger.addHandler(createConsoleHandler());
+  }
+
+  // The console handler is asynchronous if the log manager's configuration enables asynchronous logging,
+  // in which case a single handler is shared, so that there is a single thread writing to the console.
+  private static synchronized Handler createConsoleHandler() {
+    if (!isAsyncConsoleEnabled()) {
+      ConsoleHandler handler = new ConsoleHandler();
+      handler.setFormatter(new LoggingFormatter());
+      return handler;
+    }
+
+    if (asyncConsoleHandler == null) {
+      asyncConsoleHandler = new AsyncLoggingHandler("console", System.err,
+            getIntProperty(ASYNC_CAPACITY_PROPERTY, AsyncLoggingHandler.DEFAULT_CAPACITY),
+            getOverflowPolicy(), false);
+      asyncConsoleHandler.setLevel(getConsoleLevel());
+    }
+    return asyncConsoleHandler;
+  }
+
+  private static boolean isAsyncConsoleEnabled() {
+    return "true".equalsIgnoreCase(LogManager.getLogManager().getProperty(ASYNC_CONSOLE_PROPERTY));
+  }
+
+  // the level which the log manager's configuration specifies for the console handler
+  private static Level getConsoleLevel() {
+    try {
+      return Level.parse(Optional.ofNullable(LogManager.getLogManager().getProperty(CONSOLE_LEVEL_PROPERTY))
+            .map(String::trim)
+            .orElse(Level.INFO.getName()));
+    } catch (IllegalArgumentException e) {
+      return Level.INFO;
+    }
+  }
+
+  private static int getIntProperty(String name, int defaultValue) {
+    try {
+      return Optional.ofNullable(LogManager.getLogManager().getProperty(name))
+            .map(String::trim)
+            .map(Integer::parseInt)
+            .orElse(defaultValue);
+    } catch (NumberFormatException e) {
+      return defaultValue;
+    }
+  }
+
+  private static AsyncLoggingHandler.OverflowPolicy getOverflowPolicy() {
+    return "BLOCK".equalsIgnoreCase(LogManager.getLogManager().getProperty(ASYNC_OVERFLOW_POLICY_PROPERTY))
+          ? AsyncLoggingHandler.OverflowPolicy.BLOCK
+          : AsyncLoggingHandler.OverflowPolicy.DROP;
   }
 
   /**
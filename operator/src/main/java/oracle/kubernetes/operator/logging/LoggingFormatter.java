@@ -5,18 +5,16 @@ package oracle.kubernetes.operator.logging;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.text.SimpleDateFormat;
-import java.util.Date;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Formatter;
 import java.util.logging.LogRecord;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.JSON;
 import io.swagger.annotations.ApiModel;
@@ -24,9 +22,12 @@ import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Packet;
 
-/** Custom log formatter to format log messages in JSON format. */
+/**
+ * Custom log formatter to format log messages in JSON format. Each record is written field by field into a
+ * buffer which is reused by the formatting thread, rather than being collected into a map and serialized.
+ */
 public class LoggingFormatter extends Formatter {
-  private static final Map<String, List<String>> PLACEHOLDER = new HashMap<String, List<String>>();
+  private static final Map<String, List<String>> PLACEHOLDER = Collections.emptyMap();
 
   private static final String LOG_LEVEL = "level";
   private static final String TIMESTAMP = "timestamp";
@@ -46,7 +47,12 @@ public class LoggingFormatter extends Formatter {
   private static final String RESPONSE_HEADERS = "headers";
   private static final String RESPONSE_BODY = "body";
 
-  private final SimpleDateFormat dateFormat = new SimpleDateFormat(DATE_FORMAT);
+  private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(DATE_FORMAT);
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+  // a buffer which has grown beyond this size to hold an unusually large record is not retained
+  private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+  private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(1024));
 
   @Override
   public String format(LogRecord record) {
@@ -104,47 +110,139 @@ public class LoggingFormatter extends Formatter {
         }
       }
     }
-    String level = record.getLevel().getLocalizedName();
-    Map<String, Object> map = new LinkedHashMap<>();
     long rawTime = record.getMillis();
-    final String dateString = dateFormat.format(new Date(rawTime));
-    long thread = Thread.currentThread().getId();
     Fiber fiber = Fiber.getCurrentIfSet();
 
-    map.put(TIMESTAMP, dateString);
-    map.put(THREAD, thread);
-    map.put(FIBER, fiber != null ? fiber.toString() : "");
-    map.put(DOMAIN_NAMESPACE, getNamespace(fiber));
-    map.put(DOMAIN_UID, getDomainUid(fiber));
-    map.put(LOG_LEVEL, level);
-    map.put(SOURCE_CLASS, sourceClassName);
-    map.put(SOURCE_METHOD, sourceMethodName);
-    map.put(TIME_IN_MILLIS, rawTime);
-    // if message or throwable have new lines in them, we need to replace with JSON newline control
-    // character \n
-    map.put(MESSAGE, message != null ? message.replaceAll("\n", "\\\n") : "");
-    map.put(EXCEPTION, throwable.replaceAll("\n", "\\\n"));
-    map.put(RESPONSE_CODE, code);
-    map.put(RESPONSE_HEADERS, headers);
-    map.put(RESPONSE_BODY, body.replaceAll("\n", "\\\n"));
-    String json = "";
-    try {
-      ObjectMapper mapper = new ObjectMapper();
-      json = mapper.writeValueAsString(map);
-
-    } catch (JsonProcessingException e) {
-      String tmp =
-          "{\"@timestamp\":%1$s,\"level\":%2$s, \"class\":%3$s, \"method\":\"format\", \"timeInMillis\":%4$d, "
-              + "\"@message\":\"Exception while preparing json object\",\"exception\":%5$s}\n";
-      return String.format(
-          tmp,
-          dateString,
-          level,
-          LoggingFormatter.class.getName(),
-          rawTime,
-          e.getLocalizedMessage());
+    StringBuilder json = getBuffer();
+    json.append('{');
+    appendField(json, TIMESTAMP).append('"');
+    DATE_FORMATTER.formatTo(Instant.ofEpochMilli(rawTime).atZone(ZoneId.systemDefault()), json);
+    json.append('"');
+    appendField(json, THREAD).append(Thread.currentThread().getId());
+    appendStringField(json, FIBER, fiber != null ? fiber.toString() : "");
+    appendStringField(json, DOMAIN_NAMESPACE, getNamespace(fiber));
+    appendStringField(json, DOMAIN_UID, getDomainUid(fiber));
+    appendStringField(json, LOG_LEVEL, record.getLevel().getLocalizedName());
+    appendStringField(json, SOURCE_CLASS, sourceClassName);
+    appendStringField(json, SOURCE_METHOD, sourceMethodName);
+    appendField(json, TIME_IN_MILLIS).append(rawTime);
+    appendStringField(json, MESSAGE, message != null ? message : "");
+    appendStringField(json, EXCEPTION, throwable);
+    appendStringField(json, RESPONSE_CODE, code);
+    appendField(json, RESPONSE_HEADERS);
+    appendHeaders(json, headers);
+    appendStringField(json, RESPONSE_BODY, body);
+    json.append("}\n");
+    return json.toString();
+  }
+
+  private static StringBuilder getBuffer() {
+    StringBuilder buffer = BUFFER.get();
+    if (buffer.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+      buffer = new StringBuilder(1024);
+      BUFFER.set(buffer);
+    }
+    buffer.setLength(0);
+    return buffer;
+  }
+
+  // Appends the name of a field, preceded by a separator if it is not the first, and followed by a colon.
+  private static StringBuilder appendField(StringBuilder json, String name) {
+    if (json.length() > 1) {
+      json.append(',');
+    }
+    return json.append('"').append(name).append("\":");
+  }
+
+  private static void appendStringField(StringBuilder json, String name, String value) {
+    appendString(appendField(json, name), value);
+  }
+
+  private static void appendHeaders(StringBuilder json, Map<String, List<String>> headers) {
+    json.append('{');
+    boolean first = true;
+    for (Map.Entry<String, List<String>> entry : headers.entrySet()) {
+      if (!first) {
+        json.append(',');
+      }
+      first = false;
+      appendString(json, Optional.ofNullable(entry.getKey()).orElse(""));
+      json.append(':');
+      appendStrings(json, entry.getValue());
+    }
+    json.append('}');
+  }
+
+  private static void appendStrings(StringBuilder json, List<String> values) {
+    if (values == null) {
+      json.append("null");
+      return;
+    }
+
+    json.append('[');
+    for (int i = 0; i < values.size(); i++) {
+      if (i > 0) {
+        json.append(',');
+      }
+      appendString(json, values.get(i));
+    }
+    json.append(']');
+  }
+
+  /**
+   * Appends the specified string to a JSON document as a quoted string, escaping characters as needed.
+   * Runs of characters which need no escaping are copied directly from the string.
+   *
+   * @param json the buffer holding the document
+   * @param value the string to append, or null
+   */
+  static void appendString(StringBuilder json, String value) {
+    if (value == null) {
+      json.append("null");
+      return;
+    }
+
+    json.append('"');
+    int start = 0;
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c >= ' ' && c != '"' && c != '\\') {
+        continue;
+      }
+
+      json.append(value, start, i);
+      appendEscaped(json, c);
+      start = i + 1;
+    }
+    json.append(value, start, value.length()).append('"');
+  }
+
+  private static void appendEscaped(StringBuilder json, char c) {
+    switch (c) {
+      case '"':
+        json.append("\\\"");
+        break;
+      case '\\':
+        json.append("\\\\");
+        break;
+      case '\n':
+        json.append("\\n");
+        break;
+      case '\r':
+        json.append("\\r");
+        break;
+      case '\t':
+        json.append("\\t");
+        break;
+      case '\b':
+        json.append("\\b");
+        break;
+      case '\f':
+        json.append("\\f");
+        break;
+      default:
+        json.append("\\u00").append(HEX_DIGITS[c >> 4]).append(HEX_DIGITS[c & 0xF]);
     }
-    return json + "\n";
   }
 
   /**
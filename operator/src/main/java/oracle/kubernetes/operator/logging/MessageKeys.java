@@ -135,6 +135,11 @@ public class MessageKeys {
   public static final String INTROSPECTOR_POD_FAILED = "WLSKO-0177";
   public static final String CRD_NOT_INSTALLED = "WLSKO-0178";
   public static final String POD_FORCE_DELETED = "WLSKO-0179";
+  public static final String NAMESPACE_SHARDS_CHANGED = "WLSKO-0180";
+  public static final String NAMESPACE_SHARD_RENEWAL_FAILED = "WLSKO-0181";
+  public static final String VIRTUAL_THREADS_UNSUPPORTED = "WLSKO-0182";
+  public static final String INTROSPECTOR_RESULT_TOO_LARGE = "WLSKO-0183";
+  public static final String NAMESPACE_RECHECK_INTERVAL_TOO_LONG = "WLSKO-0184";
 
   // domain status messages
   public static final String DUPLICATE_SERVER_NAME_FOUND = "WLSDO-0001";
@@ -0,0 +1,95 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * A bounded, lock-free queue into which many threads may offer elements, and from which a single thread
+ * removes them. Each slot carries a sequence number which tells producers when it is free and the consumer
+ * when it has been filled, so that neither needs a lock.
+ *
+ * @param <E> the type of element held
+ */
+class RingBuffer<E> {
+  private final int mask;
+  private final AtomicReferenceArray<E> elements;
+  private final AtomicLongArray sequences;
+  private final AtomicLong tail = new AtomicLong();
+  private volatile long head;   // written only by the consuming thread
+
+  /**
+   * Creates a buffer able to hold at least the specified number of elements.
+   * @param capacity the minimum capacity; the actual capacity is the next power of two
+   */
+  RingBuffer(int capacity) {
+    int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+    mask = size - 1;
+    elements = new AtomicReferenceArray<>(size);
+    sequences = new AtomicLongArray(size);
+    for (int i = 0; i < size; i++) {
+      sequences.set(i, i);
+    }
+  }
+
+  int capacity() {
+    return mask + 1;
+  }
+
+  /**
+   * Adds an element to the buffer, if there is room. May be called from any thread.
+   * @param element the element to add
+   * @return true if the element was added, false if the buffer is full
+   */
+  boolean offer(E element) {
+    while (true) {
+      long position = tail.get();
+      int index = (int) position & mask;
+      long available = sequences.get(index) - position;
+      if (available < 0) {
+        return false;
+      } else if (available == 0 && tail.compareAndSet(position, position + 1)) {
+        elements.lazySet(index, element);
+        sequences.set(index, position + 1);
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Removes up to the specified number of elements, passing each to the consumer in order.
+   * Must only be called from the single consuming thread.
+   * @param consumer the recipient of the removed elements
+   * @param limit the maximum number of elements to remove
+   * @return the number of elements removed
+   */
+  int drain(Consumer<E> consumer, int limit) {
+    int count = 0;
+    long position = head;
+    while (count < limit) {
+      int index = (int) position & mask;
+      if (sequences.get(index) != position + 1) {
+        break;
+      }
+
+      E element = elements.get(index);
+      elements.lazySet(index, null);
+      sequences.set(index, position + mask + 1);
+      head = ++position;
+      count++;
+      consumer.accept(element);
+    }
+    return count;
+  }
+
+  /**
+   * Returns true if there are no elements waiting to be removed.
+   */
+  boolean isEmpty() {
+    return tail.get() == head;
+  }
+}
@@ -0,0 +1,100 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A record of the distribution of latencies of some operation, which may be updated concurrently without locking.
+ * Latencies are counted in buckets whose upper bounds are successive powers of two milliseconds,
+ * so that a reported percentile is no more than twice the true value.
+ */
+public class LatencyHistogram {
+
+  // bucket i counts latencies of less than 2^i milliseconds, and at least half that; the last bucket has no limit
+  private static final int NUM_BUCKETS = 18;
+
+  private final LongAdder[] buckets = new LongAdder[NUM_BUCKETS];
+  private final LongAdder totalNanos = new LongAdder();
+  private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+  /**
+   * Creates an empty histogram.
+   */
+  public LatencyHistogram() {
+    for (int i = 0; i < NUM_BUCKETS; i++) {
+      buckets[i] = new LongAdder();
+    }
+  }
+
+  /**
+   * Records a single latency.
+   * @param nanos the latency, in nanoseconds
+   */
+  public void record(long nanos) {
+    buckets[getBucket(TimeUnit.NANOSECONDS.toMillis(nanos))].increment();
+    totalNanos.add(nanos);
+    maxNanos.accumulate(nanos);
+  }
+
+  private int getBucket(long millis) {
+    return Math.min(NUM_BUCKETS - 1, Long.SIZE - Long.numberOfLeadingZeros(millis));
+  }
+
+  /**
+   * Returns the number of latencies recorded.
+   * @return a non-negative count
+   */
+  public long getCount() {
+    long count = 0;
+    for (LongAdder bucket : buckets) {
+      count += bucket.sum();
+    }
+    return count;
+  }
+
+  /**
+   * Returns an upper bound for the specified percentile of the recorded latencies.
+   * @param percentile a percentage, greater than zero and no more than 100
+   * @return the upper bound, in milliseconds, or zero if no latencies have been recorded
+   */
+  public long getPercentileMillis(double percentile) {
+    long[] counts = new long[NUM_BUCKETS];
+    long count = 0;
+    for (int i = 0; i < NUM_BUCKETS; i++) {
+      counts[i] = buckets[i].sum();
+      count += counts[i];
+    }
+
+    long rank = (long) Math.ceil(count * percentile / 100);
+    long seen = 0;
+    for (int i = 0; i < NUM_BUCKETS - 1; i++) {
+      seen += counts[i];
+      if (seen > 0 && seen >= rank) {
+        return 1L << i;
+      }
+    }
+    return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(maxNanos.get());
+  }
+
+  /**
+   * Returns a summary of the recorded latencies, suitable for reporting.
+   * @return a map of statistic names to values
+   */
+  public Map<String, Object> toMap() {
+    long count = getCount();
+    Map<String, Object> result = new LinkedHashMap<>();
+    result.put("count", count);
+    result.put("meanMillis", count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalNanos.sum() / count));
+    result.put("p50Millis", getPercentileMillis(50));
+    result.put("p90Millis", getPercentileMillis(90));
+    result.put("p99Millis", getPercentileMillis(99));
+    result.put("maxMillis", TimeUnit.NANOSECONDS.toMillis(maxNanos.get()));
+    return result;
+  }
+}
@@ -0,0 +1,40 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * The registry of the metrics reported by the operator. Each subsystem registers a named source,
+ * which is asked for its current values whenever the metrics are read.
+ */
+public class OperatorMetrics {
+
+  private static final Map<String, Supplier<Map<String, Object>>> sources = new ConcurrentHashMap<>();
+
+  private OperatorMetrics() {
+  }
+
+  /**
+   * Registers a source of metrics, replacing any source previously registered with the same name.
+   * @param name the name under which the metrics are to be reported
+   * @param source a function which returns the current values of the metrics
+   */
+  public static void register(String name, Supplier<Map<String, Object>> source) {
+    sources.put(name, source);
+  }
+
+  /**
+   * Returns the current values of all registered metrics.
+   * @return a map of source names to the metrics of each source, ordered by name
+   */
+  public static Map<String, Map<String, Object>> getMetrics() {
+    Map<String, Map<String, Object>> result = new TreeMap<>();
+    sources.forEach((name, source) -> result.put(name, source.get()));
+    return result;
+  }
+}
@@ -0,0 +1,5 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+/** Counters and latency histograms describing the work done by the operator. */
+package oracle.kubernetes.operator.metrics;
@@ -0,0 +1,40 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest;
+
+import java.util.List;
+
+import oracle.kubernetes.weblogic.domain.model.Domain;
+
+/**
+ * The operator's in-memory view of the domains in the namespaces it manages, which the REST backend
+ * consults before listing domains from Kubernetes.
+ */
+public interface DomainLookup {
+
+  /** A lookup which knows no domains, so that every lookup lists them from Kubernetes. */
+  DomainLookup NONE = new DomainLookup() {
+    @Override
+    public List<Domain> getIndexedDomains(String namespace) {
+      return null;
+    }
+
+    @Override
+    public void updateIndexedDomain(Domain domain) {
+    }
+  };
+
+  /**
+   * Returns the domains in the specified namespace, as currently known to the operator.
+   * @param namespace a namespace name
+   * @return a list of domains, or null if the operator has not yet listed the domains in the namespace
+   */
+  List<Domain> getIndexedDomains(String namespace);
+
+  /**
+   * Records a domain which has just been read or updated, so that later lookups need not wait for its watch event.
+   * @param domain a domain returned by Kubernetes
+   */
+  void updateIndexedDomain(Domain domain);
+}
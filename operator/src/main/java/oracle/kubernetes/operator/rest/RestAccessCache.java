@@ -0,0 +1,184 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import io.kubernetes.client.openapi.models.V1TokenReviewStatus;
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.TuningParameters.RestTuning;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Resource;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Scope;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
+import oracle.kubernetes.utils.SystemClock;
+
+/**
+ * Remembers the results of the token reviews and subject access reviews made on behalf of REST clients,
+ * so that a burst of requests from a single client, such as an autoscaler, need not repeat them.
+ * Only successful authentications are remembered; authorization decisions are remembered whether they
+ * allow or deny the operation. Each result is forgotten after a configured time, and the least recently
+ * used results are discarded when the cache is full. Caching is disabled unless a time is configured.
+ */
+class RestAccessCache {
+  private static final int DEFAULT_CACHE_SIZE = 1000;
+
+  @SuppressWarnings("FieldMayBeFinal") // may be replaced by unit tests
+  private static RestAccessCache instance = new RestAccessCache();
+
+  static {
+    OperatorMetrics.register("restAuthentication", () -> getInstance().authentications.toMap());
+    OperatorMetrics.register("restAuthorization", () -> getInstance().authorizations.toMap());
+  }
+
+  private final TimedCache<String, V1TokenReviewStatus> authentications = new TimedCache<>();
+  private final TimedCache<List<Object>, Boolean> authorizations = new TimedCache<>();
+
+  static RestAccessCache getInstance() {
+    return instance;
+  }
+
+  /**
+   * Returns the result of reviewing the specified access token, from the cache if possible.
+   * @param accessToken the token presented by a REST client
+   * @param review a function which asks Kubernetes to review the token
+   * @return the review status, or null if the review could not be made
+   */
+  V1TokenReviewStatus getAuthentication(String accessToken, Supplier<V1TokenReviewStatus> review) {
+    return authentications.get(hash(accessToken), review, this::isSuccessful);
+  }
+
+  private boolean isSuccessful(V1TokenReviewStatus status) {
+    return status != null && status.getError() == null
+          && Boolean.TRUE.equals(status.getAuthenticated()) && status.getUser() != null;
+  }
+
+  // The token itself is a credential, so only a digest of it is retained.
+  private String hash(String accessToken) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return Base64.getEncoder().encodeToString(
+            digest.digest(Optional.ofNullable(accessToken).orElse("").getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Returns whether the specified user may perform the specified operation, from the cache if possible.
+   * @param principal the name of the user
+   * @param groups the groups of which the user is a member
+   * @param operation the operation to be authorized
+   * @param resource the kind of resource on which the operation is to be authorized
+   * @param resourceName the name of the resource, or null
+   * @param scope the scope of the operation
+   * @param namespaceName the namespace of the resource, if the scope is namespace
+   * @param check a function which asks Kubernetes whether the operation is allowed
+   * @return true if the operation is allowed
+   */
+  boolean getAuthorization(String principal, List<String> groups, Operation operation, Resource resource,
+                           String resourceName, Scope scope, String namespaceName, Supplier<Boolean> check) {
+    List<Object> key = Arrays.asList(principal, groups, operation, resource, resourceName, scope, namespaceName);
+    return Boolean.TRUE.equals(authorizations.get(key, check, r -> r != null));
+  }
+
+  private static long getTimeToLiveMillis() {
+    return getRestTuning().map(t -> t.restAuthCacheSeconds).orElse(0) * 1000L;
+  }
+
+  private static int getMaxSize() {
+    return getRestTuning().map(t -> t.restAuthCacheSize).orElse(DEFAULT_CACHE_SIZE);
+  }
+
+  private static Optional<RestTuning> getRestTuning() {
+    return Optional.ofNullable(TuningParameters.getInstance()).map(TuningParameters::getRestTuning);
+  }
+
+  private static class TimedEntry<V> {
+    private final V value;
+    private final long expiration;
+
+    TimedEntry(V value, long expiration) {
+      this.value = value;
+      this.expiration = expiration;
+    }
+  }
+
+  private static class TimedCache<K, V> {
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    // access-ordered, so that the eldest entry is the least recently used
+    private final Map<K, TimedEntry<V>> entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, TimedEntry<V>> eldest) {
+        if (size() <= getMaxSize()) {
+          return false;
+        }
+        evictions.increment();
+        return true;
+      }
+    };
+
+    // The lock is not held while the loader runs, so that a slow review does not delay requests from others.
+    V get(K key, Supplier<V> loader, Predicate<V> cacheable) {
+      long timeToLive = getTimeToLiveMillis();
+      if (timeToLive <= 0) {
+        return loader.get();
+      }
+
+      long now = SystemClock.now().getMillis();
+      TimedEntry<V> entry = getEntry(key, now);
+      if (entry != null) {
+        hits.increment();
+        return entry.value;
+      }
+
+      misses.increment();
+      V value = loader.get();
+      if (cacheable.test(value)) {
+        putEntry(key, new TimedEntry<>(value, now + timeToLive));
+      }
+      return value;
+    }
+
+    private synchronized TimedEntry<V> getEntry(K key, long now) {
+      TimedEntry<V> entry = entries.get(key);
+      if (entry != null && entry.expiration <= now) {
+        entries.remove(key);
+        return null;
+      }
+      return entry;
+    }
+
+    private synchronized void putEntry(K key, TimedEntry<V> entry) {
+      entries.put(key, entry);
+    }
+
+    private synchronized int size() {
+      return entries.size();
+    }
+
+    Map<String, Object> toMap() {
+      Map<String, Object> result = new LinkedHashMap<>();
+      result.put("hits", hits.sum());
+      result.put("misses", misses.sum());
+      result.put("evictions", evictions.sum());
+      result.put("size", size());
+      return result;
+    }
+  }
+}
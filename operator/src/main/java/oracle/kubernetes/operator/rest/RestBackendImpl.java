@@ -6,6 +6,7 @@ package oracle.kubernetes.operator.rest;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -72,6 +73,7 @@ public class RestBackendImpl implements RestBackend {
   private AuthorizationProxy atz = new AuthorizationProxy();
   private final String principal;
   private final Supplier<Collection<String>> domainNamespaces;
+  private final DomainLookup domainLookup;
   private V1UserInfo userInfo;
   private CallBuilder callBuilder;
 
@@ -84,7 +86,22 @@ public class RestBackendImpl implements RestBackend {
    * @param domainNamespaces a function that returns the names of the managed Kubernetes namepaces.
    */
   RestBackendImpl(String principal, String accessToken, Supplier<Collection<String>> domainNamespaces) {
+    this(principal, accessToken, domainNamespaces, DomainLookup.NONE);
+  }
+
+  /**
+   * Construct a RestBackendImpl that is used to handle one WebLogic operator REST request.
+   *  @param principal is the name of the Kubernetes user to use when calling the Kubernetes REST
+   *     api.
+   * @param accessToken is the access token of the Kubernetes service account of the client calling
+   *     the WebLogic operator REST api.
+   * @param domainNamespaces a function that returns the names of the managed Kubernetes namepaces.
+   * @param domainLookup the operator's in-memory view of the domains in those namespaces.
+   */
+  RestBackendImpl(String principal, String accessToken, Supplier<Collection<String>> domainNamespaces,
+                  DomainLookup domainLookup) {
     this.domainNamespaces = domainNamespaces;
+    this.domainLookup = domainLookup;
     this.principal = principal;
     userInfo = authenticate(accessToken);
     callBuilder = userInfo != null ? new CallBuilder() :
@@ -99,25 +116,9 @@ public class RestBackendImpl implements RestBackend {
     }
     boolean authorized;
     if (domainUid == null) {
-      authorized =
-          atz.check(
-              userInfo.getUsername(),
-              userInfo.getGroups(),
-              operation,
-              Resource.DOMAINS,
-              null,
-              Scope.cluster,
-              null);
+      authorized = check(operation, null, Scope.cluster, null);
     } else {
-      authorized =
-          atz.check(
-              userInfo.getUsername(),
-              userInfo.getGroups(),
-              operation,
-              Resource.DOMAINS,
-              domainUid,
-              Scope.namespace,
-              getNamespace(domainUid));
+      authorized = check(operation, domainUid, Scope.namespace, getNamespace(domainUid));
     }
     if (authorized) {
       LOGGER.exiting();
@@ -129,6 +130,19 @@ public class RestBackendImpl implements RestBackend {
     throw e;
   }
 
+  private boolean check(Operation operation, String domainUid, Scope scope, String namespaceName) {
+    return RestAccessCache.getInstance().getAuthorization(
+        userInfo.getUsername(), userInfo.getGroups(), operation, Resource.DOMAINS, domainUid, scope, namespaceName,
+        () -> atz.check(
+            userInfo.getUsername(),
+            userInfo.getGroups(),
+            operation,
+            Resource.DOMAINS,
+            domainUid,
+            scope,
+            namespaceName));
+  }
+
   private String getNamespace(String domainUid) {
     return getDomain(domainUid).map(Domain::getMetadata).map(V1ObjectMeta::getNamespace).orElse(null);
   }
@@ -139,8 +153,8 @@ public class RestBackendImpl implements RestBackend {
     if (!authenticateWithTokenReview()) {
       return null;
     }
-    V1TokenReviewStatus status = atn.check(principal, accessToken,
-        Main.isDedicated() ? getOperatorNamespace() : null);
+    V1TokenReviewStatus status = RestAccessCache.getInstance().getAuthentication(accessToken,
+        () -> atn.check(principal, accessToken, Main.isDedicated() ? getOperatorNamespace() : null));
     if (status == null) {
       throw new AssertionError(LOGGER.formatMessage(MessageKeys.NULL_TOKEN_REVIEW_STATUS));
     }
@@ -180,6 +194,26 @@ public class RestBackendImpl implements RestBackend {
   }
 
   private List<Domain> getDomains(String ns) {
+    return Optional.ofNullable(getIndexedDomains(ns)).orElseGet(() -> listDomains(ns));
+  }
+
+  private Stream<Domain> getIndexedDomainStream() {
+    return domainNamespaces.get().stream().map(this::getIndexedDomains).filter(Objects::nonNull)
+        .flatMap(Collection::stream);
+  }
+
+  // When the operator's own privileges are used, the caller has already been authorized by a subject access review,
+  // so the domains may be read from the operator's in-memory view. Otherwise, it is listing the domains with the
+  // caller's token which confirms that the caller may see them.
+  private List<Domain> getIndexedDomains(String ns) {
+    return authenticateWithTokenReview() ? domainLookup.getIndexedDomains(ns) : null;
+  }
+
+  private Stream<Domain> getListedDomainStream() {
+    return domainNamespaces.get().stream().map(this::listDomains).flatMap(Collection::stream);
+  }
+
+  private List<Domain> listDomains(String ns) {
     try {
       return callBuilder.listDomain(ns).getItems();
     } catch (ApiException e) {
@@ -262,8 +296,12 @@ public class RestBackendImpl implements RestBackend {
 
   private Optional<Domain> getDomain(String domainUid) {
     authorize(null, Operation.list);
-    
-    return getDomainStream().filter(domain -> domainUid.equals(domain.getDomainUid())).findFirst();
+
+    return findDomain(getIndexedDomainStream(), domainUid).or(() -> findDomain(getListedDomainStream(), domainUid));
+  }
+
+  private Optional<Domain> findDomain(Stream<Domain> domains, String domainUid) {
+    return domains.filter(domain -> domainUid.equals(domain.getDomainUid())).findFirst();
   }
 
   @Override
@@ -318,6 +356,8 @@ public class RestBackendImpl implements RestBackend {
     if (index < 0) {
       patchBuilder.add("/spec/clusters/0", String.format(NEW_CLUSTER_REPLICAS, cluster, replicas));
     } else {
+      // guards against a change to the cluster list not yet seen by the operator
+      patchBuilder.test("/spec/clusters/" + index + "/clusterName", cluster);
       patchBuilder.replace("/spec/clusters/" + index + "/replicas", replicas);
     }
 
@@ -326,10 +366,12 @@ public class RestBackendImpl implements RestBackend {
 
   private void patchDomain(Domain domain, JsonPatchBuilder patchBuilder) {
     try {
-      callBuilder
-          .patchDomain(
-              domain.getDomainUid(), domain.getMetadata().getNamespace(),
-              new V1Patch(patchBuilder.build().toString()));
+      Optional.ofNullable(
+          callBuilder
+              .patchDomain(
+                  domain.getDomainUid(), domain.getMetadata().getNamespace(),
+                  new V1Patch(patchBuilder.build().toString())))
+          .ifPresent(domainLookup::updateIndexedDomain);
     } catch (ApiException e) {
       throw handleApiException(e);
     }
@@ -18,16 +18,19 @@ public class RestConfigImpl implements RestConfig {
 
   private final String principal;
   private final Supplier<Collection<String>> domainNamespaces;
+  private final DomainLookup domainLookup;
 
   /**
    * Constructs a RestConfigImpl.
    *  @param principal is the name of the Kubernetes User or Service Account to use when calling the
    *     Kubernetes REST API.
    * @param domainNamespaces returns a list of the Kubernetes Namespaces covered by this Operator.
+   * @param domainLookup the operator's in-memory view of the domains in those namespaces.
    */
-  public RestConfigImpl(String principal, Supplier<Collection<String>> domainNamespaces) {
+  public RestConfigImpl(String principal, Supplier<Collection<String>> domainNamespaces, DomainLookup domainLookup) {
     this.domainNamespaces = domainNamespaces;
     this.principal = principal;
+    this.domainLookup = domainLookup;
   }
 
   @Override
@@ -87,6 +90,6 @@ public class RestConfigImpl implements RestConfig {
 
   @Override
   public RestBackend getBackend(String accessToken) {
-    return new RestBackendImpl(principal, accessToken, domainNamespaces);
+    return new RestBackendImpl(principal, accessToken, domainNamespaces, domainLookup);
   }
 }
@@ -0,0 +1,100 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status;
+
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.TuningParameters.RestTuning;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.work.Container;
+import oracle.kubernetes.operator.work.ContainerResolver;
+import org.glassfish.grizzly.threadpool.GrizzlyExecutorService;
+import org.glassfish.grizzly.threadpool.ThreadPoolConfig;
+
+/**
+ * Runs the work of REST requests which call Kubernetes, so that the server threads which accept requests
+ * are not held while those calls are in progress. The work runs on a fixed pool of daemon threads with
+ * a bounded queue; a request which arrives when the queue is full is refused with a 503 status,
+ * rather than waiting.
+ */
+public class RestRequestExecutor {
+  private static final int DEFAULT_THREADS = 4;
+  private static final int DEFAULT_QUEUE_SIZE = 100;
+  private static final String RETRY_AFTER_SECONDS = "1";
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  private static ExecutorService executor;
+
+  private RestRequestExecutor() {
+  }
+
+  /**
+   * Runs the specified work asynchronously, and resumes the suspended response with its result.
+   * If the work returns null, the response has no content; if it throws an exception, the exception is
+   * mapped to a response as it would be for a synchronous request.
+   * @param asyncResponse the suspended response to a REST request
+   * @param work the processing of the request
+   */
+  public static void execute(AsyncResponse asyncResponse, Supplier<?> work) {
+    Container container = ContainerResolver.getInstance().getContainer();
+    try {
+      getExecutor().execute(() -> run(container, asyncResponse, work));
+    } catch (RejectedExecutionException e) {
+      LOGGER.warning(MessageKeys.EXCEPTION, e);
+      asyncResponse.resume(
+          Response.status(Status.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS).build());
+    }
+  }
+
+  private static void run(Container container, AsyncResponse asyncResponse, Supplier<?> work) {
+    Container old = ContainerResolver.getDefault().enterContainer(container);
+    try {
+      asyncResponse.resume(Optional.<Object>ofNullable(work.get()).orElse(Response.noContent().build()));
+    } catch (Throwable t) {
+      asyncResponse.resume(t);
+    } finally {
+      ContainerResolver.getDefault().exitContainer(old);
+    }
+  }
+
+  private static synchronized ExecutorService getExecutor() {
+    if (executor == null) {
+      executor = GrizzlyExecutorService.createInstance(createThreadPoolConfig());
+    }
+    return executor;
+  }
+
+  private static ThreadPoolConfig createThreadPoolConfig() {
+    int numThreads = getRestTuning().map(t -> t.restRequestThreads).orElse(DEFAULT_THREADS);
+    AtomicInteger threadCount = new AtomicInteger();
+    return ThreadPoolConfig.defaultConfig()
+          .setPoolName("operator-rest")
+          .setCorePoolSize(numThreads)
+          .setMaxPoolSize(numThreads)
+          .setQueueLimit(getRestTuning().map(t -> t.restRequestQueueSize).orElse(DEFAULT_QUEUE_SIZE))
+          .setThreadFactory(r -> createThread(r, threadCount.incrementAndGet()));
+  }
+
+  private static Thread createThread(Runnable runnable, int threadNum) {
+    Thread thread = new Thread(runnable, "operator-rest-" + threadNum);
+    thread.setDaemon(true);
+    return thread;
+  }
+
+  private static Optional<RestTuning> getRestTuning() {
+    return Optional.ofNullable(TuningParameters.getInstance()).map(TuningParameters::getRestTuning);
+  }
+}
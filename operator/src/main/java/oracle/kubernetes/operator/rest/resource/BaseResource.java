@@ -5,7 +5,9 @@ package oracle.kubernetes.operator.rest.resource;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Response;
@@ -14,6 +16,7 @@ import javax.ws.rs.core.UriBuilder;
 import javax.ws.rs.core.UriInfo;
 
 import oracle.kubernetes.operator.rest.AuthenticationFilter;
+import oracle.kubernetes.operator.rest.RestRequestExecutor;
 import oracle.kubernetes.operator.rest.backend.RestBackend;
 import oracle.kubernetes.operator.rest.model.LinkContainerModel;
 
@@ -47,6 +50,18 @@ public class BaseResource {
         getContainerRequestContext().getProperty(AuthenticationFilter.REST_BACKEND_PROPERTY);
   }
 
+  /**
+   * Runs the specified work on the REST request executor, rather than on the server thread which
+   * received the request, and then resumes the suspended response with its result. The work must not
+   * use the request context, so anything it needs from that must be obtained before calling this.
+   *
+   * @param asyncResponse - the suspended response to this request.
+   * @param work - the processing of the request, returning the response entity or null if none.
+   */
+  protected void runAsynchronously(AsyncResponse asyncResponse, Supplier<?> work) {
+    RestRequestExecutor.execute(asyncResponse, work);
+  }
+
   protected UriInfo getUriInfo() {
     return getRoot().uriInfo;
   }
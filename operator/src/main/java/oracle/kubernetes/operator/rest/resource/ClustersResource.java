@@ -3,15 +3,20 @@
 
 package oracle.kubernetes.operator.rest.resource;
 
+import java.util.Collection;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.UriBuilder;
 
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.rest.backend.RestBackend;
 import oracle.kubernetes.operator.rest.model.ClusterModel;
 import oracle.kubernetes.operator.rest.model.CollectionModel;
 
@@ -37,20 +42,29 @@ public class ClustersResource extends BaseResource {
   /**
    * List a WebLogic domain's clusters.
    *
-   * @return a collection of ClusterModels describing the clusters.
+   * @param asyncResponse - the suspended response, resumed with a collection of ClusterModels
+   *     describing the clusters.
    */
   @GET
   @Produces(MediaType.APPLICATION_JSON)
-  public CollectionModel<ClusterModel> get() {
+  public void get(@Suspended final AsyncResponse asyncResponse) {
     LOGGER.entering(href());
+    RestBackend backend = getBackend();
     String domainUid = getDomainUid();
+    String selfHref = href();
+    String parentHref = getParent().href();
+    runAsynchronously(asyncResponse, () -> createCollection(backend.getClusters(domainUid), selfHref, parentHref));
+  }
+
+  private CollectionModel<ClusterModel> createCollection(
+      Collection<String> clusters, String selfHref, String parentHref) {
     CollectionModel<ClusterModel> collection = new CollectionModel<ClusterModel>();
-    for (String cluster : getBackend().getClusters(domainUid)) {
+    for (String cluster : clusters) {
       ClusterModel item = new ClusterModel(cluster);
-      item.addSelfLinks(href(item.getCluster()));
+      item.addSelfLinks(UriBuilder.fromPath(selfHref).segment(item.getCluster()).build().getPath());
       collection.addItem(item);
     }
-    addSelfAndParentLinks(collection);
+    collection.addSelfAndParentLinks(selfHref, parentHref);
     LOGGER.exiting(collection);
     return collection;
   }
@@ -8,10 +8,13 @@ import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.MediaType;
 
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.rest.backend.RestBackend;
 import oracle.kubernetes.operator.rest.model.DomainAction;
 import oracle.kubernetes.operator.rest.model.DomainModel;
 
@@ -54,11 +57,17 @@ public class DomainResource extends BaseResource {
    * Apply changes to this domain. The changes depend on the details of the specified instructions
    *
    * @param params - an update command, including a command type and optional parameters
+   * @param asyncResponse - the suspended response, resumed once the domain has been updated
    */
   @POST
   @Consumes(MediaType.APPLICATION_JSON)
-  public void post(final DomainAction params) {
-    getBackend().performDomainAction(getDomainUid(), params);
+  public void post(final DomainAction params, @Suspended final AsyncResponse asyncResponse) {
+    RestBackend backend = getBackend();
+    String domainUid = getDomainUid();
+    runAsynchronously(asyncResponse, () -> {
+      backend.performDomainAction(domainUid, params);
+      return null;
+    });
   }
 
   /**
@@ -0,0 +1,47 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest.resource;
+
+import java.util.Map;
+import javax.ws.rs.GET;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
+
+/**
+ * MetricsResource is a jaxrs resource that implements the REST api for the
+ * /operator/{version}/metrics path. It can be used to get the current values of the metrics
+ * recorded by the WebLogic operator.
+ */
+public class MetricsResource extends BaseResource {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  /**
+   * Construct a MetricsResource.
+   *
+   * @param parent - the jaxrs resource that parents this resource.
+   * @param pathSegment - the last path segment in the url to this resource.
+   */
+  public MetricsResource(BaseResource parent, String pathSegment) {
+    super(parent, pathSegment);
+  }
+
+  /**
+   * Get the current values of the operator's metrics.
+   *
+   * @return a map of metric source names to the metrics of each source.
+   */
+  @GET
+  @Produces(MediaType.APPLICATION_JSON)
+  public Map<String, Map<String, Object>> get() {
+    LOGGER.entering(href());
+    Map<String, Map<String, Object>> result = OperatorMetrics.getMetrics();
+    LOGGER.exiting(result);
+    return result;
+  }
+}
@@ -5,10 +5,13 @@ package oracle.kubernetes.operator.rest.resource;
 
 import javax.ws.rs.Consumes;
 import javax.ws.rs.POST;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.MediaType;
 
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.rest.backend.RestBackend;
 import oracle.kubernetes.operator.rest.model.ScaleClusterParamsModel;
 
 /**
@@ -37,12 +40,19 @@ public class ScaleClusterResource extends BaseResource {
    *
    * @param params - a ScaleClusterParamsModel that specifies the desired number of managed servers
    *     in the cluster
+   * @param asyncResponse - the suspended response, resumed once the cluster has been updated
    */
   @POST
   @Consumes(MediaType.APPLICATION_JSON)
-  public void post(final ScaleClusterParamsModel params) {
+  public void post(final ScaleClusterParamsModel params, @Suspended final AsyncResponse asyncResponse) {
     LOGGER.entering(href(), params);
-    getBackend().scaleCluster(getDomainUid(), getCluster(), params.getManagedServerCount());
+    RestBackend backend = getBackend();
+    String domainUid = getDomainUid();
+    String cluster = getCluster();
+    runAsynchronously(asyncResponse, () -> {
+      backend.scaleCluster(domainUid, cluster, params.getManagedServerCount());
+      return null;
+    });
     LOGGER.exiting();
   }
 
@@ -10,6 +10,8 @@ import java.net.http.HttpResponse;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -27,8 +29,10 @@ import io.kubernetes.client.openapi.models.V1ServicePort;
 import io.kubernetes.client.openapi.models.V1ServiceSpec;
 import oracle.kubernetes.operator.Pair;
 import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.WebLogicConstants;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.helpers.SecretHelper;
 import oracle.kubernetes.operator.helpers.SecretType;
 import oracle.kubernetes.operator.http.HttpAsyncRequestStep;
@@ -50,8 +54,10 @@ import oracle.kubernetes.weblogic.domain.model.ServerHealth;
 import oracle.kubernetes.weblogic.domain.model.SubsystemHealth;
 import org.joda.time.DateTime;
 
+import static java.net.HttpURLConnection.HTTP_UNAUTHORIZED;
 import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
 import static oracle.kubernetes.operator.ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ;
+import static oracle.kubernetes.operator.ProcessingConstants.SERVER_HEALTH_BATCH;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
 
 public class ReadHealthStep extends Step {
@@ -64,6 +70,8 @@ public class ReadHealthStep extends Step {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   private static final Integer HTTP_TIMEOUT_SECONDS = 60;
 
+  public static final String BATCHED_HEALTH_READS_PARAM = "batchedHealthReads";
+
   private ReadHealthStep(Step next) {
     super(next);
   }
@@ -86,18 +94,56 @@ public class ReadHealthStep extends Step {
     return "{ fields: [ 'state', 'overallHealthState', 'activationTime' ], links: [] }";
   }
 
+  private static String getRetrieveDomainHealthSearchPath() {
+    return "/management/weblogic/latest/domainRuntime/search";
+  }
+
+  private static String getRetrieveDomainHealthSearchPayload() {
+    return "{ fields: [], links: [], children: { serverRuntimes: "
+          + "{ fields: [ 'name', 'state', 'overallHealthState', 'activationTime' ], links: [] } } }";
+  }
+
+  /**
+   * Returns true if the operator is to read the health of all servers in a domain with a single request
+   * to the administration server, rather than with one request to each server.
+   * @return true if batched health reads are enabled
+   */
+  public static boolean isBatchedHealthReadEnabled() {
+    return "true".equalsIgnoreCase(TuningParameters.getInstance().get(BATCHED_HEALTH_READS_PARAM));
+  }
+
+  /**
+   * Creates asynchronous {@link Step} to read the state and health of all running servers in the domain
+   * from the domain runtime of the administration server. The results are recorded in the packet, so that
+   * subsequent health reads for the individual servers need not contact those servers.
+   * If the administration server is not ready, or the read fails, nothing is recorded, and each server's
+   * health is read from that server.
+   *
+   * @param next Next processing step
+   * @return asynchronous step
+   */
+  public static Step createReadDomainHealthStep(Step next) {
+    return new ReadDomainHealthStep(next);
+  }
+
   // overallHealthState, healthState
 
   @Override
   public NextAction apply(Packet packet) {
     DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
 
+    String serverName = (String) packet.get(ProcessingConstants.SERVER_NAME);
+    Pair<String, ServerHealth> batchedResult = getBatchedHealth(packet).get(serverName);
+    if (batchedResult != null) {
+      new RecordHealthStep.HealthResponseProcessing(packet, null).recordStateAndHealth(batchedResult);
+      decrementIntegerInPacketAtomically(packet, REMAINING_SERVERS_HEALTH_TO_READ);
+      return doNext(packet);
+    }
+
     Domain dom = info.getDomain();
     V1ObjectMeta meta = dom.getMetadata();
     String namespace = meta.getNamespace();
 
-    String serverName = (String) packet.get(ProcessingConstants.SERVER_NAME);
-
     String secretName = dom.getWebLogicCredentialsSecretName();
 
     V1Service service = info.getServerService(serverName);
@@ -115,6 +161,54 @@ public class ReadHealthStep extends Step {
     return doNext(packet);
   }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, Pair<String, ServerHealth>> getBatchedHealth(Packet packet) {
+    return Optional.ofNullable((Map<String, Pair<String, ServerHealth>>) packet.get(SERVER_HEALTH_BATCH))
+          .orElse(Collections.emptyMap());
+  }
+
+  private static WlsDomainConfig getWlsDomainConfig(Packet packet) {
+    DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+    WlsDomainConfig domainConfig = (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
+    if (domainConfig == null) {
+      domainConfig = Optional.ofNullable(ScanCache.INSTANCE.lookupScan(info.getNamespace(), info.getDomainUid()))
+            .map(Scan::getWlsDomainConfig)
+            .orElse(null);
+    }
+    return domainConfig;
+  }
+
+  private static class ReadDomainHealthStep extends Step {
+
+    ReadDomainHealthStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+      String adminServerName = Optional.ofNullable(getWlsDomainConfig(packet))
+            .map(WlsDomainConfig::getAdminServerName)
+            .orElse(null);
+      V1Service service = Optional.ofNullable(adminServerName).map(info::getServerService).orElse(null);
+      V1Pod pod = Optional.ofNullable(adminServerName).map(info::getServerPod).orElse(null);
+      if (service == null || pod == null || !PodHelper.getReadyStatus(pod)) {
+        return doNext(packet);
+      }
+
+      Domain dom = info.getDomain();
+      packet.put(ProcessingConstants.SERVER_NAME, adminServerName);
+      return doNext(
+            SecretHelper.getSecretData(
+                SecretType.WebLogicCredentials,
+                dom.getWebLogicCredentialsSecretName(),
+                dom.getMetadata().getNamespace(),
+                new WithSecretDataStep(
+                    new ReadDomainHealthWithHttpStep(service, pod, getNext()))),
+            packet);
+    }
+  }
+
   private static class WithSecretDataStep extends Step {
 
     WithSecretDataStep(Step next) {
@@ -179,18 +273,18 @@ public class ReadHealthStep extends Step {
       this.pod = pod;
     }
 
-    private String getRequestUrl() {
-      return getServiceUrl() + getRetrieveHealthSearchPath();
+    private String getRequestUrl(String searchPath) {
+      return getServiceUrl() + searchPath;
     }
 
-    private HttpRequest createRequest(String url) {
+    private HttpRequest createRequest(String url, String payload) {
       return HttpRequest.newBuilder()
           .uri(URI.create(url))
           .header("Authorization", "Basic " + getEncodedCredentials())
           .header("Accept", "application/json")
           .header("Content-Type", "application/json")
           .header("X-Requested-By", "WebLogic Operator")
-          .POST(HttpRequest.BodyPublishers.ofString(getRetrieveHealthSearchPayload()))
+          .POST(HttpRequest.BodyPublishers.ofString(payload))
           .build();
     }
 
@@ -278,14 +372,7 @@ public class ReadHealthStep extends Step {
     }
 
     private WlsDomainConfig getWlsDomainConfig() {
-      DomainPresenceInfo info = getPacket().getSpi(DomainPresenceInfo.class);
-      WlsDomainConfig domainConfig =
-          (WlsDomainConfig) getPacket().get(ProcessingConstants.DOMAIN_TOPOLOGY);
-      if (domainConfig == null) {
-        Scan scan = ScanCache.INSTANCE.lookupScan(info.getNamespace(), info.getDomainUid());
-        domainConfig = scan.getWlsDomainConfig();
-      }
-      return domainConfig;
+      return ReadHealthStep.getWlsDomainConfig(getPacket());
     }
 
     public Packet getPacket() {
@@ -324,7 +411,8 @@ public class ReadHealthStep extends Step {
     @Override
     public NextAction apply(Packet packet) {
       ReadHealthProcessing processing = new ReadHealthProcessing(packet, service, pod);
-      HttpRequest request = processing.createRequest(processing.getRequestUrl());
+      HttpRequest request = processing.createRequest(
+            processing.getRequestUrl(getRetrieveHealthSearchPath()), getRetrieveHealthSearchPayload());
       return doNext(createRequestStep(request, new RecordHealthStep(getNext())), packet);
     }
 
@@ -335,6 +423,77 @@ public class ReadHealthStep extends Step {
 
   }
 
+  /**
+   * Step to query the administration server for the state and health of all running servers.
+   * Packet values used:
+   *  SERVER_NAME                       the name of the administration server
+   *  DOMAIN_TOPOLOGY                   the topology of the domain
+   */
+  static final class ReadDomainHealthWithHttpStep extends Step {
+    private final V1Service service;
+    private final V1Pod pod;
+
+    ReadDomainHealthWithHttpStep(V1Service service, V1Pod pod, Step next) {
+      super(next);
+      this.service = service;
+      this.pod = pod;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      ReadHealthProcessing processing = new ReadHealthProcessing(packet, service, pod);
+      HttpRequest request = processing.createRequest(
+            processing.getRequestUrl(getRetrieveDomainHealthSearchPath()), getRetrieveDomainHealthSearchPayload());
+      return doNext(HttpAsyncRequestStep.create(request, new RecordDomainHealthStep(getNext()))
+            .withTimeoutSeconds(HTTP_TIMEOUT_SECONDS), packet);
+    }
+  }
+
+  /**
+   * {@link Step} for recording the state and health of each server reported by the administration server.
+   * Packet values used:
+   *  SERVER_HEALTH_BATCH               set to a map of server names to state and health
+   *  (spi) HttpResponse.class          the response from the server
+   */
+  static final class RecordDomainHealthStep extends HttpResponseStep {
+
+    RecordDomainHealthStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, HttpResponse<String> response) {
+      try {
+        packet.put(SERVER_HEALTH_BATCH, parseDomainHealthJson(response.body()));
+      } catch (IOException e) {
+        LOGGER.fine(MessageKeys.EXCEPTION, e);
+      }
+      return doNext(packet);
+    }
+
+    // The failure has already been logged by the request step. Each server's health will be read from the server.
+    @Override
+    public NextAction onFailure(Packet packet, HttpResponse<String> response) {
+      if (response.statusCode() == HTTP_UNAUTHORIZED) {
+        RecordHealthStep.evictCachedCredentials(packet.getSpi(DomainPresenceInfo.class));
+      }
+      return doNext(packet);
+    }
+
+    private static Map<String, Pair<String, ServerHealth>> parseDomainHealthJson(String jsonResult)
+          throws IOException {
+      Map<String, Pair<String, ServerHealth>> result = new HashMap<>();
+      JsonNode root = new ObjectMapper().readTree(jsonResult);
+      for (JsonNode serverRuntime : root.path("serverRuntimes").path("items")) {
+        String name = serverRuntime.path("name").asText(null);
+        if (name != null) {
+          result.put(name, RecordHealthStep.parseServerHealth(serverRuntime));
+        }
+      }
+      return result;
+    }
+  }
+
   /**
    * {@link Step} for processing json result object containing the response from the REST call.
    * Packet values used:
@@ -366,14 +525,25 @@ public class ReadHealthStep extends Step {
 
     @Override
     public NextAction onFailure(Packet packet, HttpResponse<String> response) {
-      try {
-        new HealthResponseProcessing(packet, response).recordFailedStateAndHealth();
-      } catch (IOException e) {
-        logReadFailure(packet);
+      if (isUnauthorized(response)) {
+        evictCachedCredentials(packet.getSpi(DomainPresenceInfo.class));
       }
+      new HealthResponseProcessing(packet, response).recordFailedStateAndHealth();
       return doNext(packet);
     }
 
+    private boolean isUnauthorized(HttpResponse<String> response) {
+      return response != null && response.statusCode() == HTTP_UNAUTHORIZED;
+    }
+
+    // The credentials may have changed without a watch event reaching the operator;
+    // the next health read will fetch them from the secret.
+    private static void evictCachedCredentials(DomainPresenceInfo info) {
+      Optional.ofNullable(info)
+            .map(DomainPresenceInfo::getDomain)
+            .map(Domain::getWebLogicCredentialsSecretName)
+            .ifPresent(name -> SecretHelper.removeCachedCredentials(info.getNamespace(), name));
+    }
 
     static class HealthResponseProcessing {
       private final String serverName;
@@ -382,7 +552,7 @@ public class ReadHealthStep extends Step {
       private String state;
       private ServerHealth health;
 
-      public HealthResponseProcessing(Packet packet, HttpResponse<String> response) throws IOException {
+      public HealthResponseProcessing(Packet packet, HttpResponse<String> response) {
         this.packet = packet;
         this.response = response;
 
@@ -404,7 +574,10 @@ public class ReadHealthStep extends Step {
       }
 
       void recordStateAndHealth() throws IOException {
-        Pair<String, ServerHealth> pair = RecordHealthStep.parseServerHealthJson(getResponse().body());
+        recordStateAndHealth(RecordHealthStep.parseServerHealthJson(getResponse().body()));
+      }
+
+      void recordStateAndHealth(Pair<String, ServerHealth> pair) {
         state = Strings.emptyToNull(pair.getLeft());
         health = pair.getRight();
         recordStateAndHealth(state, health);
@@ -456,9 +629,10 @@ public class ReadHealthStep extends Step {
         return null;
       }
 
-      ObjectMapper mapper = new ObjectMapper();
-      JsonNode root = mapper.readTree(jsonResult);
+      return parseServerHealth(new ObjectMapper().readTree(jsonResult));
+    }
 
+    private static Pair<String, ServerHealth> parseServerHealth(JsonNode root) {
       JsonNode healthState = null;
       JsonNode subsystemName = null;
       JsonNode symptoms = null;
@@ -0,0 +1,188 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.watcher;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.helpers.KubernetesUtils;
+
+/**
+ * An in-memory store of Kubernetes resources, maintained from watch events and indexed by namespace and domainUID.
+ * Out-of-order events, which carry an older resource version than the one already recorded, are ignored.
+ *
+ * @param <T> the type of resource indexed
+ */
+public class ResourceIndex<T extends KubernetesObject> implements WatchListener<T> {
+  private static final String NO_DOMAIN = "";
+
+  // namespace -> domainUID -> resource name -> resource
+  private final Map<String, Map<String, Map<String, T>>> resources = new ConcurrentHashMap<>();
+  private final Function<T, String> domainUidFunction;
+
+  /**
+   * Creates an index which obtains the domainUID of each resource from its domainUID label.
+   */
+  public ResourceIndex() {
+    this(r -> KubernetesUtils.getDomainUidLabel(r.getMetadata()));
+  }
+
+  /**
+   * Creates an index which uses the specified function to obtain the domainUID of each resource.
+   * @param domainUidFunction a function which returns the domainUID of a resource, or null if it has none
+   */
+  public ResourceIndex(Function<T, String> domainUidFunction) {
+    this.domainUidFunction = domainUidFunction;
+  }
+
+  @Override
+  public void receivedResponse(Watch.Response<T> response) {
+    if (response.object == null || response.object.getMetadata() == null) {
+      return;
+    }
+
+    switch (response.type) {
+      case "ADDED":
+      case "MODIFIED":
+        update(response.object);
+        break;
+      case "DELETED":
+        remove(response.object);
+        break;
+      case "ERROR":
+      default:
+    }
+  }
+
+  /**
+   * Records the specified resource, unless a newer version of it is already known.
+   * @param resource a resource read from Kubernetes
+   */
+  public void update(T resource) {
+    getDomainResources(getNamespace(resource), getDomainUid(resource))
+          .merge(getName(resource), resource, this::selectNewer);
+  }
+
+  private T selectNewer(T existing, T candidate) {
+    return isOlder(candidate, existing) ? existing : candidate;
+  }
+
+  private boolean isOlder(T first, T second) {
+    return KubernetesUtils.compareResourceVersions(first.getMetadata(), second.getMetadata()) < 0;
+  }
+
+  private void remove(T resource) {
+    getDomainResources(getNamespace(resource), getDomainUid(resource))
+          .computeIfPresent(getName(resource), (name, existing) -> isOlder(resource, existing) ? existing : null);
+  }
+
+  private Map<String, T> getDomainResources(String namespace, String domainUid) {
+    return resources
+          .computeIfAbsent(namespace, n -> new ConcurrentHashMap<>())
+          .computeIfAbsent(domainUid, d -> new ConcurrentHashMap<>());
+  }
+
+  private String getNamespace(T resource) {
+    return Optional.ofNullable(resource.getMetadata()).map(V1ObjectMeta::getNamespace).orElse("");
+  }
+
+  private String getName(T resource) {
+    return Optional.ofNullable(resource.getMetadata()).map(V1ObjectMeta::getName).orElse("");
+  }
+
+  private String getDomainUid(T resource) {
+    return Optional.ofNullable(domainUidFunction.apply(resource)).orElse(NO_DOMAIN);
+  }
+
+  /**
+   * Returns the resources currently known for the specified domain.
+   * @param namespace the namespace containing the domain
+   * @param domainUid the UID of the domain
+   * @return a list of resources, which is empty if none are known
+   */
+  @Nonnull
+  public List<T> getResources(String namespace, String domainUid) {
+    return Optional.ofNullable(resources.get(namespace))
+          .map(m -> m.get(domainUid))
+          .<List<T>>map(m -> new ArrayList<>(m.values()))
+          .orElse(Collections.emptyList());
+  }
+
+  /**
+   * Returns the resources currently known in the specified namespace.
+   * @param namespace a namespace
+   * @return a list of resources, which is empty if none are known
+   */
+  @Nonnull
+  public List<T> getResources(String namespace) {
+    List<T> result = new ArrayList<>();
+    Optional.ofNullable(resources.get(namespace))
+          .ifPresent(m -> m.values().forEach(domainResources -> result.addAll(domainResources.values())));
+    return result;
+  }
+
+  /**
+   * Discards all resources recorded for the specified namespace.
+   * @param namespace a namespace which is no longer of interest
+   */
+  public void removeNamespace(String namespace) {
+    resources.remove(namespace);
+  }
+
+  /**
+   * Returns the named resource, if known.
+   * @param namespace the namespace containing the resource
+   * @param domainUid the UID of the domain with which the resource is associated
+   * @param name the name of the resource
+   * @return the resource, or null if not known
+   */
+  public T getResource(String namespace, String domainUid, String name) {
+    return Optional.ofNullable(resources.get(namespace))
+          .map(m -> m.get(domainUid))
+          .map(m -> m.get(name))
+          .orElse(null);
+  }
+
+  /**
+   * Returns the UIDs of the domains for which resources are known in the specified namespace.
+   * @param namespace a namespace
+   * @return a sorted set of domain UIDs
+   */
+  @Nonnull
+  public Set<String> getDomainUids(String namespace) {
+    Set<String> result = new TreeSet<>();
+    Optional.ofNullable(resources.get(namespace))
+          .ifPresent(m -> m.forEach((uid, domainResources) -> addIfNotEmpty(result, uid, domainResources)));
+    result.remove(NO_DOMAIN);
+    return result;
+  }
+
+  private void addIfNotEmpty(Set<String> result, String domainUid, Map<String, T> domainResources) {
+    if (!domainResources.isEmpty()) {
+      result.add(domainUid);
+    }
+  }
+
+  /**
+   * Returns the total number of resources in this index.
+   * @return a count of resources
+   */
+  public int size() {
+    return resources.values().stream()
+          .flatMap(m -> m.values().stream())
+          .mapToInt(Map::size)
+          .sum();
+  }
+}
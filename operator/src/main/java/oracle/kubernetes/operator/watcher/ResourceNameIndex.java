@@ -0,0 +1,232 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.watcher;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.helpers.KubernetesUtils;
+
+/**
+ * An in-memory record of the names of Kubernetes resources in each namespace, maintained from a list of
+ * the namespace and then from watch events. Only the name and resource version of each resource are kept,
+ * so that the contents of large resources such as secrets are not retained. A namespace is considered
+ * indexed once every page of its list has been recorded.
+ *
+ * <p>A namespace may be listed again while its resources are being watched. Watch events received while the list
+ * was in progress may be newer than the list itself, so the index keeps the changes reported by watch events since
+ * the namespace was last listed, and applies those newer than the resource version of a list on top of it.
+ *
+ * @param <T> the type of resource whose names are recorded
+ */
+public class ResourceNameIndex<T extends KubernetesObject> implements WatchListener<T> {
+
+  // namespace -> resource name -> metadata holding only the name and resource version
+  private final Map<String, Map<String, V1ObjectMeta>> names = new ConcurrentHashMap<>();
+
+  // namespace -> names from the pages of a list which is still in progress
+  private final Map<String, Map<String, V1ObjectMeta>> pendingLists = new ConcurrentHashMap<>();
+
+  // namespace -> resource name -> the latest change reported by a watch event since the namespace was last listed
+  private final Map<String, Map<String, RecordedChange>> recentChanges = new ConcurrentHashMap<>();
+
+  @Override
+  public synchronized void receivedResponse(Watch.Response<T> response) {
+    V1ObjectMeta metadata = Optional.ofNullable(response.object).map(KubernetesObject::getMetadata).orElse(null);
+    if (metadata == null || !isIndexedOrListing(getNamespace(metadata))) {
+      return;
+    }
+
+    switch (response.type) {
+      case "ADDED":
+      case "MODIFIED":
+        recordChange(new RecordedChange(getNamespace(metadata), toNameOnly(metadata), false));
+        if (isIndexed(getNamespace(metadata))) {
+          update(metadata);
+        }
+        break;
+      case "DELETED":
+        recordChange(new RecordedChange(getNamespace(metadata), toNameOnly(metadata), true));
+        if (isIndexed(getNamespace(metadata))) {
+          remove(metadata);
+        }
+        break;
+      case "ERROR":
+      default:
+    }
+  }
+
+  private boolean isIndexedOrListing(String namespace) {
+    return isIndexed(namespace) || pendingLists.containsKey(namespace);
+  }
+
+  private void recordChange(RecordedChange change) {
+    recentChanges.computeIfAbsent(change.namespace, n -> new ConcurrentHashMap<>())
+          .merge(change.metadata.getName(), change, this::selectNewer);
+  }
+
+  private RecordedChange selectNewer(RecordedChange existing, RecordedChange candidate) {
+    return candidate.isOlderThan(existing) ? existing : candidate;
+  }
+
+  /**
+   * Replaces the names recorded for the specified namespace with those of a list of its resources,
+   * and marks the namespace as indexed.
+   * @param namespace the namespace which was listed
+   * @param resources the resources found in the namespace
+   */
+  public void recordList(String namespace, List<T> resources) {
+    recordList(namespace, resources, null, null);
+  }
+
+  /**
+   * Records the names from one page of a list of the resources in the specified namespace, without applying
+   * any changes reported by watch events.
+   * @param namespace the namespace which was listed
+   * @param resources the resources found in this page of the list
+   * @param continueToken the continue token returned with this page, or null if this is the last page
+   */
+  public void recordList(String namespace, List<T> resources, String continueToken) {
+    recordList(namespace, resources, continueToken, null);
+  }
+
+  /**
+   * Records the names from one page of a list of the resources in the specified namespace. The names from
+   * successive pages are merged; once the last page, which has no continue token, has been recorded,
+   * they replace the names recorded for the namespace, which is then marked as indexed. Changes reported by
+   * watch events which are newer than the list are then applied to the names from the list.
+   * @param namespace the namespace which was listed
+   * @param resources the resources found in this page of the list
+   * @param continueToken the continue token returned with this page, or null if this is the last page
+   * @param listResourceVersion the resource version of the list, or null if no watch events are to be applied
+   */
+  public synchronized void recordList(
+        String namespace, List<T> resources, String continueToken, String listResourceVersion) {
+    Map<String, V1ObjectMeta> listedNames = pendingLists.computeIfAbsent(namespace, n -> new ConcurrentHashMap<>());
+    for (T resource : resources) {
+      Optional.ofNullable(resource.getMetadata())
+            .map(this::toNameOnly)
+            .ifPresent(m -> listedNames.put(m.getName(), m));
+    }
+
+    if (continueToken == null || continueToken.isEmpty()) {
+      names.put(namespace, applyNewerChanges(namespace, pendingLists.remove(namespace), listResourceVersion));
+    }
+  }
+
+  private Map<String, V1ObjectMeta> applyNewerChanges(
+        String namespace, Map<String, V1ObjectMeta> listedNames, String listResourceVersion) {
+    Map<String, RecordedChange> changes = recentChanges.remove(namespace);
+    if (changes != null && listResourceVersion != null) {
+      changes.values().stream()
+            .filter(change -> change.isNewerThan(listResourceVersion))
+            .forEach(change -> change.applyTo(listedNames));
+    }
+    return listedNames;
+  }
+
+  private void update(V1ObjectMeta metadata) {
+    getNamespaceNames(metadata).merge(metadata.getName(), toNameOnly(metadata), this::selectNewer);
+  }
+
+  private V1ObjectMeta selectNewer(V1ObjectMeta existing, V1ObjectMeta candidate) {
+    return isOlder(candidate, existing) ? existing : candidate;
+  }
+
+  private boolean isOlder(V1ObjectMeta first, V1ObjectMeta second) {
+    return KubernetesUtils.compareResourceVersions(first, second) < 0;
+  }
+
+  private void remove(V1ObjectMeta metadata) {
+    getNamespaceNames(metadata)
+          .computeIfPresent(metadata.getName(), (name, existing) -> isOlder(metadata, existing) ? existing : null);
+  }
+
+  private Map<String, V1ObjectMeta> getNamespaceNames(V1ObjectMeta metadata) {
+    return names.computeIfAbsent(getNamespace(metadata), n -> new ConcurrentHashMap<>());
+  }
+
+  private String getNamespace(V1ObjectMeta metadata) {
+    return Optional.ofNullable(metadata.getNamespace()).orElse("");
+  }
+
+  private V1ObjectMeta toNameOnly(V1ObjectMeta metadata) {
+    return new V1ObjectMeta().name(metadata.getName()).resourceVersion(metadata.getResourceVersion());
+  }
+
+  /**
+   * Returns true if the names of resources in the specified namespace are known.
+   * @param namespace a namespace
+   * @return true if the namespace has been listed
+   */
+  public boolean isIndexed(String namespace) {
+    return names.containsKey(namespace);
+  }
+
+  /**
+   * Returns true if a resource with the specified name is known in the specified namespace.
+   * @param namespace a namespace
+   * @param name the name of a resource
+   * @return true if the resource is known to exist
+   */
+  public boolean contains(String namespace, String name) {
+    return Optional.ofNullable(names.get(namespace)).map(m -> m.containsKey(name)).orElse(false);
+  }
+
+  /**
+   * Returns the resource version of the resource with the specified name in the specified namespace.
+   * @param namespace a namespace
+   * @param name the name of a resource
+   * @return the resource version, or null if the resource is not known to exist
+   */
+  public String getResourceVersion(String namespace, String name) {
+    return Optional.ofNullable(names.get(namespace))
+          .map(m -> m.get(name))
+          .map(V1ObjectMeta::getResourceVersion)
+          .orElse(null);
+  }
+
+  /**
+   * Discards the names recorded for the specified namespace, which is no longer indexed.
+   * @param namespace a namespace which is no longer of interest
+   */
+  public synchronized void removeNamespace(String namespace) {
+    pendingLists.remove(namespace);
+    recentChanges.remove(namespace);
+    names.remove(namespace);
+  }
+
+  private class RecordedChange {
+    private final String namespace;
+    private final V1ObjectMeta metadata;
+    private final boolean deleted;
+
+    RecordedChange(String namespace, V1ObjectMeta metadata, boolean deleted) {
+      this.namespace = namespace;
+      this.metadata = metadata;
+      this.deleted = deleted;
+    }
+
+    boolean isOlderThan(RecordedChange other) {
+      return isOlder(metadata, other.metadata);
+    }
+
+    boolean isNewerThan(String resourceVersion) {
+      return KubernetesUtils.compareResourceVersions(metadata.getResourceVersion(), resourceVersion) > 0;
+    }
+
+    void applyTo(Map<String, V1ObjectMeta> listedNames) {
+      if (deleted) {
+        listedNames.computeIfPresent(metadata.getName(), (name, listed) -> isOlder(metadata, listed) ? listed : null);
+      } else {
+        listedNames.merge(metadata.getName(), metadata, ResourceNameIndex.this::selectNewer);
+      }
+    }
+  }
+}
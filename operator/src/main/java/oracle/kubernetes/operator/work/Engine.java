@@ -44,11 +44,32 @@ public class Engine {
    */
   public static ScheduledExecutorService wrappedExecutorService(String id, Container container) {
     ScheduledThreadPoolExecutor threadPool =
-        new ScheduledThreadPoolExecutor(DEFAULT_THREAD_COUNT, new DaemonThreadFactory(id));
+        new ScheduledThreadPoolExecutor(DEFAULT_THREAD_COUNT, new DaemonThreadFactory("engine-" + id + "-thread-"));
     threadPool.setRemoveOnCancelPolicy(true);
     return wrap(container, threadPool);
   }
 
+  /**
+   * Returns true if this JVM supports virtual threads, and so can create a
+   * {@link #virtualThreadExecutorService(String, Container) virtual thread executor service}.
+   * @return true if virtual threads are available
+   */
+  public static boolean isVirtualThreadSupported() {
+    return VirtualThreadExecutorService.isVirtualThreadSupported();
+  }
+
+  /**
+   * Creates an executor service which runs each fiber on its own virtual thread. Blocking steps therefore do not
+   * limit the number of fibers which may run concurrently. Delays are timed by a small, separate scheduler.
+   * @param id id
+   * @param container container
+   * @return executor service
+   * @throws IllegalStateException if this JVM does not support virtual threads
+   */
+  public static ScheduledExecutorService virtualThreadExecutorService(String id, Container container) {
+    return wrap(container, new VirtualThreadExecutorService(new DaemonThreadFactory("engine-" + id + "-scheduler-")));
+  }
+
   private static ScheduledExecutorService wrap(Container container, ScheduledExecutorService ex) {
     return container != null ? ContainerResolver.getDefault().wrapExecutor(container, ex) : ex;
   }
@@ -86,8 +107,8 @@ public class Engine {
     final AtomicInteger threadNumber = new AtomicInteger(1);
     final String namePrefix;
 
-    DaemonThreadFactory(String id) {
-      namePrefix = "engine-" + id + "-thread-";
+    DaemonThreadFactory(String namePrefix) {
+      this.namePrefix = namePrefix;
     }
 
     public Thread newThread(@Nonnull Runnable r) {
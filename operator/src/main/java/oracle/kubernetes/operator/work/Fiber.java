@@ -3,16 +3,14 @@
 
 package oracle.kubernetes.operator.work;
 
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Iterator;
-import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 import oracle.kubernetes.operator.logging.LoggingFacade;
@@ -42,11 +40,21 @@ import static oracle.kubernetes.operator.logging.MessageKeys.CURRENT_STEPS;
  * CCL when it's executing the fiber. The original CCL of the thread will be restored when the
  * thread leaves the fiber execution.
  *
+ * <h2>Concurrency</h2>
+ *
+ * <p>A fiber is run by at most one thread at a time. Which thread, if any, owns the fiber is tracked by a
+ * single atomic execution state, so that running, suspending and resuming a fiber take no locks. A fiber
+ * is marked as suspended before the suspending step's exit action runs, so that any resume triggered by
+ * that action finds it suspended; a resume which arrives while the fiber is not suspended is stale, and is
+ * ignored.
+ *
  * <h2>Debugging Aid</h2>
  *
  * <p>Setting the {@link #LOGGER} for FINE would give you basic start/stop/resume/suspend level
  * logging. Using FINER would cause more detailed logging, which includes what steps are executed in
- * what order and how they behaved.
+ * what order and how they behaved. Using FINEST also records, and logs on completion, a bread crumb
+ * trail of the steps executed by the fiber and its children; when FINEST is not enabled, no bread crumbs
+ * are recorded.
  */
 public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
@@ -56,28 +64,40 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber {
   private static final ThreadLocal<Fiber> CURRENT_FIBER = new ThreadLocal<>();
   /** Used to allocate unique number for each fiber. */
   private static final AtomicInteger iotaGen = new AtomicInteger();
+
+  /** The fiber has been created but not started. */
+  private static final ExecutionState NEW = new ExecutionState();
+  /** The fiber has been given to the engine to run, but no thread has yet started to run it. */
+  private static final ExecutionState SCHEDULED = new ExecutionState();
+  /** A thread is running the fiber. */
+  private static final ExecutionState RUNNING = new ExecutionState();
+  /** The fiber is suspended and no thread is running it. */
+  private static final ExecutionState SUSPENDED = new ExecutionState();
+  /** The fiber has completed or been cancelled, and will not run again. */
+  private static final ExecutionState FINISHED = new ExecutionState();
+
   public final Engine owner;
   private final Fiber parent;
   private final int id;
+  private final AtomicInteger status = new AtomicInteger(NOT_COMPLETE);
   /**
-   * Replace uses of synchronized(this) with this lock so that we can control unlocking for resume
-   * use cases.
+   * Which thread may update the next action, if any. A thread may only change the next action while it has moved
+   * the fiber into the RUNNING state, or when it has moved a SUSPENDED fiber to SCHEDULED in order to resume it.
    */
-  private final ReentrantLock lock = new ReentrantLock();
-  private final Condition condition = lock.newCondition();
-  private final AtomicInteger status = new AtomicInteger(NOT_COMPLETE);
+  private final AtomicReference<ExecutionState> execution = new AtomicReference<>(NEW);
   private final Map<String, Component> components = new ConcurrentHashMap<>();
+  private final AtomicInteger childCount = new AtomicInteger();
+  private final Queue<Fiber> children = new ConcurrentLinkedQueue<>();
+  private final AtomicReference<ExitCallback> exitCallback = new AtomicReference<>();
   /** The next action for this Fiber. */
-  private NextAction na;
-  private NextAction last;
+  private volatile NextAction na;
+  private volatile NextAction last;
   private final ClassLoader contextClassLoader;
   private CompletionCallback completionCallback;
   /** The thread on which this Fiber is currently executing, if applicable. */
   private volatile Thread currentThread;
-  private ExitCallback exitCallback;
-  private Collection<Fiber> children = null;
-  // Will only be populated if log level is at least FINE
-  private List<BreadCrumb> breadCrumbs = null;
+  // Will only be populated if log level is at least FINEST
+  private volatile Queue<BreadCrumb> breadCrumbs = null;
 
   Fiber(Engine engine) {
     this(engine, null);
@@ -86,7 +106,7 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber {
   Fiber(Engine engine, Fiber parent) {
     this.owner = engine;
     this.parent = parent;
-    id = (parent == null) ? iotaGen.incrementAndGet() : (parent.children.size() + 1);
+    id = (parent == null) ? iotaGen.incrementAndGet() : parent.childCount.incrementAndGet();
 
     // if this is run from another fiber, then we naturally inherit its context
     // classloader,
@@ -131,9 +151,10 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber {
     if (status.get() == NOT_COMPLETE) {
       LOGGER.finer("{0} started", getName());
       if (LOGGER.isFinestEnabled()) {
-        breadCrumbs = new ArrayList<>();
+        breadCrumbs = new ConcurrentLinkedQueue<>();
       }
 
+      execution.set(SCHEDULED);
       owner.addRunnable(this);
     }
   }
@@ -144,10 +165,10 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber {
    * next/first {@link Step} in the {@link Fiber}'s processing stack with the specified resume
    * packet as the parameter. If a fiber was suspended with specifying the next {@link Step}, then
    * the execution will be resumed, by calling the next step's {@link Step#apply(Packet)} method
-   * with the specified resume packet as the parameter. This method is implemented in a race-free
-   * way. Another thread can invoke this method even before this fiber goes into the suspension
-   * mode. So the caller need not worry about synchronizing {@link NextAction#suspend(Consumer)} and
-   * this method.
+   * with the specified resume packet as the parameter. The fiber is marked as suspended before the
+   * suspend action passed to {@link NextAction#suspend(Consumer)} is run, so that action, or any
+   * callback it starts, may resume the fiber at once, from any thread. A resume which arrives when the
+   * fiber is not suspended is ignored.
    *
    * @param resumePacket packet used in the resumed processing
    */
@@ -159,30 +180,16 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber {
         LOGGER.finer("{0} resumed", getName());
       }
 
-      boolean doAddRunnable = false;
-      lock.lock();
-      try {
+      if (execution.compareAndSet(SUSPENDED, SCHEDULED)) {
         if (LOGGER.isFinerEnabled()) {
           LOGGER.finer("{0} resuming.", getName());
         }
-        na.packet = resumePacket;
-        if (na.kind == Kind.SUSPEND) {
-          doAddRunnable = true;
-          NextAction resume = new NextAction();
-          resume.invoke(na.next, na.packet);
-          na = resume;
-        } else {
-          if (LOGGER.isFinerEnabled()) {
-            LOGGER.finer(
-                "{0} taking no action on resume because not suspended", getName());
-          }
-        }
-      } finally {
-        lock.unlock();
-
-        if (doAddRunnable) {
-          owner.addRunnable(this);
-        }
+        NextAction resume = new NextAction();
+        resume.invoke(na.next, resumePacket);
+        na = resume;
+        owner.addRunnable(this);
+      } else if (LOGGER.isFinerEnabled()) {
+        LOGGER.finer("{0} taking no action on resume because not suspended", getName());
       }
     }
   }
@@ -203,18 +210,14 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber {
       LOGGER.finer("{0} terminated", getName());
     }
 
-    lock.lock();
-    try {
-      if (na.kind != Kind.SUSPEND) {
-        throw new IllegalStateException();
-      }
-      na.terminate(t, packet);
-
-      addBreadCrumb(na);
-      completionCheck();
-    } finally {
-      lock.unlock();
+    if (!execution.compareAndSet(SUSPENDED, RUNNING)) {
+      throw new IllegalStateException();
     }
+
+    na.terminate(t, packet);
+    addBreadCrumb(na);
+    completionCheck();
+    execution.set(FINISHED);
   }
 
   /**
@@ -224,22 +227,17 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber {
    */
   @Override
   public Fiber createChildFiber() {
-    synchronized (this) {
-      if (children == null) {
-        children = new ArrayList<>();
-      }
-      Fiber child = owner.createChildFiber(this);
+    Fiber child = owner.createChildFiber(this);
 
-      children.add(child);
-      if (status.get() == NOT_COMPLETE) {
-        addBreadCrumb(child);
-      } else {
-        // Race condition where child is created after parent is cancelled or done
-        child.status.set(CANCELLED);
-      }
-
-      return child;
+    children.add(child);
+    if (status.get() == NOT_COMPLETE) {
+      addBreadCrumb(new ChildFiberBreadCrumb(child));
+    } else {
+      // Race condition where child is created after parent is cancelled or done
+      child.status.set(CANCELLED);
     }
+
+    return child;
   }
 
   /**
@@ -247,49 +245,39 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber {
    * @return Last invoked step for suspended fiber.
    */
   public Step getSuspendedStep() {
-    lock.lock();
-    try {
-      if (na != null && na.kind == Kind.SUSPEND) {
-        return last.next;
-      }
-      return null;
-    } finally {
-      lock.unlock();
+    NextAction current = na;
+    NextAction previous = last;
+    if (current != null && current.kind == Kind.SUSPEND && previous != null) {
+      return previous.next;
     }
+    return null;
   }
 
-  private boolean suspend(Holder<Boolean> isRequireUnlock, Consumer<AsyncFiber> onExit) {
+  /**
+   * Suspends the fiber, and then runs the specified callback, which may resume it.
+   * @param onExit the callback to run once the fiber is suspended, or null
+   */
+  private void suspend(Consumer<AsyncFiber> onExit) {
     if (LOGGER.isFinerEnabled()) {
       LOGGER.finer("{0} suspending", getName());
     }
 
-    if (onExit != null) {
-      /* INTENTIONALLY UNLOCKING EARLY */
-      synchronized (this) {
-        // currentThread is protected by the monitor for this fiber so
-        // that it is accessible to cancel() even when the lock is held
-        currentThread = null;
-      }
-      lock.unlock();
-      assert (!lock.isHeldByCurrentThread());
-      isRequireUnlock.value = Boolean.FALSE;
+    currentThread = null;
+    execution.set(SUSPENDED);
 
+    if (onExit != null) {
       try {
         onExit.accept(this);
       } catch (Throwable t) {
         throw new OnExitRunnableException(t);
       } finally {
-        synchronized (this) {
-          if (currentThread == null) {
-            triggerExitCallback();
-          }
+        if (currentThread == null) {
+          triggerExitCallback();
         }
       }
-
-      return true;
+    } else {
+      triggerExitCallback();
     }
-
-    return false;
   }
 
   /**
@@ -297,7 +285,7 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber {
    */
   @Override
   public void run() {
-    if (status.get() == NOT_COMPLETE) {
+    if (status.get() == NOT_COMPLETE && execution.compareAndSet(SCHEDULED, RUNNING)) {
       clearThreadInterruptedStatus();
 
       final Fiber oldFiber = CURRENT_FIBER.get();
@@ -306,6 +294,7 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber {
         // doRun returns true to indicate an early exit from fiber processing
         if (!doRun()) {
           completionCheck();
+          execution.set(FINISHED);
         }
       } finally {
         CURRENT_FIBER.set(oldFiber);
@@ -318,111 +307,86 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber {
     Thread.interrupted();
   }
 
+  // Only called by the thread which has moved the fiber to the RUNNING state.
   private void completionCheck() {
-    lock.lock();
-    try {
-      // Don't trigger completion and callbacks if fiber is suspended, unless
-      // throwable
-      int s = status.get();
-      if (s == CANCELLED
-          || (s == NOT_COMPLETE
-              && (na.throwable != null || (na.next == null && na.kind != Kind.SUSPEND)))) {
-        if (LOGGER.isFinerEnabled()) {
-          LOGGER.finer("{0} completed", getName());
-        }
+    // Don't trigger completion and callbacks if fiber is suspended, unless
+    // throwable
+    int s = status.get();
+    if (s == CANCELLED
+        || (s == NOT_COMPLETE
+            && (na.throwable != null || (na.next == null && na.kind != Kind.SUSPEND)))) {
+      if (LOGGER.isFinerEnabled()) {
+        LOGGER.finer("{0} completed", getName());
+      }
 
-        recordBreadCrumb();
-        try {
-          if (s == NOT_COMPLETE && completionCallback != null) {
-            if (na.throwable != null) {
-              completionCallback.onThrowable(na.packet, na.throwable);
-            } else {
-              completionCallback.onCompletion(na.packet);
-            }
+      recordBreadCrumb();
+      try {
+        if (s == NOT_COMPLETE && completionCallback != null) {
+          if (na.throwable != null) {
+            completionCallback.onThrowable(na.packet, na.throwable);
+          } else {
+            completionCallback.onCompletion(na.packet);
           }
-        } catch (Throwable t) {
-          LOGGER.fine(MessageKeys.EXCEPTION, t);
-        } finally {
-          status.compareAndSet(NOT_COMPLETE, DONE);
-          condition.signalAll();
         }
+      } catch (Throwable t) {
+        LOGGER.fine(MessageKeys.EXCEPTION, t);
+      } finally {
+        status.compareAndSet(NOT_COMPLETE, DONE);
       }
-    } finally {
-      lock.unlock();
     }
   }
 
   /** Executes the fiber as much as possible. */
   private boolean doRun() {
-    // isRequireUnlock will contain Boolean.FALSE when lock has already been
-    // released in suspend
-    Holder<Boolean> isRequireUnlock = new Holder<>(Boolean.TRUE);
-    lock.lock();
-    try {
-      ClassLoader old;
-      synchronized (this) {
-        // currentThread is protected by the monitor for this fiber so
-        // that it is accessible to cancel() even when the lock is held
-        currentThread = Thread.currentThread();
-        if (LOGGER.isFinerEnabled()) {
-          LOGGER.finer("Thread entering doRunInternal(): {0}", currentThread);
-        }
+    Thread thread = Thread.currentThread();
+    currentThread = thread;
+    if (LOGGER.isFinerEnabled()) {
+      LOGGER.finer("Thread entering doRunInternal(): {0}", thread);
+    }
 
-        old = currentThread.getContextClassLoader();
-        currentThread.setContextClassLoader(contextClassLoader);
-      }
+    ClassLoader old = thread.getContextClassLoader();
+    thread.setContextClassLoader(contextClassLoader);
 
-      try {
-        return doRunInternal(isRequireUnlock);
-      } catch (OnExitRunnableException o) {
-        // catching this exception indicates onExitRunnable in suspend() threw.
-        // we must still avoid double unlock
-        Throwable t = o.target;
-        if (t instanceof Error) {
-          throw (Error) t;
-        }
-        if (t instanceof RuntimeException) {
-          throw (RuntimeException) t;
-        }
-        throw new RuntimeException(t);
-      } finally {
-        // reacquire current thread here because fiber processing
-        // may already be running on a different thread (Note: isAlreadyExited
-        // tracks this state
-        Thread thread = Thread.currentThread();
-        thread.setContextClassLoader(old);
-        if (LOGGER.isFinerEnabled()) {
-          LOGGER.finer("Thread leaving doRunInternal(): {0}", thread);
-        }
+    boolean isSuspended = false;
+    try {
+      isSuspended = doRunInternal();
+      return isSuspended;
+    } catch (OnExitRunnableException o) {
+      // catching this exception indicates onExitRunnable in suspend() threw.
+      isSuspended = true;
+      Throwable t = o.target;
+      if (t instanceof Error) {
+        throw (Error) t;
       }
+      if (t instanceof RuntimeException) {
+        throw (RuntimeException) t;
+      }
+      throw new RuntimeException(t);
     } finally {
-      if (isRequireUnlock.value) {
-        synchronized (this) {
-          currentThread = null;
-          triggerExitCallback();
-        }
-        lock.unlock();
+      thread.setContextClassLoader(old);
+      if (LOGGER.isFinerEnabled()) {
+        LOGGER.finer("Thread leaving doRunInternal(): {0}", thread);
+      }
+      if (!isSuspended) {
+        currentThread = null;
+        triggerExitCallback();
       }
     }
   }
 
   private void triggerExitCallback() {
-    synchronized (this) {
-      if (exitCallback != null) {
+    ExitCallback callback = exitCallback.getAndSet(null);
+    if (callback != null) {
 
-        if (LOGGER.isFinerEnabled()) {
-          LOGGER.finer("{0} triggering exit callback", getName());
-        }
-
-        exitCallback.onExit();
+      if (LOGGER.isFinerEnabled()) {
+        LOGGER.finer("{0} triggering exit callback", getName());
       }
-      exitCallback = null;
+
+      callback.onExit();
     }
   }
 
-  private boolean doRunInternal(Holder<Boolean> isRequireUnlock) {
-    assert (lock.isHeldByCurrentThread());
-
+  private boolean doRunInternal() {
     while (isReady()) {
       if (status.get() != NOT_COMPLETE) {
         na = new NextAction();
@@ -476,10 +440,8 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber {
           break;
         case SUSPEND:
           addBreadCrumb(new SuspendMarkerBreadCrumb());
-          if (suspend(isRequireUnlock, result.onExit)) {
-            return true; // explicitly exiting control loop
-          }
-          break;
+          suspend(result.onExit);
+          return true; // explicitly exiting control loop
         case THROW:
           addBreadCrumb(result);
           return false;
@@ -552,79 +514,72 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber {
 
     AtomicInteger count = new AtomicInteger(1); // ensure we don't hit zero before iterating
     // children
-    synchronized (this) {
-      if (currentThread != null) {
-        if (mayInterrupt) {
-          currentThread.interrupt();
-        }
-        count.incrementAndGet();
+    Thread thread = currentThread;
+    if (thread != null) {
+      if (mayInterrupt) {
+        thread.interrupt();
       }
+      count.incrementAndGet();
+    }
 
-      ExitCallback preexistingExitCallback = this.exitCallback;
-      ExitCallback myCallback =
-          () -> {
-            if (count.decrementAndGet() == 0) {
-              if (preexistingExitCallback != null) {
-                preexistingExitCallback.onExit();
-              }
-              exitCallback.onExit();
+    AtomicReference<ExitCallback> preexistingExitCallback = new AtomicReference<>();
+    ExitCallback myCallback =
+        () -> {
+          if (count.decrementAndGet() == 0) {
+            if (preexistingExitCallback.get() != null) {
+              preexistingExitCallback.get().onExit();
             }
-          };
-
-      if (children != null) {
-        for (Fiber child : children) {
-          if (child.cancelAndExitCallback(mayInterrupt, myCallback)) {
-            count.incrementAndGet();
+            exitCallback.onExit();
           }
-        }
-      }
+        };
 
-      boolean isWillCall = count.get() > 1; // more calls outstanding then our initial buffer count
-      if (isWillCall) {
-        this.exitCallback = myCallback;
-        myCallback.onExit(); // remove the buffer count
+    for (Fiber child : children) {
+      if (child.cancelAndExitCallback(mayInterrupt, myCallback)) {
+        count.incrementAndGet();
       }
-
-      return isWillCall;
     }
-  }
 
-  private synchronized void addBreadCrumb(NextAction na) {
-    if (breadCrumbs != null) {
-      breadCrumbs.add(new NextActionBreadCrumb(na));
+    boolean isWillCall = count.get() > 1; // more calls outstanding then our initial buffer count
+    if (isWillCall) {
+      preexistingExitCallback.set(this.exitCallback.getAndSet(myCallback));
+      if (thread != null && currentThread == null) {
+        // the thread left the fiber before the callback was registered
+        triggerExitCallback();
+      }
+      myCallback.onExit(); // remove the buffer count
     }
+
+    return isWillCall;
   }
 
-  private synchronized void addBreadCrumb(Fiber child) {
-    if (breadCrumbs != null) {
-      breadCrumbs.add(new ChildFiberBreadCrumb(child));
-    }
+  private void addBreadCrumb(NextAction na) {
+    addBreadCrumb(new NextActionBreadCrumb(na));
   }
 
-  private synchronized void addBreadCrumb(BreadCrumb bc) {
-    if (breadCrumbs != null) {
-      breadCrumbs.add(bc);
+  private void addBreadCrumb(BreadCrumb bc) {
+    Queue<BreadCrumb> crumbs = breadCrumbs;
+    if (crumbs != null) {
+      crumbs.add(bc);
     }
   }
 
-  private synchronized void recordBreadCrumb() {
-    if (breadCrumbs != null) {
-      if (parent == null) {
-        StringBuilder sb = new StringBuilder();
-        writeBreadCrumb(sb);
+  private void recordBreadCrumb() {
+    if (breadCrumbs != null && parent == null) {
+      StringBuilder sb = new StringBuilder();
+      writeBreadCrumb(sb);
 
-        if (LOGGER.isFinestEnabled()) {
-          LOGGER.finest("{0} bread crumb: {1}", getName(), sb.toString());
-        }
-        breadCrumbs = null;
+      if (LOGGER.isFinestEnabled()) {
+        LOGGER.finest("{0} bread crumb: {1}", getName(), sb.toString());
       }
+      breadCrumbs = null;
     }
   }
 
-  private synchronized void writeBreadCrumb(StringBuilder sb) {
-    if (breadCrumbs != null) {
+  private void writeBreadCrumb(StringBuilder sb) {
+    Queue<BreadCrumb> crumbs = breadCrumbs;
+    if (crumbs != null) {
       sb.append('[');
-      Iterator<BreadCrumb> it = breadCrumbs.iterator();
+      Iterator<BreadCrumb> it = crumbs.iterator();
       BreadCrumb previous = null;
       while (it.hasNext()) {
         BreadCrumb bc = it.next();
@@ -771,11 +726,7 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber {
     }
   }
 
-  private static final class Holder<T> {
-    T value;
-
-    Holder(T value) {
-      this.value = value;
-    }
+  /** A state in the execution of a fiber. */
+  private static class ExecutionState {
   }
 }
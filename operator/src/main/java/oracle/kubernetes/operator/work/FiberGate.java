@@ -44,6 +44,17 @@ public class FiberGate {
     return new HashMap<>(gateMap);
   }
 
+  /**
+   * Cancels all fibers started by this gate. Used when the work for which the gate was created is abandoned;
+   * no further fibers should be started in the gate.
+   */
+  public synchronized void cancelAll() {
+    gateMap.values().stream()
+          .filter(fiber -> fiber != placeholder)
+          .forEach(fiber -> fiber.cancelAndExitCallback(true, () -> { }));
+    gateMap.clear();
+  }
+
   public ScheduledExecutorService getExecutor() {
     return engine.getExecutor();
   }
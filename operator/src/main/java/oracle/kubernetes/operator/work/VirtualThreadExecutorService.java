@@ -0,0 +1,199 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import javax.annotation.Nonnull;
+
+/**
+ * An executor service which runs each task on its own virtual thread, so that fibers which block, for example on
+ * a synchronous Kubernetes call or a kubectl exec, do not prevent other fibers from running. It may only be
+ * created where the JVM supports virtual threads.
+ *
+ * <p>Delayed tasks are timed by a small, separate scheduler, and handed off to a thread of their own when they
+ * become due. Periodic tasks are run directly by the scheduler, and so are expected to do no more than start
+ * other work, as those of the operator do.
+ */
+class VirtualThreadExecutorService extends AbstractExecutorService implements ScheduledExecutorService {
+  private static final int SCHEDULER_THREAD_COUNT = 2;
+  private static final String VIRTUAL_THREAD_FACTORY_METHOD = "newVirtualThreadPerTaskExecutor";
+
+  private final ExecutorService taskExecutor;
+  private final ScheduledThreadPoolExecutor scheduler;
+
+  VirtualThreadExecutorService(ThreadFactory schedulerThreadFactory) {
+    this(createVirtualThreadExecutor(), schedulerThreadFactory);
+  }
+
+  // for unit testing on JVMs without virtual threads
+  VirtualThreadExecutorService(ExecutorService taskExecutor, ThreadFactory schedulerThreadFactory) {
+    this.taskExecutor = taskExecutor;
+    scheduler = new ScheduledThreadPoolExecutor(SCHEDULER_THREAD_COUNT, schedulerThreadFactory);
+    scheduler.setRemoveOnCancelPolicy(true);
+  }
+
+  /**
+   * Returns true if this JVM can run tasks on virtual threads.
+   * @return true if virtual threads are available
+   */
+  static boolean isVirtualThreadSupported() {
+    return getVirtualThreadFactoryMethod() != null;
+  }
+
+  private static Method getVirtualThreadFactoryMethod() {
+    try {
+      return Executors.class.getMethod(VIRTUAL_THREAD_FACTORY_METHOD);
+    } catch (NoSuchMethodException e) {
+      return null;
+    }
+  }
+
+  private static ExecutorService createVirtualThreadExecutor() {
+    Method factoryMethod = getVirtualThreadFactoryMethod();
+    if (factoryMethod == null) {
+      throw new IllegalStateException("Virtual threads are not supported by this JVM");
+    }
+
+    try {
+      return (ExecutorService) factoryMethod.invoke(null);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @Override
+  public void execute(@Nonnull Runnable command) {
+    taskExecutor.execute(command);
+  }
+
+  @Override
+  @Nonnull
+  public ScheduledFuture<?> schedule(@Nonnull Runnable command, long delay, @Nonnull TimeUnit unit) {
+    return schedule(Executors.callable(command), delay, unit);
+  }
+
+  @Override
+  @Nonnull
+  public <V> ScheduledFuture<V> schedule(@Nonnull Callable<V> callable, long delay, @Nonnull TimeUnit unit) {
+    FutureTask<V> task = new FutureTask<>(callable);
+    return new HandoffFuture<>(task, scheduler.schedule(() -> handoff(task), delay, unit));
+  }
+
+  private void handoff(FutureTask<?> task) {
+    if (!task.isDone()) {
+      taskExecutor.execute(task);
+    }
+  }
+
+  @Override
+  @Nonnull
+  public ScheduledFuture<?> scheduleAtFixedRate(
+        @Nonnull Runnable command, long initialDelay, long period, @Nonnull TimeUnit unit) {
+    return scheduler.scheduleAtFixedRate(command, initialDelay, period, unit);
+  }
+
+  @Override
+  @Nonnull
+  public ScheduledFuture<?> scheduleWithFixedDelay(
+        @Nonnull Runnable command, long initialDelay, long delay, @Nonnull TimeUnit unit) {
+    return scheduler.scheduleWithFixedDelay(command, initialDelay, delay, unit);
+  }
+
+  @Override
+  public void shutdown() {
+    scheduler.shutdown();
+    taskExecutor.shutdown();
+  }
+
+  @Override
+  @Nonnull
+  public List<Runnable> shutdownNow() {
+    List<Runnable> pending = new ArrayList<>(scheduler.shutdownNow());
+    pending.addAll(taskExecutor.shutdownNow());
+    return pending;
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return scheduler.isShutdown() && taskExecutor.isShutdown();
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return scheduler.isTerminated() && taskExecutor.isTerminated();
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, @Nonnull TimeUnit unit) throws InterruptedException {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    return scheduler.awaitTermination(timeout, unit)
+          && taskExecutor.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * The future for a delayed task, which reports the delay of the scheduler's timer,
+   * and the outcome of the task once it has run on its own thread.
+   */
+  private static class HandoffFuture<V> implements ScheduledFuture<V> {
+    private final FutureTask<V> task;
+    private final ScheduledFuture<?> timer;
+
+    HandoffFuture(FutureTask<V> task, ScheduledFuture<?> timer) {
+      this.task = task;
+      this.timer = timer;
+    }
+
+    @Override
+    public long getDelay(@Nonnull TimeUnit unit) {
+      return timer.getDelay(unit);
+    }
+
+    @Override
+    public int compareTo(@Nonnull Delayed o) {
+      return timer.compareTo(o);
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+      timer.cancel(false);
+      return task.cancel(mayInterruptIfRunning);
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return task.isCancelled();
+    }
+
+    @Override
+    public boolean isDone() {
+      return task.isDone();
+    }
+
+    @Override
+    public V get() throws InterruptedException, ExecutionException {
+      return task.get();
+    }
+
+    @Override
+    public V get(long timeout, @Nonnull TimeUnit unit)
+          throws InterruptedException, ExecutionException, TimeoutException {
+      return task.get(timeout, unit);
+    }
+  }
+}
@@ -194,7 +194,7 @@ public class ClusterStatus implements Comparable<ClusterStatus>, PatchableCompon
   }
 
   private static final ObjectPatch<ClusterStatus> clusterPatch = createObjectPatch(ClusterStatus.class)
-        .withStringField("clusterName", ClusterStatus::getClusterName)
+        .withKeyField("clusterName", ClusterStatus::getClusterName)
         .withIntegerField("maximumReplicas", ClusterStatus::getMaximumReplicas)
         .withIntegerField("minimumReplicas", ClusterStatus::getMinimumReplicas)
         .withIntegerField("readyReplicas", ClusterStatus::getReadyReplicas)
@@ -246,10 +246,12 @@ public class DomainCondition implements Comparable<DomainCondition>, PatchableCo
   }
 
   private static final ObjectPatch<DomainCondition> conditionPatch = createObjectPatch(DomainCondition.class)
+        .withDateTimeField("lastProbeTime", DomainCondition::getLastProbeTime)
+        .withDateTimeField("lastTransitionTime", DomainCondition::getLastTransitionTime)
         .withStringField("message", DomainCondition::getMessage)
         .withStringField("reason", DomainCondition::getReason)
         .withStringField("status", DomainCondition::getStatus)
-        .withEnumField("type", DomainCondition::getType);
+        .withKeyField("type", c -> c.getType().toString());
 
   static ObjectPatch<DomainCondition> getObjectPatch() {
     return conditionPatch;
@@ -523,6 +523,7 @@ public class DomainStatus {
         .withStringField("reason", DomainStatus::getReason)
         .withIntegerField("introspectJobFailureCount", DomainStatus::getIntrospectJobFailureCount)
         .withIntegerField("replicas", DomainStatus::getReplicas)
+        .withDateTimeField("startTime", DomainStatus::getStartTime)
         .withListField("conditions", DomainCondition.getObjectPatch(), DomainStatus::getConditions)
         .withListField("clusters", ClusterStatus.getObjectPatch(), DomainStatus::getClusters)
         .withListField("servers", ServerStatus.getObjectPatch(), DomainStatus::getServers);
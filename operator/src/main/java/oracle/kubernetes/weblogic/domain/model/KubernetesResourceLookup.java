@@ -25,4 +25,24 @@ public interface KubernetesResourceLookup {
    * @return true if such a configmap exists
    */
   boolean isConfigMapExists(String name, String namespace);
+
+  /**
+   * Returns the resource version of the secret with the specified name and namespace, if known.
+   * @param name the name of the secret
+   * @param namespace the containing namespace
+   * @return the resource version, or null if it is not known
+   */
+  default String getSecretResourceVersion(String name, String namespace) {
+    return null;
+  }
+
+  /**
+   * Returns the resource version of the configmap with the specified name and namespace, if known.
+   * @param name the name of the configmap
+   * @param namespace the containing namespace
+   * @return the resource version, or null if it is not known
+   */
+  default String getConfigMapResourceVersion(String name, String namespace) {
+    return null;
+  }
 }
@@ -5,6 +5,7 @@ package oracle.kubernetes.weblogic.domain.model;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -30,6 +31,7 @@ import org.joda.time.format.ISODateTimeFormat;
 class ObjectPatch<T> {
   private final List<FieldPatch<T>> fields = new ArrayList<>();
   private Supplier<T> constructor;
+  private StringField<T> keyField;
 
   @SuppressWarnings("unused")
   static <S> ObjectPatch<S> createObjectPatch(Class<S> forClass) {
@@ -46,6 +48,21 @@ class ObjectPatch<T> {
     return this;
   }
 
+  /**
+   * Identifies the field which distinguishes an object from the others in a list. A patch which updates
+   * or removes such an object by its position in the list will first test that the object at that position
+   * still has the expected key, so that the patch fails, rather than changing the wrong object,
+   * if the list has changed since it was read.
+   * @param fieldName the name of the key field
+   * @param getter a function to return the key
+   * @return this object
+   */
+  ObjectPatch<T> withKeyField(String fieldName, Function<T,String> getter) {
+    keyField = new StringField<>(fieldName, getter);
+    fields.add(keyField);
+    return this;
+  }
+
   ObjectPatch<T> withIntegerField(String fieldName, Function<T,Integer> getter) {
     fields.add(new IntegerField<>(fieldName, getter));
     return this;
@@ -107,6 +124,10 @@ class ObjectPatch<T> {
     return constructor.get();
   }
 
+  private void testKey(JsonPatchBuilder builder, String itemPath, T item) {
+    Optional.ofNullable(keyField).ifPresent(k -> k.testValue(builder, itemPath, item));
+  }
+
   private void replaceItem(JsonPatchBuilder builder, String parent, T oldItem, T newItem) {
     for (FieldPatch<T> field : fields) {
       field.patchField(builder, parent, oldItem, newItem);
@@ -159,6 +180,10 @@ class ObjectPatch<T> {
 
     abstract void addToObject(JsonObjectBuilder builder, String name, S value);
 
+    S getValue(T instance) {
+      return getter.apply(instance);
+    }
+
     @Override
     public void patchField(JsonPatchBuilder builder, String parent, T oldItem, T newItem) {
       patchFieldValue(builder, getPath(parent), getter.apply(oldItem), getter.apply(newItem));
@@ -247,6 +272,10 @@ class ObjectPatch<T> {
     void addField(JsonPatchBuilder builder, String path, String newValue) {
       builder.add(path, newValue);
     }
+
+    void testValue(JsonPatchBuilder builder, String parent, T item) {
+      Optional.ofNullable(getValue(item)).ifPresent(v -> builder.test(getPath(parent), v));
+    }
   }
 
   static class DateTimeField<T> extends StringField<T> {
@@ -327,6 +356,7 @@ class ObjectPatch<T> {
 
       for (int i = 0; i < oldItems.length; i++) {
         if (disposition.get(i).type == DispositionType.UPDATE) {
+          objectPatch.testKey(builder, getPath(parent) + "/" + i, oldItems[i]);
           objectPatch.replaceItem(
               builder, getPath(parent) + "/" + i, oldItems[i], newItems[disposition.get(i).newIndex]);
         }
@@ -334,6 +364,7 @@ class ObjectPatch<T> {
 
       for (int i = disposition.size() - 1; i >= 0; i--) {
         if (disposition.get(i).type == DispositionType.REMOVE) {
+          objectPatch.testKey(builder, getPath(parent) + "/" + i, oldItems[i]);
           removePatch(builder, getPath(parent), i);
         }
       }
@@ -432,7 +463,10 @@ class ObjectPatch<T> {
       List<String> addedItems = getDifference(newItems, oldItems);
       List<String> removedItems = getDifference(oldItems, newItems);
 
-      removedItems.forEach(e -> removeFromList(builder, parent, oldItems.indexOf(e)));
+      removedItems.stream()
+            .map(oldItems::indexOf)
+            .sorted(Comparator.reverseOrder())
+            .forEach(i -> removeFromList(builder, parent, i));
       addedItems.forEach(e -> addToList(builder, parent, e));
     }
 
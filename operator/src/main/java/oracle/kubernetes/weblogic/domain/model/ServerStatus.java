@@ -303,7 +303,7 @@ public class ServerStatus implements Comparable<ServerStatus>, PatchableComponen
   }
 
   private static final ObjectPatch<ServerStatus> serverPatch = createObjectPatch(ServerStatus.class)
-        .withStringField("serverName", ServerStatus::getServerName)
+        .withKeyField("serverName", ServerStatus::getServerName)
         .withStringField("clusterName", ServerStatus::getClusterName)
         .withStringField("state", ServerStatus::getState)
         .withStringField("desiredState", ServerStatus::getDesiredState)
@@ -166,7 +166,7 @@ public class SubsystemHealth implements Comparable<SubsystemHealth>, PatchableCo
 
   private static final ObjectPatch<SubsystemHealth> healthPatch = createObjectPatch(SubsystemHealth.class)
         .withStringField("health", SubsystemHealth::getHealth)
-        .withStringField("subsystemName", SubsystemHealth::getSubsystemName)
+        .withKeyField("subsystemName", SubsystemHealth::getSubsystemName)
         .withListField("symptoms", SubsystemHealth::getSymptoms);
 
   static ObjectPatch<SubsystemHealth> getObjectPatch() {
@@ -11,12 +11,12 @@ WDT_MINIMUM_VERSION="1.7.3"
 INTROSPECTCM_IMAGE_MD5="/weblogic-operator/introspectormii/inventory_image.md5"
 INTROSPECTCM_CM_MD5="/weblogic-operator/introspectormii/inventory_cm.md5"
 INTROSPECTCM_PASSPHRASE_MD5="/weblogic-operator/introspectormii/inventory_passphrase.md5"
-INTROSPECTCM_MERGED_MODEL="/weblogic-operator/introspectormii/merged_model.json"
+INTROSPECTCM_MERGED_MODEL="$(getIntrospectorFile /weblogic-operator/introspectormii merged_model.json)"
 INTROSPECTCM_WLS_VERSION="/weblogic-operator/introspectormii/wls.version"
 INTROSPECTCM_JDK_PATH="/weblogic-operator/introspectormii/jdk.path"
 INTROSPECTCM_SECRETS_AND_ENV_MD5="/weblogic-operator/introspectormii/secrets_and_env.md5"
 DOMAIN_ZIPPED="/weblogic-operator/introspectormii/domainzip.secure"
-PRIMORDIAL_DOMAIN_ZIPPED="/weblogic-operator/introspectormii/primordial_domainzip.secure"
+PRIMORDIAL_DOMAIN_ZIPPED="$(getIntrospectorFile /weblogic-operator/introspectormii primordial_domainzip.secure)"
 INTROSPECTJOB_IMAGE_MD5="/tmp/inventory_image.md5"
 INTROSPECTJOB_CM_MD5="/tmp/inventory_cm.md5"
 INTROSPECTJOB_PASSPHRASE_MD5="/tmp/inventory_passphrase.md5"
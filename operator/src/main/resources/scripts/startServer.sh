@@ -103,6 +103,31 @@ function startWLS() {
   fi
 }
 
+#
+# Define function to start the responder which reports the server state to the operator
+# over HTTP, so that the operator need not exec readState.sh in this pod.
+#
+
+function startStateProbe() {
+  local python_cmd
+  local pod_ip=$(hostname -i 2>/dev/null | awk '{print $1}')
+  for python_cmd in python3 python /usr/libexec/platform-python; do
+    if command -v ${python_cmd} > /dev/null 2>&1; then
+      trace "Starting the server state responder on ${pod_ip:-the pod address}, port ${STATE_PROBE_PORT}"
+      ${python_cmd} ${SCRIPTPATH}/stateServer.py ${STATE_PROBE_PORT} ${pod_ip} &
+      local probe_pid=$!
+      sleep 1
+      if ! kill -0 ${probe_pid} > /dev/null 2>&1; then
+        trace WARNING "The server state responder could not be started;" \
+                      "the operator will read the server state with readState.sh"
+      fi
+      return
+    fi
+  done
+  trace WARNING "No python interpreter found; the server state responder could not be started;" \
+                "the operator will read the server state with readState.sh"
+}
+
 function mockWLS() {
 
   trace "Mocking WebLogic Server"
@@ -168,23 +193,26 @@ function prepareMIIServer() {
 
   trace "Model-in-Image: Creating domain home."
 
+  local primordial_domain_zipped="$(getIntrospectorFile /weblogic-operator/introspector primordial_domainzip.secure)"
+  local domain_zipped="$(getIntrospectorFile /weblogic-operator/introspector domainzip.secure)"
+
   # primordial domain contain the basic structures, security and other fmwconfig templated info
   # domainzip only contains the domain configuration (config.xml jdbc/ jms/)
   # Both are needed for the complete domain reconstruction
 
-  if [ ! -f /weblogic-operator/introspector/primordial_domainzip.secure ] ; then
+  if [ ! -f ${primordial_domain_zipped} ] ; then
     trace SEVERE "Domain Source Type is FromModel, the primordial model archive is missing, cannot start server"
     return 1
   fi
 
-  if [ ! -f /weblogic-operator/introspector/domainzip.secure ] ; then
+  if [ ! -f ${domain_zipped} ] ; then
     trace SEVERE  "Domain type is FromModel, the domain configuration archive is missing, cannot start server"
     return 1
   fi
 
   trace "Model-in-Image: Restoring primordial domain"
   cd / || return 1
-  base64 -d /weblogic-operator/introspector/primordial_domainzip.secure > /tmp/domain.tar.gz || return 1
+  base64 -d ${primordial_domain_zipped} > /tmp/domain.tar.gz || return 1
   tar -xzf /tmp/domain.tar.gz || return 1
 
   trace "Model-in-Image: Restore domain secret"
@@ -202,7 +230,7 @@ function prepareMIIServer() {
   #
   trace "Model-in-Image: Restore domain config"
   cd / || return 1
-  base64 -d /weblogic-operator/introspector/domainzip.secure > /tmp/domain.tar.gz || return 1
+  base64 -d ${domain_zipped} > /tmp/domain.tar.gz || return 1
   tar -xzf /tmp/domain.tar.gz || return 1
   chmod +x ${DOMAIN_HOME}/bin/*.sh ${DOMAIN_HOME}/*.sh  || return 1
 
@@ -248,7 +276,7 @@ traceDirs before DOMAIN_HOME LOG_HOME DATA_HOME
 
 traceTiming "POD '${SERVICE_NAME}' MII UNZIP START"
 
-if [ -f /weblogic-operator/introspector/domainzip.secure ]; then
+if [ -f $(getIntrospectorFile /weblogic-operator/introspector domainzip.secure) ]; then
   prepareMIIServer
   if [ $? -ne 0 ] ; then
     trace SEVERE  "Domain Source Type is FromModel, unable to start the server, check other error messages in the log"
@@ -360,6 +388,14 @@ copySitCfgWhileBooting /weblogic-operator/introspector ${DOMAIN_HOME}/optconfig/
 copySitCfgWhileBooting /weblogic-operator/introspector ${DOMAIN_HOME}/optconfig/jdbc        'Sit-Cfg-JDBC--'
 copySitCfgWhileBooting /weblogic-operator/introspector ${DOMAIN_HOME}/optconfig/diagnostics 'Sit-Cfg-WLDF--'
 
+#
+# Start the server state responder, if requested
+#
+
+if [ -n "${STATE_PROBE_PORT}" ]; then
+  startStateProbe
+fi
+
 #
 # Start WLS
 #
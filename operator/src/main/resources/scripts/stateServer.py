@@ -0,0 +1,101 @@
+# Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+# Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+#
+# stateServer.py
+# Answers HTTP requests from the operator for the current state of the WebLogic Server in this pod, so that
+# the operator need not exec readState.sh. The responses mirror the exit codes of that script:
+#
+#   GET /state  200 with the state recorded by the node manager, e.g. RUNNING
+#               503 if the WebLogic Server process is not found   (readState.sh exit 1)
+#               404 if the node manager state file is not found   (readState.sh exit 2)
+#
+# The server process is found by scanning /proc rather than by running jps, so a request starts no JVM.
+# The responder listens only on the pod IP address, on which the operator reaches it, rather than on all
+# interfaces. This script runs under either Python 2 or 3.
+#
+# Usage: python stateServer.py <port> [<address>]
+#   with SERVER_NAME and DOMAIN_HOME set in the environment. The address defaults to that of the pod's host name,
+#   which Kubernetes maps to the pod IP.
+
+import os
+import socket
+import sys
+
+try:
+  from http.server import BaseHTTPRequestHandler, HTTPServer
+except ImportError:
+  from BaseHTTPServer import BaseHTTPRequestHandler, HTTPServer
+
+SERVER_NAME = os.environ['SERVER_NAME']
+STATE_FILE = os.path.join(os.environ['DOMAIN_HOME'], 'servers', SERVER_NAME, 'data', 'nodemanager',
+                          SERVER_NAME + '.state')
+SERVER_NAME_ARG = '-Dweblogic.Name=' + SERVER_NAME
+
+
+def isServerProcessRunning():
+  for pid in os.listdir('/proc'):
+    if pid.isdigit() and SERVER_NAME_ARG in readCommandLine(pid):
+      return True
+  return False
+
+
+def readCommandLine(pid):
+  try:
+    f = open(os.path.join('/proc', pid, 'cmdline'), 'rb')
+    try:
+      return f.read().decode('utf-8', 'replace').split('\0')
+    finally:
+      f.close()
+  except (IOError, OSError):
+    return []
+
+
+def readState():
+  try:
+    f = open(STATE_FILE)
+    try:
+      return f.read().split(':')[0].strip()
+    finally:
+      f.close()
+  except (IOError, OSError):
+    return None
+
+
+class StateHandler(BaseHTTPRequestHandler):
+  def do_GET(self):
+    if self.path != '/state':
+      self.send_error(400)
+    elif not isServerProcessRunning():
+      self.send_error(503)
+    else:
+      state = readState()
+      if state is None:
+        self.send_error(404)
+      else:
+        self.sendState(state)
+
+  def sendState(self, state):
+    body = state.encode('utf-8')
+    self.send_response(200)
+    self.send_header('Content-Type', 'text/plain')
+    self.send_header('Content-Length', str(len(body)))
+    self.end_headers()
+    self.wfile.write(body)
+
+  def log_message(self, format, *args):
+    pass
+
+
+def getBindAddress():
+  if len(sys.argv) > 2 and sys.argv[2]:
+    return sys.argv[2]
+  return socket.gethostbyname(socket.gethostname())
+
+
+if __name__ == '__main__':
+  try:
+    server = HTTPServer((getBindAddress(), int(sys.argv[1])), StateHandler)
+  except Exception as e:
+    sys.stderr.write('Unable to start the server state responder: %s\n' % e)
+    sys.exit(1)
+  server.serve_forever()
@@ -889,3 +889,46 @@ function adjustPath() {
     fi
   fi
 }
+
+#
+# getIntrospectorFile
+#   purpose: Echo the path of a file from a mounted introspector config map.
+#            The operator may store a large file gzipped, base64 encoded and split
+#            into parts named '<file>.gz.NNN', which the 'chunks.manifest' entry lists.
+#            Such a file is reassembled under /tmp/<mount directory name>, once, and
+#            the path of the reassembled file is echoed. If the file is missing, or
+#            some of its parts are not mounted, the path of the missing file is echoed,
+#            so that callers may test it with '-f' as before.
+#   args:    $1 - the mount directory
+#            $2 - the file name
+#
+function getIntrospectorFile() {
+  local dir="$1"
+  local file="$2"
+  local restored="/tmp/$(basename ${dir})/${file}"
+  local parts
+
+  if [ -f "${dir}/${file}" ] || [ ! -f "${dir}/chunks.manifest" ]; then
+    echo "${dir}/${file}"
+    return
+  fi
+
+  if [ ! -f "${restored}" ]; then
+    parts=$(awk -v f="${file}" '$1 == "file" && $2 == f { print $3 }' "${dir}/chunks.manifest")
+    if [ -z "${parts}" ] || [ "$(ls ${dir}/${file}.gz.* 2>/dev/null | wc -l)" -ne "${parts}" ]; then
+      echo "${dir}/${file}"
+      return
+    fi
+
+    mkdir -p "$(dirname ${restored})" \
+      && cat ${dir}/${file}.gz.* | base64 -d | gunzip -c > "${restored}.tmp" \
+      && mv "${restored}.tmp" "${restored}"
+    if [ $? -ne 0 ]; then
+      rm -f "${restored}.tmp"
+      echo "${dir}/${file}"
+      return
+    fi
+  fi
+
+  echo "${restored}"
+}
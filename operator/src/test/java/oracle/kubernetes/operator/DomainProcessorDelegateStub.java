@@ -64,6 +64,11 @@ public abstract class DomainProcessorDelegateStub implements DomainProcessorDele
     return testSupport.scheduleWithFixedDelay(command, initialDelay, delay, unit);
   }
 
+  @Override
+  public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+    return testSupport.schedule(command, delay, unit);
+  }
+
   @Override
   public void runSteps(Step firstStep) {
     testSupport.runSteps(firstStep);
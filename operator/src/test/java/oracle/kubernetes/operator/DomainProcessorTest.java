@@ -9,7 +9,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
@@ -27,11 +30,14 @@ import io.kubernetes.client.openapi.models.V1JobCondition;
 import io.kubernetes.client.openapi.models.V1JobStatus;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodStatus;
 import io.kubernetes.client.openapi.models.V1Secret;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServicePort;
 import io.kubernetes.client.openapi.models.V1ServiceSpec;
 import oracle.kubernetes.operator.builders.StubWatchFactory;
+import oracle.kubernetes.operator.builders.WatchEvent;
 import oracle.kubernetes.operator.helpers.AnnotationHelper;
 import oracle.kubernetes.operator.helpers.ConfigMapHelper;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
@@ -40,6 +46,8 @@ import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
 import oracle.kubernetes.operator.helpers.KubernetesUtils;
 import oracle.kubernetes.operator.helpers.LegalNames;
 import oracle.kubernetes.operator.helpers.PodHelper;
+import oracle.kubernetes.operator.helpers.SecretHelper;
+import oracle.kubernetes.operator.helpers.SecretType;
 import oracle.kubernetes.operator.helpers.ServiceHelper;
 import oracle.kubernetes.operator.helpers.TuningParametersStub;
 import oracle.kubernetes.operator.helpers.UnitTestHash;
@@ -50,6 +58,7 @@ import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
 import oracle.kubernetes.operator.work.Component;
 import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.utils.TestUtils;
 import oracle.kubernetes.weblogic.domain.DomainConfigurator;
 import oracle.kubernetes.weblogic.domain.DomainConfiguratorFactory;
@@ -57,6 +66,7 @@ import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.DomainStatus;
 import oracle.kubernetes.weblogic.domain.model.ManagedServer;
 import oracle.kubernetes.weblogic.domain.model.ServerStatus;
+import org.joda.time.DateTime;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -77,6 +87,7 @@ import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.CONFIG_MA
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.POD;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.SERVICE;
+import static oracle.kubernetes.operator.helpers.TuningParametersStub.STATUS_BACKSTOP_SECONDS;
 import static oracle.kubernetes.operator.logging.MessageKeys.NOT_STARTING_DOMAINUID_THREAD;
 import static oracle.kubernetes.utils.LogMatcher.containsFine;
 import static oracle.kubernetes.weblogic.domain.model.ConfigurationConstants.START_ALWAYS;
@@ -95,7 +106,9 @@ import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 public class DomainProcessorTest {
   private static final String ADMIN_NAME = "admin";
+  private static final int STATUS_UPDATE_DELAY = 2;
   private static final String CLUSTER = "cluster";
+  private static final String CREDENTIALS_SECRET = "admin-credentials";
   private static final int MAX_SERVERS = 60;
   private static final String MS_PREFIX = "managed-server";
   private static final int MIN_REPLICAS = 2;
@@ -150,6 +163,8 @@ public class DomainProcessorTest {
           .collectLogMessages(logRecords, NOT_STARTING_DOMAINUID_THREAD).withLogLevel(Level.FINE));
     mementos.add(testSupport.install());
     mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "DOMAINS", presenceInfoMap));
+    mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "statusFiberGates", new HashMap<>()));
+    mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "statusUpdaters", new HashMap<>()));
     mementos.add(TuningParametersStub.install());
     mementos.add(InMemoryCertificates.install());
     mementos.add(UnitTestHash.install());
@@ -222,6 +237,157 @@ public class DomainProcessorTest {
     assertThat(getResourceVersion(updatedDomain), not(getResourceVersion(domain)));
   }
 
+  @Test
+  public void whenStatusUpdatesEventDriven_scheduleBackstopSweep() {
+    TuningParametersStub.setParameter(DomainProcessorImpl.EVENT_DRIVEN_STATUS_UPDATES_PARAM, "true");
+
+    processor.createMakeRightOperation(new DomainPresenceInfo(domain)).withExplicitRecheck().execute();
+
+    assertThat(testSupport.hasItemScheduledAt(STATUS_BACKSTOP_SECONDS, TimeUnit.SECONDS), is(true));
+  }
+
+  @Test
+  public void whenStatusUpdatesNotEventDriven_dontScheduleBackstopSweep() {
+    processor.createMakeRightOperation(new DomainPresenceInfo(domain)).withExplicitRecheck().execute();
+
+    assertThat(testSupport.hasItemScheduledAt(STATUS_BACKSTOP_SECONDS, TimeUnit.SECONDS), is(false));
+  }
+
+  @Test
+  public void whenStatusUpdatesEventDrivenAndServerPodsNotReady_repeatStatusUpdates() throws NoSuchFieldException {
+    TuningParametersStub.setParameter(DomainProcessorImpl.EVENT_DRIVEN_STATUS_UPDATES_PARAM, "true");
+    skipHealthReads();
+    skipStateReads();
+    processor.createMakeRightOperation(new DomainPresenceInfo(domain)).withExplicitRecheck().execute();
+
+    testSupport.setTime(STATUS_UPDATE_DELAY, TimeUnit.SECONDS);
+
+    assertThat(testSupport.hasItemScheduledAt(2 * STATUS_UPDATE_DELAY, TimeUnit.SECONDS), is(true));
+  }
+
+  @Test
+  public void whenStatusUpdatesEventDrivenAndServerPodsStayNotReady_backOffRepeatedUpdates()
+        throws NoSuchFieldException {
+    TuningParametersStub.setParameter(DomainProcessorImpl.EVENT_DRIVEN_STATUS_UPDATES_PARAM, "true");
+    skipHealthReads();
+    skipStateReads();
+    processor.createMakeRightOperation(new DomainPresenceInfo(domain)).withExplicitRecheck().execute();
+
+    testSupport.setTime(2 * STATUS_UPDATE_DELAY, TimeUnit.SECONDS);
+
+    assertThat(testSupport.hasItemScheduledAt(3 * STATUS_UPDATE_DELAY, TimeUnit.SECONDS), is(false));
+    assertThat(testSupport.hasItemScheduledAt(4 * STATUS_UPDATE_DELAY, TimeUnit.SECONDS), is(true));
+  }
+
+  @Test
+  public void whenRepeatedUpdateDelayReachesBackstopInterval_stopRepeatingUpdates() throws NoSuchFieldException {
+    TuningParametersStub.setParameter(DomainProcessorImpl.EVENT_DRIVEN_STATUS_UPDATES_PARAM, "true");
+    skipHealthReads();
+    skipStateReads();
+    processor.createMakeRightOperation(new DomainPresenceInfo(domain)).withExplicitRecheck().execute();
+
+    testSupport.setTime(64 * STATUS_UPDATE_DELAY, TimeUnit.SECONDS);
+
+    assertThat(testSupport.hasItemScheduledAt(128 * STATUS_UPDATE_DELAY, TimeUnit.SECONDS), is(false));
+  }
+
+  @Test
+  public void whenStatusUpdatesEventDrivenAndServerPodsReady_dontRepeatStatusUpdates() throws NoSuchFieldException {
+    TuningParametersStub.setParameter(DomainProcessorImpl.EVENT_DRIVEN_STATUS_UPDATES_PARAM, "true");
+    skipHealthReads();
+    DomainPresenceInfo info = new DomainPresenceInfo(domain);
+    processor.createMakeRightOperation(info).withExplicitRecheck().execute();
+    info.getServerPods().forEach(this::setReady);
+
+    testSupport.setTime(STATUS_UPDATE_DELAY, TimeUnit.SECONDS);
+
+    assertThat(testSupport.hasItemScheduledAt(2 * STATUS_UPDATE_DELAY, TimeUnit.SECONDS), is(false));
+  }
+
+  @Test
+  public void whenStatusUpdatesEventDrivenAndServerPodModified_requestStatusUpdate() throws NoSuchFieldException {
+    TuningParametersStub.setParameter(DomainProcessorImpl.EVENT_DRIVEN_STATUS_UPDATES_PARAM, "true");
+    skipHealthReads();
+    DomainPresenceInfo info = new DomainPresenceInfo(domain);
+    processor.createMakeRightOperation(info).withExplicitRecheck().execute();
+    info.getServerPods().forEach(this::setReady);
+    testSupport.setTime(STATUS_UPDATE_DELAY, TimeUnit.SECONDS);
+    V1Pod adminPod = info.getServerPod(ADMIN_NAME);
+    adminPod.getMetadata().creationTimestamp(DateTime.now());
+
+    processor.dispatchPodWatch(WatchEvent.createModifiedEvent(adminPod).toWatchResponse());
+
+    assertThat(testSupport.hasItemScheduledAt(2 * STATUS_UPDATE_DELAY, TimeUnit.SECONDS), is(true));
+  }
+
+  @Test
+  public void afterNamespaceStopped_serverPodModificationDoesNotRequestStatusUpdate() throws NoSuchFieldException {
+    TuningParametersStub.setParameter(DomainProcessorImpl.EVENT_DRIVEN_STATUS_UPDATES_PARAM, "true");
+    skipHealthReads();
+    DomainPresenceInfo info = new DomainPresenceInfo(domain);
+    processor.createMakeRightOperation(info).withExplicitRecheck().execute();
+    info.getServerPods().forEach(this::setReady);
+    testSupport.setTime(STATUS_UPDATE_DELAY, TimeUnit.SECONDS);
+    V1Pod adminPod = info.getServerPod(ADMIN_NAME);
+    adminPod.getMetadata().creationTimestamp(DateTime.now());
+
+    processor.stopNamespace(NS);
+    processor.dispatchPodWatch(WatchEvent.createModifiedEvent(adminPod).toWatchResponse());
+
+    assertThat(testSupport.hasItemScheduledAt(2 * STATUS_UPDATE_DELAY, TimeUnit.SECONDS), is(false));
+  }
+
+  @Test
+  public void afterNamespaceStopped_discardDomainPresenceInfo() {
+    DomainProcessorImpl.registerDomainPresenceInfo(new DomainPresenceInfo(domain));
+
+    processor.stopNamespace(NS);
+
+    assertThat(presenceInfoMap.get(NS), nullValue());
+  }
+
+  @Test
+  public void whenCredentialsSecretModified_readCredentialsAgain() throws NoSuchFieldException {
+    mementos.add(StaticStubSupport.install(SecretHelper.class, "cachedCredentials", new ConcurrentHashMap<>()));
+    testSupport.defineResources(createCredentialsSecret());
+    readCredentials();
+    testSupport.clearNumCalls();
+
+    processor.dispatchSecretWatch(
+          WatchEvent.createModifiedEvent(
+                new V1Secret().metadata(new V1ObjectMeta().name(CREDENTIALS_SECRET).namespace(NS)))
+                .toWatchResponse());
+    readCredentials();
+
+    assertThat(testSupport.getNumCalls(), equalTo(1));
+  }
+
+  private V1Secret createCredentialsSecret() {
+    Map<String, byte[]> data = new HashMap<>();
+    data.put(SecretHelper.ADMIN_SERVER_CREDENTIALS_USERNAME, "admin".getBytes());
+    data.put(SecretHelper.ADMIN_SERVER_CREDENTIALS_PASSWORD, "password".getBytes());
+    return new V1Secret().metadata(new V1ObjectMeta().name(CREDENTIALS_SECRET).namespace(NS)).data(data);
+  }
+
+  private void readCredentials() {
+    testSupport.runSteps(SecretHelper.getSecretData(SecretType.WebLogicCredentials, CREDENTIALS_SECRET, NS, null));
+  }
+
+  private void skipHealthReads() throws NoSuchFieldException {
+    Function<Step, Step> skipStepFactory = next -> next;
+    mementos.add(StaticStubSupport.install(ServerStatusReader.class, "STEP_FACTORY", skipStepFactory));
+  }
+
+  private void skipStateReads() throws NoSuchFieldException {
+    mementos.add(StaticStubSupport.install(
+          ServerStatusReader.class, "EXEC_FACTORY", new ServerStatusReaderTest.KubernetesExecFactoryFake()));
+  }
+
+  private void setReady(V1Pod pod) {
+    pod.status(new V1PodStatus().phase("Running")
+          .addConditionsItem(new V1PodCondition().type("Ready").status("True")));
+  }
+
   @Test
   public void whenDomainScaledDown_removeExcessPodsAndServices() {
     defineServerResources(ADMIN_NAME);
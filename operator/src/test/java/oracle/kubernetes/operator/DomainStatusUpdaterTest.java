@@ -16,6 +16,7 @@ import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodSpec;
 import io.kubernetes.client.openapi.models.V1PodStatus;
+import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
 import oracle.kubernetes.operator.utils.RandomStringGenerator;
@@ -37,6 +38,7 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import static java.net.HttpURLConnection.HTTP_CONFLICT;
 import static oracle.kubernetes.operator.DomainConditionMatcher.hasCondition;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
@@ -186,6 +188,44 @@ public class DomainStatusUpdaterTest {
                 .withHealth(overallHealth("health2"))));
   }
 
+  @Test
+  public void whenStatusPatchCannotBeApplied_replaceStatus() {
+    testSupport.failOnPatchStatus(KubernetesTestSupport.DOMAIN, NAME, NS, CallBuilder.UNPROCESSABLE_ENTITY);
+    testSupport.addToPacket(SERVER_STATE_MAP, ImmutableMap.of("server1", RUNNING_STATE));
+    generateStartupInfos("server1");
+    testSupport.addToPacket(DOMAIN_TOPOLOGY, configSupport.createDomainConfig());
+
+    testSupport.runSteps(DomainStatusUpdater.createStatusUpdateStep(endStep));
+
+    assertThat(getServerStatus(getRecordedDomain(), "server1").getState(), equalTo(RUNNING_STATE));
+  }
+
+  @Test
+  public void whenStatusPatchConflicts_replaceStatus() {
+    testSupport.failOnPatchStatus(KubernetesTestSupport.DOMAIN, NAME, NS, HTTP_CONFLICT);
+    testSupport.addToPacket(SERVER_STATE_MAP, ImmutableMap.of("server1", RUNNING_STATE));
+    generateStartupInfos("server1");
+    testSupport.addToPacket(DOMAIN_TOPOLOGY, configSupport.createDomainConfig());
+
+    testSupport.runSteps(DomainStatusUpdater.createStatusUpdateStep(endStep));
+
+    assertThat(getServerStatus(getRecordedDomain(), "server1").getState(), equalTo(RUNNING_STATE));
+  }
+
+  @Test
+  public void whenTwoPatchesComputedFromSameStatusAddToConditions_keepBothConditions() {
+    Domain staleDomain = DomainProcessorTestSetup.createTestDomain().withStatus(new DomainStatus());
+    staleDomain.getMetadata().setResourceVersion("1");
+    domain.getMetadata().setResourceVersion("1");
+
+    testSupport.runSteps(DomainStatusUpdater.createAvailableStep("first", endStep));
+    info.setDomain(staleDomain);
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep("second", true, endStep));
+
+    assertThat(getRecordedDomain(), hasCondition(Available).withReason("first"));
+    assertThat(getRecordedDomain(), hasCondition(Progressing).withReason("second"));
+  }
+
   private ServerStatus getServerStatus(Domain domain, String serverName) {
     for (ServerStatus status : domain.getStatus().getServers()) {
       if (status.getServerName().equals(serverName)) {
@@ -19,8 +19,11 @@ import java.util.stream.IntStream;
 import com.meterware.simplestub.Memento;
 import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1Lease;
+import io.kubernetes.client.openapi.models.V1LeaseSpec;
 import io.kubernetes.client.openapi.models.V1Namespace;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Secret;
 import oracle.kubernetes.operator.Namespaces.SelectionStrategy;
 import oracle.kubernetes.operator.builders.StubWatchFactory;
 import oracle.kubernetes.operator.builders.WatchEvent;
@@ -36,7 +39,12 @@ import oracle.kubernetes.operator.work.FiberTestSupport;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.operator.work.ThreadFactorySingleton;
+import oracle.kubernetes.utils.SystemClock;
+import oracle.kubernetes.utils.SystemClockTestSupport;
 import oracle.kubernetes.utils.TestUtils;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.DomainSpec;
+import oracle.kubernetes.weblogic.domain.model.KubernetesResourceLookup;
 import org.hamcrest.Description;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
 import org.jetbrains.annotations.NotNull;
@@ -48,6 +56,7 @@ import org.junit.Test;
 import static com.meterware.simplestub.Stub.createNiceStub;
 import static com.meterware.simplestub.Stub.createStrictStub;
 import static oracle.kubernetes.operator.KubernetesConstants.SCRIPT_CONFIG_MAP_NAME;
+import static oracle.kubernetes.operator.LabelConstants.NAMESPACE_SHARD_LEASE_LABEL;
 import static oracle.kubernetes.operator.Main.GIT_BRANCH_KEY;
 import static oracle.kubernetes.operator.Main.GIT_BUILD_TIME_KEY;
 import static oracle.kubernetes.operator.Main.GIT_BUILD_VERSION_KEY;
@@ -56,6 +65,7 @@ import static oracle.kubernetes.operator.TuningParametersImpl.DEFAULT_CALL_LIMIT
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
 import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorNamespace;
 import static oracle.kubernetes.operator.logging.MessageKeys.CRD_NOT_INSTALLED;
+import static oracle.kubernetes.operator.logging.MessageKeys.NAMESPACE_RECHECK_INTERVAL_TOO_LONG;
 import static oracle.kubernetes.operator.logging.MessageKeys.OPERATOR_STARTED;
 import static oracle.kubernetes.operator.logging.MessageKeys.OP_CONFIG_DOMAIN_NAMESPACES;
 import static oracle.kubernetes.operator.logging.MessageKeys.OP_CONFIG_NAMESPACE;
@@ -65,7 +75,10 @@ import static oracle.kubernetes.utils.LogMatcher.containsSevere;
 import static oracle.kubernetes.utils.LogMatcher.containsWarning;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
@@ -98,6 +111,11 @@ public class MainTest extends ThreadFactoryTestBase {
   private static final String GIT_BUILD_TIME = "Sep-10-2015";
   private static final String IMPL = GIT_BRANCH + "." + GIT_COMMIT;
 
+  private static final String REPLICA1 = "operator-1";
+  private static final String REPLICA2 = "operator-2";
+  private static final int SHARD_RENEWAL_SECONDS = NamespaceShards.DEFAULT_LEASE_DURATION_SECONDS / 3;
+  private static final int SHARD_HANDOVER_SECONDS = 2 * SHARD_RENEWAL_SECONDS;
+
   private static final String LABEL = "weblogic-operator";
   private static final String VALUE = "enabled";
 
@@ -389,6 +407,108 @@ public class MainTest extends ThreadFactoryTestBase {
     assertThat(getStartingNamespaces(), contains(NS_WEBLOGIC1, NS_WEBLOGIC3, NS_WEBLOGIC5));
   }
 
+  @Test
+  public void withNamespaceSharding_onReadExistingNamespaces_startsOnlyOwnedNamespaces() throws NoSuchFieldException {
+    defineShardedNamespaces();
+    testSupport.defineResources(createShardLease(REPLICA2));
+    testSupport.runSteps(NamespaceShards.createRenewStep());
+    SystemClockTestSupport.increment(SHARD_HANDOVER_SECONDS);
+
+    testSupport.runSteps(createDomainRecheck().readExistingNamespaces());
+
+    assertThat(getStartingNamespaces(), contains(NS_WEBLOGIC4));
+  }
+
+  @Test
+  public void withNamespaceSharding_whenReplicaJoins_stopNamespacesItNowManages() throws NoSuchFieldException {
+    defineShardedNamespaces();
+    testSupport.runSteps(NamespaceShards.createRenewStep());
+    testSupport.runSteps(createDomainRecheck().readExistingNamespaces());
+
+    testSupport.defineResources(createShardLease(REPLICA2));
+    SystemClockTestSupport.increment(SHARD_RENEWAL_SECONDS);
+    testSupport.runSteps(NamespaceShards.createRenewStep());
+    testSupport.runSteps(createDomainRecheck().readExistingNamespaces());
+
+    assertThat(getStartingNamespaces(), contains(NS_WEBLOGIC4));
+  }
+
+  @Test
+  public void withNamespaceSharding_whenReplicaJoins_stopDomainProcessingInNamespacesItNowManages()
+        throws NoSuchFieldException {
+    defineShardedNamespaces();
+    testSupport.runSteps(NamespaceShards.createRenewStep());
+    testSupport.runSteps(createDomainRecheck().readExistingNamespaces());
+
+    testSupport.defineResources(createShardLease(REPLICA2));
+    SystemClockTestSupport.increment(SHARD_RENEWAL_SECONDS);
+    testSupport.runSteps(NamespaceShards.createRenewStep());
+    testSupport.runSteps(createDomainRecheck().readExistingNamespaces());
+
+    assertThat(delegate.domainProcessor.stoppedNamespaces,
+          containsInAnyOrder(NS_WEBLOGIC1, NS_WEBLOGIC2, NS_WEBLOGIC3, NS_WEBLOGIC5));
+  }
+
+  @Test
+  public void byDefault_doNotUseVirtualThreads() {
+    assertThat(Main.useVirtualThreads(), is(false));
+  }
+
+  @Test
+  public void whenVirtualThreadsSelected_useVirtualThreads() {
+    TuningParametersStub.setParameter("virtualThreads", "true");
+
+    assertThat(Main.useVirtualThreads(), is(true));
+  }
+
+  @Test
+  public void whenShardingEnabled_useConfiguredNamespaceRecheckInterval() {
+    TuningParametersStub.setParameter("namespaceShardingEnabled", "true");
+    TuningParametersStub.setParameter("domainNamespaceRecheckIntervalSeconds", "5");
+
+    assertThat(Main.getDomainNamespaceRecheckInterval(), equalTo(5));
+  }
+
+  @Test
+  public void whenShardingEnabledAndNamespaceRecheckSlowerThanLeaseRenewal_shortenIt() {
+    loggerControl.withLogLevel(Level.WARNING).collectLogMessages(logRecords, NAMESPACE_RECHECK_INTERVAL_TOO_LONG);
+    TuningParametersStub.setParameter("namespaceShardingEnabled", "true");
+    TuningParametersStub.setParameter("namespaceShardLeaseDurationSeconds", "30");
+    TuningParametersStub.setParameter("domainNamespaceRecheckIntervalSeconds", "60");
+
+    assertThat(Main.getDomainNamespaceRecheckInterval(), equalTo(10));
+    assertThat(logRecords, containsWarning(NAMESPACE_RECHECK_INTERVAL_TOO_LONG, 60, 10));
+  }
+
+  @Test
+  public void whenShardingDisabled_dontShortenNamespaceRecheckInterval() {
+    TuningParametersStub.setParameter("domainNamespaceRecheckIntervalSeconds", "60");
+
+    assertThat(Main.getDomainNamespaceRecheckInterval(), equalTo(60));
+  }
+
+  private void defineShardedNamespaces() throws NoSuchFieldException {
+    mementos.add(SystemClockTestSupport.installClock());
+    mementos.add(StaticStubSupport.install(NamespaceShards.class, "instance", new NamespaceShards(REPLICA1)));
+    TuningParametersStub.setParameter("namespaceShardingEnabled", "true");
+    defineSelectionStrategy(SelectionStrategy.List);
+    HelmAccessStub.defineVariable(HelmAccess.OPERATOR_DOMAIN_NAMESPACES, String.join(",", NAMESPACES));
+    testSupport.defineResources(NAMESPACE_WEBLOGIC1, NAMESPACE_WEBLOGIC2, NAMESPACE_WEBLOGIC3,
+          NAMESPACE_WEBLOGIC4, NAMESPACE_WEBLOGIC5);
+  }
+
+  private V1Lease createShardLease(String replicaName) {
+    return new V1Lease()
+          .metadata(new V1ObjectMeta()
+                .name(replicaName)
+                .namespace(getOperatorNamespace())
+                .putLabelsItem(NAMESPACE_SHARD_LEASE_LABEL, "true"))
+          .spec(new V1LeaseSpec()
+                .holderIdentity(replicaName)
+                .renewTime(SystemClock.now())
+                .leaseDurationSeconds(NamespaceShards.DEFAULT_LEASE_DURATION_SECONDS));
+  }
+
   private V1ObjectMeta createMetadata(DateTime creationTimestamp) {
     return new V1ObjectMeta()
         .name(DOMAIN_UID)
@@ -491,9 +611,83 @@ public class MainTest extends ThreadFactoryTestBase {
     assertThat(domainNamespaces.getDomainWatcher(NS), notNullValue());
     assertThat(domainNamespaces.getEventWatcher(NS), notNullValue());
     assertThat(domainNamespaces.getPodWatcher(NS), notNullValue());
+    assertThat(domainNamespaces.getSecretWatcher(NS), notNullValue());
     assertThat(domainNamespaces.getServiceWatcher(NS), notNullValue());
   }
   
+  @Test
+  public void whenSharedWatchesEnabled_afterReadingExistingResourcesForNamespace_WatchersAreDefined() {
+    TuningParametersStub.setParameter(DomainNamespaces.SHARED_WATCHES_PARAM, "true");
+
+    testSupport.runSteps(domainNamespaces.readExistingResources(NS, createStrictStub(DomainProcessor.class)));
+
+    assertThat(domainNamespaces.getConfigMapWatcher(NS), notNullValue());
+    assertThat(domainNamespaces.getDomainWatcher(NS), notNullValue());
+    assertThat(domainNamespaces.getEventWatcher(NS), notNullValue());
+    assertThat(domainNamespaces.getPodWatcher(NS), notNullValue());
+    assertThat(domainNamespaces.getSecretWatcher(NS), notNullValue());
+    assertThat(domainNamespaces.getServiceWatcher(NS), notNullValue());
+  }
+
+  @Test
+  public void afterReadingExistingResourcesForNamespace_ConfigMapNameWatcherIsDefined() {
+    testSupport.runSteps(domainNamespaces.readExistingResources(NS, createStrictStub(DomainProcessor.class)));
+
+    assertThat(domainNamespaces.getConfigMapNameWatcher(NS), notNullValue());
+  }
+
+  @Test
+  public void beforeReadingExistingResourcesForNamespace_resourceLookupIsNotDefined() {
+    assertThat(domainNamespaces.getResourceLookup(NS), nullValue());
+  }
+
+  @Test
+  public void afterReadingExistingResourcesForNamespace_resourceLookupFindsListedSecretsAndConfigMaps() {
+    testSupport.defineResources(
+          new V1Secret().metadata(new V1ObjectMeta().namespace(NS).name("secret1").resourceVersion("1")),
+          new V1ConfigMap().metadata(new V1ObjectMeta().namespace(NS).name("map1").resourceVersion("1")));
+
+    testSupport.runSteps(domainNamespaces.readExistingResources(NS, createStrictStub(DomainProcessor.class)));
+
+    KubernetesResourceLookup lookup = domainNamespaces.getResourceLookup(NS);
+    assertThat(lookup.isSecretExists("secret1", NS), is(true));
+    assertThat(lookup.isConfigMapExists("map1", NS), is(true));
+    assertThat(lookup.isSecretExists("map1", NS), is(false));
+    assertThat(lookup.isConfigMapExists("secret1", NS), is(false));
+  }
+
+  @Test
+  public void afterNamespaceStopped_resourceLookupIsNotDefined() {
+    testSupport.runSteps(domainNamespaces.readExistingResources(NS, createStrictStub(DomainProcessor.class)));
+
+    domainNamespaces.stopNamespace(NS);
+
+    assertThat(domainNamespaces.getResourceLookup(NS), nullValue());
+  }
+
+  @Test
+  public void beforeReadingExistingResourcesForNamespace_domainsAreNotIndexed() {
+    assertThat(domainNamespaces.getIndexedDomains(NS), nullValue());
+  }
+
+  @Test
+  public void afterReadingExistingResourcesForNamespace_domainsAreIndexed() {
+    testSupport.defineResources(createDomain(NS, "domain1"), createDomain(NS, "domain2"));
+
+    testSupport.runSteps(domainNamespaces.readExistingResources(NS, createStrictStub(DomainProcessor.class)));
+
+    assertThat(getIndexedDomainUids(NS), containsInAnyOrder("domain1", "domain2"));
+  }
+
+  private Domain createDomain(String ns, String uid) {
+    return new Domain().withMetadata(new V1ObjectMeta().namespace(ns).name(uid).resourceVersion("1"))
+          .withSpec(new DomainSpec().withDomainUid(uid));
+  }
+
+  private List<String> getIndexedDomainUids(String ns) {
+    return domainNamespaces.getIndexedDomains(ns).stream().map(Domain::getDomainUid).collect(Collectors.toList());
+  }
+
   @Test
   public void afterReadingExistingResourcesForNamespace_ScriptConfigMapIsDefined() {
     testSupport.runSteps(domainNamespaces.readExistingResources(NS, createStrictStub(DomainProcessor.class)));
@@ -531,6 +725,7 @@ public class MainTest extends ThreadFactoryTestBase {
     assertThat(domainNamespaces.getEventWatcher(ns), nullValue());
     assertThat(domainNamespaces.getJobWatcher(ns), nullValue());
     assertThat(domainNamespaces.getPodWatcher(ns), nullValue());
+    assertThat(domainNamespaces.getSecretWatcher(ns), nullValue());
     assertThat(domainNamespaces.getServiceWatcher(ns), nullValue());
   }
 
@@ -566,6 +761,7 @@ public class MainTest extends ThreadFactoryTestBase {
     assertThat(domainNamespaces.getEventWatcher(ns), notNullValue());
     assertThat(domainNamespaces.getJobWatcher(ns), notNullValue());
     assertThat(domainNamespaces.getPodWatcher(ns), notNullValue());
+    assertThat(domainNamespaces.getSecretWatcher(ns), notNullValue());
     assertThat(domainNamespaces.getServiceWatcher(ns), notNullValue());
   }
 
@@ -578,9 +774,19 @@ public class MainTest extends ThreadFactoryTestBase {
     assertThat(getScriptMap(ns), notNullValue());
   }
 
+  abstract static class DomainProcessorSpy implements DomainProcessor {
+    private final List<String> stoppedNamespaces = new ArrayList<>();
+
+    @Override
+    public void stopNamespace(String ns) {
+      stoppedNamespaces.add(ns);
+    }
+  }
+
   abstract static class MainDelegateStub implements MainDelegate {
     private final FiberTestSupport testSupport;
     private final DomainNamespaces domainNamespaces;
+    private final DomainProcessorSpy domainProcessor = createNiceStub(DomainProcessorSpy.class);
 
     public MainDelegateStub(FiberTestSupport testSupport, DomainNamespaces domainNamespaces) {
       this.testSupport = testSupport;
@@ -596,7 +802,7 @@ public class MainTest extends ThreadFactoryTestBase {
 
     @Override
     public DomainProcessor getDomainProcessor() {
-      return createNiceStub(DomainProcessor.class);
+      return domainProcessor;
     }
 
     @Override
@@ -0,0 +1,291 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.logging.LogRecord;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.openapi.models.V1Lease;
+import io.kubernetes.client.openapi.models.V1LeaseSpec;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import oracle.kubernetes.operator.NamespaceShards.Ring;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
+import oracle.kubernetes.utils.SystemClock;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.net.HttpURLConnection.HTTP_FORBIDDEN;
+import static oracle.kubernetes.operator.LabelConstants.NAMESPACE_SHARD_LEASE_LABEL;
+import static oracle.kubernetes.operator.NamespaceShards.DEFAULT_LEASE_DURATION_SECONDS;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.LEASE;
+import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorNamespace;
+import static oracle.kubernetes.operator.logging.MessageKeys.NAMESPACE_SHARD_RENEWAL_FAILED;
+import static oracle.kubernetes.utils.LogMatcher.containsWarning;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class NamespaceShardsTest {
+  private static final String REPLICA1 = "operator-1";
+  private static final String REPLICA2 = "operator-2";
+  private static final String REPLICA3 = "operator-3";
+  private static final int RENEWAL_INTERVAL_SECONDS = DEFAULT_LEASE_DURATION_SECONDS / 3;
+  private static final int HANDOVER_SECONDS = 2 * RENEWAL_INTERVAL_SECONDS;
+  private static final List<String> NAMESPACES
+        = IntStream.rangeClosed(1, 20).mapToObj(i -> "ns" + i).collect(Collectors.toList());
+
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final NamespaceShards shards1 = new NamespaceShards(REPLICA1);
+  private final NamespaceShards shards2 = new NamespaceShards(REPLICA2);
+  private final List<Memento> mementos = new ArrayList<>();
+  private final TestUtils.ConsoleHandlerMemento loggerControl = TestUtils.silenceOperatorLogger();
+  private final Collection<LogRecord> logRecords = new ArrayList<>();
+
+  @Before
+  public void setUp() throws Exception {
+    mementos.add(loggerControl);
+    mementos.add(testSupport.install());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(SystemClockTestSupport.installClock());
+    mementos.add(StaticStubSupport.install(NamespaceShards.class, "instance", shards1));
+    TuningParametersStub.setParameter("namespaceShardingEnabled", "true");
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    testSupport.throwOnCompletionFailure();
+
+    mementos.forEach(Memento::revert);
+  }
+
+  private void renew(NamespaceShards... shards) {
+    Arrays.stream(shards).forEach(s -> testSupport.runSteps(s.createRenewLeaseStep()));
+  }
+
+  // Advances time by one renewal interval at a time, renewing the leases of the specified replicas each time.
+  private void renewFor(int seconds, NamespaceShards... shards) {
+    for (int elapsed = 0; elapsed < seconds; elapsed += RENEWAL_INTERVAL_SECONDS) {
+      SystemClockTestSupport.increment(RENEWAL_INTERVAL_SECONDS);
+      renew(shards);
+    }
+  }
+
+  private List<String> getOwnedNamespaces(NamespaceShards shards) {
+    return NAMESPACES.stream().filter(shards::owns).collect(Collectors.toList());
+  }
+
+  private V1Lease createLease(String replicaName, int secondsSinceRenewal) {
+    return new V1Lease()
+          .metadata(new V1ObjectMeta()
+                .name(replicaName)
+                .namespace(getOperatorNamespace())
+                .putLabelsItem(NAMESPACE_SHARD_LEASE_LABEL, "true"))
+          .spec(new V1LeaseSpec()
+                .holderIdentity(replicaName)
+                .renewTime(SystemClock.now().minusSeconds(secondsSinceRenewal))
+                .leaseDurationSeconds(DEFAULT_LEASE_DURATION_SECONDS));
+  }
+
+  @Test
+  public void whenShardingDisabled_allNamespacesAreOwned() {
+    TuningParametersStub.setParameter("namespaceShardingEnabled", "false");
+
+    assertThat(NamespaceShards.isOwned("ns1"), is(true));
+  }
+
+  @Test
+  public void beforeLeaseRenewed_noNamespacesAreOwned() {
+    assertThat(NamespaceShards.isOwned("ns1"), is(false));
+  }
+
+  @Test
+  public void afterRenewal_replicaHoldsLease() {
+    renew(shards1);
+
+    V1Lease lease = testSupport.getResourceWithName(LEASE, REPLICA1);
+    assertThat(lease.getSpec().getHolderIdentity(), equalTo(REPLICA1));
+    assertThat(lease.getSpec().getRenewTime(), equalTo(SystemClock.now()));
+  }
+
+  @Test
+  public void whenAlone_replicaOwnsAllNamespacesAtOnce() {
+    renew(shards1);
+
+    assertThat(getOwnedNamespaces(shards1), equalTo(NAMESPACES));
+  }
+
+  @Test
+  public void whenRenewalNotDue_dontCallKubernetes() {
+    renew(shards1);
+    testSupport.clearNumCalls();
+
+    SystemClockTestSupport.increment(RENEWAL_INTERVAL_SECONDS - 1);
+    renew(shards1);
+
+    assertThat(testSupport.getNumCalls(), equalTo(0));
+  }
+
+  @Test
+  public void afterRenewalInterval_renewLease() {
+    renew(shards1);
+
+    SystemClockTestSupport.increment(RENEWAL_INTERVAL_SECONDS);
+    renew(shards1);
+
+    V1Lease lease = testSupport.getResourceWithName(LEASE, REPLICA1);
+    assertThat(lease.getSpec().getRenewTime(), equalTo(SystemClock.now()));
+  }
+
+  @Test
+  public void whenReplicasLive_eachNamespaceHasOneOwner() {
+    renew(shards1, shards2);
+    renewFor(HANDOVER_SECONDS, shards1, shards2);
+
+    assertThat(shards1.getReplicas(), contains(REPLICA1, REPLICA2));
+    assertThat(getOwnedNamespaces(shards1), not(empty()));
+    assertThat(getOwnedNamespaces(shards2), not(empty()));
+    for (String namespace : NAMESPACES) {
+      assertThat(namespace, shards1.owns(namespace) ^ shards2.owns(namespace), is(true));
+    }
+  }
+
+  @Test
+  public void whenReplicaJoins_itWaitsForHandoverBeforeManagingNamespaces() {
+    renew(shards1);
+
+    SystemClockTestSupport.increment(RENEWAL_INTERVAL_SECONDS);
+    renew(shards2);
+
+    assertThat(getOwnedNamespaces(shards2), empty());
+  }
+
+  @Test
+  public void afterHandover_joiningReplicaManagesItsNamespaces() {
+    renew(shards1);
+    SystemClockTestSupport.increment(RENEWAL_INTERVAL_SECONDS);
+    renew(shards2);
+
+    renewFor(HANDOVER_SECONDS, shards1, shards2);
+
+    assertThat(getOwnedNamespaces(shards2), not(empty()));
+  }
+
+  @Test
+  public void whenOtherReplicaJoins_releaseItsNamespacesAtNextRenewal() {
+    renew(shards1);
+    renew(shards2);
+
+    SystemClockTestSupport.increment(RENEWAL_INTERVAL_SECONDS);
+    renew(shards1);
+
+    assertThat(getOwnedNamespaces(shards1).size(), equalTo(NAMESPACES.size() - getRingOwnedCount(REPLICA2)));
+  }
+
+  private int getRingOwnedCount(String replicaName) {
+    Ring ring = new Ring(Arrays.asList(REPLICA1, REPLICA2));
+    return (int) NAMESPACES.stream().filter(ns -> ring.getOwner(ns).equals(replicaName)).count();
+  }
+
+  @Test
+  public void whenReplicaLost_othersTakeOverItsNamespaces() {
+    renew(shards1, shards2);
+    renewFor(HANDOVER_SECONDS, shards1, shards2);
+
+    renewFor(DEFAULT_LEASE_DURATION_SECONDS + RENEWAL_INTERVAL_SECONDS + HANDOVER_SECONDS, shards1);
+
+    assertThat(shards1.getReplicas(), contains(REPLICA1));
+    assertThat(getOwnedNamespaces(shards1), equalTo(NAMESPACES));
+  }
+
+  @Test
+  public void whenOwnLeaseNotRenewed_ownNoNamespaces() {
+    renew(shards1);
+
+    SystemClockTestSupport.increment(DEFAULT_LEASE_DURATION_SECONDS);
+
+    assertThat(getOwnedNamespaces(shards1), empty());
+  }
+
+  @Test
+  public void whenLeaseRenewedAfterExpiry_waitForHandoverBeforeManagingNamespaces() {
+    testSupport.defineResources(createLease(REPLICA2, 0));
+    renew(shards1);
+    renewFor(HANDOVER_SECONDS, shards1);
+    List<String> owned = getOwnedNamespaces(shards1);
+
+    SystemClockTestSupport.increment(DEFAULT_LEASE_DURATION_SECONDS);
+    testSupport.defineResources(createLease(REPLICA2 + "-restarted", 0));
+    renew(shards1);
+
+    assertThat(owned, not(empty()));
+    assertThat(getOwnedNamespaces(shards1), empty());
+  }
+
+  @Test
+  public void whenLeaseLongExpired_deleteIt() {
+    testSupport.defineResources(createLease(REPLICA3, 3 * DEFAULT_LEASE_DURATION_SECONDS));
+
+    renew(shards1);
+
+    assertThat(testSupport.getResourceWithName(LEASE, REPLICA3), nullValue());
+  }
+
+  @Test
+  public void whenLeaseRecentlyExpired_dontDeleteIt() {
+    testSupport.defineResources(createLease(REPLICA3, DEFAULT_LEASE_DURATION_SECONDS + 1));
+
+    renew(shards1);
+
+    assertThat(testSupport.getResourceWithName(LEASE, REPLICA3), notNullValue());
+    assertThat(shards1.getReplicas(), contains(REPLICA1));
+  }
+
+  @Test
+  public void whenUnableToListLeases_logWarningAndOwnNoNamespaces() {
+    loggerControl.collectLogMessages(logRecords, NAMESPACE_SHARD_RENEWAL_FAILED);
+    testSupport.failOnResource(LEASE, null, getOperatorNamespace(), HTTP_FORBIDDEN);
+
+    renew(shards1);
+
+    assertThat(logRecords, containsWarning(NAMESPACE_SHARD_RENEWAL_FAILED));
+    assertThat(getOwnedNamespaces(shards1), empty());
+  }
+
+  @Test
+  public void whenReplicaRemovedFromRing_onlyItsNamespacesMove() {
+    Ring before = new Ring(Arrays.asList(REPLICA1, REPLICA2, REPLICA3));
+    Ring after = new Ring(Arrays.asList(REPLICA1, REPLICA2));
+
+    for (String namespace : NAMESPACES) {
+      if (!before.getOwner(namespace).equals(REPLICA3)) {
+        assertThat(namespace, after.getOwner(namespace), equalTo(before.getOwner(namespace)));
+      }
+    }
+  }
+
+  @Test
+  public void ringDividesNamespacesAmongAllReplicas() {
+    Ring ring = new Ring(Arrays.asList(REPLICA1, REPLICA2, REPLICA3));
+
+    assertThat(NAMESPACES.stream().map(ring::getOwner).distinct().collect(Collectors.toList()),
+          containsInAnyOrder(REPLICA1, REPLICA2, REPLICA3));
+  }
+}
@@ -5,6 +5,8 @@ package oracle.kubernetes.operator;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpRequest;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -25,6 +27,9 @@ import io.kubernetes.client.openapi.models.V1PodStatus;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.LegalNames;
 import oracle.kubernetes.operator.helpers.TuningParametersStub;
+import oracle.kubernetes.operator.http.HttpAsyncTestSupport;
+import oracle.kubernetes.operator.http.HttpResponseStub;
+import oracle.kubernetes.operator.steps.ReadHealthStep;
 import oracle.kubernetes.operator.utils.KubernetesExec;
 import oracle.kubernetes.operator.utils.KubernetesExecFactory;
 import oracle.kubernetes.operator.work.FiberTestSupport;
@@ -51,10 +56,14 @@ import static org.hamcrest.junit.MatcherAssert.assertThat;
 public class ServerStatusReaderTest extends HttpUserAgentTest {
   private static final String NS = "namespace";
   private static final String UID = "uid";
+  private static final String POD_IP = "10.0.0.1";
+  private static final String STATE_PROBE_PORT = "8071";
+  private static final String DOMAIN_HEALTH_READ = "*domain*";
   private final TerminalStep endStep = new TerminalStep();
   private final KubernetesExecFactoryFake execFactory = new KubernetesExecFactoryFake();
   private final ReadServerHealthStepFactoryFake stepFactory = new ReadServerHealthStepFactoryFake();
   private FiberTestSupport testSupport = new FiberTestSupport();
+  private final HttpAsyncTestSupport httpSupport = new HttpAsyncTestSupport();
   private List<Memento> mementos = new ArrayList<>();
   private Domain domain =
       new Domain().withMetadata(new V1ObjectMeta().namespace(NS)).withSpec(new DomainSpec());
@@ -69,8 +78,11 @@ public class ServerStatusReaderTest extends HttpUserAgentTest {
     mementos.add(TestUtils.silenceOperatorLogger());
     mementos.add(StaticStubSupport.install(ServerStatusReader.class, "EXEC_FACTORY", execFactory));
     mementos.add(StaticStubSupport.install(ServerStatusReader.class, "STEP_FACTORY", stepFactory));
+    mementos.add(StaticStubSupport.install(ServerStatusReader.class, "DOMAIN_STEP_FACTORY",
+          stepFactory.forDomain()));
     mementos.add(TuningParametersStub.install());
     mementos.add(ClientFactoryStub.install());
+    mementos.add(httpSupport.install());
 
     testSupport.addDomainPresenceInfo(info);
   }
@@ -182,9 +194,89 @@ public class ServerStatusReaderTest extends HttpUserAgentTest {
     assertThat(stepFactory.serverNames, contains("server1"));
   }
 
+  @Test
+  public void whenBatchedHealthReadsEnabled_readDomainHealthBeforeServerHealth() {
+    TuningParametersStub.setParameter(ReadHealthStep.BATCHED_HEALTH_READS_PARAM, "true");
+    info.setServerPod("server1", createPod("server1"));
+    setReadyStatus(info.getServerPod("server1"));
+
+    testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(stepFactory.serverNames, contains(DOMAIN_HEALTH_READ, "server1"));
+  }
+
+  @Test
+  public void whenBatchedHealthReadsNotEnabled_dontReadDomainHealth() {
+    info.setServerPod("server1", createPod("server1"));
+    setReadyStatus(info.getServerPod("server1"));
+
+    testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(stepFactory.serverNames, contains("server1"));
+  }
+
+  @Test
+  public void whenStateProbePortConfigured_readStateOverHttp() {
+    info.setServerPod("server1", createPodWithIp("server1"));
+    TuningParametersStub.setParameter(ServerStatusReader.STATE_PROBE_PORT_PARAM, STATE_PROBE_PORT);
+    defineStateResponse(200, "ADMIN");
+
+    Packet packet =
+        testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(getServerStates(packet), hasEntry("server1", "ADMIN"));
+  }
+
+  @Test
+  public void whenStateResponderFindsNoServerProcess_recordStartingState() {
+    info.setServerPod("server1", createPodWithIp("server1"));
+    TuningParametersStub.setParameter(ServerStatusReader.STATE_PROBE_PORT_PARAM, STATE_PROBE_PORT);
+    defineStateResponse(503, "");
+
+    Packet packet =
+        testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(getServerStates(packet), hasEntry("server1", WebLogicConstants.STARTING_STATE));
+  }
+
+  @Test
+  public void whenStateResponderUnreachable_readStateWithExec() {
+    info.setServerPod("server1", createPodWithIp("server1"));
+    TuningParametersStub.setParameter(ServerStatusReader.STATE_PROBE_PORT_PARAM, STATE_PROBE_PORT);
+    httpSupport.defineResponse(createStateRequest(), null);
+    execFactory.defineResponse("server1", "RUNNING");
+
+    Packet packet =
+        testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(getServerStates(packet), hasEntry("server1", "RUNNING"));
+  }
+
+  private V1Pod createPodWithIp(String serverName) {
+    return createPod(serverName).status(new V1PodStatus().podIP(POD_IP));
+  }
+
+  private void defineStateResponse(int status, String body) {
+    httpSupport.defineResponse(createStateRequest(), createStub(HttpResponseStub.class, status, body));
+  }
+
+  private HttpRequest createStateRequest() {
+    return HttpRequest.newBuilder(URI.create("http://" + POD_IP + ":" + STATE_PROBE_PORT + "/state")).GET().build();
+  }
+
   static class ReadServerHealthStepFactoryFake implements Function<Step, Step> {
     List<String> serverNames = new ArrayList<>();
 
+    Function<Step, Step> forDomain() {
+      return next -> new Step(next) {
+        @Override
+        public NextAction apply(Packet packet) {
+          serverNames.add(DOMAIN_HEALTH_READ);
+          return doNext(packet);
+        }
+      };
+    }
+
     @Override
     public Step apply(Step next) {
       return new Step() {
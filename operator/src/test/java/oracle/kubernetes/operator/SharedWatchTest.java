@@ -0,0 +1,127 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.TuningParameters.WatchTuning;
+import oracle.kubernetes.operator.builders.WatchEvent;
+import oracle.kubernetes.operator.watcher.ResourceIndex;
+import oracle.kubernetes.operator.watcher.WatchListener;
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+
+public class SharedWatchTest {
+  private static final String NS1 = "ns1";
+  private static final String NS2 = "ns2";
+  private static final String UID = "domain1";
+
+  private final WatchTuning tuning = new WatchTuning(30, 0, 5);
+  private final ResourceIndex<V1Pod> index = new ResourceIndex<>();
+  private final List<WatchListener<V1Pod>> clusterWatcherListeners = new ArrayList<>();
+  private final SharedWatch<V1Pod> sharedWatch = new SharedWatch<>(this::createClusterWatcher, index);
+  private final List<Watch.Response<V1Pod>> ns1Events = new ArrayList<>();
+  private final List<Watch.Response<V1Pod>> ns2Events = new ArrayList<>();
+  private final AtomicBoolean ns1Stopping = new AtomicBoolean(false);
+
+  private Watcher<V1Pod> createClusterWatcher(WatchListener<V1Pod> listener) {
+    clusterWatcherListeners.add(listener);
+    return PodWatcher.create(null, null, "", tuning, listener, new AtomicBoolean(false));
+  }
+
+  private PodWatcher createNamespaceWatcher(String ns, List<Watch.Response<V1Pod>> events, AtomicBoolean stopping) {
+    return PodWatcher.create(null, ns, "", tuning, events::add, stopping);
+  }
+
+  private Watch.Response<V1Pod> createAddedResponse(String ns, String name) {
+    return WatchEvent.createAddedEvent(createPod(ns, name)).toWatchResponse();
+  }
+
+  private V1Pod createPod(String ns, String name) {
+    return new V1Pod().metadata(
+          new V1ObjectMeta().namespace(ns).name(name).resourceVersion("1").putLabelsItem(DOMAINUID_LABEL, UID));
+  }
+
+  @Test
+  public void whenMultipleNamespaceWatchersAdded_createOnlyOneClusterWatcher() {
+    sharedWatch.addNamespaceWatcher(createNamespaceWatcher(NS1, ns1Events, ns1Stopping));
+    sharedWatch.addNamespaceWatcher(createNamespaceWatcher(NS2, ns2Events, new AtomicBoolean(false)));
+
+    assertThat(clusterWatcherListeners, contains(sharedWatch));
+  }
+
+  @Test
+  public void whenEventReceived_dispatchOnlyToWatcherForItsNamespace() {
+    sharedWatch.addNamespaceWatcher(createNamespaceWatcher(NS1, ns1Events, ns1Stopping));
+    sharedWatch.addNamespaceWatcher(createNamespaceWatcher(NS2, ns2Events, new AtomicBoolean(false)));
+    Watch.Response<V1Pod> response = createAddedResponse(NS1, "admin");
+
+    sharedWatch.receivedResponse(response);
+
+    assertThat(ns1Events, contains(response));
+    assertThat(ns2Events, empty());
+  }
+
+  @Test
+  public void whenEventReceivedForRegisteredNamespace_recordItInIndex() {
+    sharedWatch.addNamespaceWatcher(createNamespaceWatcher(NS1, ns1Events, ns1Stopping));
+
+    sharedWatch.receivedResponse(createAddedResponse(NS1, "admin"));
+
+    assertThat(index.getResources(NS1, UID).size(), equalTo(1));
+  }
+
+  @Test
+  public void whenEventReceivedForUnregisteredNamespace_doNotRecordItInIndex() {
+    sharedWatch.addNamespaceWatcher(createNamespaceWatcher(NS1, ns1Events, ns1Stopping));
+
+    sharedWatch.receivedResponse(createAddedResponse(NS2, "admin"));
+
+    assertThat(ns1Events, empty());
+    assertThat(index.getResources(NS2, UID), empty());
+  }
+
+  @Test
+  public void afterNamespaceWatcherRemoved_removeItsResourcesFromIndex() {
+    sharedWatch.addNamespaceWatcher(createNamespaceWatcher(NS1, ns1Events, ns1Stopping));
+    sharedWatch.addNamespaceWatcher(createNamespaceWatcher(NS2, ns2Events, new AtomicBoolean(false)));
+    sharedWatch.receivedResponse(createAddedResponse(NS1, "admin"));
+    sharedWatch.receivedResponse(createAddedResponse(NS2, "admin"));
+
+    sharedWatch.removeNamespaceWatcher(NS1);
+
+    assertThat(index.getResources(NS1, UID), empty());
+    assertThat(index.getResources(NS2, UID).size(), equalTo(1));
+  }
+
+  @Test
+  public void afterNamespaceWatcherRemoved_doNotDispatchEventsToIt() {
+    sharedWatch.addNamespaceWatcher(createNamespaceWatcher(NS1, ns1Events, ns1Stopping));
+    sharedWatch.removeNamespaceWatcher(NS1);
+
+    sharedWatch.receivedResponse(createAddedResponse(NS1, "admin"));
+
+    assertThat(ns1Events, empty());
+  }
+
+  @Test
+  public void whenNamespaceStopping_doNotDispatchEventsToItsWatcher() {
+    sharedWatch.addNamespaceWatcher(createNamespaceWatcher(NS1, ns1Events, ns1Stopping));
+    ns1Stopping.set(true);
+
+    sharedWatch.receivedResponse(createAddedResponse(NS1, "admin"));
+
+    assertThat(ns1Events, empty());
+  }
+}
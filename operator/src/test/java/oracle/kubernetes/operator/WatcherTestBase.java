@@ -184,6 +184,20 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
         hasEntry("resourceVersion", resourceVersion.subtract(BigInteger.TWO).toString()));
   }
 
+  @Test
+  public void afterOutOfOrderEvents_nextRequestSendsHighestResourceVersion() {
+    Object older = createObjectWithMetaData();
+    Object newer = createObjectWithMetaData();
+    StubWatchFactory.addCallResponses(createAddResponse(newer), createModifyResponse(older));
+    scheduleAddResponse(createObjectWithMetaData());
+
+    createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
+
+    assertThat(
+        StubWatchFactory.getRequestParameters().get(1),
+        hasEntry("resourceVersion", INITIAL_RESOURCE_VERSION.add(BigInteger.ONE).toString()));
+  }
+
   @Test
   public void afterHttpGoneError_nextRequestSendsIncludedResourceVersion() {
     StubWatchFactory.addCallResponses(createHttpGoneErrorResponse(NEXT_RESOURCE_VERSION));
@@ -0,0 +1,157 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.builders;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import com.meterware.simplestub.Memento;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.util.Watch;
+import okhttp3.Request;
+import oracle.kubernetes.operator.ClientFactoryStub;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+public class AsyncWatchTest {
+  private static final String WATCH_PATH = "/watch";
+  private static final String MISSING_PATH = "/missing";
+  private static final String OPEN_PATH = "/open";
+  private static final int NUM_OPEN_WATCHES = 20;
+
+  private final List<Watch.Response<V1Pod>> responses = Collections.synchronizedList(new ArrayList<>());
+  private final CountDownLatch closed = new CountDownLatch(1);
+  private HttpServer server;
+  private final List<Memento> mementos = new ArrayList<>();
+  private final List<HttpExchange> openExchanges = Collections.synchronizedList(new ArrayList<>());
+
+  /**
+   * Setup test.
+   * @throws Exception on failure
+   */
+  @Before
+  public void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger().ignoringLoggedExceptions(IOException.class));
+    mementos.add(ClientFactoryStub.install());
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext(WATCH_PATH, this::sendWatchEvents);
+    server.createContext(OPEN_PATH, this::sendEventAndKeepOpen);
+    server.start();
+  }
+
+  @After
+  public void tearDown() {
+    openExchanges.forEach(HttpExchange::close);
+    server.stop(0);
+    mementos.forEach(Memento::revert);
+  }
+
+  private void sendWatchEvents(HttpExchange exchange) throws IOException {
+    exchange.sendResponseHeaders(200, 0);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write((createAddedEvent("pod1", "1") + "\n").getBytes(StandardCharsets.UTF_8));
+      out.flush();
+      out.write((createAddedEvent("pod2", "2") + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  private void sendEventAndKeepOpen(HttpExchange exchange) throws IOException {
+    exchange.sendResponseHeaders(200, 0);
+    OutputStream out = exchange.getResponseBody();
+    out.write((createAddedEvent("pod1", "1") + "\n").getBytes(StandardCharsets.UTF_8));
+    out.flush();
+    openExchanges.add(exchange);
+  }
+
+  private String createAddedEvent(String name, String resourceVersion) {
+    return String.format("{\"type\":\"ADDED\",\"object\":{\"apiVersion\":\"v1\",\"kind\":\"Pod\","
+          + "\"metadata\":{\"name\":\"%s\",\"namespace\":\"ns1\",\"resourceVersion\":\"%s\"}}}", name, resourceVersion);
+  }
+
+  private AsyncWatch<V1Pod> createWatch(String path) {
+    String url = "http://localhost:" + server.getAddress().getPort() + path;
+    return new AsyncWatch<>(new CallParamsImpl(), V1Pod.class,
+        (client, params) -> client.getHttpClient().newCall(new Request.Builder().url(url).build()));
+  }
+
+  private List<String> getPodNames() {
+    List<String> names = new ArrayList<>();
+    responses.forEach(r -> names.add(r.object.getMetadata().getName()));
+    return names;
+  }
+
+  @Test
+  public void whenWatchStarted_deliverEventsInOrderAndRunCloseHandler() throws InterruptedException {
+    createWatch(WATCH_PATH).start(responses::add, closed::countDown);
+
+    assertThat(closed.await(10, TimeUnit.SECONDS), is(true));
+    assertThat(getPodNames(), contains("pod1", "pod2"));
+  }
+
+  @Test
+  public void whenWatchStarted_parseEventTypes() throws InterruptedException {
+    createWatch(WATCH_PATH).start(responses::add, closed::countDown);
+
+    assertThat(closed.await(10, TimeUnit.SECONDS), is(true));
+    assertThat(responses.get(0).type, equalTo("ADDED"));
+  }
+
+  @Test
+  public void whenRequestFails_runCloseHandlerWithoutEvents() throws InterruptedException {
+    createWatch(MISSING_PATH).start(responses::add, closed::countDown);
+
+    assertThat(closed.await(10, TimeUnit.SECONDS), is(true));
+    assertThat(responses, empty());
+  }
+
+  @Test
+  public void whileManyWatchesAreStreaming_useFewerThreadsThanWatches() throws InterruptedException {
+    CountDownLatch allStreaming = new CountDownLatch(NUM_OPEN_WATCHES);
+    int initialThreadCount = Thread.activeCount();
+
+    List<AsyncWatch<V1Pod>> watches = new ArrayList<>();
+    for (int i = 0; i < NUM_OPEN_WATCHES; i++) {
+      AsyncWatch<V1Pod> watch = createWatch(OPEN_PATH);
+      watch.start(r -> allStreaming.countDown(), () -> { });
+      watches.add(watch);
+    }
+
+    try {
+      assertThat(allStreaming.await(10, TimeUnit.SECONDS), is(true));
+      assertThat(Thread.activeCount() - initialThreadCount, lessThan(NUM_OPEN_WATCHES));
+    } finally {
+      watches.forEach(AsyncWatch::close);
+    }
+  }
+
+  @Test
+  public void whenStreamingWatchClosed_runCloseHandler() throws InterruptedException {
+    CountDownLatch streaming = new CountDownLatch(1);
+    AsyncWatch<V1Pod> watch = createWatch(OPEN_PATH);
+    watch.start(r -> streaming.countDown(), closed::countDown);
+    assertThat(streaming.await(10, TimeUnit.SECONDS), is(true));
+
+    watch.close();
+
+    assertThat(closed.await(10, TimeUnit.SECONDS), is(true));
+  }
+}
@@ -43,6 +43,8 @@ import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.Assert.fail;
 
 /**
@@ -100,6 +102,16 @@ public class WatchBuilderTest {
     assertThat(domainWatch, contains(bookmarkEvent(domain)));
   }
 
+  @Test
+  public void whenAsyncStreamingRequested_createAsyncWatchInsteadOfWatchable() throws Exception {
+    WatchBuilder watchBuilder = new WatchBuilder().withAsyncStreaming(true);
+
+    Watchable<V1Pod> podWatch = watchBuilder.createPodWatch(NAMESPACE);
+
+    assertThat(podWatch, nullValue());
+    assertThat(watchBuilder.getAsyncWatch(), notNullValue());
+  }
+
   private <T> Watch.Response<T> createAddResponse(T object) {
     return WatchEvent.createAddedEvent(object).toWatchResponse();
   }
@@ -0,0 +1,94 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.kubernetes.client.custom.IntOrString;
+import io.kubernetes.client.custom.Quantity;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1ResourceRequirements;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class CanonicalHashTest {
+
+  @Test
+  public void hashOfPlainValuesIsUnchanged() {
+    Map<String, Object> map = new LinkedHashMap<>();
+    map.put("name", "value");
+    map.put("list", Arrays.asList("a", 1, true, null));
+
+    assertThat(CanonicalHash.sha256Hex(map),
+          equalTo("d1880b8819caa8075ef0fdb7f705869b73e3e3e992cee566af6e85bbc8c5d623"));
+  }
+
+  @Test
+  public void whenMapEntriesAddedInDifferentOrder_hashIsUnchanged() {
+    V1ObjectMeta meta1 = new V1ObjectMeta().putLabelsItem("a", "1").putLabelsItem("b", "2");
+    V1ObjectMeta meta2 = new V1ObjectMeta().putLabelsItem("b", "2").putLabelsItem("a", "1");
+
+    assertThat(CanonicalHash.sha256Hex(meta1), equalTo(CanonicalHash.sha256Hex(meta2)));
+  }
+
+  @Test
+  public void whenFieldsSetInDifferentOrder_hashIsUnchanged() {
+    V1Container container1 = new V1Container().name("server").image("image:1.2.3");
+    V1Container container2 = new V1Container().image("image:1.2.3").name("server");
+
+    assertThat(CanonicalHash.sha256Hex(container1), equalTo(CanonicalHash.sha256Hex(container2)));
+  }
+
+  @Test
+  public void whenFieldValueDiffers_hashDiffers() {
+    assertThat(CanonicalHash.sha256Hex(createPod("image:1.2.3")),
+          not(equalTo(CanonicalHash.sha256Hex(createPod("image:1.2.4")))));
+  }
+
+  @Test
+  public void whenListOrderDiffers_hashDiffers() {
+    assertThat(CanonicalHash.sha256Hex(new V1Container().args(Arrays.asList("a", "b"))),
+          not(equalTo(CanonicalHash.sha256Hex(new V1Container().args(Arrays.asList("b", "a"))))));
+  }
+
+  @Test
+  public void whenValuesSplitDifferently_hashDiffers() {
+    assertThat(CanonicalHash.sha256Hex(new V1Container().args(Arrays.asList("ab", "c"))),
+          not(equalTo(CanonicalHash.sha256Hex(new V1Container().args(Arrays.asList("a", "bc"))))));
+  }
+
+  @Test
+  public void whenEmptyListSet_hashDiffersFromUnsetList() {
+    assertThat(CanonicalHash.sha256Hex(new V1Container().args(Collections.emptyList())),
+          not(equalTo(CanonicalHash.sha256Hex(new V1Container()))));
+  }
+
+  @Test
+  public void whenQuantitiesEqual_hashIsUnchanged() {
+    V1ResourceRequirements requirements1 = new V1ResourceRequirements().putLimitsItem("memory", new Quantity("1Gi"));
+    V1ResourceRequirements requirements2 = new V1ResourceRequirements().putLimitsItem("memory", new Quantity("1Gi"));
+
+    assertThat(CanonicalHash.sha256Hex(requirements1), equalTo(CanonicalHash.sha256Hex(requirements2)));
+  }
+
+  @Test
+  public void integerIntOrStringIsHashedAsNumber() {
+    assertThat(CanonicalHash.sha256Hex(new IntOrString(8001)), equalTo(CanonicalHash.sha256Hex(8001)));
+  }
+
+  private V1Pod createPod(String image) {
+    return new V1Pod()
+          .metadata(new V1ObjectMeta().name("pod1"))
+          .spec(new V1PodSpec().addContainersItem(new V1Container().name("server").image(image)));
+  }
+}
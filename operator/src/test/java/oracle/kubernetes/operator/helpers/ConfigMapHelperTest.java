@@ -49,6 +49,7 @@ public class ConfigMapHelperTest {
   static final String[] SCRIPT_NAMES = {
     "livenessProbe.sh",
     "readState.sh",
+    "stateServer.py",
     "start-server.py",
     "startServer.sh",
     "stop-server.py",
@@ -5,12 +5,14 @@ package oracle.kubernetes.operator.helpers;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ConfigMap;
 import io.kubernetes.client.openapi.models.V1Container;
@@ -33,6 +35,7 @@ import oracle.kubernetes.weblogic.domain.model.Configuration;
 import oracle.kubernetes.weblogic.domain.model.ConfigurationConstants;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.DomainSpec;
+import oracle.kubernetes.weblogic.domain.model.KubernetesResourceLookup;
 import oracle.kubernetes.weblogic.domain.model.Model;
 import org.jetbrains.annotations.Nullable;
 import org.junit.After;
@@ -43,6 +46,7 @@ import static com.meterware.simplestub.Stub.createNiceStub;
 import static com.meterware.simplestub.Stub.createStrictStub;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
+import static oracle.kubernetes.operator.IntrospectorConfigMapKeys.INTROSPECTION_FINGERPRINT;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_INTROSPECTOR_JOB;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
 import static oracle.kubernetes.operator.ProcessingConstants.JOBWATCHER_COMPONENT_NAME;
@@ -60,8 +64,11 @@ import static oracle.kubernetes.utils.LogMatcher.containsFine;
 import static oracle.kubernetes.utils.LogMatcher.containsInfo;
 import static oracle.kubernetes.utils.LogMatcher.containsWarning;
 import static oracle.kubernetes.weblogic.domain.model.ConfigurationConstants.START_NEVER;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.stringContainsInOrder;
 import static org.hamcrest.core.AllOf.allOf;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
@@ -92,6 +99,28 @@ public class DomainIntrospectorJobTest {
   private final List<LogRecord> logRecords = new ArrayList<>();
   private final RetryStrategyStub retryStrategy = createStrictStub(RetryStrategyStub.class);
   private final String jobPodName = LegalNames.toJobIntrospectorName(UID);
+  private final IntrospectionScheduler introspectionScheduler = new IntrospectionScheduler();
+  private final KubernetesResourceLookup resourceLookup = new KubernetesResourceLookup() {
+    @Override
+    public boolean isSecretExists(String name, String namespace) {
+      return true;
+    }
+
+    @Override
+    public boolean isConfigMapExists(String name, String namespace) {
+      return true;
+    }
+
+    @Override
+    public String getSecretResourceVersion(String name, String namespace) {
+      return "1";
+    }
+
+    @Override
+    public String getConfigMapResourceVersion(String name, String namespace) {
+      return "1";
+    }
+  };
 
   public DomainIntrospectorJobTest() {
   }
@@ -114,6 +143,7 @@ public class DomainIntrospectorJobTest {
     mementos.add(TuningParametersStub.install());
     mementos.add(testSupport.install());
     mementos.add(ScanCacheStub.install());
+    mementos.add(StaticStubSupport.install(IntrospectionScheduler.class, "instance", introspectionScheduler));
     testSupport.addToPacket(JOB_POD_NAME, jobPodName);
     testSupport.addDomainPresenceInfo(domainPresenceInfo);
     testSupport.defineResources(domain);
@@ -365,6 +395,84 @@ public class DomainIntrospectorJobTest {
     assertThat(logRecords, containsWarning(getNoClusterInDomainMessageKey()));
   }
 
+  @Test
+  public void whenBringingUpDomainWithCurrentIntrospection_dontRunIntrospector() throws JsonProcessingException {
+    WlsDomainConfig wlsDomainConfig = createDomainConfig("cluster-1");
+    IntrospectionTestUtils.defineResources(testSupport, wlsDomainConfig);
+    testSupport.addToPacket(DOMAIN_TOPOLOGY, wlsDomainConfig);
+    testSupport.addComponent("lookup", KubernetesResourceLookup.class, resourceLookup);
+    testSupport.addToPacket(INTROSPECTION_FINGERPRINT, IntrospectionFingerprint.compute(domain, resourceLookup));
+
+    testSupport.runSteps(getStepFactory(), terminalStep);
+
+    assertThat(logRecords, not(containsInfo(getJobCreatedMessageKey())));
+  }
+
+  @Test
+  public void whenBringingUpDomainWithOutdatedIntrospection_runIntrospector() throws JsonProcessingException {
+    WlsDomainConfig wlsDomainConfig = createDomainConfig("cluster-1");
+    IntrospectionTestUtils.defineResources(testSupport, wlsDomainConfig);
+    testSupport.addToPacket(DOMAIN_TOPOLOGY, wlsDomainConfig);
+    testSupport.addComponent("lookup", KubernetesResourceLookup.class, resourceLookup);
+    testSupport.addToPacket(INTROSPECTION_FINGERPRINT, "outdated");
+
+    testSupport.runSteps(getStepFactory(), terminalStep);
+
+    assertThat(logRecords, containsInfo(getJobCreatedMessageKey()));
+    assertThat(logRecords, containsFine(getJobDeletedMessageKey()));
+  }
+
+  @Test
+  public void whenIntrospectorJobIsRun_recordFingerprintInConfigMap() throws JsonProcessingException {
+    IntrospectionTestUtils.defineResources(testSupport, createDomainConfig("cluster-1"));
+    testSupport.addComponent("lookup", KubernetesResourceLookup.class, resourceLookup);
+
+    testSupport.runSteps(getStepFactory(), terminalStep);
+
+    assertThat(logRecords, containsInfo(getJobCreatedMessageKey()));
+    assertThat(logRecords, containsFine(getJobDeletedMessageKey()));
+    assertThat(getIntrospectorConfigMapData(),
+          hasEntry(INTROSPECTION_FINGERPRINT, IntrospectionFingerprint.compute(domain, resourceLookup)));
+  }
+
+  private Map<String, String> getIntrospectorConfigMapData() {
+    return testSupport.<V1ConfigMap>getResourceWithName(
+          KubernetesTestSupport.CONFIG_MAP, ConfigMapHelper.getIntrospectorConfigMapName(UID)).getData();
+  }
+
+  @Test
+  public void whenIntrospectorJobIsRun_releaseIntrospectionPermit() throws JsonProcessingException {
+    IntrospectionTestUtils.defineResources(testSupport, createDomainConfig("cluster-1"));
+
+    testSupport.runSteps(getStepFactory(), terminalStep);
+
+    assertThat(logRecords, containsInfo(getJobCreatedMessageKey()));
+    assertThat(logRecords, containsFine(getJobDeletedMessageKey()));
+    assertThat(introspectionScheduler.getRunningCount(), equalTo(0));
+  }
+
+  @Test
+  public void whenNoIntrospectionPermitAvailable_dontCreateJob() throws JsonProcessingException {
+    TuningParametersStub.setParameter("introspectorJobConcurrencyLimit", "1");
+    holdIntrospectionPermit("other-domain");
+    IntrospectionTestUtils.defineResources(testSupport, createDomainConfig("cluster-1"));
+
+    testSupport.runSteps(getStepFactory(), terminalStep);
+
+    assertThat(introspectionScheduler.getWaitingCount(), equalTo(1));
+    assertThat(terminalStep.wasRun(), is(false));
+  }
+
+  private void holdIntrospectionPermit(String domainUid) {
+    Domain otherDomain = new Domain()
+          .withMetadata(new V1ObjectMeta().name(domainUid).namespace(NS))
+          .withSpec(new DomainSpec().withDomainUid(domainUid));
+    new FiberTestSupport()
+          .addDomainPresenceInfo(new DomainPresenceInfo(otherDomain))
+          .runSteps(IntrospectionScheduler.createAcquireStep(
+                IntrospectionScheduler.Priority.NEW_DOMAIN, null, 0, null));
+  }
+
   @Test
   public void whenJobLogContainsSevereError_logJobInfosOnDelete() {
     testSupport.defineResources(
@@ -3,6 +3,8 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import java.util.Arrays;
+
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodCondition;
@@ -13,6 +15,7 @@ import org.junit.Test;
 
 import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
 import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.Matchers.equalTo;
@@ -73,6 +76,27 @@ public class DomainPresenceInfoTest {
     assertThat(info.getServerPod("myserver"), sameInstance(pod));
   }
 
+  @Test
+  public void whenPodModelInputsUnchanged_reuseModel() {
+    V1Pod pod = info.getPodModel("myserver", Arrays.asList(1L, "hash"), V1Pod::new);
+
+    assertThat(info.getPodModel("myserver", Arrays.asList(1L, "hash"), V1Pod::new), sameInstance(pod));
+  }
+
+  @Test
+  public void whenPodModelInputsChanged_createNewModel() {
+    V1Pod pod = info.getPodModel("myserver", Arrays.asList(1L, "hash"), V1Pod::new);
+
+    assertThat(info.getPodModel("myserver", Arrays.asList(2L, "hash"), V1Pod::new), not(sameInstance(pod)));
+  }
+
+  @Test
+  public void podModelsForDifferentServers_areDistinct() {
+    V1Pod pod = info.getPodModel("myserver", Arrays.asList(1L, "hash"), V1Pod::new);
+
+    assertThat(info.getPodModel("otherserver", Arrays.asList(1L, "hash"), V1Pod::new), not(sameInstance(pod)));
+  }
+
   @Test
   public void afterValidationWarningsAdded_nextCallReturnsThem() {
     final String warning1 = "warning1";
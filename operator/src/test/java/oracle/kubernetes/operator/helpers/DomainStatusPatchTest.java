@@ -17,6 +17,9 @@ import javax.json.JsonPatchBuilder;
 import javax.json.JsonString;
 import javax.json.JsonValue;
 
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.utils.SystemClock;
+import oracle.kubernetes.utils.SystemClockTestSupport;
 import oracle.kubernetes.weblogic.domain.model.ClusterStatus;
 import oracle.kubernetes.weblogic.domain.model.DomainCondition;
 import oracle.kubernetes.weblogic.domain.model.DomainConditionType;
@@ -27,6 +30,8 @@ import oracle.kubernetes.weblogic.domain.model.SubsystemHealth;
 import org.hamcrest.Description;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
 import org.joda.time.DateTime;
+import org.junit.After;
+import org.junit.Before;
 import org.junit.Test;
 
 import static com.meterware.simplestub.Stub.createStrictStub;
@@ -40,6 +45,17 @@ import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 public class DomainStatusPatchTest {
   private PatchBuilderStub builder = createStrictStub(PatchBuilderStub.class);
+  private final List<Memento> mementos = new ArrayList<>();
+
+  @Before
+  public void setUp() throws NoSuchFieldException {
+    mementos.add(SystemClockTestSupport.installClock());
+  }
+
+  @After
+  public void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
 
   @Test      // todo have ADD full status definition as json object - then remove constructor item
   public void whenExistingStatusNull_addStatus() {
@@ -83,6 +99,10 @@ public class DomainStatusPatchTest {
     status2.createPatchFrom(builder, status1);
   }
 
+  private String getTransitionTime() {
+    return "'lastTransitionTime':'" + SystemClock.now() + "',";
+  }
+
   @Test
   public void whenOnlyOldStatusHasReplicas_removeIt() {
     DomainStatus status1 = new DomainStatus().withReplicas(2);
@@ -157,8 +177,10 @@ public class DomainStatusPatchTest {
     assertThat(builder.getPatches(),
           hasItemsInOrder(
                 "ADD /status/conditions []",
-                "ADD /status/conditions/- {'message':'hello','reason':'because','status':'true','type':'Available'}",
-                "ADD /status/conditions/- {'reason':'ok now','status':'true','type':'Progressing'}"
+                "ADD /status/conditions/- {" + getTransitionTime()
+                    + "'message':'hello','reason':'because','status':'true','type':'Available'}",
+                "ADD /status/conditions/- {" + getTransitionTime()
+                    + "'reason':'ok now','status':'true','type':'Progressing'}"
                 ));
   }
 
@@ -193,7 +215,8 @@ public class DomainStatusPatchTest {
 
     assertThat(builder.getPatches(),
           hasItemsInOrder("REMOVE /status/conditions/1",
-                          "ADD /status/conditions/- {'message':'Almost','reason':'trying','type':'Progressing'}"));
+                          "ADD /status/conditions/- {" + getTransitionTime()
+                              + "'message':'Almost','reason':'trying','type':'Progressing'}"));
   }
 
   @Test
@@ -209,7 +232,8 @@ public class DomainStatusPatchTest {
 
     assertThat(builder.getPatches(),
           hasItemsInOrder("REMOVE /status/conditions/0",
-                          "ADD /status/conditions/- {'message':'Almost','reason':'trying','type':'Progressing'}"));
+                          "ADD /status/conditions/- {" + getTransitionTime()
+                              + "'message':'Almost','reason':'trying','type':'Progressing'}"));
   }
 
   @Test
@@ -278,6 +302,25 @@ public class DomainStatusPatchTest {
                 ));
   }
 
+  @Test
+  public void whenBothStatusesHaveClusters_testClusterNamesBeforeChangingThem() {
+    DomainStatus status1 = new DomainStatus()
+          .addCluster(new ClusterStatus().withClusterName("cluster1").withReplicas(2))
+          .addCluster(new ClusterStatus().withClusterName("cluster2").withReplicas(5));
+    DomainStatus status2 = new DomainStatus()
+          .addCluster(new ClusterStatus().withClusterName("cluster1").withReplicas(3));
+
+    computePatch(status1, status2);
+
+    assertThat(builder.getPatches(),
+          hasItemsInOrder(
+                "TEST /status/clusters/0/clusterName 'cluster1'",
+                "REPLACE /status/clusters/0/replicas 3",
+                "TEST /status/clusters/1/clusterName 'cluster2'",
+                "REMOVE /status/clusters/1"
+                ));
+  }
+
   @Test
   public void excludingHealthWhenOnlyNewStatusHasServers_addThem() {
     DomainStatus status1 = new DomainStatus();
@@ -434,6 +477,40 @@ public class DomainStatusPatchTest {
                 ));
   }
 
+  @Test
+  public void whenBothStatusesHaveServers_testServerNamesBeforeChangingThem() {
+    DomainStatus status1 = new DomainStatus()
+          .addServer(new ServerStatus().withServerName("ms1").withState(STARTING_STATE))
+          .addServer(new ServerStatus().withServerName("ms2").withState(RUNNING_STATE));
+    DomainStatus status2 = new DomainStatus()
+          .addServer(new ServerStatus().withServerName("ms2").withState(RUNNING_STATE));
+
+    computePatch(status1, status2);
+
+    assertThat(builder.getPatches(),
+          hasItemsInOrder("TEST /status/servers/0/serverName 'ms1'", "REMOVE /status/servers/0"));
+  }
+
+  @Test
+  public void whenSubsystemSymptomsRemoved_removeFromEndOfList() {
+    DomainStatus status1 = new DomainStatus()
+          .addServer(new ServerStatus().withServerName("ms1")
+                .withHealth(new ServerHealth()
+                .addSubsystem(new SubsystemHealth().withSubsystemName("ejb").withSymptoms("s1", "s2", "s3"))));
+    DomainStatus status2 = new DomainStatus()
+          .addServer(new ServerStatus().withServerName("ms1")
+                .withHealth(new ServerHealth()
+                .addSubsystem(new SubsystemHealth().withSubsystemName("ejb").withSymptoms("s2"))));
+
+    computePatch(status1, status2);
+
+    assertThat(builder.getPatches(),
+          hasItemsInOrder(
+                "REMOVE /status/servers/0/health/subsystems/0/symptoms/2",
+                "REMOVE /status/servers/0/health/subsystems/0/symptoms/0"
+                ));
+  }
+
   @Test
   public void whenSubsystemSymptomsAddedAndRemoved_addAndRemove() {
     DomainStatus status1 = new DomainStatus()
@@ -511,6 +588,12 @@ public class DomainStatusPatchTest {
       return this;
     }
 
+    @Override
+    public JsonPatchBuilder test(String s, String s1) {
+      patches.add("TEST " + s + " '" + s1 + "'");
+      return this;
+    }
+
     private String toPatchString(JsonValue jsonValue) {
       if (jsonValue.equals(JsonObject.FALSE)) {
         return "'false'";
@@ -4,6 +4,7 @@
 package oracle.kubernetes.operator.helpers;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.logging.LogRecord;
@@ -22,6 +23,7 @@ import oracle.kubernetes.weblogic.domain.model.Cluster;
 import oracle.kubernetes.weblogic.domain.model.ConfigurationConstants;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.DomainStatus;
+import oracle.kubernetes.weblogic.domain.model.KubernetesResourceLookup;
 import oracle.kubernetes.weblogic.domain.model.ManagedServer;
 import org.junit.After;
 import org.junit.Before;
@@ -165,6 +167,46 @@ public class DomainValidationStepTest {
     assertThat(terminalStep.wasRun(), is(true));
   }
 
+  @Test
+  public void whenResourceLookupSupplied_useItRatherThanListedSecrets() {
+    consoleControl.ignoreMessage(DOMAIN_VALIDATION_FAILED);
+    domain.getSpec().withWebLogicCredentialsSecret(new V1SecretReference().name("name"));
+    testSupport.defineResources(new V1Secret().metadata(new V1ObjectMeta().name("name").namespace(NS)));
+
+    testSupport.runSteps(
+          DomainValidationSteps.createDomainValidationSteps(NS, new ResourceLookupStub(), terminalStep));
+
+    assertThat(terminalStep.wasRun(), is(false));
+  }
+
+  @Test
+  public void whenResourceLookupFindsSecret_runNextStep() {
+    domain.getSpec().withWebLogicCredentialsSecret(new V1SecretReference().name("name"));
+
+    testSupport.runSteps(
+          DomainValidationSteps.createDomainValidationSteps(NS, new ResourceLookupStub("name"), terminalStep));
+
+    assertThat(terminalStep.wasRun(), is(true));
+  }
+
+  static class ResourceLookupStub implements KubernetesResourceLookup {
+    private final List<String> names;
+
+    ResourceLookupStub(String... names) {
+      this.names = Arrays.asList(names);
+    }
+
+    @Override
+    public boolean isSecretExists(String name, String namespace) {
+      return NS.equals(namespace) && names.contains(name);
+    }
+
+    @Override
+    public boolean isConfigMapExists(String name, String namespace) {
+      return NS.equals(namespace) && names.contains(name);
+    }
+  }
+
   @Test
   public void whenClusterDoesNotExistInDomain_logWarning() {
     domain.getSpec().withCluster(createCluster("no-such-cluster"));
@@ -0,0 +1,145 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.KubernetesResourceLookup;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.SECRET_NAME;
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.createTestDomain;
+import static oracle.kubernetes.weblogic.domain.DomainConfiguratorFactory.forDomain;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class IntrospectionFingerprintTest {
+  private static final String OVERRIDES_MAP = "overrides-cm";
+  private static final String OVERRIDES_SECRET = "overrides-secret";
+
+  private final Domain domain = createTestDomain();
+  private final List<Memento> mementos = new ArrayList<>();
+  private final Map<String, String> secretVersions = new HashMap<>();
+  private final Map<String, String> configMapVersions = new HashMap<>();
+  private final KubernetesResourceLookup resourceLookup = new KubernetesResourceLookup() {
+    @Override
+    public boolean isSecretExists(String name, String namespace) {
+      return secretVersions.containsKey(name);
+    }
+
+    @Override
+    public boolean isConfigMapExists(String name, String namespace) {
+      return configMapVersions.containsKey(name);
+    }
+
+    @Override
+    public String getSecretResourceVersion(String name, String namespace) {
+      return secretVersions.get(name);
+    }
+
+    @Override
+    public String getConfigMapResourceVersion(String name, String namespace) {
+      return configMapVersions.get(name);
+    }
+  };
+
+  @Before
+  public void setUp() throws NoSuchFieldException {
+    mementos.add(StaticStubSupport.install(ConfigMapHelper.class, "scriptsHash", "scripts1"));
+    forDomain(domain)
+          .withDefaultImage("image:1")
+          .withConfigOverrides(OVERRIDES_MAP)
+          .withConfigOverrideSecrets(OVERRIDES_SECRET);
+    secretVersions.put(SECRET_NAME, "10");
+    secretVersions.put(OVERRIDES_SECRET, "11");
+    configMapVersions.put(OVERRIDES_MAP, "12");
+  }
+
+  @After
+  public void tearDown() {
+    Collections.reverse(mementos);
+    mementos.forEach(Memento::revert);
+  }
+
+  private String computeFingerprint() {
+    return IntrospectionFingerprint.compute(domain, resourceLookup);
+  }
+
+  @Test
+  public void whenInputsUnchanged_fingerprintIsUnchanged() {
+    String fingerprint = computeFingerprint();
+
+    assertThat(fingerprint, notNullValue());
+    assertThat(computeFingerprint(), equalTo(fingerprint));
+  }
+
+  @Test
+  public void whenImageChanged_fingerprintChanges() {
+    String fingerprint = computeFingerprint();
+
+    forDomain(domain).withDefaultImage("image:2");
+
+    assertThat(computeFingerprint(), not(equalTo(fingerprint)));
+  }
+
+  @Test
+  public void whenReferencedSecretChanged_fingerprintChanges() {
+    String fingerprint = computeFingerprint();
+
+    secretVersions.put(OVERRIDES_SECRET, "13");
+
+    assertThat(computeFingerprint(), not(equalTo(fingerprint)));
+  }
+
+  @Test
+  public void whenReferencedConfigMapChanged_fingerprintChanges() {
+    String fingerprint = computeFingerprint();
+
+    configMapVersions.put(OVERRIDES_MAP, "13");
+
+    assertThat(computeFingerprint(), not(equalTo(fingerprint)));
+  }
+
+  @Test
+  public void whenOperatorScriptsChanged_fingerprintChanges() throws NoSuchFieldException {
+    String fingerprint = computeFingerprint();
+
+    mementos.add(StaticStubSupport.install(ConfigMapHelper.class, "scriptsHash", "scripts2"));
+
+    assertThat(computeFingerprint(), not(equalTo(fingerprint)));
+  }
+
+  @Test
+  public void whenUnreferencedSecretChanged_fingerprintIsUnchanged() {
+    String fingerprint = computeFingerprint();
+
+    secretVersions.put("unrelated-secret", "13");
+
+    assertThat(computeFingerprint(), equalTo(fingerprint));
+  }
+
+  @Test
+  public void whenReferencedResourceVersionUnknown_fingerprintIsNull() {
+    configMapVersions.remove(OVERRIDES_MAP);
+
+    assertThat(computeFingerprint(), nullValue());
+  }
+
+  @Test
+  public void whenNoResourceLookup_fingerprintIsNull() {
+    assertThat(IntrospectionFingerprint.compute(domain, null), nullValue());
+  }
+}
@@ -3,12 +3,18 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import java.io.Reader;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.LogRecord;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import com.meterware.simplestub.Memento;
 import oracle.kubernetes.operator.DomainProcessorTestSetup;
+import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.TerminalStep;
 import oracle.kubernetes.utils.TestUtils;
 import oracle.kubernetes.weblogic.domain.model.Domain;
@@ -16,7 +22,9 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
+import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_INTROSPECTOR_DATA;
 import static oracle.kubernetes.operator.ProcessingConstants.JOB_POD_NAME;
 import static oracle.kubernetes.operator.helpers.JobHelper.INTROSPECTOR_LOG_PREFIX;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
@@ -24,6 +32,9 @@ import static oracle.kubernetes.utils.LogMatcher.containsInfo;
 import static oracle.kubernetes.utils.LogMatcher.containsSevere;
 import static oracle.kubernetes.utils.LogMatcher.containsWarning;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 public class IntrospectionLoggingTest {
@@ -117,4 +128,60 @@ public class IntrospectionLoggingTest {
         updatedDomain.getStatus().getMessage(),
         equalTo(onSeparateLines(SEVERE_PROBLEM_1, SEVERE_PROBLEM_2)));
   }
+
+  @Test
+  public void whenJobLogIsLarge_readItIncrementally() {
+    GeneratedLogReader log = new GeneratedLogReader(
+          Stream.concat(
+                IntStream.range(0, 100_000).mapToObj(i -> "unformatted line " + i),
+                Stream.of(INFO_MESSAGE, ">>> /topology.yaml", "domainValid: true", ">>> EOF")));
+    testSupport.definePodLog(jobPodName, NS, log);
+
+    Packet packet = testSupport.runSteps(JobHelper.readDomainIntrospectorPodLog(terminalStep));
+    logRecords.clear();
+
+    assertThat(log.largestRead, lessThanOrEqualTo(8192));
+    assertThat(log.closed, is(true));
+    assertThat(getIntrospectorData(packet), hasEntry("topology.yaml", "domainValid: true"));
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<String, String> getIntrospectorData(Packet packet) {
+    return (Map<String, String>) packet.get(DOMAIN_INTROSPECTOR_DATA);
+  }
+
+  // A pod log which is generated only as it is read, and records how it is read
+  static class GeneratedLogReader extends Reader {
+    private final Iterator<String> lines;
+    private String line = "";
+    private int position;
+    private int largestRead;
+    private boolean closed;
+
+    GeneratedLogReader(Stream<String> lines) {
+      this.lines = lines.iterator();
+    }
+
+    @Override
+    public int read(char[] buffer, int offset, int length) {
+      largestRead = Math.max(largestRead, length);
+      while (position == line.length()) {
+        if (!lines.hasNext()) {
+          return -1;
+        }
+        line = lines.next() + "\n";
+        position = 0;
+      }
+
+      int count = Math.min(length, line.length() - position);
+      line.getChars(position, position + count, buffer, offset);
+      position += count;
+      return count;
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+  }
 }
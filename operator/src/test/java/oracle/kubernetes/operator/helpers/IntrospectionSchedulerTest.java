@@ -0,0 +1,256 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import oracle.kubernetes.operator.helpers.IntrospectionScheduler.Priority;
+import oracle.kubernetes.operator.work.Component;
+import oracle.kubernetes.operator.work.FiberTestSupport;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.TerminalStep;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import oracle.kubernetes.utils.TestUtils;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.DomainSpec;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_COMPONENT_NAME;
+import static oracle.kubernetes.operator.helpers.IntrospectionScheduler.LEASE_GRACE_SECONDS;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class IntrospectionSchedulerTest {
+  private static final String NS1 = "ns1";
+  private static final String NS2 = "ns2";
+  private static final long DEADLINE_SECONDS = 120;
+  private static final String CONCURRENCY_LIMIT_PARAM = "introspectorJobConcurrencyLimit";
+  private static final String NODE_CONCURRENCY_LIMIT_PARAM = "introspectorJobNodeConcurrencyLimit";
+
+  private final FiberTestSupport testSupport = new FiberTestSupport();
+  private final IntrospectionScheduler scheduler = new IntrospectionScheduler();
+  private final List<Memento> mementos = new ArrayList<>();
+
+  @Before
+  public void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(SystemClockTestSupport.installClock());
+    mementos.add(StaticStubSupport.install(IntrospectionScheduler.class, "instance", scheduler));
+    TuningParametersStub.setParameter(CONCURRENCY_LIMIT_PARAM, "1");
+  }
+
+  @After
+  public void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private Packet createPacket(String namespace, String domainUid) {
+    Domain domain = new Domain()
+          .withMetadata(new V1ObjectMeta().namespace(namespace).name(domainUid))
+          .withSpec(new DomainSpec().withDomainUid(domainUid));
+    Packet packet = new Packet();
+    packet.getComponents().put(DOMAIN_COMPONENT_NAME, Component.createFor(new DomainPresenceInfo(domain)));
+    return packet;
+  }
+
+  private TerminalStep acquire(Packet packet, Priority priority) {
+    return acquire(packet, priority, null);
+  }
+
+  private TerminalStep acquire(Packet packet, Priority priority, String nodeKey) {
+    TerminalStep terminalStep = new TerminalStep();
+    testSupport.withPacket(packet)
+          .runSteps(IntrospectionScheduler.createAcquireStep(priority, nodeKey, DEADLINE_SECONDS, terminalStep));
+    return terminalStep;
+  }
+
+  private void release(Packet packet) {
+    testSupport.withPacket(packet).runSteps(IntrospectionScheduler.createReleaseStep(null));
+  }
+
+  @Test
+  public void whenBelowLimit_grantPermitsAtOnce() {
+    TuningParametersStub.setParameter(CONCURRENCY_LIMIT_PARAM, "2");
+
+    assertThat(acquire(createPacket(NS1, "domain1"), Priority.NEW_DOMAIN).wasRun(), is(true));
+    assertThat(acquire(createPacket(NS1, "domain2"), Priority.NEW_DOMAIN).wasRun(), is(true));
+    assertThat(scheduler.getRunningCount(), equalTo(2));
+  }
+
+  @Test
+  public void whenLimitReached_laterRequestWaits() {
+    acquire(createPacket(NS1, "domain1"), Priority.NEW_DOMAIN);
+
+    TerminalStep waiting = acquire(createPacket(NS1, "domain2"), Priority.NEW_DOMAIN);
+
+    assertThat(waiting.wasRun(), is(false));
+    assertThat(scheduler.getWaitingCount(), equalTo(1));
+  }
+
+  @Test
+  public void whenLimitIsZero_doNotLimitRequests() {
+    TuningParametersStub.setParameter(CONCURRENCY_LIMIT_PARAM, "0");
+    acquire(createPacket(NS1, "domain1"), Priority.NEW_DOMAIN);
+
+    assertThat(acquire(createPacket(NS1, "domain2"), Priority.NEW_DOMAIN).wasRun(), is(true));
+  }
+
+  @Test
+  public void afterPermitReleased_waitingRequestRuns() {
+    Packet packet1 = createPacket(NS1, "domain1");
+    acquire(packet1, Priority.NEW_DOMAIN);
+    TerminalStep waiting = acquire(createPacket(NS1, "domain2"), Priority.NEW_DOMAIN);
+
+    release(packet1);
+
+    assertThat(waiting.wasRun(), is(true));
+    assertThat(scheduler.getWaitingCount(), equalTo(0));
+  }
+
+  @Test
+  public void whenWaitingDomainDeleted_discardItsRequest() {
+    Packet packet1 = createPacket(NS1, "domain1");
+    acquire(packet1, Priority.NEW_DOMAIN);
+    TerminalStep waiting = acquire(createPacket(NS1, "domain2"), Priority.NEW_DOMAIN);
+
+    IntrospectionScheduler.removeDomain(NS1, "domain2");
+    release(packet1);
+
+    assertThat(waiting.wasRun(), is(false));
+    assertThat(scheduler.getWaitingCount(), equalTo(0));
+  }
+
+  @Test
+  public void whenDomainHoldingPermitDeleted_waitingRequestRuns() {
+    acquire(createPacket(NS1, "domain1"), Priority.NEW_DOMAIN);
+    TerminalStep waiting = acquire(createPacket(NS1, "domain2"), Priority.NEW_DOMAIN);
+
+    IntrospectionScheduler.removeDomain(NS1, "domain1");
+
+    assertThat(waiting.wasRun(), is(true));
+    assertThat(scheduler.getRunningCount(), equalTo(1));
+  }
+
+  @Test
+  public void whenNamespaceStopped_discardItsRequestsAndPermits() {
+    acquire(createPacket(NS1, "domain1"), Priority.NEW_DOMAIN);
+    TerminalStep sameNamespace = acquire(createPacket(NS1, "domain2"), Priority.NEW_DOMAIN);
+    TerminalStep otherNamespace = acquire(createPacket(NS2, "domain3"), Priority.NEW_DOMAIN);
+
+    IntrospectionScheduler.removeNamespace(NS1);
+
+    assertThat(sameNamespace.wasRun(), is(false));
+    assertThat(otherNamespace.wasRun(), is(true));
+    assertThat(scheduler.getWaitingCount(), equalTo(0));
+    assertThat(scheduler.getRunningCount(), equalTo(1));
+  }
+
+  @Test
+  public void newDomainsAreServedBeforeUpdates() {
+    Packet packet1 = createPacket(NS1, "domain1");
+    acquire(packet1, Priority.NEW_DOMAIN);
+    TerminalStep update = acquire(createPacket(NS1, "domain2"), Priority.UPDATE);
+    TerminalStep newDomain = acquire(createPacket(NS1, "domain3"), Priority.NEW_DOMAIN);
+
+    release(packet1);
+
+    assertThat(newDomain.wasRun(), is(true));
+    assertThat(update.wasRun(), is(false));
+  }
+
+  @Test
+  public void namespacesAreServedInTurn() {
+    Packet packet1 = createPacket(NS1, "domain1");
+    acquire(packet1, Priority.NEW_DOMAIN);
+    Packet packet2 = createPacket(NS1, "domain2");
+    TerminalStep firstInNs1 = acquire(packet2, Priority.NEW_DOMAIN);
+    TerminalStep secondInNs1 = acquire(createPacket(NS1, "domain3"), Priority.NEW_DOMAIN);
+    TerminalStep firstInNs2 = acquire(createPacket(NS2, "domain4"), Priority.NEW_DOMAIN);
+
+    release(packet1);
+    release(packet2);
+
+    assertThat(firstInNs1.wasRun(), is(true));
+    assertThat(firstInNs2.wasRun(), is(true));
+    assertThat(secondInNs1.wasRun(), is(false));
+  }
+
+  @Test
+  public void whenNodeLimitReached_requestsForOtherNodesRun() {
+    TuningParametersStub.setParameter(CONCURRENCY_LIMIT_PARAM, "10");
+    TuningParametersStub.setParameter(NODE_CONCURRENCY_LIMIT_PARAM, "1");
+    acquire(createPacket(NS1, "domain1"), Priority.NEW_DOMAIN, "node1");
+
+    TerminalStep sameNode = acquire(createPacket(NS1, "domain2"), Priority.NEW_DOMAIN, "node1");
+    TerminalStep otherNode = acquire(createPacket(NS1, "domain3"), Priority.NEW_DOMAIN, "node2");
+    TerminalStep unpinned = acquire(createPacket(NS1, "domain4"), Priority.NEW_DOMAIN);
+
+    assertThat(sameNode.wasRun(), is(false));
+    assertThat(otherNode.wasRun(), is(true));
+    assertThat(unpinned.wasRun(), is(true));
+  }
+
+  @Test
+  public void whenDomainHoldsPermit_laterRequestForDomainRunsAtOnce() {
+    acquire(createPacket(NS1, "domain1"), Priority.NEW_DOMAIN);
+
+    assertThat(acquire(createPacket(NS1, "domain1"), Priority.UPDATE).wasRun(), is(true));
+    assertThat(scheduler.getRunningCount(), equalTo(1));
+  }
+
+  @Test
+  public void whenPermitNotReleasedBeforeDeadline_reclaimItForWaitingRequest() {
+    acquire(createPacket(NS1, "domain1"), Priority.NEW_DOMAIN);
+    TerminalStep waiting = acquire(createPacket(NS1, "domain2"), Priority.NEW_DOMAIN);
+
+    int expirySeconds = (int) (DEADLINE_SECONDS + LEASE_GRACE_SECONDS) + 1;
+    SystemClockTestSupport.increment(expirySeconds);
+    testSupport.setTime(expirySeconds, TimeUnit.SECONDS);
+
+    assertThat(waiting.wasRun(), is(true));
+    assertThat(scheduler.toMap(), hasEntry("reclaimedPermits", 1L));
+  }
+
+  @Test
+  public void metricsReportQueueDepthAndWaitTime() {
+    Packet packet1 = createPacket(NS1, "domain1");
+    acquire(packet1, Priority.NEW_DOMAIN);
+    acquire(createPacket(NS1, "domain2"), Priority.UPDATE);
+
+    assertThat(scheduler.toMap(), hasEntry("waiting", 1));
+    assertThat(scheduler.toMap(), hasEntry("waiting.UPDATE", 1));
+
+    SystemClockTestSupport.increment(5);
+    release(packet1);
+
+    assertThat(getWaitTime(), hasEntry("count", 2L));
+    assertThat(getWaitTime(), hasEntry("maxMillis", 5000L));
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<String, Object> getWaitTime() {
+    return (Map<String, Object>) scheduler.toMap().get("waitTime");
+  }
+
+  @Test
+  public void nodeKeyIsNodeNameOrSortedSelector() {
+    assertThat(IntrospectionScheduler.getNodeKey("node1", Map.of("zone", "a")), equalTo("node1"));
+    assertThat(IntrospectionScheduler.getNodeKey(null, Map.of("zone", "a", "disk", "ssd")),
+          equalTo("{disk=ssd, zone=a}"));
+    assertThat(IntrospectionScheduler.getNodeKey(null, Collections.emptyMap()), nullValue());
+  }
+}
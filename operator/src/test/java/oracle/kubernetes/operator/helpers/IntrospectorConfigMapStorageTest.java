@@ -0,0 +1,178 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.IntrospectorConfigMapKeys.CHUNK_MANIFEST;
+import static oracle.kubernetes.operator.IntrospectorConfigMapKeys.TOPOLOGY_YAML;
+import static oracle.kubernetes.operator.helpers.IntrospectorConfigMapStorage.MAP_CAPACITY;
+import static oracle.kubernetes.operator.helpers.IntrospectorConfigMapStorage.MAX_CHUNK_MAPS;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class IntrospectorConfigMapStorageTest {
+  private static final String MAP_NAME = "domain1-weblogic-domain-introspect-cm";
+  private static final String DOMAIN_ZIP = "domainzip.secure";
+
+  private final Map<String, String> data = new HashMap<>();
+
+  private IntrospectorConfigMapStorage createStorage() {
+    return new IntrospectorConfigMapStorage(MAP_NAME, data);
+  }
+
+  private String createIncompressibleText(int length) {
+    Random random = new Random(length);
+    StringBuilder sb = new StringBuilder(length + 16);
+    while (sb.length() < length) {
+      sb.append(Long.toHexString(random.nextLong()));
+    }
+    return sb.toString();
+  }
+
+  private String createCompressibleText(int length) {
+    StringBuilder sb = new StringBuilder(length + 16);
+    while (sb.length() < length) {
+      sb.append("<server><name>managed-server").append(sb.length() % 100).append("</name></server>\n");
+    }
+    return sb.toString();
+  }
+
+  private Map<String, String> getAllData(IntrospectorConfigMapStorage storage) {
+    Map<String, String> result = new HashMap<>(storage.getMainData());
+    storage.getChunkMaps().forEach(chunkMap -> result.putAll(chunkMap.getData()));
+    return result;
+  }
+
+  @Test
+  public void whenAllEntriesSmall_storeThemUnchanged() {
+    data.put(TOPOLOGY_YAML, "domainValid: true");
+    data.put("boot.properties", "username=weblogic");
+
+    IntrospectorConfigMapStorage storage = createStorage();
+
+    assertThat(storage.getMainData(), equalTo(data));
+    assertThat(storage.getChunkMaps(), empty());
+  }
+
+  @Test
+  public void whenLargeEntryIsNotPackable_storeItUnchanged() {
+    String sitConfig = createCompressibleText(200_000);
+    data.put("Sit-Cfg-CFG--introspector-situational-config.xml", sitConfig);
+
+    assertThat(createStorage().getMainData(),
+          hasEntry("Sit-Cfg-CFG--introspector-situational-config.xml", sitConfig));
+  }
+
+  @Test
+  public void whenPackableEntryIsLarge_storeItCompressedInParts() {
+    data.put(TOPOLOGY_YAML, createCompressibleText(200_000));
+
+    IntrospectorConfigMapStorage storage = createStorage();
+
+    assertThat(storage.getMainData(), allOf(not(hasKey(TOPOLOGY_YAML)), hasKey(TOPOLOGY_YAML + ".gz.000")));
+    assertThat(storage.getMainData().get(TOPOLOGY_YAML + ".gz.000").length(), is(lessThan(200_000)));
+    assertThat(storage.getMainData(), hasEntry(CHUNK_MANIFEST, "file " + TOPOLOGY_YAML + " 1\n"));
+  }
+
+  @Test
+  public void whenPackedEntriesDoNotFit_addChunkMapsToManifest() {
+    data.put(DOMAIN_ZIP, createIncompressibleText(2_000_000));
+
+    IntrospectorConfigMapStorage storage = createStorage();
+
+    assertThat(IntrospectorConfigMapStorage.getChunkMapNames(storage.getMainData().get(CHUNK_MANIFEST)),
+          contains(MAP_NAME + "-1", MAP_NAME + "-2"));
+  }
+
+  @Test
+  public void whenChunkMapsFitInPods_isNotTooLarge() {
+    data.put(DOMAIN_ZIP, createIncompressibleText(2_000_000));
+
+    assertThat(createStorage().isTooLarge(), is(false));
+  }
+
+  @Test
+  public void whenMoreChunkMapsNeededThanPodsMount_isTooLarge() {
+    data.put(DOMAIN_ZIP, createIncompressibleText(2 * MAP_CAPACITY * (MAX_CHUNK_MAPS + 1)));
+
+    assertThat(createStorage().isTooLarge(), is(true));
+  }
+
+  @Test
+  public void possibleChunkMapNames_includeEveryMapWhichPodsMount() {
+    assertThat(IntrospectorConfigMapStorage.getPossibleChunkMapNames(MAP_NAME), hasSize(MAX_CHUNK_MAPS));
+    assertThat(IntrospectorConfigMapStorage.getPossibleChunkMapNames(MAP_NAME),
+          hasItems(MAP_NAME + "-1", MAP_NAME + "-" + MAX_CHUNK_MAPS));
+  }
+
+  @Test
+  public void afterPacking_readFileReturnsOriginalContents() {
+    String domainZip = createIncompressibleText(2_000_000);
+    data.put(DOMAIN_ZIP, domainZip);
+
+    IntrospectorConfigMapStorage storage = createStorage();
+
+    assertThat(IntrospectorConfigMapStorage.readFile(getAllData(storage), DOMAIN_ZIP), equalTo(domainZip));
+  }
+
+  @Test
+  public void whenPartMissing_readFileReturnsNull() {
+    data.put(DOMAIN_ZIP, createIncompressibleText(2_000_000));
+
+    assertThat(IntrospectorConfigMapStorage.readFile(createStorage().getMainData(), DOMAIN_ZIP), nullValue());
+  }
+
+  @Test
+  public void whenContentsUnchanged_chunkMapHashesAreUnchanged() {
+    data.put(DOMAIN_ZIP, createIncompressibleText(2_000_000));
+
+    assertThat(createStorage().getChunkMaps().get(0).getHash(),
+          equalTo(createStorage().getChunkMaps().get(0).getHash()));
+  }
+
+  @Test
+  public void whenContentsChanged_chunkMapHashesChange() {
+    data.put(DOMAIN_ZIP, createIncompressibleText(2_000_000));
+    String originalHash = createStorage().getChunkMaps().get(0).getHash();
+
+    data.put(DOMAIN_ZIP, createIncompressibleText(2_000_001));
+
+    assertThat(createStorage().getChunkMaps().get(0).getHash(), not(equalTo(originalHash)));
+  }
+
+  @Test
+  public void whenFileIsPacked_plainEntryAndUnusedPartsAreObsolete() {
+    data.put(TOPOLOGY_YAML, createCompressibleText(200_000));
+
+    IntrospectorConfigMapStorage storage = createStorage();
+
+    assertThat(storage.isObsoleteKey(TOPOLOGY_YAML), is(true));
+    assertThat(storage.isObsoleteKey(TOPOLOGY_YAML + ".gz.001"), is(true));
+    assertThat(storage.isObsoleteKey(TOPOLOGY_YAML + ".gz.000"), is(false));
+    assertThat(storage.isObsoleteKey("boot.properties"), is(false));
+  }
+
+  @Test
+  public void whenNothingIsPacked_manifestIsObsolete() {
+    data.put(TOPOLOGY_YAML, "domainValid: true");
+
+    assertThat(createStorage().isObsoleteKey(CHUNK_MANIFEST), is(true));
+  }
+}
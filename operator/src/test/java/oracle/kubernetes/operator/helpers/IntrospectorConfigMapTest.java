@@ -3,6 +3,9 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -10,6 +13,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Random;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 
 import com.meterware.simplestub.Memento;
@@ -17,6 +22,7 @@ import io.kubernetes.client.openapi.models.V1ConfigMap;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import oracle.kubernetes.operator.DomainProcessorTestSetup;
 import oracle.kubernetes.operator.DomainSourceType;
+import oracle.kubernetes.operator.DomainStatusUpdater;
 import oracle.kubernetes.operator.IntrospectorConfigMapKeys;
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.rest.ScanCacheStub;
@@ -34,16 +40,23 @@ import org.junit.Test;
 import static java.lang.System.lineSeparator;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
+import static oracle.kubernetes.operator.IntrospectorConfigMapKeys.CHUNK_MANIFEST;
 import static oracle.kubernetes.operator.IntrospectorConfigMapKeys.DOMAINZIP_HASH;
 import static oracle.kubernetes.operator.IntrospectorConfigMapKeys.DOMAIN_INPUTS_HASH;
 import static oracle.kubernetes.operator.IntrospectorConfigMapKeys.DOMAIN_RESTART_VERSION;
 import static oracle.kubernetes.operator.IntrospectorConfigMapKeys.SECRETS_MD_5;
 import static oracle.kubernetes.operator.IntrospectorConfigMapKeys.TOPOLOGY_YAML;
+import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
 import static oracle.kubernetes.operator.LabelConstants.INTROSPECTION_STATE_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.INTROSPECTOR_CHUNK_HASH_LABEL;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
 import static oracle.kubernetes.operator.helpers.DomainStatusMatcher.hasStatus;
+import static oracle.kubernetes.operator.helpers.IntrospectorConfigMapStorage.MAP_CAPACITY;
+import static oracle.kubernetes.operator.helpers.IntrospectorConfigMapStorage.MAX_CHUNK_MAPS;
 import static oracle.kubernetes.weblogic.domain.DomainConfiguratorFactory.forDomain;
 import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.hasKey;
@@ -51,6 +64,7 @@ import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 public class IntrospectorConfigMapTest {
@@ -61,6 +75,7 @@ public class IntrospectorConfigMapTest {
   private static final String MD5_SECRETS = "md5-secrets";
   private static final String RESTART_VERSION = "123";
   private static final String OVERRIDES_VALUE = "a[]";
+  private static final String DOMAIN_ZIP = "domainzip.secure";
   private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
   private final List<Memento> mementos = new ArrayList<>();
   private final TerminalStep terminalStep = new TerminalStep();
@@ -99,7 +114,17 @@ public class IntrospectorConfigMapTest {
     }
 
     void addToPacket() {
-      testSupport.addToPacket(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT, builder.toString());
+      testSupport.addToPacket(ProcessingConstants.DOMAIN_INTROSPECTOR_DATA, parseLog());
+    }
+
+    private Map<String, String> parseLog() {
+      Map<String, String> data = new HashMap<>();
+      try {
+        new IntrospectorResultParser(data).parse(new StringReader(builder.toString()));
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      return data;
     }
 
   }
@@ -390,6 +415,151 @@ public class IntrospectorConfigMapTest {
     assertThat(getIntrospectorConfigMapData(), allOf(not(hasKey("Sit-Cfg-1")), not(hasKey("Sit-Cfg-2"))));
   }
 
+  @Test
+  public void whenDomainZipIsLarge_storeItCompressedInChunkConfigMaps() {
+    String domainZip = createIncompressibleText(1_500_000);
+    introspectResult
+          .defineFile(TOPOLOGY_YAML, "domainValid: true", "domain:", "  name: \"sample\"")
+          .defineFile(DOMAIN_ZIP, domainZip)
+          .addToPacket();
+
+    testSupport.runSteps(ConfigMapHelper.createIntrospectorConfigMapStep(terminalStep));
+
+    assertThat(getIntrospectorConfigMapData(), allOf(not(hasKey(DOMAIN_ZIP)), hasKey(CHUNK_MANIFEST)));
+    assertThat(getChunkConfigMapNames(), contains(getChunkConfigMapName(1)));
+    assertThat(IntrospectorConfigMapStorage.readFile(getAllIntrospectorData(), DOMAIN_ZIP), equalTo(domainZip));
+  }
+
+  @Test
+  public void whenDomainZipIsLarge_addChunkManifestToPacket() {
+    introspectResult
+          .defineFile(TOPOLOGY_YAML, "domainValid: true", "domain:", "  name: \"sample\"")
+          .defineFile(DOMAIN_ZIP, createIncompressibleText(1_500_000))
+          .addToPacket();
+
+    Packet packet = testSupport.runSteps(ConfigMapHelper.createIntrospectorConfigMapStep(terminalStep));
+
+    assertThat(packet.get(CHUNK_MANIFEST), equalTo(getIntrospectorConfigMapData().get(CHUNK_MANIFEST)));
+  }
+
+  @Test
+  public void whenDomainZipNeedsMoreChunkConfigMapsThanPodsMount_reportIntrospectionFailure() {
+    introspectResult
+          .defineFile(TOPOLOGY_YAML, "domainValid: true", "domain:", "  name: \"sample\"")
+          .defineFile(DOMAIN_ZIP, createIncompressibleText(2 * MAP_CAPACITY * (MAX_CHUNK_MAPS + 1)))
+          .addToPacket();
+
+    testSupport.runSteps(ConfigMapHelper.createIntrospectorConfigMapStep(terminalStep));
+
+    assertThat(getChunkConfigMapNames(), empty());
+    assertThat(getDomain().getStatus().getReason(), equalTo(DomainStatusUpdater.ERR_INTROSPECTOR));
+    assertThat(terminalStep.wasRun(), is(false));
+  }
+
+  @Test
+  public void whenChunkConfigMapHashUnchanged_dontReplaceIt() {
+    String domainZip = createIncompressibleText(1_500_000);
+    IntrospectorConfigMapStorage.ChunkMap chunkMap = createExpectedStorage(domainZip).getChunkMaps().get(0);
+    testSupport.defineResources(createChunkConfigMap(chunkMap.getName(), chunkMap.getHash()));
+    introspectResult
+          .defineFile(TOPOLOGY_YAML, "domainValid: true", "domain:", "  name: \"sample\"")
+          .defineFile(DOMAIN_ZIP, domainZip)
+          .addToPacket();
+
+    testSupport.runSteps(ConfigMapHelper.createIntrospectorConfigMapStep(terminalStep));
+
+    assertThat(getConfigMapData(chunkMap.getName()), hasEntry("marker", "unchanged"));
+  }
+
+  @Test
+  public void whenChunkConfigMapHashChanged_replaceIt() {
+    testSupport.defineResources(createChunkConfigMap(getChunkConfigMapName(1), "oldhash"));
+    introspectResult
+          .defineFile(TOPOLOGY_YAML, "domainValid: true", "domain:", "  name: \"sample\"")
+          .defineFile(DOMAIN_ZIP, createIncompressibleText(1_500_000))
+          .addToPacket();
+
+    testSupport.runSteps(ConfigMapHelper.createIntrospectorConfigMapStep(terminalStep));
+
+    assertThat(getConfigMapData(getChunkConfigMapName(1)), not(hasKey("marker")));
+  }
+
+  @Test
+  public void whenChunkConfigMapNoLongerNeeded_deleteIt() {
+    testSupport.defineResources(createChunkConfigMap(getChunkConfigMapName(1), "oldhash"));
+    testSupport.addToPacket(CHUNK_MANIFEST, "map " + getChunkConfigMapName(1) + " oldhash\n");
+    introspectResult
+          .defineFile(TOPOLOGY_YAML, "domainValid: true", "domain:", "  name: \"sample\"")
+          .addToPacket();
+
+    Packet packet = testSupport.runSteps(ConfigMapHelper.createIntrospectorConfigMapStep(terminalStep));
+
+    assertThat(getChunkConfigMapNames(), empty());
+    assertThat(packet.get(CHUNK_MANIFEST), nullValue());
+  }
+
+  @Test
+  public void whenExistingTopologyIsPacked_loadItFromIntrospectorConfigMap() {
+    String topology = TOPOLOGY_VALUE + "\n" + createIncompressibleYamlComment(200_000);
+    Map<String, String> data = new IntrospectorConfigMapStorage(
+          getIntrospectorConfigMapName(), Map.of(TOPOLOGY_YAML, topology)).getMainData();
+    testSupport.defineResources(createIntrospectorConfigMap(data));
+
+    Packet packet = testSupport.runSteps(ConfigMapHelper.readExistingIntrospectorConfigMap(NS, UID));
+
+    assertThat(packet.get(DOMAIN_TOPOLOGY), equalTo(getParsedDomain(topology)));
+  }
+
+  private IntrospectorConfigMapStorage createExpectedStorage(String domainZip) {
+    return new IntrospectorConfigMapStorage(getIntrospectorConfigMapName(), Map.of(DOMAIN_ZIP, domainZip));
+  }
+
+  private String createIncompressibleText(int length) {
+    Random random = new Random(length);
+    StringBuilder sb = new StringBuilder(length + 16);
+    while (sb.length() < length) {
+      sb.append(Long.toHexString(random.nextLong()));
+    }
+    return sb.toString();
+  }
+
+  private String createIncompressibleYamlComment(int length) {
+    return "# " + createIncompressibleText(length);
+  }
+
+  private V1ConfigMap createChunkConfigMap(String name, String hash) {
+    return new V1ConfigMap()
+          .metadata(new V1ObjectMeta().name(name).namespace(NS)
+                .putLabelsItem(DOMAINUID_LABEL, UID)
+                .putLabelsItem(INTROSPECTOR_CHUNK_HASH_LABEL, hash))
+          .data(new HashMap<>(Map.of("marker", "unchanged")));
+  }
+
+  private static String getChunkConfigMapName(int index) {
+    return IntrospectorConfigMapStorage.getChunkMapName(getIntrospectorConfigMapName(), index);
+  }
+
+  private List<String> getChunkConfigMapNames() {
+    return testSupport.<V1ConfigMap>getResources(KubernetesTestSupport.CONFIG_MAP).stream()
+          .map(IntrospectorConfigMapTest::getConfigMapName)
+          .filter(name -> name.startsWith(getIntrospectorConfigMapName() + "-"))
+          .collect(Collectors.toList());
+  }
+
+  private Map<String, String> getConfigMapData(String name) {
+    return testSupport.<V1ConfigMap>getResources(KubernetesTestSupport.CONFIG_MAP).stream()
+          .filter(configMap -> name.equals(getConfigMapName(configMap)))
+          .map(V1ConfigMap::getData)
+          .findFirst()
+          .orElseGet(Collections::emptyMap);
+  }
+
+  private Map<String, String> getAllIntrospectorData() {
+    Map<String, String> data = new HashMap<>(getIntrospectorConfigMapData());
+    getChunkConfigMapNames().stream().map(this::getConfigMapData).forEach(data::putAll);
+    return data;
+  }
+
   @Test
   public void whenNoTopologySpecified_dontRemoveSitConfigEntries() {
     testSupport.defineResources(
@@ -0,0 +1,110 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import static java.lang.System.lineSeparator;
+import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class IntrospectorResultParserTest {
+
+  private final Map<String, String> data = new HashMap<>();
+
+  private void parse(String log) throws IOException {
+    new IntrospectorResultParser(data).parse(new StringReader(log));
+  }
+
+  @Test
+  public void whenLogHasNoFiles_dataIsEmpty() throws IOException {
+    parse("@[2020-06-01T12:00:00.000 UTC][introspectDomain.py:105] Starting\nanother line\n");
+
+    assertThat(data, anEmptyMap());
+  }
+
+  @Test
+  public void whenLogHasFiles_addTrimmedContentsUnderSimpleNames() throws IOException {
+    parse("@[2020-06-01T12:00:00.000 UTC][introspectDomain.py:105] Printing file\n"
+          + "\n"
+          + ">>>  /u01/introspect/domain1/topology.yaml\n"
+          + "domain:\n"
+          + "  name: sample\n"
+          + "\n"
+          + ">>> EOF\n"
+          + ">>>  /u01/introspect/domain1/userKeyNodeManager.secure\n"
+          + "  BPtNabkCIIc2IJp\n"
+          + ">>> EOF\n");
+
+    assertThat(data, aMapWithSize(2));
+    assertThat(data, hasEntry("topology.yaml", "domain:" + lineSeparator() + "  name: sample"));
+    assertThat(data, hasEntry("userKeyNodeManager.secure", "BPtNabkCIIc2IJp"));
+  }
+
+  @Test
+  public void whenLinesEndWithCarriageReturns_contentsUseLineSeparator() throws IOException {
+    parse(">>>  /u01/introspect/domain1/topology.yaml\r\nline1\r\nline2\rline3\r\n>>> EOF\r\n");
+
+    assertThat(data, hasEntry("topology.yaml",
+          "line1" + lineSeparator() + "line2" + lineSeparator() + "line3"));
+  }
+
+  @Test
+  public void whenEndMarkerMissing_ignoreFile() throws IOException {
+    parse(">>>  /u01/introspect/domain1/topology.yaml\ndomain:\n  name: sample\n");
+
+    assertThat(data, not(hasKey("topology.yaml")));
+  }
+
+  @Test
+  public void whenLastLineIsEndMarkerWithoutNewline_addFile() throws IOException {
+    parse(">>>  /u01/introspect/domain1/topology.yaml\ndomain:\n>>> EOF");
+
+    assertThat(data, hasEntry("topology.yaml", "domain:"));
+  }
+
+  @Test
+  public void whenLogHasUpdateDomainResult_recordIt() throws IOException {
+    parse("text\n>>>  updatedomainResult=103\n");
+
+    assertThat(data, hasEntry("UPDATEDOMAINRESULT", "103"));
+  }
+
+  @Test
+  public void whenLogIsReadInSmallPieces_fileContentsAreUnchanged() throws IOException {
+    String log = ">>>  /u01/introspect/domain1/topology.yaml\r\nline1\r\nline2\r\n>>> EOF\r\n";
+
+    new IntrospectorResultParser(data).parse(new OneCharacterReader(log));
+
+    assertThat(data, hasEntry("topology.yaml", "line1" + lineSeparator() + "line2"));
+  }
+
+  static class OneCharacterReader extends Reader {
+    private final StringReader reader;
+
+    OneCharacterReader(String text) {
+      reader = new StringReader(text);
+    }
+
+    @Override
+    public int read(char[] buffer, int offset, int length) throws IOException {
+      return reader.read(buffer, offset, Math.min(1, length));
+    }
+
+    @Override
+    public void close() {
+      reader.close();
+    }
+  }
+}
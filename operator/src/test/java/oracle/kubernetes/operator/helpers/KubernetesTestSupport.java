@@ -3,6 +3,7 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import java.io.Reader;
 import java.io.StringReader;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
@@ -49,6 +50,8 @@ import io.kubernetes.client.openapi.models.V1Event;
 import io.kubernetes.client.openapi.models.V1EventList;
 import io.kubernetes.client.openapi.models.V1Job;
 import io.kubernetes.client.openapi.models.V1JobList;
+import io.kubernetes.client.openapi.models.V1Lease;
+import io.kubernetes.client.openapi.models.V1LeaseList;
 import io.kubernetes.client.openapi.models.V1ListMeta;
 import io.kubernetes.client.openapi.models.V1Namespace;
 import io.kubernetes.client.openapi.models.V1NamespaceList;
@@ -106,6 +109,7 @@ public class KubernetesTestSupport extends FiberTestSupport {
   public static final String DOMAIN = "Domain";
   public static final String EVENT = "Event";
   public static final String JOB = "Job";
+  public static final String LEASE = "Lease";
   public static final String PV = "PersistentVolume";
   public static final String PVC = "PersistentVolumeClaim";
   public static final String POD = "Pod";
@@ -153,6 +157,7 @@ public class KubernetesTestSupport extends FiberTestSupport {
     supportNamespaced(DOMAIN, Domain.class, this::createDomainList).withStatusSubresource();
     supportNamespaced(EVENT, V1Event.class, this::createEventList);
     supportNamespaced(JOB, V1Job.class, this::createJobList);
+    supportNamespaced(LEASE, V1Lease.class, this::createLeaseList);
     supportNamespaced(POD, V1Pod.class, this::createPodList);
     supportNamespaced(PODLOG, String.class);
     supportNamespaced(PVC, V1PersistentVolumeClaim.class, this::createPvcList);
@@ -194,6 +199,10 @@ public class KubernetesTestSupport extends FiberTestSupport {
     return new V1JobList().metadata(createListMeta()).items(items);
   }
 
+  private V1LeaseList createLeaseList(List<V1Lease> items) {
+    return new V1LeaseList().metadata(createListMeta()).items(items);
+  }
+
   private V1SecretList createSecretList(List<V1Secret> items) {
     return new V1SecretList().metadata(createListMeta()).items(items);
   }
@@ -366,6 +375,19 @@ public class KubernetesTestSupport extends FiberTestSupport {
     failure = new Failure(Operation.replace, resourceType, name, namespace, ae);
   }
 
+  /**
+   * Specifies that a patch of the status subresource should fail if it matches the specified conditions.
+   * Applies to namespaced resources and replaces any existing failure checks.
+   *
+   * @param resourceType the type of resource
+   * @param name the name of the resource
+   * @param namespace the namespace containing the resource
+   * @param httpStatus the status to associate with the failure
+   */
+  public void failOnPatchStatus(String resourceType, String name, String namespace, int httpStatus) {
+    failure = new Failure(Operation.patchStatus, resourceType + "Status", name, namespace, httpStatus);
+  }
+
   /**
    * Specifies that a delete operation should fail if it matches the specified conditions. Applies to
    * namespaced resources and replaces any existing failure checks.
@@ -475,6 +497,12 @@ public class KubernetesTestSupport extends FiberTestSupport {
         return callContext.patchResource(dataRepository);
       }
     },
+    patchStatus {
+      @Override
+      <T> Object execute(CallContext callContext, DataRepository<T> dataRepository) {
+        return callContext.patchResourceStatus(dataRepository);
+      }
+    },
     deleteCollection {
       @Override
       <T> Object execute(CallContext callContext, DataRepository<T> dataRepository) {
@@ -881,6 +909,27 @@ public class KubernetesTestSupport extends FiberTestSupport {
       return resource;
     }
 
+    T patchResourceStatus(String name, String namespace, V1Patch body) {
+      T current = data.get(name);
+      if (current == null) {
+        throw new NotFoundException(getResourceName(), name, namespace);
+      }
+
+      copyResourceStatus(applyPatch(current, body), current);
+      incrementResourceVersion(getMetadata(current));
+      onUpdateActions.forEach(a -> a.accept(current));
+      return current;
+    }
+
+    private T applyPatch(T resource, V1Patch body) {
+      try {
+        JsonPatch patch = Json.createPatch(fromV1Patch(body));
+        return fromJsonStructure(patch.apply(toJsonStructure(resource)));
+      } catch (JsonException e) {
+        throw new HttpErrorException(new ApiException(CallBuilder.UNPROCESSABLE_ENTITY, e.getMessage()));
+      }
+    }
+
     @SuppressWarnings("unchecked")
     T fromJsonStructure(JsonStructure jsonStructure) {
       final GsonBuilder builder =
@@ -1030,6 +1079,11 @@ public class KubernetesTestSupport extends FiberTestSupport {
       return inNamespace(namespace).patchResource(name, namespace, body);
     }
 
+    @Override
+    T patchResourceStatus(String name, String namespace, V1Patch body) {
+      return inNamespace(namespace).patchResourceStatus(name, namespace, body);
+    }
+
     @Override
     List<T> getResources(String namespace, String fieldSelector, String... labelSelectors) {
       return inNamespace(namespace).getResources(fieldSelector, labelSelectors);
@@ -1052,6 +1106,7 @@ public class KubernetesTestSupport extends FiberTestSupport {
     private final Integer gracePeriodSeconds;
     private String resourceType;
     private Operation operation;
+    private boolean streaming;
     private String cont = null;
 
     CallContext(RequestParams requestParams) {
@@ -1085,6 +1140,9 @@ public class KubernetesTestSupport extends FiberTestSupport {
       resourceType = callName.substring(i);
       operation = getOperation(callName, i);
 
+      if (isStreaming()) {
+        selectStreamingResource();
+      }
       if (isDeleteCollection()) {
         selectDeleteCollectionOperation();
       }
@@ -1101,6 +1159,15 @@ public class KubernetesTestSupport extends FiberTestSupport {
       return Operation.valueOf(operationName);
     }
 
+    private boolean isStreaming() {
+      return resourceType.endsWith("Stream");
+    }
+
+    private void selectStreamingResource() {
+      resourceType = resourceType.substring(0, resourceType.lastIndexOf("Stream"));
+      streaming = true;
+    }
+
     private boolean isDeleteCollection() {
       return resourceType.endsWith("Collection");
     }
@@ -1125,7 +1192,13 @@ public class KubernetesTestSupport extends FiberTestSupport {
         throw failure.getException();
       }
 
-      return operation.execute(this, selectRepository(resourceType));
+      Object result = operation.execute(this, selectRepository(resourceType));
+      return streaming ? toReader(result) : result;
+    }
+
+    // a streaming call returns a reader over its result, which may have been defined as a reader
+    private Reader toReader(Object result) {
+      return result instanceof Reader ? (Reader) result : new StringReader((String) result);
     }
 
     @SuppressWarnings("unchecked")
@@ -1153,6 +1226,11 @@ public class KubernetesTestSupport extends FiberTestSupport {
           requestParams.name, requestParams.namespace, (V1Patch) requestParams.body);
     }
 
+    private <T> T patchResourceStatus(DataRepository<T> dataRepository) {
+      return dataRepository.patchResourceStatus(
+          requestParams.name, requestParams.namespace, (V1Patch) requestParams.body);
+    }
+
     private <T> Object listResources(Integer limit, String cont, DataRepository<T> dataRepository) {
       return dataRepository.listResources(requestParams.namespace, limit, cont, fieldSelector, labelSelector);
     }
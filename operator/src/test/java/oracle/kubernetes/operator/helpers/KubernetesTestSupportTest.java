@@ -3,6 +3,8 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -14,6 +16,7 @@ import javax.json.Json;
 import javax.json.JsonPatchBuilder;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.io.CharStreams;
 import com.meterware.simplestub.Memento;
 import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.custom.V1Patch;
@@ -549,6 +552,16 @@ public class KubernetesTestSupportTest {
     assertThat(endStep.callResponse.getResult(), equalTo(POD_LOG_CONTENTS));
   }
 
+  @Test
+  public void whenDefined_readPodLogStream() throws IOException {
+    TestResponseStep<Reader> endStep = new TestResponseStep<>();
+    testSupport.definePodLog("name", "namespace", POD_LOG_CONTENTS);
+
+    testSupport.runSteps(new CallBuilder().readPodLogStreamAsync("name", "namespace", "", endStep));
+
+    assertThat(CharStreams.toString(endStep.callResponse.getResult()), equalTo(POD_LOG_CONTENTS));
+  }
+
   @Test
   public void deleteNamespace_deletesAllMatchingNamespacedResources() {
     V1Namespace n1 = createNamespace("ns1");
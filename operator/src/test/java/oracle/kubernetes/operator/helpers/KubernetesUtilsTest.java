@@ -5,15 +5,38 @@ package oracle.kubernetes.operator.helpers;
 
 import java.math.BigInteger;
 
+import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import okhttp3.Call;
+import okhttp3.Request;
 import org.joda.time.DateTime;
 import org.junit.Test;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 public class KubernetesUtilsTest {
 
+  @Test
+  public void whenListCallRequestsMetadataOnly_acceptPartialObjectMetadataList() {
+    Call call = KubernetesUtils.withMetadataOnly(new ApiClient(), createCall(), false);
+
+    assertThat(call.request().header("Accept"), containsString("as=PartialObjectMetadataList;"));
+  }
+
+  @Test
+  public void whenWatchCallRequestsMetadataOnly_acceptPartialObjectMetadata() {
+    Call call = KubernetesUtils.withMetadataOnly(new ApiClient(), createCall(), true);
+
+    assertThat(call.request().header("Accept"), containsString("as=PartialObjectMetadata;"));
+  }
+
+  private Call createCall() {
+    return new ApiClient().getHttpClient()
+          .newCall(new Request.Builder().url("http://localhost/api/v1/namespaces/ns1/configmaps").build());
+  }
+
   @Test
   public void whenCreationTimesDiffer_metadataWithLaterTimeIsNewer() {
     V1ObjectMeta meta1 = new V1ObjectMeta().creationTimestamp(new DateTime(2)).resourceVersion("2");
@@ -89,4 +112,41 @@ public class KubernetesUtilsTest {
     BigInteger bigInteger = KubernetesUtils.getResourceVersion(resVersion);
     assertThat(bigInteger, is(BigInteger.ZERO));
   }
+
+  @Test
+  public void whenHaveNumericResourceVersion_parseToLong() {
+    assertThat(KubernetesUtils.parseResourceVersion("2733280673000"), is(2733280673000L));
+  }
+
+  @Test
+  public void whenHaveNullOrEmptyResourceVersion_parseToZero() {
+    assertThat(KubernetesUtils.parseResourceVersion(null), is(0L));
+    assertThat(KubernetesUtils.parseResourceVersion(""), is(0L));
+  }
+
+  @Test
+  public void whenHaveOpaqueOrOversizedResourceVersion_parseToUnparsable() {
+    assertThat(KubernetesUtils.parseResourceVersion("123NotANumber456"),
+          is(KubernetesUtils.UNPARSABLE_RESOURCE_VERSION));
+    assertThat(KubernetesUtils.parseResourceVersion("92233720368547758070"),
+          is(KubernetesUtils.UNPARSABLE_RESOURCE_VERSION));
+  }
+
+  @Test
+  public void whenCompareNumericResourceVersions_compareNumerically() {
+    assertThat(KubernetesUtils.compareResourceVersions("9", "10") < 0, is(true));
+    assertThat(KubernetesUtils.compareResourceVersions("10", "9") > 0, is(true));
+    assertThat(KubernetesUtils.compareResourceVersions("10", "10"), is(0));
+  }
+
+  @Test
+  public void whenCompareOversizedResourceVersions_compareNumerically() {
+    assertThat(KubernetesUtils.compareResourceVersions("92233720368547758070", "9") > 0, is(true));
+  }
+
+  @Test
+  public void whenCompareOpaqueResourceVersion_treatAsZero() {
+    assertThat(KubernetesUtils.compareResourceVersions("123NotANumber456", "1") < 0, is(true));
+    assertThat(KubernetesUtils.compareResourceVersions("123NotANumber456", "0"), is(0));
+  }
 }
@@ -14,11 +14,14 @@ import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.meterware.simplestub.Memento;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1Affinity;
 import io.kubernetes.client.openapi.models.V1ConfigMapKeySelector;
+import io.kubernetes.client.openapi.models.V1ConfigMapProjection;
 import io.kubernetes.client.openapi.models.V1Container;
 import io.kubernetes.client.openapi.models.V1ContainerPort;
 import io.kubernetes.client.openapi.models.V1EnvVar;
@@ -40,12 +43,14 @@ import io.kubernetes.client.openapi.models.V1PodAntiAffinity;
 import io.kubernetes.client.openapi.models.V1PodSecurityContext;
 import io.kubernetes.client.openapi.models.V1PodSpec;
 import io.kubernetes.client.openapi.models.V1Probe;
+import io.kubernetes.client.openapi.models.V1ProjectedVolumeSource;
 import io.kubernetes.client.openapi.models.V1SecretKeySelector;
 import io.kubernetes.client.openapi.models.V1SecretReference;
 import io.kubernetes.client.openapi.models.V1SecurityContext;
 import io.kubernetes.client.openapi.models.V1Toleration;
 import io.kubernetes.client.openapi.models.V1Volume;
 import io.kubernetes.client.openapi.models.V1VolumeMount;
+import io.kubernetes.client.openapi.models.V1VolumeProjection;
 import io.kubernetes.client.openapi.models.V1WeightedPodAffinityTerm;
 import oracle.kubernetes.operator.DomainSourceType;
 import oracle.kubernetes.operator.IntrospectorConfigMapKeys;
@@ -147,11 +152,13 @@ public abstract class PodHelperTestBase extends DomainValidationBaseTest {
   private static final String NODEMGR_HOME = "/u01/nodemanager";
   private static final String CONFIGMAP_VOLUME_NAME = "weblogic-scripts-cm-volume";
   private static final int READ_AND_EXECUTE_MODE = 0555;
+  private static final String LEGACY_HASH = "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef";
 
   final TerminalStep terminalStep = new TerminalStep();
   private final Domain domain = createDomain();
   private final DomainPresenceInfo domainPresenceInfo = createDomainPresenceInfo(domain);
   protected KubernetesTestSupport testSupport = new KubernetesTestSupport();
+
   protected List<Memento> mementos = new ArrayList<>();
   protected List<LogRecord> logRecords = new ArrayList<>();
   RetryStrategyStub retryStrategy = createStrictStub(RetryStrategyStub.class);
@@ -465,6 +472,18 @@ public abstract class PodHelperTestBase extends DomainValidationBaseTest {
     assertThat(getCreatedPodSpecContainer().getEnv(), hasEnvVar("DYNAMIC_CONFIG_OVERRIDE"));
   }
 
+  @Test
+  public void whenStateProbePortConfigured_addStateProbePortEnvVar() {
+    TuningParametersStub.setParameter("serverStateProbePort", "8071");
+
+    assertThat(getCreatedPodSpecContainer().getEnv(), hasEnvVar(ServerEnvVars.STATE_PROBE_PORT, "8071"));
+  }
+
+  @Test
+  public void whenStateProbePortNotConfigured_dontAddStateProbePortEnvVar() {
+    assertThat(getCreatedPodSpecContainer().getEnv(), not(hasEnvVar(ServerEnvVars.STATE_PROBE_PORT)));
+  }
+
   @Test
   public void whenDistributionStrategyModified_dontReplacePod() {
     configureDomain().withConfigOverrideDistributionStrategy(OverrideDistributionStrategy.DYNAMIC);
@@ -799,6 +818,50 @@ public abstract class PodHelperTestBase extends DomainValidationBaseTest {
     return createPod(testSupport.getPacket());
   }
 
+  @Test
+  public void whenPodHasMatchingLegacyHash_dontReplaceIt() throws NoSuchFieldException {
+    mementos.add(UnitTestHash.installLegacyHash(LEGACY_HASH));
+    initializeExistingPod(withLegacyHash(createPodModel()));
+
+    verifyPodPatched();
+  }
+
+  @Test
+  public void whenPodHasMatchingLegacyHash_patchItWithCurrentHash() throws NoSuchFieldException {
+    mementos.add(UnitTestHash.installLegacyHash(LEGACY_HASH));
+    initializeExistingPod(withLegacyHash(createPodModel()));
+
+    V1Pod patchedPod = getPatchedPod();
+
+    assertThat(AnnotationHelper.getHash(patchedPod), equalTo(AnnotationHelper.getHash(createPodModel())));
+  }
+
+  @Test
+  public void whenPodHasDifferentLegacyHash_replaceIt() throws NoSuchFieldException {
+    mementos.add(UnitTestHash.installLegacyHash(LEGACY_HASH.replace('0', '9')));
+    initializeExistingPod(withLegacyHash(createPodModel()));
+
+    verifyPodReplaced();
+  }
+
+  @Test
+  public void whenPodHasLegacyHashOfConfigMapIntrospectorVolume_dontReplaceIt() throws NoSuchFieldException {
+    mementos.add(UnitTestHash.installLegacyHash(
+          recipe -> hasLegacyIntrospectorVolume((V1Pod) recipe) ? LEGACY_HASH : "otherHash"));
+    initializeExistingPod(withLegacyHash(createPodModel()));
+
+    verifyPodPatched();
+  }
+
+  private boolean hasLegacyIntrospectorVolume(V1Pod recipe) {
+    return recipe.getSpec().getVolumes().contains(PodDefaults.createLegacySitConfigVolume(UID));
+  }
+
+  private V1Pod withLegacyHash(V1Pod pod) {
+    pod.getMetadata().putAnnotationsItem(SHA256_ANNOTATION, LEGACY_HASH);
+    return pod;
+  }
+
   @Test
   public void whenPodHasUnknownCustomerAnnotations_ignoreIt() {
     verifyPodNotReplacedWhen(pod -> pod.getMetadata().putAnnotationsItem("annotation", "value"));
@@ -813,6 +876,27 @@ public abstract class PodHelperTestBase extends DomainValidationBaseTest {
     verifyPodReplaced();
   }
 
+  @Test
+  public void whenDomainGenerationUnchanged_reusePodModel() {
+    domain.getMetadata().setGeneration(1L);
+    initializeExistingPod();
+
+    configurator.withNodeSelector("key", "value");
+
+    verifyPodNotReplaced();
+  }
+
+  @Test
+  public void whenDomainGenerationChanged_rebuildPodModel() {
+    domain.getMetadata().setGeneration(1L);
+    initializeExistingPod();
+
+    configurator.withNodeSelector("key", "value");
+    domain.getMetadata().setGeneration(2L);
+
+    verifyPodReplaced();
+  }
+
   @Test
   public void whenConfigurationAddsNodeSelector_replacePod() {
     initializeExistingPod();
@@ -1024,6 +1108,46 @@ public abstract class PodHelperTestBase extends DomainValidationBaseTest {
     verifyPodReplaced();
   }
 
+  @Test
+  public void whenChunkManifestChanged_dontReplacePod() {
+    testSupport.addToPacket(IntrospectorConfigMapKeys.CHUNK_MANIFEST, "map " + getChunkMapName(1) + " hash1\n");
+    initializeExistingPod();
+
+    testSupport.addToPacket(IntrospectorConfigMapKeys.CHUNK_MANIFEST,
+          "map " + getChunkMapName(1) + " hash2\nmap " + getChunkMapName(2) + " hash3\n");
+
+    verifyPodNotReplaced();
+  }
+
+  private String getChunkMapName(int index) {
+    return IntrospectorConfigMapStorage.getChunkMapName(ConfigMapHelper.getIntrospectorConfigMapName(UID), index);
+  }
+
+  @Test
+  public void whenPodCreated_introspectorVolumeListsEveryPossibleChunkMapAsOptional() {
+    V1ProjectedVolumeSource source = getCreatedPod().getSpec().getVolumes().stream()
+          .filter(volume -> SIT_CONFIG_MAP_VOLUME.equals(volume.getName()))
+          .findFirst()
+          .map(V1Volume::getProjected)
+          .orElseThrow();
+
+    assertThat(getConfigMapProjections(source).map(V1ConfigMapProjection::getName).collect(Collectors.toList()),
+          contains(getExpectedIntrospectorVolumeMapNames()));
+    assertThat(getConfigMapProjections(source).skip(1).allMatch(V1ConfigMapProjection::getOptional), is(true));
+  }
+
+  private Stream<V1ConfigMapProjection> getConfigMapProjections(V1ProjectedVolumeSource source) {
+    return source.getSources().stream().map(V1VolumeProjection::getConfigMap);
+  }
+
+  private String[] getExpectedIntrospectorVolumeMapNames() {
+    String mapName = ConfigMapHelper.getIntrospectorConfigMapName(UID);
+    List<String> names = new ArrayList<>();
+    names.add(mapName);
+    names.addAll(IntrospectorConfigMapStorage.getPossibleChunkMapNames(mapName));
+    return names.toArray(new String[0]);
+  }
+
   @Test
   public void whenNoPod_onFiveHundred() {
     testSupport.addRetryStrategy(retryStrategy);
@@ -4,25 +4,126 @@
 package oracle.kubernetes.operator.helpers;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Secret;
+import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.utils.TestUtils;
 import org.junit.After;
 import org.junit.Before;
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.helpers.SecretHelper.ADMIN_SERVER_CREDENTIALS_PASSWORD;
+import static oracle.kubernetes.operator.helpers.SecretHelper.ADMIN_SERVER_CREDENTIALS_USERNAME;
+import static oracle.kubernetes.operator.helpers.SecretHelper.SECRET_DATA_KEY;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
 
 public class SecretHelperTest {
+  private static final String NS = "namespace";
+  private static final String SECRET_NAME = "admin-credentials";
+  private static final String USER = "admin";
+  private static final String PASSWORD = "secret1";
+  private static final String NEW_PASSWORD = "secret2";
+
   KubernetesTestSupport testSupport = new KubernetesTestSupport();
   List<Memento> mementos = new ArrayList<>();
+  V1Secret secret = createSecret(PASSWORD);
 
   @Before
   public void setUp() throws Exception {
     mementos.add(TestUtils.silenceOperatorLogger());
     mementos.add(testSupport.install());
+    mementos.add(StaticStubSupport.install(SecretHelper.class, "cachedCredentials", new ConcurrentHashMap<>()));
+
+    testSupport.defineResources(secret);
+  }
+
+  private V1Secret createSecret(String password) {
+    Map<String, byte[]> data = new HashMap<>();
+    data.put(ADMIN_SERVER_CREDENTIALS_USERNAME, USER.getBytes());
+    data.put(ADMIN_SERVER_CREDENTIALS_PASSWORD, password.getBytes());
+    return new V1Secret().metadata(new V1ObjectMeta().name(SECRET_NAME).namespace(NS)).data(data);
   }
 
   @After
   public void tearDown() {
     mementos.forEach(Memento::revert);
   }
-}
\ No newline at end of file
+
+  @Test
+  public void whenCredentialsRead_returnSecretData() {
+    assertThat(readPassword(), equalTo(PASSWORD));
+  }
+
+  @Test
+  public void whenCredentialsReadTwice_readSecretOnlyOnce() {
+    readPassword();
+    testSupport.clearNumCalls();
+
+    readPassword();
+
+    assertThat(testSupport.getNumCalls(), equalTo(0));
+  }
+
+  @Test
+  public void whenReturnedCredentialsErased_nextReadReturnsOriginalData() {
+    erase(readCredentials());
+
+    assertThat(readPassword(), equalTo(PASSWORD));
+  }
+
+  @Test
+  public void whenCachedSecretModifiedAndRemoved_returnNewCredentials() {
+    readPassword();
+    secret.getData().put(ADMIN_SERVER_CREDENTIALS_PASSWORD, NEW_PASSWORD.getBytes());
+
+    SecretHelper.removeCachedCredentials(NS, SECRET_NAME);
+
+    assertThat(readPassword(), equalTo(NEW_PASSWORD));
+  }
+
+  @Test
+  public void whenCachedSecretRemoved_readSecretAgain() {
+    readPassword();
+    testSupport.clearNumCalls();
+
+    SecretHelper.removeCachedCredentials(NS, SECRET_NAME);
+    readPassword();
+
+    assertThat(testSupport.getNumCalls(), equalTo(1));
+  }
+
+  @Test
+  public void whenNamespaceCacheCleared_readSecretAgain() {
+    readPassword();
+    testSupport.clearNumCalls();
+
+    SecretHelper.clearCachedCredentials(NS);
+    readPassword();
+
+    assertThat(testSupport.getNumCalls(), equalTo(1));
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<String, byte[]> readCredentials() {
+    Packet packet = testSupport.runSteps(
+          SecretHelper.getSecretData(SecretType.WebLogicCredentials, SECRET_NAME, NS, null));
+    return (Map<String, byte[]>) packet.get(SECRET_DATA_KEY);
+  }
+
+  private String readPassword() {
+    return new String(readCredentials().get(ADMIN_SERVER_CREDENTIALS_PASSWORD));
+  }
+
+  private void erase(Map<String, byte[]> credentials) {
+    credentials.values().forEach(v -> Arrays.fill(v, (byte) 0));
+  }
+}
@@ -108,6 +108,7 @@ public class ServiceHelperTest extends ServiceHelperTestBase {
   };
   private static final String OLD_LABEL = "oldLabel";
   private static final String OLD_ANNOTATION = "annotation";
+  private static final String LEGACY_HASH = "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef";
   private static final ClusterServiceTestFacade CLUSTER_SERVICE_TEST_FACADE =
       new ClusterServiceTestFacade();
   private static final ManagedServerTestFacade MANAGED_SERVER_TEST_FACADE =
@@ -367,6 +368,48 @@ public class ServiceHelperTest extends ServiceHelperTestBase {
     assertThat(logRecords, containsFine(testFacade.getServiceExistsLogMessage()));
   }
 
+  @Test
+  public void whenServiceHasMatchingLegacyHash_dontReplaceIt() throws NoSuchFieldException {
+    mementos.add(UnitTestHash.installLegacyHash(LEGACY_HASH));
+    recordInitialServiceWithLegacyHash();
+
+    runServiceHelper();
+
+    assertThat(logRecords, containsFine(testFacade.getServiceExistsLogMessage()));
+  }
+
+  @Test
+  public void whenServiceHasMatchingLegacyHash_patchItWithCurrentHash() throws NoSuchFieldException {
+    mementos.add(UnitTestHash.installLegacyHash(LEGACY_HASH));
+    recordInitialServiceWithLegacyHash();
+
+    runServiceHelper();
+
+    assertThat(AnnotationHelper.getHash(getCreatedService()), equalTo(getModelHash()));
+    assertThat(AnnotationHelper.getHash(testFacade.getRecordedService(domainPresenceInfo)), equalTo(getModelHash()));
+  }
+
+  @Test
+  public void whenServiceHasDifferentLegacyHash_replaceIt() throws NoSuchFieldException {
+    mementos.add(UnitTestHash.installLegacyHash(LEGACY_HASH.replace('0', '9')));
+    recordInitialServiceWithLegacyHash();
+
+    runServiceHelper();
+
+    assertThat(logRecords, containsInfo(testFacade.getServiceReplacedLogMessage()));
+  }
+
+  private void recordInitialServiceWithLegacyHash() {
+    V1Service originalService = testFacade.createServiceModel(testSupport.getPacket());
+    originalService.getMetadata().putAnnotationsItem(AnnotationHelper.SHA256_ANNOTATION, LEGACY_HASH);
+    testSupport.defineResources(originalService);
+    testFacade.recordService(domainPresenceInfo, originalService);
+  }
+
+  private String getModelHash() {
+    return AnnotationHelper.getHash(testFacade.createServiceModel(testSupport.getPacket()));
+  }
+
   @Test
   public void whenConfiguredLabelAdded_replaceService() {
     verifyServiceReplaced(this::configureNewLabel);
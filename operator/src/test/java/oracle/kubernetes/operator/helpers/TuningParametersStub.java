@@ -5,6 +5,7 @@ package oracle.kubernetes.operator.helpers;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import com.meterware.simplestub.Memento;
@@ -25,6 +26,9 @@ public abstract class TuningParametersStub implements TuningParameters {
   static final int LIVENESS_TIMEOUT = 5;
   static final long INTROSPECTOR_JOB_ACTIVE_DEADLINE_SECONDS = 180L;
 
+  // Main tuning
+  public static final int STATUS_BACKSTOP_SECONDS = 120;
+
   // Call builder tuning
   public static final int CALL_REQUEST_LIMIT = 10;
   public static final int CALL_MAX_RETRY_COUNT = 3;
@@ -51,7 +55,9 @@ public abstract class TuningParametersStub implements TuningParameters {
         LIVENESS_INITIAL_DELAY,
         LIVENESS_TIMEOUT,
         LIVENESS_PERIOD,
-        INTROSPECTOR_JOB_ACTIVE_DEADLINE_SECONDS);
+        INTROSPECTOR_JOB_ACTIVE_DEADLINE_SECONDS,
+        getIntParameter("introspectorJobConcurrencyLimit", 10),
+        getIntParameter("introspectorJobNodeConcurrencyLimit", 0));
   }
 
   /**
@@ -65,7 +71,11 @@ public abstract class TuningParametersStub implements TuningParameters {
 
   @Override
   public MainTuning getMainTuning() {
-    return new MainTuning(2, 2, 2, 2, 2, 2, 30, 2L, 2L);
+    return new MainTuning(2, 2, 2, getIntParameter("domainNamespaceRecheckIntervalSeconds", 2), 2, 2, 30, 2L, 2L,
+        STATUS_BACKSTOP_SECONDS,
+        "true".equalsIgnoreCase(namedParameters.get("namespaceShardingEnabled")),
+        getIntParameter("namespaceShardLeaseDurationSeconds", 30),
+        "true".equalsIgnoreCase(namedParameters.get("virtualThreads")));
   }
 
   @Override
@@ -78,6 +88,29 @@ public abstract class TuningParametersStub implements TuningParameters {
     return null;
   }
 
+  @Override
+  public HttpTuning getHttpTuning() {
+    return new HttpTuning(
+        getIntParameter("httpClientThreads", 4),
+        getIntParameter("httpConnectTimeoutSeconds", 5),
+        getIntParameter("httpKeepAliveSeconds", 25),
+        getIntParameter("httpRequestTimeoutSeconds", 5));
+  }
+
+  @Override
+  public RestTuning getRestTuning() {
+    return new RestTuning(
+        getIntParameter("restAuthCacheSeconds", 0),
+        getIntParameter("restAuthCacheSize", 1000),
+        getIntParameter("restRequestThreads", 4),
+        getIntParameter("restRequestQueueSize", 100));
+  }
+
+  // Typed tuning follows any value which a test has set under the parameter's name.
+  private static int getIntParameter(String name, int defaultValue) {
+    return Optional.ofNullable(namedParameters.get(name)).map(Integer::parseInt).orElse(defaultValue);
+  }
+
   @Override
   public String get(Object key) {
     return namedParameters.get(key);
@@ -13,6 +13,14 @@ public class UnitTestHash implements Function<Object, String> {
     return StaticStubSupport.install(AnnotationHelper.class, "HASH_FUNCTION", new UnitTestHash());
   }
 
+  public static Memento installLegacyHash(String legacyHash) throws NoSuchFieldException {
+    return installLegacyHash(object -> legacyHash);
+  }
+
+  public static Memento installLegacyHash(Function<Object, String> legacyHashFunction) throws NoSuchFieldException {
+    return StaticStubSupport.install(AnnotationHelper.class, "LEGACY_HASH_FUNCTION", legacyHashFunction);
+  }
+
   @Override
   public String apply(Object object) {
     return Integer.toString(object.hashCode());
@@ -9,6 +9,7 @@ import java.net.http.HttpResponse;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
@@ -17,6 +18,7 @@ import java.util.logging.LogRecord;
 import com.meterware.pseudoserver.HttpUserAgentTest;
 import com.meterware.simplestub.Memento;
 import com.meterware.simplestub.StaticStubSupport;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
 import oracle.kubernetes.operator.work.AsyncFiber;
 import oracle.kubernetes.operator.work.FiberTestSupport;
 import oracle.kubernetes.operator.work.NextAction;
@@ -33,6 +35,7 @@ import static oracle.kubernetes.operator.logging.MessageKeys.HTTP_METHOD_FAILED;
 import static oracle.kubernetes.operator.logging.MessageKeys.HTTP_REQUEST_TIMED_OUT;
 import static oracle.kubernetes.utils.LogMatcher.containsFine;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.sameInstance;
@@ -54,6 +57,7 @@ public class HttpAsyncRequestStepTest extends HttpUserAgentTest {
   private HttpAsyncRequestStep.FutureFactory futureFactory = r -> responseFuture;
   private Collection<LogRecord> logRecords = new ArrayList<>();
   private TestUtils.ConsoleHandlerMemento consoleMemento;
+  private HttpRequestMetrics metrics = new HttpRequestMetrics();
 
   /**
    * Checkstyle insists on a javadoc comment here. In a unit test *headdesk*.
@@ -65,6 +69,8 @@ public class HttpAsyncRequestStepTest extends HttpUserAgentTest {
           .withLogLevel(Level.FINE)
           .ignoringLoggedExceptions(HttpAsyncRequestStep.HttpTimeoutException.class));
     mementos.add(StaticStubSupport.install(HttpAsyncRequestStep.class, "factory", futureFactory));
+    mementos.add(StaticStubSupport.install(HttpRequestMetrics.class, "instance", metrics));
+    mementos.add(TuningParametersStub.install());
 
     requestStep = createStep();
   }
@@ -163,6 +169,48 @@ public class HttpAsyncRequestStepTest extends HttpUserAgentTest {
     assertThat(logRecords, containsFine(HTTP_REQUEST_TIMED_OUT));
   }
 
+  @Test
+  public void whenResponseReceived_recordLatency() {
+    NextAction nextAction = requestStep.apply(packet);
+
+    receiveResponseBeforeTimeout(nextAction, response);
+
+    assertThat(metrics.toMap(), hasEntry("requests", (Object) 1L));
+    assertThat(getLatencyCount(), equalTo(1L));
+  }
+
+  @SuppressWarnings("unchecked")
+  private Object getLatencyCount() {
+    return ((Map<String, Object>) metrics.toMap().get("latency")).get("count");
+  }
+
+  @Test
+  public void whenErrorResponseReceived_recordFailure() {
+    final NextAction nextAction = requestStep.apply(packet);
+
+    receiveResponseBeforeTimeout(nextAction, createStub(HttpResponseStub.class, 500));
+
+    assertThat(metrics.toMap(), hasEntry("failureResponses", (Object) 1L));
+  }
+
+  @Test
+  public void whenResponseTimesOut_recordTimeout() {
+    consoleMemento.ignoreMessage(HTTP_REQUEST_TIMED_OUT);
+    NextAction nextAction = requestStep.apply(packet);
+
+    receiveTimeout(nextAction);
+
+    assertThat(metrics.toMap(), hasEntry("timeouts", (Object) 1L));
+    assertThat(metrics.toMap(), hasEntry("errors", (Object) 0L));
+  }
+
+  @Test
+  public void whenRequestTimeoutConfigured_useIt() {
+    TuningParametersStub.setParameter("httpRequestTimeoutSeconds", "12");
+
+    assertThat(createStep().getTimeoutSeconds(), equalTo(12L));
+  }
+
   @Test
   public void whenTestSupportEnabled_retrieveCannedResult() throws NoSuchFieldException {
     HttpRequest request = HttpRequest.newBuilder().uri(URI.create("http://nowhere")).build();
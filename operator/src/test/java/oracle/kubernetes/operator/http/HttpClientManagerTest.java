@@ -0,0 +1,40 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class HttpClientManagerTest {
+
+  @Test
+  public void secureRequests_mayNegotiateHttp2() {
+    assertThat(getClient("https://server1:7002/x").version(), equalTo(HttpClient.Version.HTTP_2));
+  }
+
+  @Test
+  public void plainRequests_useHttp11() {
+    assertThat(getClient("http://server1:7001/x").version(), equalTo(HttpClient.Version.HTTP_1_1));
+  }
+
+  @Test
+  public void requestsToDifferentServers_shareClient() {
+    assertThat(getClient("http://server1:7001/x"), sameInstance(getClient("http://server2:7001/y")));
+  }
+
+  @Test
+  public void clientsHaveConnectTimeout() {
+    assertThat(getClient("http://server1:7001/x").connectTimeout().isPresent(), equalTo(true));
+  }
+
+  private HttpClient getClient(String uri) {
+    return HttpClientManager.getClient(URI.create(uri));
+  }
+}
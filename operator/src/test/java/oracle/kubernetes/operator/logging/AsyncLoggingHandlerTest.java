@@ -0,0 +1,152 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.logging;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Formatter;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.logging.AsyncLoggingHandler.OverflowPolicy.BLOCK;
+import static oracle.kubernetes.operator.logging.AsyncLoggingHandler.OverflowPolicy.DROP;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class AsyncLoggingHandlerTest {
+
+  private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+  private final CountDownLatch writesAllowed = new CountDownLatch(1);
+  private final CountDownLatch writeStarted = new CountDownLatch(1);
+  private AsyncLoggingHandler handler;
+
+  @After
+  public void tearDown() {
+    writesAllowed.countDown();
+    if (handler != null) {
+      handler.close();
+    }
+  }
+
+  private AsyncLoggingHandler createHandler(
+        OutputStream stream, int capacity, AsyncLoggingHandler.OverflowPolicy policy) {
+    handler = new AsyncLoggingHandler("test", stream, capacity, policy, false);
+    handler.setFormatter(new MessageOnlyFormatter());
+    return handler;
+  }
+
+  private void publish(String message) {
+    handler.publish(new LogRecord(Level.INFO, message));
+  }
+
+  private String getOutput() {
+    return new String(output.toByteArray(), StandardCharsets.UTF_8);
+  }
+
+  @Test
+  public void afterFlush_publishedRecordsAreWrittenInOrder() {
+    createHandler(output, 16, DROP);
+
+    publish("one");
+    publish("two");
+    publish("three");
+    handler.flush();
+
+    assertThat(getOutput(), equalTo("one\ntwo\nthree\n"));
+  }
+
+  @Test
+  public void recordsBelowHandlerLevel_areNotWritten() {
+    createHandler(output, 16, DROP);
+    handler.setLevel(Level.WARNING);
+
+    publish("ignored");
+    handler.publish(new LogRecord(Level.SEVERE, "written"));
+    handler.flush();
+
+    assertThat(getOutput(), equalTo("written\n"));
+  }
+
+  @Test
+  public void afterClose_bufferedRecordsAreWritten() {
+    createHandler(output, 16, DROP);
+
+    publish("one");
+    publish("two");
+    handler.close();
+
+    assertThat(getOutput(), equalTo("one\ntwo\n"));
+  }
+
+  @Test
+  public void whenOutputStalledAndBufferFull_dropPolicyDiscardsAndCountsRecords() throws InterruptedException {
+    createHandler(new StalledOutputStream(), 4, DROP);
+    publish("first");
+    writeStarted.await(5, TimeUnit.SECONDS);
+
+    for (int i = 0; i < 10; i++) {
+      publish("message " + i);
+    }
+
+    assertThat(handler.getNumPublished(), equalTo(5L));
+    assertThat(handler.getNumDropped(), equalTo(6L));
+  }
+
+  @Test
+  public void whenOutputStalledAndBufferFull_blockPolicyWaitsForRoom() throws InterruptedException {
+    createHandler(new StalledOutputStream(), 4, BLOCK);
+
+    Thread publisher = new Thread(() -> {
+      for (int i = 0; i < 10; i++) {
+        publish("message " + i);
+      }
+    });
+    publisher.start();
+    Thread.sleep(50);
+    writesAllowed.countDown();
+    publisher.join(TimeUnit.SECONDS.toMillis(5));
+    handler.flush();
+
+    assertThat(handler.getNumDropped(), equalTo(0L));
+    assertThat(getOutput().split("\n").length, equalTo(10));
+  }
+
+  // Writes to the test output only once writes are allowed.
+  class StalledOutputStream extends OutputStream {
+    @Override
+    public void write(int b) throws IOException {
+      awaitWritesAllowed();
+      output.write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      awaitWritesAllowed();
+      output.write(b, off, len);
+    }
+
+    private void awaitWritesAllowed() throws IOException {
+      writeStarted.countDown();
+      try {
+        writesAllowed.await();
+      } catch (InterruptedException e) {
+        throw new IOException(e);
+      }
+    }
+  }
+
+  static class MessageOnlyFormatter extends Formatter {
+    @Override
+    public String format(LogRecord record) {
+      return record.getMessage() + "\n";
+    }
+  }
+}
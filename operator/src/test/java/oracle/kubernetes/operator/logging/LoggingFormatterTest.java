@@ -3,7 +3,10 @@
 
 package oracle.kubernetes.operator.logging;
 
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Date;
 import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
@@ -76,6 +79,65 @@ public class LoggingFormatterTest {
     assertThat(getFormattedMessage(), allOf(hasEntry("code", "420"), hasEntry("body", "a response")));
   }
 
+  @Test
+  public void whenThrowableIsApiException_extractHeaders() throws JsonProcessingException {
+    logRecord.setThrown(new ApiException(420,
+          Collections.singletonMap("Content-Type", Arrays.asList("application/json", "text/plain")), "body"));
+
+    assertThat(getFormattedMessageObject().get("headers"),
+          equalTo(Collections.singletonMap("Content-Type", Arrays.asList("application/json", "text/plain"))));
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<String, Object> getFormattedMessageObject() throws JsonProcessingException {
+    return new ObjectMapper().readValue(formatter.format(logRecord), Map.class);
+  }
+
+  @Test
+  public void whenMessageContainsSpecialCharacters_escapeThem() throws JsonProcessingException {
+    logRecord.setMessage("quote\" backslash\\ newline\n tab\t control\u0001 unicode\u00e9");
+
+    assertThat(getFormattedMessage().get("message"),
+          equalTo("quote\" backslash\\ newline\n tab\t control\u0001 unicode\u00e9"));
+  }
+
+  @Test
+  public void formattedRecordIsSingleLine() {
+    logRecord.setMessage("first\nsecond");
+    logRecord.setThrown(new RuntimeException("in the test"));
+
+    String formatted = formatter.format(logRecord);
+
+    assertThat(formatted.indexOf('\n'), equalTo(formatted.length() - 1));
+  }
+
+  @Test
+  public void extractTimestamp() throws JsonProcessingException {
+    logRecord.setMillis(0);
+
+    assertThat(getFormattedMessage().get("timestamp"), equalTo(formatWithSimpleDateFormat(0)));
+  }
+
+  private String formatWithSimpleDateFormat(long millis) {
+    return new SimpleDateFormat("MM-dd-yyyy'T'HH:mm:ss.SSSZZ").format(new Date(millis));
+  }
+
+  @Test
+  public void extractTimeInMillis() throws JsonProcessingException {
+    logRecord.setMillis(1234567L);
+
+    assertThat(getFormattedMessageObject().get("timeInMillis"), equalTo(1234567));
+  }
+
+  @Test
+  public void whenRecordsFormattedSuccessively_eachContainsOnlyItsOwnMessage() throws JsonProcessingException {
+    logRecord.setMessage("a much longer first message");
+    formatter.format(logRecord);
+
+    logRecord.setMessage("second");
+    assertThat(getFormattedMessage().get("message"), equalTo("second"));
+  }
+
   @Test
   public void whenPacketLacksDomainPresence_domainUidIsEmpty() {
     assertThat(getFormattedMessageInFiber().get("domainUID"), equalTo(""));
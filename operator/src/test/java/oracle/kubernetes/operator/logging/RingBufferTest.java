@@ -0,0 +1,82 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class RingBufferTest {
+
+  private final RingBuffer<String> buffer = new RingBuffer<>(4);
+  private final List<String> drained = new ArrayList<>();
+
+  @Test
+  public void capacityIsRoundedUpToPowerOfTwo() {
+    assertThat(new RingBuffer<String>(4).capacity(), equalTo(4));
+    assertThat(new RingBuffer<String>(5).capacity(), equalTo(8));
+    assertThat(new RingBuffer<String>(1000).capacity(), equalTo(1024));
+  }
+
+  @Test
+  public void newBuffer_isEmpty() {
+    assertThat(buffer.isEmpty(), is(true));
+  }
+
+  @Test
+  public void afterOffer_bufferIsNotEmpty() {
+    buffer.offer("a");
+
+    assertThat(buffer.isEmpty(), is(false));
+  }
+
+  @Test
+  public void whenBufferFull_offerIsRefused() {
+    for (int i = 0; i < buffer.capacity(); i++) {
+      buffer.offer("item" + i);
+    }
+
+    assertThat(buffer.offer("extra"), is(false));
+  }
+
+  @Test
+  public void drainReturnsElementsInOrderOffered() {
+    buffer.offer("a");
+    buffer.offer("b");
+    buffer.offer("c");
+
+    assertThat(buffer.drain(drained::add, 10), equalTo(3));
+    assertThat(drained, contains("a", "b", "c"));
+    assertThat(buffer.isEmpty(), is(true));
+  }
+
+  @Test
+  public void drainRemovesNoMoreThanLimit() {
+    buffer.offer("a");
+    buffer.offer("b");
+    buffer.offer("c");
+
+    assertThat(buffer.drain(drained::add, 2), equalTo(2));
+    assertThat(drained, contains("a", "b"));
+  }
+
+  @Test
+  public void afterDrain_slotsMayBeReused() {
+    for (int round = 0; round < 3; round++) {
+      for (int i = 0; i < buffer.capacity(); i++) {
+        assertThat(buffer.offer(round + ":" + i), is(true));
+      }
+      buffer.drain(drained::add, buffer.capacity());
+    }
+
+    assertThat(drained.size(), equalTo(3 * buffer.capacity()));
+    assertThat(drained.get(drained.size() - 1), equalTo("2:3"));
+  }
+}
@@ -0,0 +1,62 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class LatencyHistogramTest {
+
+  private final LatencyHistogram histogram = new LatencyHistogram();
+
+  @Test
+  public void whenNothingRecorded_percentilesAreZero() {
+    assertThat(histogram.getCount(), equalTo(0L));
+    assertThat(histogram.getPercentileMillis(99), equalTo(0L));
+  }
+
+  @Test
+  public void percentileIsUpperBoundOfBucket() {
+    recordMillis(3);
+
+    assertThat(histogram.getPercentileMillis(50), equalTo(4L));
+  }
+
+  @Test
+  public void highPercentileReflectsSlowestLatencies() {
+    for (int i = 0; i < 99; i++) {
+      recordMillis(1);
+    }
+    recordMillis(100);
+
+    assertThat(histogram.getPercentileMillis(90), equalTo(2L));
+    assertThat(histogram.getPercentileMillis(100), equalTo(128L));
+  }
+
+  @Test
+  public void whenLatencyExceedsLastBucket_reportMaximum() {
+    recordMillis(TimeUnit.HOURS.toMillis(1));
+
+    assertThat(histogram.getPercentileMillis(99), equalTo(TimeUnit.HOURS.toMillis(1)));
+  }
+
+  @Test
+  public void summaryIncludesCountAndMean() {
+    recordMillis(10);
+    recordMillis(30);
+
+    assertThat(histogram.toMap(), hasEntry("count", (Object) 2L));
+    assertThat(histogram.toMap(), hasEntry("meanMillis", (Object) 20L));
+    assertThat(histogram.toMap(), hasEntry("maxMillis", (Object) 30L));
+  }
+
+  private void recordMillis(long millis) {
+    histogram.record(TimeUnit.MILLISECONDS.toNanos(millis));
+  }
+}
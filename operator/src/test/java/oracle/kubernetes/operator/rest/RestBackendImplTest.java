@@ -4,9 +4,12 @@
 package oracle.kubernetes.operator.rest;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import javax.annotation.Nonnull;
 import javax.ws.rs.WebApplicationException;
@@ -33,6 +36,7 @@ import oracle.kubernetes.operator.rest.model.DomainAction;
 import oracle.kubernetes.operator.rest.model.DomainActionType;
 import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.utils.SystemClockTestSupport;
 import oracle.kubernetes.utils.TestUtils;
 import oracle.kubernetes.weblogic.domain.ClusterConfigurator;
 import oracle.kubernetes.weblogic.domain.DomainConfigurator;
@@ -78,6 +82,8 @@ public class RestBackendImplTest {
   private final DomainConfigurator configurator = DomainConfiguratorFactory.forDomain(domain1);
   private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
   private WlsDomainConfig config;
+  private int numTokenReviews;
+  private final DomainLookupStub domainLookup = new DomainLookupStub();
 
   private static V1Namespace createNamespace(String name) {
     return new V1Namespace().metadata(new V1ObjectMeta().name(name));
@@ -101,6 +107,7 @@ public class RestBackendImplTest {
     mementos.add(TuningParametersStub.install());
     mementos.add(
         StaticStubSupport.install(RestBackendImpl.class, "INSTANCE", new TopologyRetrieverStub()));
+    mementos.add(StaticStubSupport.install(RestAccessCache.class, "instance", new RestAccessCache()));
 
     testSupport.defineResources(namespace, domain1, domain2);
     testSupport.doOnCreate(TOKEN_REVIEW, r -> authenticate((V1TokenReview) r));
@@ -117,6 +124,7 @@ public class RestBackendImplTest {
   }
 
   private void authenticate(V1TokenReview tokenReview) {
+    numTokenReviews++;
     tokenReview.setStatus(new V1TokenReviewStatus().authenticated(true).user(new V1UserInfo()));
   }
 
@@ -412,6 +420,150 @@ public class RestBackendImplTest {
     assertNull(apiKey);
   }
 
+  @Test
+  public void whenAuthCacheEnabled_reuseTokenReviewForSameToken() {
+    enableTokenReviewWithCache();
+    numTokenReviews = 0;
+
+    new RestBackendImpl("", "token1", this::getDomainNamespaces);
+    new RestBackendImpl("", "token1", this::getDomainNamespaces);
+
+    assertThat(numTokenReviews, equalTo(1));
+  }
+
+  private void enableTokenReviewWithCache() {
+    TuningParameters.getInstance().put("tokenReviewAuthentication", "true");
+    TuningParameters.getInstance().put("restAuthCacheSeconds", "60");
+  }
+
+  @Test
+  public void whenAuthCacheEnabled_reviewDifferentTokensSeparately() {
+    enableTokenReviewWithCache();
+    numTokenReviews = 0;
+
+    new RestBackendImpl("", "token1", this::getDomainNamespaces);
+    new RestBackendImpl("", "token2", this::getDomainNamespaces);
+
+    assertThat(numTokenReviews, equalTo(2));
+  }
+
+  @Test
+  public void whenAuthCacheDisabled_reviewEachRequest() {
+    TuningParameters.getInstance().put("tokenReviewAuthentication", "true");
+    numTokenReviews = 0;
+
+    new RestBackendImpl("", "token1", this::getDomainNamespaces);
+    new RestBackendImpl("", "token1", this::getDomainNamespaces);
+
+    assertThat(numTokenReviews, equalTo(2));
+  }
+
+  @Test
+  public void whenTokenReviewFails_dontCacheIt() {
+    enableTokenReviewWithCache();
+    testSupport.doOnCreate(TOKEN_REVIEW, r -> reject((V1TokenReview) r));
+
+    try {
+      new RestBackendImpl("", "token1", this::getDomainNamespaces);
+    } catch (WebApplicationException ignored) {
+      // expected
+    }
+    testSupport.doOnCreate(TOKEN_REVIEW, r -> authenticate((V1TokenReview) r));
+
+    assertThat(new RestBackendImpl("", "token1", this::getDomainNamespaces).getUserInfo(), notNullValue());
+  }
+
+  private void reject(V1TokenReview tokenReview) {
+    tokenReview.setStatus(new V1TokenReviewStatus().authenticated(false));
+  }
+
+  @Test
+  public void whenAuthCacheEnabled_reuseAuthorizationForSameOperation() {
+    enableTokenReviewWithCache();
+    AuthorizationProxyStub authorizationProxyStub = new AuthorizationProxyStub();
+
+    new RestBackendImpl("", "", this::getDomainNamespaces)
+        .withAuthorizationProxy(authorizationProxyStub).getClusters(DOMAIN1);
+    new RestBackendImpl("", "", this::getDomainNamespaces)
+        .withAuthorizationProxy(authorizationProxyStub).getClusters(DOMAIN1);
+
+    assertThat(authorizationProxyStub.numChecks, equalTo(1));
+  }
+
+  @Test
+  public void whenAuthCacheEntryExpires_authorizeAgain() throws NoSuchFieldException {
+    mementos.add(SystemClockTestSupport.installClock());
+    enableTokenReviewWithCache();
+    AuthorizationProxyStub authorizationProxyStub = new AuthorizationProxyStub();
+
+    new RestBackendImpl("", "", this::getDomainNamespaces)
+        .withAuthorizationProxy(authorizationProxyStub).getClusters(DOMAIN1);
+    SystemClockTestSupport.increment(61);
+    new RestBackendImpl("", "", this::getDomainNamespaces)
+        .withAuthorizationProxy(authorizationProxyStub).getClusters(DOMAIN1);
+
+    assertThat(authorizationProxyStub.numChecks, equalTo(2));
+  }
+
+  @Test
+  public void whenAuthCacheFull_evictLeastRecentlyUsed() {
+    enableTokenReviewWithCache();
+    TuningParameters.getInstance().put("restAuthCacheSize", "1");
+    AuthorizationProxyStub authorizationProxyStub = new AuthorizationProxyStub();
+
+    new RestBackendImpl("", "", this::getDomainNamespaces)
+        .withAuthorizationProxy(authorizationProxyStub).getClusters(DOMAIN1);
+    new RestBackendImpl("", "", this::getDomainNamespaces)
+        .withAuthorizationProxy(authorizationProxyStub).getClusters(DOMAIN2);
+    new RestBackendImpl("", "", this::getDomainNamespaces)
+        .withAuthorizationProxy(authorizationProxyStub).getClusters(DOMAIN1);
+
+    assertThat(authorizationProxyStub.numChecks, equalTo(3));
+  }
+  @Test
+  public void whenUsingTokenReviewAndNamespaceIndexed_retrieveDomainIdsFromIndex() {
+    TuningParameters.getInstance().put("tokenReviewAuthentication", "true");
+    domainLookup.defineIndexedDomains(NS, createDomain(NS, DOMAIN3));
+
+    assertThat(createBackendWithIndex().getDomainUids(), containsInAnyOrder(DOMAIN3));
+  }
+
+  private RestBackendImpl createBackendWithIndex() {
+    return new RestBackendImpl("", "", this::getDomainNamespaces, domainLookup);
+  }
+
+  @Test
+  public void whenUsingTokenReviewAndNamespaceNotIndexed_listDomains() {
+    TuningParameters.getInstance().put("tokenReviewAuthentication", "true");
+
+    assertThat(createBackendWithIndex().getDomainUids(), containsInAnyOrder(DOMAIN1, DOMAIN2));
+  }
+
+  @Test
+  public void whenDomainMissingFromIndex_findItByListing() {
+    TuningParameters.getInstance().put("tokenReviewAuthentication", "true");
+    domainLookup.defineIndexedDomains(NS);
+
+    assertThat(createBackendWithIndex().isDomainUid(DOMAIN1), is(true));
+  }
+
+  @Test
+  public void whenUsingAccessToken_ignoreIndex() {
+    domainLookup.defineIndexedDomains(NS, createDomain(NS, DOMAIN3));
+
+    assertThat(createBackendWithIndex().getDomainUids(), containsInAnyOrder(DOMAIN1, DOMAIN2));
+  }
+
+  @Test
+  public void afterScalingIndexedDomain_recordPatchedDomainInIndex() {
+    TuningParameters.getInstance().put("tokenReviewAuthentication", "true");
+    configureCluster("cluster1").withReplicas(1);
+    domainLookup.defineIndexedDomains(NS, domain1);
+
+    createBackendWithIndex().scaleCluster(DOMAIN1, "cluster1", 5);
+
+    assertThat(domainLookup.updatedDomain.getReplicaCount("cluster1"), equalTo(5));
+  }
 
   private DomainConfigurator configureDomain() {
     return configurator;
@@ -421,6 +573,25 @@ public class RestBackendImplTest {
     config = domain1ConfigSupport.createDomainConfig();
   }
 
+  private static class DomainLookupStub implements DomainLookup {
+    private final Map<String, List<Domain>> indexedDomains = new HashMap<>();
+    private Domain updatedDomain;
+
+    void defineIndexedDomains(String namespace, Domain... domains) {
+      indexedDomains.put(namespace, Arrays.asList(domains));
+    }
+
+    @Override
+    public List<Domain> getIndexedDomains(String namespace) {
+      return indexedDomains.get(namespace);
+    }
+
+    @Override
+    public void updateIndexedDomain(Domain domain) {
+      updatedDomain = domain;
+    }
+  }
+
   private class TopologyRetrieverStub implements TopologyRetriever {
     @Override
     public WlsDomainConfig getWlsDomainConfig(String ns, String domainUid) {
@@ -430,6 +601,7 @@ public class RestBackendImplTest {
 
   private class AuthorizationProxyStub extends AuthorizationProxy {
     boolean atzCheck = false;
+    int numChecks;
 
     /**
      * Check if the specified principal is allowed to perform the specified operation on the specified
@@ -454,6 +626,7 @@ public class RestBackendImplTest {
         Scope scope,
         String namespaceName) {
       atzCheck = true;
+      numChecks++;
       return atzCheck;
     }
   }
@@ -6,6 +6,7 @@ package oracle.kubernetes.operator.rest;
 import java.net.HttpURLConnection;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -23,6 +24,7 @@ import javax.ws.rs.core.Response;
 
 import com.google.gson.Gson;
 import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.rest.backend.RestBackend;
 import oracle.kubernetes.operator.rest.model.ScaleClusterParamsModel;
 import oracle.kubernetes.utils.TestUtils;
@@ -56,6 +58,7 @@ public class RestTest extends JerseyTest {
   private static final String V1_DOMAINS_HREF = V1_HREF + "/domains";
   private static final String SWAGGER_HREF = LATEST_HREF + "/swagger";
   private static final String DOMAINS_HREF = LATEST_HREF + "/domains";
+  private static final String METRICS_HREF = LATEST_HREF + "/metrics";
   private static final String DOMAIN1_HREF = DOMAINS_HREF + "/uid1";
   private static final String DOMAIN2_HREF = DOMAINS_HREF + "/uid2";
   private static final String DOMAIN1_CLUSTERS_HREF = DOMAIN1_HREF + "/clusters";
@@ -179,6 +182,15 @@ public class RestTest extends JerseyTest {
     assertThat(result, hasJsonPath("$.paths./operator.get.tags", withValues("Version")));
   }
 
+  @Test
+  public void metricsEndPoint_returnsRegisteredMetrics() {
+    OperatorMetrics.register("test", () -> Collections.singletonMap("count", 3));
+
+    Map result = getJsonResponse(METRICS_HREF);
+
+    assertThat(result, hasJsonPath("$.test.count", equalTo(3.0)));
+  }
+
   @Test
   public void domainsEndPoint_returnsListOfDomainsAndLinks() {
     defineDomains("uid1", "uid2");
@@ -276,6 +288,13 @@ public class RestTest extends JerseyTest {
     assertThat(restBackend.getNumManagedServers("uid1", "cluster1"), equalTo(3));
   }
 
+  @Test
+  public void afterScalingCluster_responseHasNoContent() {
+    defineClusters("uid1", "cluster1", "cluster2");
+
+    assertThat(sendScaleRequest("cluster1", 3).getStatus(), equalTo(HttpURLConnection.HTTP_NO_CONTENT));
+  }
+
   private Response sendScaleRequest(String cluster, int numManagedServers) {
     return createRequest(DOMAIN1_CLUSTERS_HREF + String.format("/%s/scale", cluster))
         .post(createScaleRequest(numManagedServers));
@@ -6,15 +6,22 @@ package oracle.kubernetes.operator.steps;
 import java.net.URI;
 import java.net.http.HttpRequest;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
+import java.util.stream.Collectors;
 
 import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodStatus;
 import io.kubernetes.client.openapi.models.V1Secret;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServicePort;
@@ -22,6 +29,7 @@ import io.kubernetes.client.openapi.models.V1ServiceSpec;
 import oracle.kubernetes.operator.DomainProcessorTestSetup;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.helpers.SecretHelper;
 import oracle.kubernetes.operator.http.HttpAsyncTestSupport;
 import oracle.kubernetes.operator.http.HttpResponseStub;
 import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
@@ -41,6 +49,7 @@ import static oracle.kubernetes.operator.DomainProcessorTestSetup.SECRET_NAME;
 import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
 import static oracle.kubernetes.operator.ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ;
+import static oracle.kubernetes.operator.ProcessingConstants.SERVER_HEALTH_BATCH;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_HEALTH_MAP;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_NAME;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
@@ -53,6 +62,7 @@ import static oracle.kubernetes.operator.steps.ReadHealthStep.OVERALL_HEALTH_NOT
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 
 public class ReadHealthStepTest {
   static final String OK_RESPONSE =
@@ -112,6 +122,7 @@ public class ReadHealthStepTest {
             .withLogLevel(Level.FINE));
     mementos.add(testSupport.install());
     mementos.add(httpSupport.install());
+    mementos.add(StaticStubSupport.install(SecretHelper.class, "cachedCredentials", new ConcurrentHashMap<>()));
 
     testSupport.addDomainPresenceInfo(info);
     testSupport.addToPacket(SERVER_HEALTH_MAP, serverHealthMap);
@@ -265,6 +276,103 @@ public class ReadHealthStepTest {
     assertThat(getServerStateMap(packet).get(MANAGED_SERVER1), is("UNKNOWN"));
   }
 
+  @Test
+  public void whenHealthReadTwice_readCredentialsSecretOnlyOnce() {
+    selectServer(MANAGED_SERVER1);
+    defineResponse(200, OK_RESPONSE);
+
+    testSupport.runSteps(readHealthStep);
+    testSupport.clearNumCalls();
+    testSupport.runSteps(readHealthStep);
+
+    assertThat(testSupport.getNumCalls(), equalTo(0));
+  }
+
+  @Test
+  public void whenServerRejectsCredentials_readCredentialsSecretOnNextHealthRead() {
+    selectServer(MANAGED_SERVER1);
+    defineResponse(401, "");
+
+    testSupport.runSteps(readHealthStep);
+    testSupport.clearNumCalls();
+    testSupport.runSteps(readHealthStep);
+
+    assertThat(testSupport.getNumCalls(), equalTo(1));
+  }
+
+  @Test
+  public void whenBatchedHealthReadSucceeds_recordHealthOfServerWithoutContactingIt() {
+    defineAdminServer(true);
+    defineDomainResponse(200, createDomainResponse(ADMIN_NAME, MANAGED_SERVER1));
+    testSupport.runSteps(ReadHealthStep.createReadDomainHealthStep(terminalStep));
+
+    selectServer(MANAGED_SERVER1);
+    Packet packet = testSupport.runSteps(readHealthStep);
+
+    assertThat(getServerHealthMap(packet).get(MANAGED_SERVER1).getOverallHealth(), equalTo("ok"));
+    assertThat(getServerStateMap(packet).get(MANAGED_SERVER1), is("RUNNING"));
+    assertThat(getRemainingServersToRead(packet), equalTo(0));
+  }
+
+  @Test
+  public void whenServerMissingFromBatchedHealthRead_readHealthFromServer() {
+    defineAdminServer(true);
+    defineDomainResponse(200, createDomainResponse(ADMIN_NAME));
+    testSupport.runSteps(ReadHealthStep.createReadDomainHealthStep(terminalStep));
+
+    selectServer(MANAGED_SERVER1);
+    defineResponse(500, "");
+    Packet packet = testSupport.runSteps(readHealthStep);
+
+    assertThat(getServerHealthMap(packet).get(MANAGED_SERVER1).getOverallHealth(),
+               equalTo(OVERALL_HEALTH_FOR_SERVER_OVERLOADED));
+  }
+
+  @Test
+  public void whenAdminServerNotReady_dontRecordBatchedHealth() {
+    defineAdminServer(false);
+    defineDomainResponse(200, createDomainResponse(ADMIN_NAME, MANAGED_SERVER1));
+
+    Packet packet = testSupport.runSteps(ReadHealthStep.createReadDomainHealthStep(terminalStep));
+
+    assertThat(packet.get(SERVER_HEALTH_BATCH), nullValue());
+  }
+
+  @Test
+  public void whenBatchedHealthReadFails_dontRecordBatchedHealth() {
+    defineAdminServer(true);
+    defineDomainResponse(503, "");
+
+    Packet packet = testSupport.runSteps(ReadHealthStep.createReadDomainHealthStep(terminalStep));
+
+    assertThat(packet.get(SERVER_HEALTH_BATCH), nullValue());
+  }
+
+  private void defineAdminServer(boolean ready) {
+    info.setServerService(ADMIN_NAME, service);
+    info.setServerPod(ADMIN_NAME, new V1Pod()
+          .metadata(new V1ObjectMeta().name(ADMIN_NAME).namespace(NS))
+          .status(new V1PodStatus().phase("Running")
+                .addConditionsItem(new V1PodCondition().type("Ready").status(ready ? "True" : "False"))));
+  }
+
+  private void defineDomainResponse(int status, String body) {
+    httpSupport.defineResponse(
+          HttpRequest.newBuilder()
+                .uri(URI.create("https://127.0.0.1:7001/management/weblogic/latest/domainRuntime/search"))
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build(),
+          createStub(HttpResponseStub.class, status, body));
+  }
+
+  private String createDomainResponse(String... serverNames) {
+    return "{ \"serverRuntimes\": { \"items\": [ "
+          + Arrays.stream(serverNames)
+                .map(n -> OK_RESPONSE.replaceFirst("\\{", "{ \"name\": \"" + n + "\","))
+                .collect(Collectors.joining(", "))
+          + " ] } }";
+  }
+
   public abstract static class V1ServiceStub extends V1Service {
 
     @Override
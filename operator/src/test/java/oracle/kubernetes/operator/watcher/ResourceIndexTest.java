@@ -0,0 +1,152 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.watcher;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import oracle.kubernetes.operator.builders.WatchEvent;
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class ResourceIndexTest {
+  private static final String NS1 = "ns1";
+  private static final String NS2 = "ns2";
+  private static final String UID1 = "domain1";
+  private static final String UID2 = "domain2";
+
+  private final ResourceIndex<V1Pod> index = new ResourceIndex<>();
+
+  private V1Pod createPod(String namespace, String domainUid, String name, String resourceVersion) {
+    return new V1Pod().metadata(new V1ObjectMeta()
+          .namespace(namespace)
+          .name(name)
+          .resourceVersion(resourceVersion)
+          .putLabelsItem(DOMAINUID_LABEL, domainUid));
+  }
+
+  private void sendAdded(V1Pod pod) {
+    index.receivedResponse(WatchEvent.createAddedEvent(pod).toWatchResponse());
+  }
+
+  private void sendModified(V1Pod pod) {
+    index.receivedResponse(WatchEvent.createModifiedEvent(pod).toWatchResponse());
+  }
+
+  private void sendDeleted(V1Pod pod) {
+    index.receivedResponse(WatchEvent.createDeleteEvent(pod).toWatchResponse());
+  }
+
+  @Test
+  public void afterResourcesAdded_indexReturnsThemByNamespaceAndDomain() {
+    V1Pod pod1 = createPod(NS1, UID1, "admin", "10");
+    V1Pod pod2 = createPod(NS1, UID1, "ms1", "11");
+    V1Pod pod3 = createPod(NS1, UID2, "admin", "12");
+    V1Pod pod4 = createPod(NS2, UID1, "admin", "13");
+
+    sendAdded(pod1);
+    sendAdded(pod2);
+    sendAdded(pod3);
+    sendAdded(pod4);
+
+    assertThat(index.getResources(NS1, UID1), containsInAnyOrder(pod1, pod2));
+    assertThat(index.getResources(NS1, UID2), contains(pod3));
+    assertThat(index.getResources(NS2, UID1), contains(pod4));
+    assertThat(index.size(), equalTo(4));
+  }
+
+  @Test
+  public void whenNoResourcesKnown_returnEmptyList() {
+    assertThat(index.getResources(NS1, UID1), empty());
+  }
+
+  @Test
+  public void afterResourceModified_indexReturnsNewVersion() {
+    V1Pod pod = createPod(NS1, UID1, "admin", "10");
+    V1Pod modified = createPod(NS1, UID1, "admin", "11");
+
+    sendAdded(pod);
+    sendModified(modified);
+
+    assertThat(index.getResource(NS1, UID1, "admin"), sameInstance(modified));
+  }
+
+  @Test
+  public void whenOutOfOrderModificationReceived_ignoreIt() {
+    V1Pod pod = createPod(NS1, UID1, "admin", "11");
+    V1Pod stale = createPod(NS1, UID1, "admin", "10");
+
+    sendAdded(pod);
+    sendModified(stale);
+
+    assertThat(index.getResource(NS1, UID1, "admin"), sameInstance(pod));
+  }
+
+  @Test
+  public void afterResourceDeleted_indexNoLongerReturnsIt() {
+    sendAdded(createPod(NS1, UID1, "admin", "10"));
+    sendDeleted(createPod(NS1, UID1, "admin", "11"));
+
+    assertThat(index.getResource(NS1, UID1, "admin"), nullValue());
+  }
+
+  @Test
+  public void whenDeletionIsOlderThanRecordedResource_ignoreIt() {
+    V1Pod recreated = createPod(NS1, UID1, "admin", "12");
+
+    sendAdded(recreated);
+    sendDeleted(createPod(NS1, UID1, "admin", "10"));
+
+    assertThat(index.getResource(NS1, UID1, "admin"), sameInstance(recreated));
+  }
+
+  @Test
+  public void indexReportsDomainsWithResourcesInNamespace() {
+    sendAdded(createPod(NS1, UID1, "admin", "10"));
+    sendAdded(createPod(NS1, UID2, "admin", "11"));
+    sendAdded(createPod(NS2, "domain3", "admin", "12"));
+    sendDeleted(createPod(NS1, UID2, "admin", "13"));
+
+    assertThat(index.getDomainUids(NS1), contains(UID1));
+  }
+
+  @Test
+  public void indexReturnsAllResourcesInNamespace() {
+    V1Pod pod1 = createPod(NS1, UID1, "admin", "10");
+    V1Pod pod2 = createPod(NS1, UID2, "admin", "11");
+    sendAdded(pod1);
+    sendAdded(pod2);
+    sendAdded(createPod(NS2, UID1, "admin", "12"));
+
+    assertThat(index.getResources(NS1), containsInAnyOrder(pod1, pod2));
+  }
+
+  @Test
+  public void whenResourceUpdatedDirectly_ignoreOlderEvent() {
+    V1Pod updated = createPod(NS1, UID1, "admin", "12");
+
+    index.update(updated);
+    sendModified(createPod(NS1, UID1, "admin", "11"));
+
+    assertThat(index.getResource(NS1, UID1, "admin"), sameInstance(updated));
+  }
+
+  @Test
+  public void afterNamespaceRemoved_itHasNoResources() {
+    sendAdded(createPod(NS1, UID1, "admin", "10"));
+    sendAdded(createPod(NS2, UID1, "admin", "11"));
+
+    index.removeNamespace(NS1);
+
+    assertThat(index.getResources(NS1), empty());
+    assertThat(index.getResources(NS2).size(), equalTo(1));
+  }
+}
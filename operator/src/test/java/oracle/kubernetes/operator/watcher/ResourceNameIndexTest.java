@@ -0,0 +1,203 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.watcher;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Secret;
+import oracle.kubernetes.operator.builders.WatchEvent;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+public class ResourceNameIndexTest {
+  private static final String NS1 = "ns1";
+  private static final String NS2 = "ns2";
+
+  private final ResourceNameIndex<V1Secret> index = new ResourceNameIndex<>();
+
+  private V1Secret createSecret(String namespace, String name, String resourceVersion) {
+    return new V1Secret()
+          .metadata(new V1ObjectMeta().namespace(namespace).name(name).resourceVersion(resourceVersion))
+          .putDataItem("password", new byte[] {1, 2, 3});
+  }
+
+  private void sendAdded(V1Secret secret) {
+    index.receivedResponse(WatchEvent.createAddedEvent(secret).toWatchResponse());
+  }
+
+  private void sendDeleted(V1Secret secret) {
+    index.receivedResponse(WatchEvent.createDeleteEvent(secret).toWatchResponse());
+  }
+
+  @Test
+  public void beforeNamespaceListed_namespaceIsNotIndexed() {
+    assertThat(index.isIndexed(NS1), is(false));
+  }
+
+  @Test
+  public void afterNamespaceListed_namespaceIsIndexedWithListedNames() {
+    index.recordList(NS1, Arrays.asList(createSecret(NS1, "secret1", "10"), createSecret(NS1, "secret2", "11")));
+
+    assertThat(index.isIndexed(NS1), is(true));
+    assertThat(index.contains(NS1, "secret1"), is(true));
+    assertThat(index.contains(NS1, "secret2"), is(true));
+    assertThat(index.contains(NS2, "secret1"), is(false));
+  }
+
+  @Test
+  public void whileListPagesRemain_namespaceIsNotIndexed() {
+    index.recordList(NS1, Collections.singletonList(createSecret(NS1, "secret1", "10")), "page2");
+
+    assertThat(index.isIndexed(NS1), is(false));
+    assertThat(index.contains(NS1, "secret1"), is(false));
+  }
+
+  @Test
+  public void afterLastListPageRecorded_namespaceIsIndexedWithNamesFromAllPages() {
+    index.recordList(NS1, Collections.singletonList(createSecret(NS1, "secret1", "10")), "page2");
+    index.recordList(NS1, Collections.singletonList(createSecret(NS1, "secret2", "11")), "page3");
+    index.recordList(NS1, Collections.singletonList(createSecret(NS1, "secret3", "12")), null);
+
+    assertThat(index.isIndexed(NS1), is(true));
+    assertThat(index.contains(NS1, "secret1"), is(true));
+    assertThat(index.contains(NS1, "secret2"), is(true));
+    assertThat(index.contains(NS1, "secret3"), is(true));
+  }
+
+  @Test
+  public void whenNamespaceRelisted_replaceNamesOnlyAfterLastPage() {
+    index.recordList(NS1, Collections.singletonList(createSecret(NS1, "secret1", "10")));
+
+    index.recordList(NS1, Collections.singletonList(createSecret(NS1, "secret2", "11")), "page2");
+    assertThat(index.contains(NS1, "secret1"), is(true));
+
+    index.recordList(NS1, Collections.singletonList(createSecret(NS1, "secret3", "12")), "");
+    assertThat(index.contains(NS1, "secret1"), is(false));
+    assertThat(index.contains(NS1, "secret2"), is(true));
+    assertThat(index.contains(NS1, "secret3"), is(true));
+  }
+
+  @Test
+  public void afterResourceAdded_indexContainsName() {
+    index.recordList(NS1, Collections.emptyList());
+
+    sendAdded(createSecret(NS1, "secret1", "10"));
+
+    assertThat(index.contains(NS1, "secret1"), is(true));
+  }
+
+  @Test
+  public void afterResourceModified_indexReturnsNewResourceVersion() {
+    index.recordList(NS1, Collections.singletonList(createSecret(NS1, "secret1", "10")));
+
+    index.receivedResponse(WatchEvent.createModifiedEvent(createSecret(NS1, "secret1", "11")).toWatchResponse());
+
+    assertThat(index.getResourceVersion(NS1, "secret1"), is("11"));
+    assertThat(index.getResourceVersion(NS1, "secret2"), nullValue());
+  }
+
+  @Test
+  public void whenNamespaceNotListed_ignoreEvents() {
+    sendAdded(createSecret(NS1, "secret1", "10"));
+
+    assertThat(index.isIndexed(NS1), is(false));
+    assertThat(index.contains(NS1, "secret1"), is(false));
+  }
+
+  @Test
+  public void afterResourceDeleted_indexDoesNotContainName() {
+    index.recordList(NS1, Collections.singletonList(createSecret(NS1, "secret1", "10")));
+
+    sendDeleted(createSecret(NS1, "secret1", "11"));
+
+    assertThat(index.contains(NS1, "secret1"), is(false));
+  }
+
+  @Test
+  public void whenDeleteEventIsOlderThanKnownVersion_ignoreIt() {
+    index.recordList(NS1, Collections.singletonList(createSecret(NS1, "secret1", "12")));
+
+    sendDeleted(createSecret(NS1, "secret1", "11"));
+
+    assertThat(index.contains(NS1, "secret1"), is(true));
+  }
+
+  @Test
+  public void whenNamespaceRelisted_keepResourcesAddedAfterList() {
+    index.recordList(NS1, Collections.singletonList(createSecret(NS1, "secret1", "10")));
+
+    sendAdded(createSecret(NS1, "secret2", "21"));
+    index.recordList(NS1, Collections.singletonList(createSecret(NS1, "secret1", "10")), null, "20");
+
+    assertThat(index.contains(NS1, "secret1"), is(true));
+    assertThat(index.contains(NS1, "secret2"), is(true));
+  }
+
+  @Test
+  public void whenNamespaceRelisted_keepNewerResourceVersionsFromEvents() {
+    index.recordList(NS1, Collections.singletonList(createSecret(NS1, "secret1", "10")));
+
+    index.receivedResponse(WatchEvent.createModifiedEvent(createSecret(NS1, "secret1", "21")).toWatchResponse());
+    index.recordList(NS1, Collections.singletonList(createSecret(NS1, "secret1", "15")), null, "20");
+
+    assertThat(index.getResourceVersion(NS1, "secret1"), is("21"));
+  }
+
+  @Test
+  public void whenNamespaceRelisted_doNotRestoreResourcesDeletedAfterList() {
+    index.recordList(NS1, Collections.singletonList(createSecret(NS1, "secret1", "10")));
+
+    index.recordList(NS1, Collections.singletonList(createSecret(NS1, "secret1", "10")), "page2", "20");
+    sendDeleted(createSecret(NS1, "secret1", "21"));
+    index.recordList(NS1, Collections.emptyList(), null, "20");
+
+    assertThat(index.contains(NS1, "secret1"), is(false));
+  }
+
+  @Test
+  public void whenNamespaceRelisted_dropResourcesDeletedBeforeList() {
+    index.recordList(NS1, Arrays.asList(createSecret(NS1, "secret1", "10"), createSecret(NS1, "secret2", "11")));
+
+    sendAdded(createSecret(NS1, "secret3", "12"));
+    index.recordList(NS1, Collections.singletonList(createSecret(NS1, "secret1", "10")), null, "20");
+
+    assertThat(index.contains(NS1, "secret2"), is(false));
+    assertThat(index.contains(NS1, "secret3"), is(false));
+  }
+
+  @Test
+  public void whileFirstListInProgress_doNotIndexNamespaceFromEvents() {
+    index.recordList(NS1, Collections.singletonList(createSecret(NS1, "secret1", "10")), "page2", "20");
+
+    sendAdded(createSecret(NS1, "secret2", "21"));
+
+    assertThat(index.isIndexed(NS1), is(false));
+  }
+
+  @Test
+  public void whenFirstListCompleted_includeResourcesAddedWhileListing() {
+    index.recordList(NS1, Collections.singletonList(createSecret(NS1, "secret1", "10")), "page2", "20");
+
+    sendAdded(createSecret(NS1, "secret2", "21"));
+    index.recordList(NS1, Collections.emptyList(), null, "20");
+
+    assertThat(index.contains(NS1, "secret1"), is(true));
+    assertThat(index.contains(NS1, "secret2"), is(true));
+  }
+
+  @Test
+  public void afterNamespaceRemoved_namespaceIsNotIndexed() {
+    index.recordList(NS1, Collections.singletonList(createSecret(NS1, "secret1", "10")));
+
+    index.removeNamespace(NS1);
+
+    assertThat(index.isIndexed(NS1), is(false));
+    assertThat(index.contains(NS1, "secret1"), is(false));
+  }
+}
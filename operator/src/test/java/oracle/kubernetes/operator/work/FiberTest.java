@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -133,6 +134,69 @@ public class FiberTest {
     assertThat(stepList, contains(step1, suspend, step3));
   }
 
+  @Test
+  public void whenResumedFromSuspendAction_completeProcessing() {
+    runSteps(step1, new SuspendingStep((p, f) -> f.resume(p)), step3);
+
+    assertThat(completionCallback.completed, is(true));
+  }
+
+  @Test
+  public void whenResumedTwice_runRemainingStepsOnce() {
+    runSteps(step1, suspend, step3);
+    fiber.resume(packet);
+    fiber.resume(packet);
+
+    assertThat(stepList, contains(step1, suspend, step3));
+  }
+
+  @Test
+  public void whenResumedWhileRunning_ignoreResume() {
+    Step resumeEarly = new ResumeBeforeSuspendStep(f -> f.resume(packet), (p, f) -> { });
+    runSteps(step1, resumeEarly, step3);
+
+    assertThat(stepList, contains(step1, resumeEarly));
+  }
+
+  @Test
+  public void whenResumedWhileRunning_runNextSuspendAction() {
+    Step resumeEarly = new ResumeBeforeSuspendStep(f -> f.resume(packet), this::recordFiberAndResume);
+    runSteps(step1, resumeEarly, step3);
+
+    assertThat(fiberList, contains(sameInstance(fiber)));
+    assertThat(stepList, contains(step1, resumeEarly, step3));
+  }
+
+  private void recordFiberAndResume(Packet packet, AsyncFiber fiber) {
+    recordFiber(packet, fiber);
+    fiber.resume(packet);
+  }
+
+  @Test
+  public void whenTerminatedWhileRunning_throwException() {
+    Step terminateEarly
+          = new ResumeBeforeSuspendStep(f -> f.terminate(new RuntimeException(), packet), (p, f) -> { });
+    runSteps(step1, terminateEarly, step3);
+
+    assertThat(stepList, contains(step1, terminateEarly));
+    assertThat(throwablesList, contains(instanceOf(IllegalStateException.class)));
+  }
+
+  @Test
+  public void whenSuspendedFiberTerminated_reportThrowable() {
+    runSteps(step1, suspend, step3);
+    fiber.terminate(new IllegalStateException(), packet);
+
+    assertThat(stepList, contains(step1, suspend));
+    assertThat(throwablesList, contains(instanceOf(IllegalStateException.class)));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void whenCompletedFiberTerminated_throwException() {
+    runSteps(step1, step2, step3);
+    fiber.terminate(new RuntimeException(), packet);
+  }
+
   static class BasicStep extends Step {
     @Override
     public NextAction apply(Packet packet) {
@@ -180,6 +244,24 @@ public class FiberTest {
     }
   }
 
+  static class ResumeBeforeSuspendStep extends BasicStep {
+    private final Consumer<Fiber> earlyAction;
+    private final BiConsumer<Packet, AsyncFiber> suspendAction;
+
+    ResumeBeforeSuspendStep(Consumer<Fiber> earlyAction, BiConsumer<Packet, AsyncFiber> suspendAction) {
+      this.earlyAction = earlyAction;
+      this.suspendAction = suspendAction;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      recordStep(packet);
+      earlyAction.accept(Fiber.getCurrentIfSet());
+
+      return doSuspend(f -> suspendAction.accept(packet, f));
+    }
+  }
+
   class CompletionCallbackImpl implements Fiber.CompletionCallback {
     boolean completed;
 
@@ -0,0 +1,93 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+
+public class VirtualThreadExecutorServiceTest {
+  private static final String SCHEDULER_THREAD_PREFIX = "test-scheduler-";
+  private static final int NUM_BLOCKING_TASKS = 25;
+
+  private final VirtualThreadExecutorService executor = new VirtualThreadExecutorService(
+        Executors.newCachedThreadPool(), this::createSchedulerThread);
+
+  private Thread createSchedulerThread(Runnable runnable) {
+    Thread thread = new Thread(runnable, SCHEDULER_THREAD_PREFIX + System.identityHashCode(runnable));
+    thread.setDaemon(true);
+    return thread;
+  }
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void whenTasksBlock_runMoreConcurrentlyThanDefaultEnginePool() throws InterruptedException {
+    CountDownLatch allStarted = new CountDownLatch(NUM_BLOCKING_TASKS);
+    CountDownLatch allFinished = new CountDownLatch(NUM_BLOCKING_TASKS);
+
+    for (int i = 0; i < NUM_BLOCKING_TASKS; i++) {
+      executor.execute(() -> awaitOthers(allStarted, allFinished));
+    }
+
+    assertThat(allFinished.await(10, TimeUnit.SECONDS), is(true));
+  }
+
+  private void awaitOthers(CountDownLatch allStarted, CountDownLatch allFinished) {
+    allStarted.countDown();
+    try {
+      if (allStarted.await(10, TimeUnit.SECONDS)) {
+        allFinished.countDown();
+      }
+    } catch (InterruptedException ignored) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Test
+  public void whenDelayedTaskDue_runItOffSchedulerThread() throws Exception {
+    AtomicReference<String> threadName = new AtomicReference<>();
+
+    ScheduledFuture<?> future =
+          executor.schedule(() -> threadName.set(Thread.currentThread().getName()), 10, TimeUnit.MILLISECONDS);
+    future.get(10, TimeUnit.SECONDS);
+
+    assertThat(threadName.get(), not(startsWith(SCHEDULER_THREAD_PREFIX)));
+  }
+
+  @Test
+  public void whenDelayedCallableDue_returnItsResult() throws Exception {
+    ScheduledFuture<String> future = executor.schedule(() -> "done", 10, TimeUnit.MILLISECONDS);
+
+    assertThat(future.get(10, TimeUnit.SECONDS), equalTo("done"));
+  }
+
+  @Test
+  public void whenDelayedTaskCancelled_doNotRunIt() throws InterruptedException {
+    AtomicBoolean ran = new AtomicBoolean(false);
+
+    ScheduledFuture<?> future = executor.schedule(() -> ran.set(true), 100, TimeUnit.MILLISECONDS);
+    future.cancel(false);
+    executor.shutdown();
+    executor.awaitTermination(10, TimeUnit.SECONDS);
+
+    assertThat(future.isCancelled(), is(true));
+    assertThat(ran.get(), is(false));
+  }
+}
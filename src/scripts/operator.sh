@@ -54,6 +54,17 @@ if [[ ! -z "$JAVA_LOGGING_LEVEL" ]]; then
   fi
 fi
 
+# if asynchronous logging is enabled, replace the file handler with an asynchronous one, and have the
+# operator use an asynchronous handler for the console
+if [ "${ASYNC_LOGGING}" == 'true' ]; then
+  ASYNC_HANDLER="oracle.kubernetes.operator.logging.AsyncLoggingHandler"
+  sed -i -e "s|java.util.logging.FileHandler|${ASYNC_HANDLER}|g" $LOGGING_CONFIG
+  echo "${ASYNC_HANDLER}.console=true" >> $LOGGING_CONFIG
+  if [ "${ASYNC_LOGGING_OVERFLOW_POLICY^^}" == 'BLOCK' ]; then
+    echo "${ASYNC_HANDLER}.overflowPolicy=BLOCK" >> $LOGGING_CONFIG
+  fi
+fi
+
 if [ "${MOCK_WLS}" == 'true' ]; then
   MOCKING_WLS="-DmockWLS=true"
 fi